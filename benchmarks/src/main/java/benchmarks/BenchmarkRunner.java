@@ -0,0 +1,78 @@
+package benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entry point of {@code benchmarks.jar}.
+ *
+ * <p>Takes the usual JMH command line (e.g. {@code -f 1 -wi 3 MessagingBridge}), but
+ * writes results as JSON to {@code benchmarks/results/jmh-<timestamp>.json} unless
+ * {@code -rf} or {@code -rff} is given, so every run leaves a file that can be
+ * compared with earlier ones.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+public final class BenchmarkRunner {
+
+    /** Directory results are written to by default. */
+    private static final String RESULTS_DIRECTORY = "benchmarks/results";
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private BenchmarkRunner() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args JMH command line arguments
+     * @throws RunnerException If a benchmark fails
+     * @throws IOException If JMH cannot read its benchmark list
+     */
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions commandLine;
+        try {
+            commandLine = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListProfilers()
+                || commandLine.shouldListResultFormats() || commandLine.shouldListWithParams()) {
+            // Listing and help are handled by JMH's own entry point
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getResultFormat().hasValue() || commandLine.getResult().hasValue()) {
+            new Runner(options.build()).run();
+            return;
+        }
+
+        File resultFile = new File(RESULTS_DIRECTORY,
+            "jmh-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".json");
+        if (!resultFile.getParentFile().isDirectory() && !resultFile.getParentFile().mkdirs()) {
+            System.err.println("⚠️ Could not create " + resultFile.getParent() + "; writing results to the working directory");
+            resultFile = new File(resultFile.getName());
+        }
+        new Runner(options.resultFormat(ResultFormatType.JSON).result(resultFile.getPath()).build()).run();
+        System.out.println("📊 Results written to " + resultFile.getAbsolutePath());
+    }
+}
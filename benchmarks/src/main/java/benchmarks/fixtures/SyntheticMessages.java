@@ -0,0 +1,70 @@
+package benchmarks.fixtures;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Game messages of a typical shape for benchmarks.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+public final class SyntheticMessages {
+
+    private SyntheticMessages() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * A small move message, like most messages games exchange.
+     *
+     * @param sequence Varies the message's values
+     * @return A new, mutable message
+     */
+    public static Map<String, Object> move(long sequence) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("function", "move");
+        message.put("player", "player" + (sequence % 2 + 1));
+        message.put("row", (int) (sequence % 3));
+        message.put("column", (int) (sequence / 3 % 3));
+        message.put("turn", sequence);
+        return message;
+    }
+
+    /**
+     * A state message with a board of the given size and a player list, like a full state sync.
+     *
+     * @param boardSize Rows and columns of the board
+     * @return A new, mutable message
+     */
+    public static Map<String, Object> state(int boardSize) {
+        List<List<String>> board = new ArrayList<>();
+        for (int row = 0; row < boardSize; row++) {
+            List<String> cells = new ArrayList<>();
+            for (int column = 0; column < boardSize; column++) {
+                cells.add((row + column) % 3 == 0 ? "X" : (row + column) % 3 == 1 ? "O" : "");
+            }
+            board.add(cells);
+        }
+        List<Map<String, Object>> players = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            Map<String, Object> player = new LinkedHashMap<>();
+            player.put("id", "player" + i);
+            player.put("name", "Player " + i);
+            player.put("score", i * 10);
+            player.put("connected", true);
+            players.add(player);
+        }
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("function", "state");
+        message.put("status", "in_progress");
+        message.put("board", board);
+        message.put("players", players);
+        message.put("currentPlayer", "player1");
+        return message;
+    }
+}
@@ -0,0 +1,104 @@
+package benchmarks.fixtures;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the sources of a minimal game module that passes the launcher's source validation.
+ *
+ * <p>The module's {@code Main} creates one instance of each extra class, so loading
+ * the module defines {@code extraClasses + 2} classes in its class loader.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+public final class SyntheticModule {
+
+    private SyntheticModule() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes the module's sources (compiling them is left to the launcher).
+     *
+     * @param moduleDir The module directory to create
+     * @param extraClasses Number of classes besides Main and Metadata
+     * @throws IOException If the sources cannot be written
+     */
+    public static void write(Path moduleDir, int extraClasses) throws IOException {
+        Path sourceRoot = moduleDir.resolve("src/main/java");
+        Files.createDirectories(sourceRoot);
+
+        StringBuilder parts = new StringBuilder();
+        for (int i = 0; i < extraClasses; i++) {
+            parts.append("        parts.add(new Part").append(i).append("());\n");
+            Files.writeString(sourceRoot.resolve("Part" + i + ".java"),
+                "public class Part" + i + " {\n"
+                    + "    public int value() {\n"
+                    + "        return " + i + ";\n"
+                    + "    }\n"
+                    + "}\n",
+                StandardCharsets.UTF_8);
+        }
+
+        Files.writeString(sourceRoot.resolve("Main.java"),
+            "import gdk.api.GameMetadata;\n"
+                + "import gdk.api.GameModule;\n"
+                + "import javafx.scene.Scene;\n"
+                + "import javafx.stage.Stage;\n"
+                + "\n"
+                + "import java.util.ArrayList;\n"
+                + "import java.util.List;\n"
+                + "import java.util.Map;\n"
+                + "\n"
+                + "public class Main implements GameModule {\n"
+                + "\n"
+                + "    private final List<Object> parts = new ArrayList<>();\n"
+                + "\n"
+                + "    public Main() {\n"
+                + parts
+                + "    }\n"
+                + "\n"
+                + "    @Override\n"
+                + "    public Scene launchGame(Stage primaryStage) {\n"
+                + "        return null;\n"
+                + "    }\n"
+                + "\n"
+                + "    @Override\n"
+                + "    public Map<String, Object> handleMessage(Map<String, Object> message) {\n"
+                + "        return Map.of(\"function\", \"ack\", \"parts\", parts.size());\n"
+                + "    }\n"
+                + "\n"
+                + "    @Override\n"
+                + "    public GameMetadata getMetadata() {\n"
+                + "        return new Metadata();\n"
+                + "    }\n"
+                + "}\n",
+            StandardCharsets.UTF_8);
+
+        Files.writeString(sourceRoot.resolve("Metadata.java"),
+            "import gdk.api.GameMetadata;\n"
+                + "import gdk.internal.DifficultyLevel;\n"
+                + "import gdk.internal.GameMode;\n"
+                + "\n"
+                + "import java.util.EnumSet;\n"
+                + "import java.util.Set;\n"
+                + "\n"
+                + "public class Metadata extends GameMetadata {\n"
+                + "    @Override public String getGameName() { return \"Benchmark Game\"; }\n"
+                + "    @Override public String getGameVersion() { return \"1.0\"; }\n"
+                + "    @Override public String getGameDescription() { return \"Synthetic module for benchmarks\"; }\n"
+                + "    @Override public String getGameAuthor() { return \"Benchmarks\"; }\n"
+                + "    @Override public int getMinPlayers() { return 1; }\n"
+                + "    @Override public int getMaxPlayers() { return 2; }\n"
+                + "    @Override public int getEstimatedDurationMinutes() { return 1; }\n"
+                + "    @Override public Set<GameMode> getSupportedGameModes() { return EnumSet.of(GameMode.SINGLEPLAYER); }\n"
+                + "    @Override public Set<DifficultyLevel> getSupportedDifficultyLevels() { return EnumSet.of(DifficultyLevel.EASY); }\n"
+                + "}\n",
+            StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks.fixtures;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Writes session files in the JSON Lines format the transcript recorder streams to.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+public final class SyntheticTranscript {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private SyntheticTranscript() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes a session of move messages, alternating between outbound and inbound,
+     * between a session start and a session end entry.
+     *
+     * @param file The session file to write
+     * @param messages Number of message entries
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(Path file, int messages) throws IOException {
+        Instant start = Instant.parse("2026-01-27T12:00:00Z");
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            Map<String, Object> sessionStart = new LinkedHashMap<>();
+            sessionStart.put("type", "meta");
+            sessionStart.put("event", "session_start");
+            sessionStart.put("timestamp", start.toString());
+            sessionStart.put("gameName", "Benchmark Game");
+            sessionStart.put("gameVersion", "1.0");
+            writeLine(out, sessionStart);
+
+            for (int i = 0; i < messages; i++) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("direction", i % 2 == 0 ? "out" : "in");
+                entry.put("timestamp", start.plusMillis(i * 250L).toString());
+                entry.put("message", SyntheticMessages.move(i));
+                writeLine(out, entry);
+            }
+
+            Map<String, Object> sessionEnd = new LinkedHashMap<>();
+            sessionEnd.put("type", "meta");
+            sessionEnd.put("event", "session_end");
+            sessionEnd.put("timestamp", start.plusMillis(messages * 250L).toString());
+            writeLine(out, sessionEnd);
+        }
+    }
+
+    private static void writeLine(BufferedWriter out, Map<String, Object> entry) throws IOException {
+        out.write(JSON_MAPPER.writeValueAsString(entry));
+        out.newLine();
+    }
+}
@@ -0,0 +1,61 @@
+package benchmarks.json_processing;
+
+import benchmarks.fixtures.SyntheticMessages;
+import launcher.features.json_processing.JsonFormatter;
+import launcher.features.json_processing.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link JsonParser#parse} and {@link JsonFormatter#format}, which the server
+ * simulator and JSON editor run for every message.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dgdk.logging.level=WARN")
+public class JsonBenchmark {
+
+    /** "move" is a small message; "state" is a full-board state sync. */
+    @Param({"move", "state"})
+    public String message;
+
+    private Map<String, Object> parsed;
+    private String text;
+
+    @Setup(Level.Trial)
+    public void createMessage() {
+        parsed = "move".equals(message) ? SyntheticMessages.move(7) : SyntheticMessages.state(15);
+        text = JsonFormatter.format(parsed);
+    }
+
+    @Benchmark
+    public Map<String, Object> parse() {
+        return JsonParser.parse(text);
+    }
+
+    @Benchmark
+    public String format() {
+        return JsonFormatter.format(parsed);
+    }
+}
@@ -0,0 +1,89 @@
+package benchmarks.messaging;
+
+import gdk.internal.MessagingBridge;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Cost of {@link MessagingBridge#publish} as the number of consumers grows.
+ *
+ * <p>Half of the consumers are wildcard consumers and half are subscribed to the
+ * published function, so both lookup paths are measured. Asynchronous consumers
+ * use a drop-oldest queue, which measures the cost of handing a message off
+ * rather than of delivering it.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dgdk.logging.level=WARN")
+public class MessagingBridgeBenchmark {
+
+    @Param({"0", "1", "4", "16"})
+    public int consumers;
+
+    @Param({"true", "false"})
+    public boolean asynchronous;
+
+    private final List<MessagingBridge.Subscription> subscriptions = new ArrayList<>();
+
+    private Map<String, Object> message;
+
+    /** Written by every consumer so delivery cannot be optimized away (races are harmless). */
+    private int sink;
+
+    @Setup(Level.Trial)
+    public void subscribe() {
+        MessagingBridge.DeliveryOptions options =
+            MessagingBridge.DeliveryOptions.onDispatcher(1024, MessagingBridge.OverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < consumers; i++) {
+            // A new instance each time; the bridge ignores a consumer registered twice
+            Consumer<Map<String, Object>> consumer = delivered -> sink += delivered.size();
+            boolean wildcard = i % 2 == 0;
+            if (wildcard) {
+                subscriptions.add(asynchronous
+                    ? MessagingBridge.addConsumer(consumer, options)
+                    : MessagingBridge.addConsumer(consumer));
+            } else {
+                subscriptions.add(asynchronous
+                    ? MessagingBridge.addConsumer(List.of("move"), consumer, options)
+                    : MessagingBridge.addConsumer(List.of("move"), consumer));
+            }
+        }
+        message = Map.of("function", "move", "player", "player1", "row", 1, "column", 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void unsubscribe() {
+        subscriptions.forEach(MessagingBridge.Subscription::unsubscribe);
+        subscriptions.clear();
+    }
+
+    @Benchmark
+    public void publish() {
+        MessagingBridge.publish(message);
+    }
+}
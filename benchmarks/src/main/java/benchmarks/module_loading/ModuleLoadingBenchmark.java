@@ -0,0 +1,113 @@
+package benchmarks.module_loading;
+
+import benchmarks.fixtures.SyntheticModule;
+import gdk.api.GameModule;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.module_handling.load_modules.helpers.ModuleLoadingProcess;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of {@link ModuleLoadingProcess#loadModule} for a compiled synthetic module.
+ *
+ * <p>With {@code indexed}, the module is unchanged since its last load and skips
+ * source validation, as on every launcher start after the first. Without it, the
+ * module index entry is invalidated before each load, so the source and
+ * compilation checks run too. The fixture is compiled once, during setup, and
+ * loaded the way the headless runtime loads modules.
+ *
+ * <p>The module index is saved to {@code saved/} in the working directory.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dgdk.logging.level=WARN")
+public class ModuleLoadingBenchmark {
+
+    /** Classes in the module besides Main and Metadata. */
+    @Param({"0", "100"})
+    public int extraClasses;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private Path directory;
+    private File moduleDir;
+    private GameModule module;
+
+    @Setup(Level.Trial)
+    public void createModule() throws IOException {
+        // Modules are loaded without starting the JavaFX toolkit, as under HeadlessApplication
+        HeadlessRuntime.activate();
+        directory = Files.createTempDirectory("gdk-module-benchmark");
+        moduleDir = directory.resolve("benchmarkgame").toFile();
+        SyntheticModule.write(moduleDir.toPath(), extraClasses);
+
+        // The first load compiles the module and records it in the index
+        GameModule first = ModuleLoadingProcess.loadModule(moduleDir);
+        if (first == null) {
+            throw new IllegalStateException("Synthetic module did not load; see the log above");
+        }
+        ModuleRegistry.release(moduleDir);
+    }
+
+    @Setup(Level.Invocation)
+    public void prepareLoad() {
+        if (!indexed) {
+            ModuleIndex.record(moduleDir, null, false);
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseModule() {
+        if (module != null) {
+            ModuleRegistry.release(module);
+            module = null;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteModule() throws IOException {
+        ModuleRegistry.release(moduleDir);
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+        ModuleIndex.pruneMissing();
+    }
+
+    @Benchmark
+    public GameModule loadModule() {
+        module = ModuleLoadingProcess.loadModule(moduleDir);
+        return module;
+    }
+}
@@ -0,0 +1,69 @@
+package benchmarks.transcript_recording;
+
+import benchmarks.fixtures.SyntheticMessages;
+import launcher.features.transcript_recording.Transcript;
+import launcher.features.transcript_recording.recording.RecordInboundMessage;
+import launcher.features.transcript_recording.session_management.EndSession;
+import launcher.features.transcript_recording.session_management.StartSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link RecordInboundMessage#record} during a session, as paid by the thread a game publishes on.
+ *
+ * <p>Entries are written to disk by the transcript writer thread; once its queue is
+ * full, recording waits for it, so sustained throughput includes the disk writes.
+ * The session file is created under {@code saved/transcripts} in the working
+ * directory and deleted afterwards.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dgdk.logging.level=WARN")
+public class TranscriptRecordingBenchmark {
+
+    private Map<String, Object> message;
+
+    @Setup(Level.Trial)
+    public void startSession() {
+        StartSession.start("Benchmark Game", "1.0");
+        message = SyntheticMessages.move(7);
+    }
+
+    @TearDown(Level.Trial)
+    public void endSession() throws IOException {
+        EndSession.end();
+        Path sessionFile = Transcript.sessionFile;
+        if (sessionFile != null) {
+            Files.deleteIfExists(sessionFile);
+        }
+    }
+
+    @Benchmark
+    public void recordInbound() {
+        RecordInboundMessage.record(message);
+    }
+}
@@ -0,0 +1,85 @@
+package benchmarks.transcript_recording;
+
+import benchmarks.fixtures.SyntheticTranscript;
+import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsJson;
+import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsText;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of exporting a recorded session with {@link SaveTranscriptAsJson} and
+ * {@link SaveTranscriptAsText}, from a session file of the given number of messages.
+ *
+ * @author Clement Luo
+ * @date January 27, 2026
+ * @edited January 27, 2026
+ * @since Beta 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dgdk.logging.level=WARN")
+public class TranscriptSaveBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    public int messages;
+
+    private Path directory;
+    private TranscriptEntrySource source;
+
+    @Setup(Level.Trial)
+    public void writeSession() throws IOException {
+        directory = Files.createTempDirectory("gdk-transcript-benchmark");
+        Path sessionFile = directory.resolve("session.jsonl");
+        SyntheticTranscript.write(sessionFile, messages);
+        source = action -> {
+            try {
+                TranscriptReader.forEachEntry(sessionFile, action);
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public Path saveAsJson() {
+        return SaveTranscriptAsJson.save(directory.resolve("transcript.json"), source);
+    }
+
+    @Benchmark
+    public Path saveAsText() {
+        return SaveTranscriptAsText.save(directory.resolve("transcript.txt"), source);
+    }
+}
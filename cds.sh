@@ -0,0 +1,242 @@
+#!/bin/bash
+
+# GDK class data sharing (AppCDS)
+#
+# Builds a CDS archive of the classes the GDK loads at startup (launcher, gdk,
+# JavaFX, Jackson, RichTextFX, JFoenix and the bundled game modules), starts the
+# GDK with it, and measures startup with and without it.
+#
+#   ./cds.sh build [--force]   Rebuild the archive if gdk/target, launcher/target or a module's classes or jar changed
+#   ./cds.sh run [ARGS...]     Start the GDK with the archive (building it first if needed)
+#   ./cds.sh measure [RUNS]    Compare time to lobby and memory with and without the archive (default 5 runs)
+#
+# The archive is made by a training run: the GDK starts normally with
+# -XX:ArchiveClassesAtExit, loads every module class once the lobby is shown,
+# and exits. Needs a display, like any other GDK run. The launcher and gdk
+# classes are packed into jars first, because CDS only archives classes from
+# jar files on the class path. Everything goes to target/cds/.
+
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")" && pwd)"
+CDS_DIR="$ROOT/target/cds"
+ARCHIVE="$CDS_DIR/gdk.jsa"
+STAMP_FILE="$CDS_DIR/archive.stamp"
+CLASSPATH_FILE="$CDS_DIR/classpath.txt"
+DEPENDENCY_CLASSPATH_FILE="$ROOT/launcher/target/cds-classpath.txt"
+MEASUREMENTS_FILE="$CDS_DIR/measurements.txt"
+REPORT_FILE="$ROOT/launcher/saved/startup-report.json"
+MAIN_CLASS="launcher.core.GDKLauncher"
+TRAINING_TIMEOUT_SECONDS=300
+
+JAVA="java"
+JAR="jar"
+if [ -n "${JAVA_HOME:-}" ]; then
+    JAVA="$JAVA_HOME/bin/java"
+    JAR="$JAVA_HOME/bin/jar"
+fi
+
+# Same JVM options as run.sh, minus the development-only caching switches
+JVM_OPTIONS=(-Xms512m -Xmx1g -XX:+UseG1GC -XX:MaxGCPauseMillis=50)
+
+# ==================== HELPERS ====================
+
+usage() {
+    sed -n '5,11p' "$0" | sed 's/^# \{0,1\}//'
+    exit 1
+}
+
+now_ms() {
+    local now
+    now="$(date +%s%3N 2>/dev/null)"
+    if [[ "$now" =~ ^[0-9]+$ ]]; then
+        echo "$now"
+    else
+        # BSD date has no %N
+        perl -MTime::HiRes=time -e 'printf "%d\n", time * 1000'
+    fi
+}
+
+# Reads a number field from the startup report, e.g. report_field timeToLobbyMs
+report_field() {
+    sed -n "s/.*\"$1\" *: *\(-\{0,1\}[0-9][0-9]*\).*/\1/p" "$REPORT_FILE" | head -n 1
+}
+
+# Writes the runtime dependency class path of the launcher (without gdk, which is packed separately)
+dependency_classpath() {
+    if [ ! -f "$DEPENDENCY_CLASSPATH_FILE" ]; then
+        echo "📦 Resolving launcher dependencies..." >&2
+        (cd "$ROOT" && mvn -q -pl launcher dependency:build-classpath \
+            -DincludeScope=runtime -Dmdep.outputFile="$DEPENDENCY_CLASSPATH_FILE" >&2)
+    fi
+    tr ':' '\n' < "$DEPENDENCY_CLASSPATH_FILE" | grep -v -e '/gdk/target/' -e '/com/omg/gdk/' | paste -sd ':' -
+}
+
+# Content fingerprint of everything the archive was made from
+fingerprint() {
+    {
+        "$JAVA" -version 2>&1
+        cat "$DEPENDENCY_CLASSPATH_FILE"
+        for classes in "$ROOT"/gdk/target/classes "$ROOT"/launcher/target/classes "$ROOT"/modules/*/target/classes \
+                "$ROOT"/modules/*/module.jar; do
+            if [ -d "$classes" ]; then
+                echo "$classes"
+                (cd "$classes" && find . -type f -exec cksum {} + | LC_ALL=C sort -k 3)
+            elif [ -f "$classes" ]; then
+                cksum "$classes"
+            fi
+        done
+    } | cksum
+}
+
+is_up_to_date() {
+    [ -f "$ARCHIVE" ] && [ -f "$STAMP_FILE" ] && [ -f "$CLASSPATH_FILE" ] && [ -f "$DEPENDENCY_CLASSPATH_FILE" ] \
+        && [ "$(cat "$STAMP_FILE")" = "$(fingerprint)" ]
+}
+
+# Runs the GDK from launcher/ (like run.sh) and kills it if it has not exited in time
+run_gdk_until_exit() {
+    local timeout_seconds="$1"
+    shift
+    (cd "$ROOT/launcher" && exec "$JAVA" "$@") &
+    local gdk_pid=$!
+    (
+        trap 'kill "$sleep_pid" 2>/dev/null; exit 0' TERM
+        sleep "$timeout_seconds" &
+        sleep_pid=$!
+        wait "$sleep_pid"
+        echo "⏱️ The GDK did not exit within ${timeout_seconds}s - stopping it" >&2
+        kill "$gdk_pid"
+    ) > /dev/null &
+    local watchdog_pid=$!
+    local status=0
+    wait "$gdk_pid" || status=$?
+    kill "$watchdog_pid" 2>/dev/null || true
+    wait "$watchdog_pid" 2>/dev/null || true
+    return "$status"
+}
+
+# ==================== COMMANDS ====================
+
+build_archive() {
+    local force="${1:-}"
+    for classes in gdk/target/classes launcher/target/classes; do
+        if [ ! -d "$ROOT/$classes" ]; then
+            echo "❌ $classes not found - build first: mvn -q install"
+            exit 1
+        fi
+    done
+    mkdir -p "$CDS_DIR"
+    local dependencies
+    dependencies="$(dependency_classpath)"
+
+    if [ "$force" != "--force" ] && is_up_to_date; then
+        echo "✅ CDS archive is up to date: ${ARCHIVE#$ROOT/}"
+        return 0
+    fi
+
+    # Repacking changes the jars' timestamps, which invalidates any old archive
+    echo "📦 Packing gdk and launcher classes..."
+    rm -f "$CDS_DIR"/*.jar "$ARCHIVE" "$STAMP_FILE"
+    "$JAR" --create --file "$CDS_DIR/gdk.jar" -C "$ROOT/gdk/target/classes" .
+    "$JAR" --create --file "$CDS_DIR/launcher.jar" -C "$ROOT/launcher/target/classes" .
+    echo "$CDS_DIR/launcher.jar:$CDS_DIR/gdk.jar:$dependencies" > "$CLASSPATH_FILE"
+
+    echo "🎓 Training run (the GDK starts, shows the lobby and exits)..."
+    local status=0
+    run_gdk_until_exit "$TRAINING_TIMEOUT_SECONDS" "${JVM_OPTIONS[@]}" \
+        -XX:ArchiveClassesAtExit="$ARCHIVE" \
+        -Dgdk.cds.training=true -Dgdk.logging.level=WARN \
+        -cp "$(cat "$CLASSPATH_FILE")" "$MAIN_CLASS" || status=$?
+
+    if [ ! -f "$ARCHIVE" ]; then
+        echo "❌ Training run did not produce an archive (exit status $status)"
+        exit 1
+    fi
+    # Modules compiled during the training run are part of what the archive was made from
+    fingerprint > "$STAMP_FILE"
+    echo "✅ CDS archive written: ${ARCHIVE#$ROOT/} ($(du -h "$ARCHIVE" | cut -f 1))"
+}
+
+run_with_archive() {
+    build_archive
+    echo "🎮 Launching GDK with class data sharing..."
+    cd "$ROOT/launcher"
+    exec "$JAVA" "${JVM_OPTIONS[@]}" -XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto \
+        -cp "$(cat "$CLASSPATH_FILE")" "$MAIN_CLASS" "$@"
+}
+
+measure() {
+    local runs="${1:-5}"
+    build_archive
+
+    local classpath
+    classpath="$(cat "$CLASSPATH_FILE")"
+
+    # How much of startup the archive actually serves (a stale archive is silently ignored)
+    local class_log="$CDS_DIR/class-load.log"
+    run_gdk_until_exit 120 "${JVM_OPTIONS[@]}" -XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto \
+        -Xlog:class+load=info:file="$class_log" \
+        -Dgdk.startup.exitWhenReady=true -Dgdk.logging.level=WARN -cp "$classpath" "$MAIN_CLASS" \
+        > /dev/null 2>&1 || true
+    local total shared
+    total="$(grep -c 'source:' "$class_log" || true)"
+    shared="$(grep -c 'source: shared objects file' "$class_log" || true)"
+
+    {
+        echo "GDK startup with and without class data sharing ($runs run(s) each, $(date))"
+        echo "With the archive, $shared of $total classes loaded at startup came from it"
+        echo
+        printf "%-8s %4s %10s %12s %12s %10s %14s\n" "archive" "run" "wall (ms)" "lobby (ms)" "JVM (ms)" "RSS (MB)" "non-heap (MB)"
+        local mode run start end
+        for mode in off on; do
+            local options=("${JVM_OPTIONS[@]}")
+            if [ "$mode" = "on" ]; then
+                options+=(-XX:SharedArchiveFile="$ARCHIVE" -Xshare:auto)
+            fi
+            for run in $(seq 1 "$runs"); do
+                rm -f "$REPORT_FILE"
+                start="$(now_ms)"
+                run_gdk_until_exit 120 "${options[@]}" \
+                    -Dgdk.startup.exitWhenReady=true -Dgdk.logging.level=WARN -cp "$classpath" "$MAIN_CLASS" \
+                    > /dev/null 2>&1 || true
+                end="$(now_ms)"
+                if [ ! -f "$REPORT_FILE" ]; then
+                    printf "%-8s %4s %10s %s\n" "$mode" "$run" "$((end - start))" "(no startup report - did the GDK start?)"
+                    continue
+                fi
+                printf "%-8s %4s %10s %12s %12s %10s %14s\n" "$mode" "$run" "$((end - start))" \
+                    "$(report_field timeToLobbyMs)" "$(report_field jvmToGraphMs)" \
+                    "$(report_field residentMb)" "$(report_field nonHeapUsedMb)"
+            done
+        done
+    } | tee "$MEASUREMENTS_FILE.tmp"
+
+    # Averages per mode
+    awk '($1 == "off" || $1 == "on") && $4 ~ /^-?[0-9]+$/ { n[$1]++; wall[$1] += $3; lobby[$1] += $4; rss[$1] += $6; nonheap[$1] += $7 }
+         END { print ""; split("off on", modes); for (i = 1; i <= 2; i++) { m = modes[i]; if (n[m]) printf "%-8s %4s %10d %12d %12s %10d %14d\n", m, "avg", wall[m] / n[m], lobby[m] / n[m], "", rss[m] / n[m], nonheap[m] / n[m] } }' \
+        "$MEASUREMENTS_FILE.tmp" | tee -a "$MEASUREMENTS_FILE.tmp"
+    mv "$MEASUREMENTS_FILE.tmp" "$MEASUREMENTS_FILE"
+    echo
+    echo "📊 Saved to ${MEASUREMENTS_FILE#$ROOT/}"
+}
+
+# ==================== MAIN ====================
+
+case "${1:-}" in
+    build)
+        shift
+        build_archive "${1:-}"
+        ;;
+    run)
+        shift
+        run_with_archive "$@"
+        ;;
+    measure)
+        shift
+        measure "${1:-5}"
+        ;;
+    *)
+        usage
+        ;;
+esac
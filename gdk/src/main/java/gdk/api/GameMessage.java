@@ -0,0 +1,413 @@
+package gdk.api;
+
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable message exchanged between the launcher and game modules.
+ *
+ * A GameMessage is a read-only {@code Map<String, Object>}, so it can be passed
+ * anywhere the existing map contract is used ({@link GameModule#handleMessage},
+ * {@code MessagingBridge.publish}, transcripts) without conversion. The common
+ * fields (function, from, to, timestamp) are stored as plain fields, function
+ * names are interned, and the remaining payload is kept in two small arrays
+ * instead of a hash table. Because the message cannot change, receivers can keep
+ * it as-is instead of taking a defensive copy.
+ *
+ * Immutability is shallow: nested maps or lists in the payload are not copied.
+ *
+ * @authors Clement Luo
+ * @date January 20, 2026
+ * @edited January 20, 2026
+ * @since Beta 1.0
+ */
+public final class GameMessage extends AbstractMap<String, Object> {
+
+    // ==================== CONSTANTS ====================
+
+    public static final String FUNCTION = "function";
+    public static final String FROM = "from";
+    public static final String TO = "to";
+    public static final String TIMESTAMP = "timestamp";
+
+    /** Number of common fields (function, from, to, timestamp). */
+    private static final int FIELD_COUNT = 4;
+
+    /** Upper bound on interned function names, so arbitrary names cannot grow the pool forever. */
+    private static final int MAX_INTERNED_FUNCTIONS = 1024;
+
+    /** Canonical instances of function names seen so far. */
+    private static final ConcurrentHashMap<String, String> FUNCTION_NAMES = new ConcurrentHashMap<>();
+
+    private static final String[] NO_KEYS = new String[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    // ==================== STATE ====================
+
+    private final String function;
+    private final String from;
+    private final String to;
+    private final String timestamp;
+    private final String[] payloadKeys;
+    private final Object[] payloadValues;
+
+    /** Map view of the entries, created on first use. */
+    private Set<Entry<String, Object>> entrySet;
+
+    private GameMessage(String function, String from, String to, String timestamp,
+                        String[] payloadKeys, Object[] payloadValues) {
+        this.function = internFunction(function);
+        this.from = from;
+        this.to = to;
+        this.timestamp = timestamp;
+        this.payloadKeys = payloadKeys;
+        this.payloadValues = payloadValues;
+    }
+
+    // ==================== CREATION ====================
+
+    /**
+     * Starts building a message.
+     *
+     * @param function The message function (e.g. {@code "move"}), or null
+     * @return A builder
+     */
+    public static Builder builder(String function) {
+        return new Builder().function(function);
+    }
+
+    /**
+     * Adapts a map to a GameMessage.
+     * A GameMessage is returned as-is; any other map is copied once.
+     *
+     * @param message The message map
+     * @return The message, or null if the map was null
+     */
+    public static GameMessage of(Map<String, Object> message) {
+        if (message == null) {
+            return null;
+        }
+        if (message instanceof GameMessage) {
+            return (GameMessage) message;
+        }
+        Builder builder = new Builder();
+        for (Entry<String, Object> entry : message.entrySet()) {
+            builder.put(entry.getKey(), entry.getValue());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns a copy of this message with one entry added or replaced.
+     *
+     * @param key The entry key
+     * @param value The entry value
+     * @return The new message
+     */
+    public GameMessage with(String key, Object value) {
+        return toBuilder().put(key, value).build();
+    }
+
+    /**
+     * Starts a builder pre-filled with this message's entries.
+     *
+     * @return A builder
+     */
+    public Builder toBuilder() {
+        Builder builder = new Builder().function(function).from(from).to(to).timestamp(timestamp);
+        for (int i = 0; i < payloadKeys.length; i++) {
+            builder.put(payloadKeys[i], payloadValues[i]);
+        }
+        return builder;
+    }
+
+    /**
+     * Copies this message into a mutable map, for code that needs to modify it.
+     *
+     * @return A new HashMap with the same entries
+     */
+    public Map<String, Object> toMutableMap() {
+        return new HashMap<>(this);
+    }
+
+    // ==================== TYPED ACCESS ====================
+
+    public String getFunction() {
+        return function;
+    }
+
+    public String getFrom() {
+        return from;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets a payload entry (any entry other than the common fields).
+     *
+     * @param key The payload key
+     * @return The value, or null if absent
+     */
+    public Object getPayload(String key) {
+        int index = indexOf(key);
+        return index >= 0 ? payloadValues[index] : null;
+    }
+
+    // ==================== MAP VIEW ====================
+
+    @Override
+    public Object get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        String field = fieldValue((String) key);
+        return field != null ? field : getPayload((String) key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        return fieldValue((String) key) != null || indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        int size = payloadKeys.length;
+        if (function != null) size++;
+        if (from != null) size++;
+        if (to != null) size++;
+        if (timestamp != null) size++;
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private String fieldValue(String key) {
+        switch (key) {
+            case FUNCTION: return function;
+            case FROM: return from;
+            case TO: return to;
+            case TIMESTAMP: return timestamp;
+            default: return null;
+        }
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < payloadKeys.length; i++) {
+            if (payloadKeys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String internFunction(String function) {
+        if (function == null) {
+            return null;
+        }
+        String canonical = FUNCTION_NAMES.get(function);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (FUNCTION_NAMES.size() >= MAX_INTERNED_FUNCTIONS) {
+            return function;
+        }
+        canonical = FUNCTION_NAMES.putIfAbsent(function, function);
+        return canonical != null ? canonical : function;
+    }
+
+    private static boolean isField(String key) {
+        return FUNCTION.equals(key) || FROM.equals(key) || TO.equals(key) || TIMESTAMP.equals(key);
+    }
+
+    /**
+     * Entries in a fixed order: common fields first, then the payload.
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return GameMessage.this.size();
+        }
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new Iterator<>() {
+                private int position = advance(0);
+
+                @Override
+                public boolean hasNext() {
+                    return position < FIELD_COUNT + payloadKeys.length;
+                }
+
+                @Override
+                public Entry<String, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Entry<String, Object> entry = position < FIELD_COUNT
+                        ? new SimpleImmutableEntry<>(fieldKey(position), fieldValue(fieldKey(position)))
+                        : new SimpleImmutableEntry<>(payloadKeys[position - FIELD_COUNT], payloadValues[position - FIELD_COUNT]);
+                    position = advance(position + 1);
+                    return entry;
+                }
+
+                /** Skips common fields that are not set. */
+                private int advance(int from) {
+                    int next = from;
+                    while (next < FIELD_COUNT && fieldValue(fieldKey(next)) == null) {
+                        next++;
+                    }
+                    return next;
+                }
+
+                private String fieldKey(int index) {
+                    switch (index) {
+                        case 0: return FUNCTION;
+                        case 1: return FROM;
+                        case 2: return TO;
+                        default: return TIMESTAMP;
+                    }
+                }
+            };
+        }
+    }
+
+    // ==================== BUILDER ====================
+
+    /**
+     * Builder for {@link GameMessage}. Not thread-safe.
+     */
+    public static final class Builder {
+
+        private String function;
+        private String from;
+        private String to;
+        private String timestamp;
+        private String[] keys = NO_KEYS;
+        private Object[] values = NO_VALUES;
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder function(String function) {
+            this.function = function;
+            return this;
+        }
+
+        public Builder from(String from) {
+            this.from = from;
+            return this;
+        }
+
+        public Builder to(String to) {
+            this.to = to;
+            return this;
+        }
+
+        public Builder timestamp(String timestamp) {
+            this.timestamp = timestamp;
+            return this;
+        }
+
+        /** Sets the timestamp to the current time (ISO-8601, like the launcher's transcripts). */
+        public Builder timestampNow() {
+            return timestamp(Instant.now().toString());
+        }
+
+        /**
+         * Adds or replaces an entry. String values for the common fields go to those fields.
+         *
+         * @param key The entry key
+         * @param value The entry value (may be null)
+         * @return This builder
+         */
+        public Builder put(String key, Object value) {
+            if (key == null) {
+                throw new IllegalArgumentException("Message keys must not be null");
+            }
+            if (isField(key) && value instanceof String) {
+                switch (key) {
+                    case FUNCTION: function = (String) value; break;
+                    case FROM: from = (String) value; break;
+                    case TO: to = (String) value; break;
+                    default: timestamp = (String) value; break;
+                }
+                removePayload(key);
+                return this;
+            }
+            if (isField(key)) {
+                // Null or non-string value for a common field: keep it, but as payload
+                clearField(key);
+            }
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    values[i] = value;
+                    return this;
+                }
+            }
+            if (size == keys.length) {
+                int capacity = Math.max(4, size * 2);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+            }
+            keys[size] = key;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        public GameMessage build() {
+            return new GameMessage(function, from, to, timestamp,
+                size == 0 ? NO_KEYS : Arrays.copyOf(keys, size),
+                size == 0 ? NO_VALUES : Arrays.copyOf(values, size));
+        }
+
+        private void clearField(String key) {
+            switch (key) {
+                case FUNCTION: function = null; break;
+                case FROM: from = null; break;
+                case TO: to = null; break;
+                default: timestamp = null; break;
+            }
+        }
+
+        private void removePayload(String key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+                    System.arraycopy(values, i + 1, values, i, size - i - 1);
+                    size--;
+                    keys[size] = null;
+                    values[size] = null;
+                    return;
+                }
+            }
+        }
+    }
+}
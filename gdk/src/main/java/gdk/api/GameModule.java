@@ -11,7 +11,7 @@ import java.util.Map;
  *
  * @authors Clement Luo
  * @date July 19, 2025
- * @edited November 10, 2025
+ * @edited January 24, 2026
  * @since Beta 1.0
  */
 public interface GameModule {
@@ -24,6 +24,22 @@ public interface GameModule {
      */
     Scene launchGame(Stage primaryStage);
 
+    /**
+     * Starts the game's logic without a JavaFX stage (headless mode).
+     *
+     * <p>Optional. Called by the launcher's headless runtime (CI, load tests, replays)
+     * instead of {@link #launchGame(Stage)}. No JavaFX toolkit is running, so the module
+     * must not create scenes, controls or call {@code Platform.runLater}. Messages
+     * still arrive through {@link #handleMessage(Map)}, and the module publishes to the
+     * messaging bridge as usual. Several instances of the module may run at once.
+     *
+     * @return true if the module supports headless mode and has started
+     */
+    default boolean startHeadless() {
+        // Default: headless mode not supported
+        return false;
+    }
+
     /**
      * Called when the game is being closed.
      * Use this to stop the game and clean up resources.
@@ -35,6 +51,9 @@ public interface GameModule {
     /**
      * Handles messages sent to the game module.
      * 
+     * <p>Responses (and messages published to the bridge) may be built as a
+     * {@link GameMessage}, which avoids allocating and copying a HashMap per message.
+     * 
      * @param message The message data as a Map
      * @return Response data as a Map, or null if no response needed
      */
@@ -43,6 +62,33 @@ public interface GameModule {
         return null;
     }
 
+    /**
+     * Captures state to carry over when the module is hot-reloaded.
+     * 
+     * <p>Optional. Called on the running instance just before it is stopped and
+     * replaced by a freshly compiled one. The old and new instances come from
+     * different class loaders, so the map should only contain JDK types
+     * (strings, numbers, booleans, lists and maps of those).
+     * 
+     * @return State to hand to the new instance, or null to start fresh
+     */
+    default Map<String, Object> saveStateForReload() {
+        // Default: no state is carried over
+        return null;
+    }
+
+    /**
+     * Restores state captured by {@link #saveStateForReload()} on the previous instance.
+     * 
+     * <p>Optional. Called on the new instance after {@link #launchGame(Stage)} has
+     * returned its scene, and only if the previous instance returned state.
+     * 
+     * @param state The state saved by the previous instance
+     */
+    default void restoreStateAfterReload(Map<String, Object> state) {
+        // Default empty implementation
+    }
+
     /**
      * Returns the extract_metadata for this game module.
      * 
@@ -0,0 +1,311 @@
+package gdk.internal;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log events for {@link Logging}, to the console and optionally a rolling file.
+ *
+ * By default, logging only puts an event in a {@link LogRingBuffer}; a background
+ * writer thread formats and writes it. When the buffer is full, events below ERROR
+ * are dropped (and counted in the log), while errors wait for space. Configured
+ * through system properties:
+ * <ul>
+ *   <li>{@code gdk.logging.level} - lowest level written: DEBUG (default), INFO, WARN or ERROR</li>
+ *   <li>{@code gdk.logging.async} - false to write on the calling thread instead (default true)</li>
+ *   <li>{@code gdk.logging.console} - false to write only to the log file (default true)</li>
+ *   <li>{@code gdk.logging.file} - log file to write as well (default none)</li>
+ *   <li>{@code gdk.logging.file.maxSizeMb} - size at which the file is rolled over (default 10)</li>
+ *   <li>{@code gdk.logging.file.count} - number of rolled files to keep (default 5)</li>
+ *   <li>{@code gdk.logging.bufferSize} - events the buffer holds (default 8192)</li>
+ * </ul>
+ *
+ * @authors Clement Luo
+ * @date January 28, 2026
+ * @edited January 28, 2026
+ * @since Beta 1.0
+ */
+final class LogBackend {
+
+    // ==================== LEVELS ====================
+
+    static final int DEBUG = 0;
+    static final int INFO = 1;
+    static final int WARN = 2;
+    static final int ERROR = 3;
+
+    private static final String[] LEVEL_NAMES = { "DEBUG", "INFO", "WARN", "ERROR" };
+
+    /**
+     * One logged message, captured on the calling thread.
+     */
+    record LogEvent(long timeMillis, String threadName, int level, String message, Throwable exception) {
+    }
+
+    // ==================== STATE ====================
+
+    /** Events written between flushes while the writer is busy. */
+    private static final int FLUSH_INTERVAL = 256;
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final int minimumLevel;
+    private final boolean console;
+    private RollingLogFile file;
+
+    /** Null when writing synchronously. */
+    private final LogRingBuffer buffer;
+    private final Thread writerThread;
+
+    /** Set while the writer is about to park; the first producer to clear it wakes the writer. */
+    private final AtomicBoolean writerWaiting = new AtomicBoolean();
+
+    /** Events the writer has written and flushed. */
+    private volatile long flushedThrough;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** Second of the cached timestamp text; only used by the writer (or under the lock when synchronous). */
+    private long cachedSecond = Long.MIN_VALUE;
+    private String cachedTimestamp;
+
+    private LogBackend(int minimumLevel, boolean async, boolean console, RollingLogFile file, int bufferSize) {
+        this.minimumLevel = minimumLevel;
+        this.console = console;
+        this.file = file;
+        if (async) {
+            buffer = new LogRingBuffer(bufferSize);
+            writerThread = new Thread(this::writeUntilShutdown, "GDK-Logging");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        } else {
+            buffer = null;
+            writerThread = null;
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flushAtShutdown, "GDK-Logging-Shutdown"));
+    }
+
+    /**
+     * Creates the backend configured by the {@code gdk.logging.*} system properties.
+     *
+     * @return The backend
+     */
+    static LogBackend fromSystemProperties() {
+        int level = Math.max(DEBUG, levelOf(System.getProperty("gdk.logging.level", "DEBUG")));
+        boolean async = !"false".equalsIgnoreCase(System.getProperty("gdk.logging.async"));
+        boolean console = !"false".equalsIgnoreCase(System.getProperty("gdk.logging.console"));
+        int bufferSize = Integer.getInteger("gdk.logging.bufferSize", 8192);
+
+        RollingLogFile file = null;
+        String path = System.getProperty("gdk.logging.file");
+        if (path != null && !path.isBlank()) {
+            try {
+                file = new RollingLogFile(Path.of(path),
+                    Long.getLong("gdk.logging.file.maxSizeMb", 10) * 1024 * 1024,
+                    Integer.getInteger("gdk.logging.file.count", 5));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Logging: could not open log file " + path + ": " + e.getMessage());
+            }
+        }
+        return new LogBackend(level, async, console || file == null, file, bufferSize);
+    }
+
+    /**
+     * Gets the level with the given name.
+     *
+     * @param name DEBUG, INFO, WARN or ERROR (case-insensitive)
+     * @return The level, or -1 if the name is unknown
+     */
+    static int levelOf(String name) {
+        for (int i = 0; i < LEVEL_NAMES.length; i++) {
+            if (LEVEL_NAMES[i].equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // ==================== LOGGING ====================
+
+    boolean isEnabled(int level) {
+        return level >= minimumLevel;
+    }
+
+    /**
+     * Logs a message; the caller has checked the level.
+     *
+     * @param level The level
+     * @param message The message
+     * @param exception The exception to log (can be null)
+     */
+    void log(int level, String message, Throwable exception) {
+        LogEvent event = new LogEvent(System.currentTimeMillis(), Thread.currentThread().getName(),
+            level, message, exception);
+        if (buffer == null) {
+            synchronized (this) {
+                write(event);
+                flushOutputs();
+            }
+            return;
+        }
+
+        while (!buffer.offer(event)) {
+            if (level < ERROR || Thread.currentThread() == writerThread) {
+                dropped.incrementAndGet();
+                return;
+            }
+            // Errors are not dropped; wait for the writer to make room
+            wakeWriter();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(50));
+        }
+        // Only one producer pays for the wake-up
+        if (writerWaiting.get() && writerWaiting.compareAndSet(true, false)) {
+            wakeWriter();
+        }
+    }
+
+    /**
+     * Waits until everything logged before this call has been written and flushed.
+     *
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if the log was flushed in time
+     */
+    boolean flush(long timeoutMs) {
+        if (buffer == null) {
+            return true;
+        }
+        if (Thread.currentThread() == writerThread) {
+            return false;
+        }
+        long target = buffer.claimed();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (flushedThrough < target) {
+            if (System.nanoTime() >= deadline || !writerThread.isAlive()) {
+                return false;
+            }
+            wakeWriter();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    // ==================== WRITER ====================
+
+    private void writeUntilShutdown() {
+        int unflushed = 0;
+        while (true) {
+            LogEvent event = buffer.poll();
+            if (event != null) {
+                write(event);
+                // Under constant logging the writer is never idle; flush now and then anyway
+                if (++unflushed == FLUSH_INTERVAL) {
+                    flushOutputs();
+                    flushedThrough = buffer.consumed();
+                    unflushed = 0;
+                }
+                continue;
+            }
+            unflushed = 0;
+
+            // Idle: report drops and flush before sleeping
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                write(new LogEvent(System.currentTimeMillis(), writerThread.getName(), WARN,
+                    "⚠️ Logging: " + lost + " message(s) dropped because the log buffer was full", null));
+            }
+            flushOutputs();
+            flushedThrough = buffer.consumed();
+
+            writerWaiting.set(true);
+            if (buffer.isEmpty()) {
+                LockSupport.park(this);
+            }
+            writerWaiting.set(false);
+        }
+    }
+
+    private void wakeWriter() {
+        LockSupport.unpark(writerThread);
+    }
+
+    private void write(LogEvent event) {
+        try {
+            writeLine(event);
+        } catch (RuntimeException e) {
+            // Keep the writer alive for the events after this one
+            System.err.println("Logging: could not write a log message: " + e);
+        }
+    }
+
+    private void writeLine(LogEvent event) {
+        String line = "[" + timestamp(event.timeMillis()) + "] [" + event.threadName() + "] ["
+            + LEVEL_NAMES[event.level()] + "] " + event.message();
+
+        if (console) {
+            System.out.println(line);
+            if (event.exception() != null) {
+                System.err.println("Exception: " + event.exception().getMessage());
+                event.exception().printStackTrace();
+            }
+        }
+
+        if (file != null) {
+            try {
+                file.writeLine(line);
+                if (event.exception() != null) {
+                    StringWriter trace = new StringWriter();
+                    event.exception().printStackTrace(new PrintWriter(trace));
+                    file.writeLine(trace.toString().stripTrailing());
+                }
+            } catch (IOException e) {
+                disableFile(e);
+            }
+        }
+    }
+
+    private void flushOutputs() {
+        if (file != null) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                disableFile(e);
+            }
+        }
+    }
+
+    private void disableFile(IOException e) {
+        System.err.println("Logging: could not write the log file, writing to it stops: " + e.getMessage());
+        file.close();
+        file = null;
+    }
+
+    /**
+     * Formats a time, reusing the text while the second is unchanged.
+     */
+    private String timestamp(long timeMillis) {
+        long second = Math.floorDiv(timeMillis, 1000);
+        if (second != cachedSecond) {
+            cachedSecond = second;
+            cachedTimestamp = LocalDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneId.systemDefault())
+                .format(TIMESTAMP_FORMAT);
+        }
+        return cachedTimestamp;
+    }
+
+    /**
+     * Writes what is left in the buffer. Runs at JVM shutdown.
+     */
+    private void flushAtShutdown() {
+        flush(2000);
+    }
+}
@@ -0,0 +1,116 @@
+package gdk.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free queue of log events with many producers and a single consumer.
+ *
+ * Every slot carries a sequence number telling whether it is free for the producer
+ * that claims a position or holds an event for the consumer, so producers only
+ * contend on one compare-and-set and never wait for each other or the writer.
+ *
+ * @authors Clement Luo
+ * @date January 28, 2026
+ * @edited January 28, 2026
+ * @since Beta 1.0
+ */
+final class LogRingBuffer {
+
+    private final AtomicReferenceArray<LogBackend.LogEvent> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    /** Next position producers claim. */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next position the consumer reads; only written by the consumer. */
+    private volatile long head;
+
+    /**
+     * @param capacity Requested capacity, rounded up to a power of two
+     */
+    LogRingBuffer(int capacity) {
+        int size = 2;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an event without blocking.
+     *
+     * @param event The event
+     * @return false if the buffer is full
+     */
+    boolean offer(LogBackend.LogEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, event);
+                    // Publishes the event to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // The consumer has not freed this slot since the last lap
+                return false;
+            } else {
+                // Another producer claimed this position first
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest event. Only the consumer thread may call this.
+     *
+     * @return The event, or null if none is ready
+     */
+    LogBackend.LogEvent poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        LogBackend.LogEvent event = slots.get(index);
+        slots.lazySet(index, null);
+        // Frees the slot for the producer one lap ahead
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return event;
+    }
+
+    /**
+     * Checks whether the next event is not yet ready (it may be claimed but still being written).
+     */
+    boolean isEmpty() {
+        long position = head;
+        return sequences.get((int) position & mask) != position + 1;
+    }
+
+    /**
+     * Gets the number of positions claimed by producers so far.
+     */
+    long claimed() {
+        return tail.get();
+    }
+
+    /**
+     * Gets the number of events the consumer has taken so far.
+     */
+    long consumed() {
+        return head;
+    }
+}
@@ -1,83 +1,132 @@
 package gdk.internal;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
 /**
  * Simple logging utility for the GDK.
  * Provides basic logging functionality without external dependencies.
  *
+ * Messages below the level named by the {@code gdk.logging.level} system property
+ * (DEBUG, INFO, WARN or ERROR; DEBUG by default) are not printed. Logging a message
+ * only queues it; a background thread writes it to the console and, if configured,
+ * a rolling log file (see {@link LogBackend} for the other {@code gdk.logging.*}
+ * properties). Use the {@code Supplier} overloads, or check {@link #isDebugEnabled()},
+ * where building the message itself is expensive.
+ *
  * @authors Clement Luo
  * @date July 19, 2025
- * @edited July 24, 2025
+ * @edited January 28, 2026
  * @since 1.0
  */
 public class Logging {
-    
-    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-    
+
+    private static final LogBackend BACKEND = LogBackend.fromSystemProperties();
+
     /**
      * Logs an informational message.
      * @param message The message to log
      */
     public static void info(String message) {
-        log("INFO", message, null);
+        log(LogBackend.INFO, message, null);
     }
-    
+
+    /**
+     * Logs an informational message, built only if INFO messages are written.
+     * @param message Supplies the message to log
+     */
+    public static void info(Supplier<String> message) {
+        log(LogBackend.INFO, message, null);
+    }
+
     /**
      * Logs a warning message.
      * @param message The message to log
      */
     public static void warning(String message) {
-        log("WARN", message, null);
+        log(LogBackend.WARN, message, null);
+    }
+
+    /**
+     * Logs a warning message, built only if warnings are written.
+     * @param message Supplies the message to log
+     */
+    public static void warning(Supplier<String> message) {
+        log(LogBackend.WARN, message, null);
     }
-    
+
     /**
      * Logs an error message.
      * @param message The message to log
      */
     public static void error(String message) {
-        log("ERROR", message, null);
+        log(LogBackend.ERROR, message, null);
     }
-    
+
     /**
      * Logs an error message with an exception.
      * @param message The message to log
      * @param exception The exception to log
      */
     public static void error(String message, Throwable exception) {
-        log("ERROR", message, exception);
+        log(LogBackend.ERROR, message, exception);
     }
-    
+
     /**
      * Logs a debug message.
      * @param message The message to log
      */
     public static void debug(String message) {
-        log("DEBUG", message, null);
+        log(LogBackend.DEBUG, message, null);
     }
-    
+
+    /**
+     * Logs a debug message, built only if DEBUG messages are written.
+     * @param message Supplies the message to log
+     */
+    public static void debug(Supplier<String> message) {
+        log(LogBackend.DEBUG, message, null);
+    }
+
+    /**
+     * Checks whether DEBUG messages are written.
+     * @return true if debug messages are written
+     */
+    public static boolean isDebugEnabled() {
+        return BACKEND.isEnabled(LogBackend.DEBUG);
+    }
+
+    /**
+     * Checks whether INFO messages are written.
+     * @return true if informational messages are written
+     */
+    public static boolean isInfoEnabled() {
+        return BACKEND.isEnabled(LogBackend.INFO);
+    }
+
+    /**
+     * Waits until every message logged so far has been written, e.g. before exiting.
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if everything was written in time
+     */
+    public static boolean flush(long timeoutMs) {
+        return BACKEND.flush(timeoutMs);
+    }
+
     /**
      * Internal logging method.
      * @param level The log level
      * @param message The message to log
      * @param exception The exception to log (can be null)
      */
-    private static void log(String level, String message, Throwable exception) {
-        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMAT);
-        String threadName = Thread.currentThread().getName();
-        
-        StringBuilder logEntry = new StringBuilder();
-        logEntry.append("[").append(timestamp).append("] "); // Timestamp
-        logEntry.append("[").append(threadName).append("] "); // Thread name
-        logEntry.append("[").append(level).append("] "); // Log level
-        logEntry.append(message); // Message
-        
-        System.out.println(logEntry.toString());
-        
-        if (exception != null) {
-            System.err.println("Exception: " + exception.getMessage());
-            exception.printStackTrace();
+    private static void log(int level, String message, Throwable exception) {
+        if (BACKEND.isEnabled(level)) {
+            BACKEND.log(level, message, exception);
+        }
+    }
+
+    private static void log(int level, Supplier<String> message, Throwable exception) {
+        if (BACKEND.isEnabled(level)) {
+            BACKEND.log(level, message.get(), exception);
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package gdk.internal;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Thread-safe publish/subscribe bridge for inter-module communication.
@@ -11,18 +16,59 @@ import java.util.function.Consumer;
  * to generic extract_metadata messages ({@code Map<String, Object>}), as well as a global
  * "return to lobby" callback.
  *
+ * Consumers registered with {@link #addConsumer(Consumer)} are called synchronously on
+ * the publisher's thread. Consumers registered with {@link #addConsumer(Consumer, DeliveryOptions)}
+ * get a bounded queue of their own: publishing only enqueues, and the queue is drained
+ * in batches on a dispatcher pool thread (or the JavaFX thread), so a slow consumer cannot
+ * stall the game or the other queued consumers.
+ *
+ * Consumers can also subscribe to specific message functions (the {@code "function"}
+ * field) instead of every message. Publishing looks the function up in an index, so
+ * a message only reaches the consumers interested in it plus the wildcard consumers.
+ *
+ * Several game sessions can share one JVM by giving each its own {@link Scope}.
+ * Code running in a scope (and threads it starts) publishes to that scope's
+ * consumers only; everything else publishes to the global consumers.
+ *
  * @authors Clement Luo
  * @date August 8, 2025
- * @edited November 9, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class MessagingBridge {
 
     // ==================== INTERNAL STATE ====================
 
-    /** List of all registered message consumers. Thread-safe via CopyOnWriteArrayList. */
-    private static final CopyOnWriteArrayList<Consumer<Map<String, Object>>> consumers =
-            new CopyOnWriteArrayList<>();
+    /** Message field that topic subscriptions are keyed on. */
+    public static final String FUNCTION_FIELD = "function";
+
+    /** Subscriptions of code that is not running in a scope. */
+    private static final Bus globalBus = new Bus(null);
+
+    /** Scope of the code running on this thread, inherited by threads it starts. */
+    private static final InheritableThreadLocal<Scope> currentScope = new InheritableThreadLocal<>();
+
+    /**
+     * Subscriptions of the global bridge or of one scope.
+     */
+    private static final class Bus {
+        /** Scope owning this bus, or null for the global bus. */
+        private final Scope scope;
+
+        /** List of all active subscriptions. Thread-safe via CopyOnWriteArrayList. */
+        private final CopyOnWriteArrayList<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        /** Subscriptions that receive every message. */
+        private final CopyOnWriteArrayList<Subscription> wildcardSubscriptions = new CopyOnWriteArrayList<>();
+
+        /** Topic subscriptions, indexed by message function. */
+        private final ConcurrentHashMap<String, CopyOnWriteArrayList<Subscription>> subscriptionsByFunction =
+                new ConcurrentHashMap<>();
+
+        private Bus(Scope scope) {
+            this.scope = scope;
+        }
+    }
 
     /** Private constructor — static utility only. */
     private MessagingBridge() {}
@@ -37,19 +83,114 @@ public final class MessagingBridge {
      * @return a Subscription object that can be used to remove the consumer later
      */
     public static Subscription addConsumer(Consumer<Map<String, Object>> consumer) {
+        return register(globalBus, null, consumer, null);
+    }
+
+    /**
+     * Register a consumer that receives published messages asynchronously.
+     * Publishing only enqueues into the consumer's own bounded queue; see {@link DeliveryOptions}.
+     *
+     * @param consumer the message consumer to add
+     * @param options queue capacity, overflow policy and delivery thread
+     * @return a Subscription object that can be used to remove the consumer later
+     */
+    public static Subscription addConsumer(Consumer<Map<String, Object>> consumer, DeliveryOptions options) {
+        if (options == null) {
+            Logging.warning("MessagingBridge: Attempted to register consumer with null delivery options");
+            return null;
+        }
+        return register(globalBus, null, consumer, options);
+    }
+
+    /**
+     * Register a consumer for messages whose {@code "function"} field is one of the given functions.
+     * Delivery is synchronous, on the publisher's thread.
+     *
+     * @param functions the message functions to receive (e.g. {@code "end"})
+     * @param consumer the message consumer to add
+     * @return a Subscription object that can be used to remove the consumer later
+     */
+    public static Subscription addConsumer(Collection<String> functions, Consumer<Map<String, Object>> consumer) {
+        return addTopicConsumer(globalBus, functions, consumer, null);
+    }
+
+    /**
+     * Register an asynchronous consumer for messages whose {@code "function"} field is one of the given functions.
+     *
+     * @param functions the message functions to receive (e.g. {@code "end"})
+     * @param consumer the message consumer to add
+     * @param options queue capacity, overflow policy and delivery thread
+     * @return a Subscription object that can be used to remove the consumer later
+     */
+    public static Subscription addConsumer(Collection<String> functions, Consumer<Map<String, Object>> consumer,
+                                           DeliveryOptions options) {
+        if (options == null) {
+            Logging.warning("MessagingBridge: Attempted to register consumer with null delivery options");
+            return null;
+        }
+        return addTopicConsumer(globalBus, functions, consumer, options);
+    }
+
+    private static Subscription addTopicConsumer(Bus bus, Collection<String> functions,
+                                                 Consumer<Map<String, Object>> consumer, DeliveryOptions options) {
+        if (functions == null || functions.isEmpty() || functions.stream().anyMatch(Objects::isNull)) {
+            Logging.warning("MessagingBridge: Attempted to register consumer without valid functions");
+            return null;
+        }
+        return register(bus, Set.copyOf(functions), consumer, options);
+    }
+
+    private static Subscription register(Bus bus, Set<String> functions, Consumer<Map<String, Object>> consumer,
+                                         DeliveryOptions options) {
         if (consumer == null) {
             Logging.warning("MessagingBridge: Attempted to register null consumer");
             return null;
         }
 
-        if (consumers.contains(consumer)) {
+        if (findSubscription(bus, consumer) != null) {
             Logging.warning("MessagingBridge: Duplicate consumer registration attempted");
-            return new Subscription(consumer, false);
+            return new Subscription(bus, consumer, functions, null, false);
         }
 
-        consumers.add(consumer);
-        Logging.info("MessagingBridge: Consumer added. Total consumers=" + consumers.size());
-        return new Subscription(consumer, true);
+        QueuedSubscriber queue = null;
+        if (options != null) {
+            // Queued delivery happens on another thread; keep the consumer in its scope
+            Consumer<Map<String, Object>> delivery = bus.scope == null
+                ? consumer
+                : message -> bus.scope.run(() -> consumer.accept(message));
+            queue = new QueuedSubscriber(delivery, options);
+        }
+        Subscription subscription = new Subscription(bus, consumer, functions, queue, true);
+        bus.subscriptions.add(subscription);
+        if (functions == null) {
+            bus.wildcardSubscriptions.add(subscription);
+        } else {
+            for (String function : functions) {
+                bus.subscriptionsByFunction.computeIfAbsent(function, key -> new CopyOnWriteArrayList<>()).add(subscription);
+            }
+        }
+        Logging.debug("MessagingBridge: Consumer added" + (functions != null ? " for " + functions : "")
+            + (bus.scope != null ? " in scope " + bus.scope.getName() : "")
+            + ". Total consumers=" + bus.subscriptions.size());
+        return subscription;
+    }
+
+    /**
+     * Remove a subscription from every index of its bus.
+     */
+    private static void unregister(Subscription subscription) {
+        Bus bus = subscription.bus;
+        bus.subscriptions.remove(subscription);
+        if (subscription.functions == null) {
+            bus.wildcardSubscriptions.remove(subscription);
+            return;
+        }
+        for (String function : subscription.functions) {
+            bus.subscriptionsByFunction.computeIfPresent(function, (key, list) -> {
+                list.remove(subscription);
+                return list.isEmpty() ? null : list;
+            });
+        }
     }
 
     /**
@@ -64,62 +205,219 @@ public final class MessagingBridge {
             return;
         }
 
-        if (consumers.remove(consumer)) {
-            Logging.info("MessagingBridge: Consumer removed. Total consumers=" + consumers.size());
+        Subscription subscription = findSubscription(globalBus, consumer);
+        if (subscription != null) {
+            subscription.unsubscribe();
         } else {
             Logging.warning("MessagingBridge: Attempted to remove non-registered consumer");
         }
     }
 
+    private static Subscription findSubscription(Bus bus, Consumer<Map<String, Object>> consumer) {
+        for (Subscription subscription : bus.subscriptions) {
+            if (subscription.consumer == consumer) {
+                return subscription;
+            }
+        }
+        return null;
+    }
+
     /**
      * Represents a handle to a consumer subscription.
      * Allows explicit unregistration without tracking the original lambda.
      */
     public static final class Subscription {
+        private final Bus bus;
         private final Consumer<Map<String, Object>> consumer;
+        private final Set<String> functions;
+        private final QueuedSubscriber queue;
         private volatile boolean isActive;
 
-        private Subscription(Consumer<Map<String, Object>> consumer, boolean active) {
+        private Subscription(Bus bus, Consumer<Map<String, Object>> consumer, Set<String> functions,
+                             QueuedSubscriber queue, boolean active) {
+            this.bus = bus;
             this.consumer = consumer;
+            this.functions = functions;
+            this.queue = queue;
             this.isActive = active;
         }
 
-        /** Unsubscribe this consumer from the message bridge. */
+        /** Unsubscribe this consumer from the message bridge. Undelivered queued messages are discarded. */
         public void unsubscribe() {
             if (!isActive || consumer == null) {
                 return;
             }
-            consumers.remove(consumer);
+            unregister(this);
             isActive = false;
+            if (queue != null) {
+                queue.close();
+                SubscriptionStats stats = queue.stats();
+                if (stats.dropped() > 0 || stats.blockedPublishes() > 0) {
+                    Logging.info("MessagingBridge: Subscription closed - " + stats);
+                }
+            }
+            Logging.debug("MessagingBridge: Consumer removed. Total consumers=" + bus.subscriptions.size());
         }
 
         /** Check if this subscription is still active. */
         public boolean isActive() {
             return isActive;
         }
+
+        /**
+         * The message functions this subscription receives.
+         *
+         * @return the functions, or null if it receives every message
+         */
+        public Set<String> getFunctions() {
+            return functions;
+        }
+
+        /** Check if this subscription delivers asynchronously through its own queue. */
+        public boolean isAsynchronous() {
+            return queue != null;
+        }
+
+        /**
+         * Wait until every message queued for this consumer has been delivered.
+         * Synchronous subscriptions have nothing to wait for.
+         *
+         * @param timeoutMs maximum time to wait, in milliseconds
+         * @return true if nothing is left to deliver
+         */
+        public boolean flush(long timeoutMs) {
+            return queue == null || queue.flush(timeoutMs);
+        }
+
+        /**
+         * Backpressure statistics for this subscription.
+         *
+         * @return the current statistics, or null for synchronous subscriptions
+         */
+        public SubscriptionStats getStats() {
+            return queue != null ? queue.stats() : null;
+        }
+    }
+
+    // ==================== ASYNCHRONOUS DELIVERY ====================
+
+    /**
+     * What happens when a message is published to a full subscriber queue.
+     */
+    public enum OverflowPolicy {
+        /** The publisher waits for space (except on the consumer's own delivery thread, where the queue grows instead). */
+        BLOCK,
+        /** The oldest queued message is discarded. */
+        DROP_OLDEST,
+        /** A queued message with the same key is replaced in place; otherwise the oldest is discarded. */
+        COALESCE
+    }
+
+    /**
+     * Delivery settings for an asynchronous subscription.
+     *
+     * @param capacity maximum number of queued messages
+     * @param overflowPolicy what to do when the queue is full
+     * @param coalesceKey message field identifying messages that supersede each other (COALESCE only)
+     * @param onFxThread deliver on the JavaFX application thread instead of a dispatcher thread
+     */
+    public record DeliveryOptions(int capacity, OverflowPolicy overflowPolicy, String coalesceKey, boolean onFxThread) {
+
+        public DeliveryOptions {
+            if (capacity <= 0) {
+                throw new IllegalArgumentException("capacity must be positive");
+            }
+            if (overflowPolicy == null) {
+                throw new IllegalArgumentException("overflowPolicy must not be null");
+            }
+            if (overflowPolicy == OverflowPolicy.COALESCE && coalesceKey == null) {
+                throw new IllegalArgumentException("COALESCE requires a coalesceKey");
+            }
+        }
+
+        /** Deliver on a dispatcher pool thread. */
+        public static DeliveryOptions onDispatcher(int capacity, OverflowPolicy overflowPolicy) {
+            return new DeliveryOptions(capacity, overflowPolicy, null, false);
+        }
+
+        /** Deliver on the JavaFX application thread, one thread hop per batch. */
+        public static DeliveryOptions onFxThread(int capacity, OverflowPolicy overflowPolicy) {
+            return new DeliveryOptions(capacity, overflowPolicy, null, true);
+        }
+
+        /** Same delivery thread and capacity, coalescing queued messages by a message field. */
+        public DeliveryOptions coalescingBy(String key) {
+            return new DeliveryOptions(capacity, OverflowPolicy.COALESCE, key, onFxThread);
+        }
+    }
+
+    /**
+     * Backpressure statistics for an asynchronous subscription.
+     *
+     * @param queued messages currently waiting
+     * @param maxQueued highest queue depth seen
+     * @param delivered messages handed to the consumer
+     * @param dropped messages discarded by overflow or unsubscribe
+     * @param coalesced messages that replaced a queued message
+     * @param blockedPublishes publishes that had to wait for space
+     */
+    public record SubscriptionStats(int queued, int maxQueued, long delivered, long dropped,
+                                    long coalesced, long blockedPublishes) {
     }
 
     // ==================== MESSAGE PUBLISHING ====================
 
     /**
      * Broadcast a message to all registered consumers.
+     * Synchronous consumers run now, on this thread; asynchronous consumers only get the message queued.
+     * Wildcard consumers are delivered to first, then consumers subscribed to the message's function.
+     *
+     * <p>Inside a {@link Scope}, only that scope's consumers receive the message. Messages
+     * published in a closed scope are dropped.
      *
      * @param message key-value map representing the message extract_metadata
      */
     public static void publish(Map<String, Object> message) {
+        Scope scope = currentScope.get();
+        if (scope == null) {
+            publish(globalBus, message);
+        } else if (scope.isOpen()) {
+            publish(scope.bus, message);
+        } else {
+            Logging.debug("MessagingBridge: Scope " + scope.getName() + " is closed; message dropped");
+        }
+    }
+
+    private static void publish(Bus bus, Map<String, Object> message) {
         if (message == null) {
             Logging.warning("MessagingBridge: Attempted to publish null message");
             return;
         }
 
-        if (consumers.isEmpty()) {
-            Logging.info("MessagingBridge: No consumers registered; message dropped");
+        if (bus.subscriptions.isEmpty()) {
+            Logging.debug("MessagingBridge: No consumers registered; message dropped");
             return;
         }
 
-        for (Consumer<Map<String, Object>> c : consumers) {
+        deliver(bus.wildcardSubscriptions, message);
+
+        Object function = message.get(FUNCTION_FIELD);
+        if (function instanceof String) {
+            CopyOnWriteArrayList<Subscription> interested = bus.subscriptionsByFunction.get(function);
+            if (interested != null) {
+                deliver(interested, message);
+            }
+        }
+    }
+
+    private static void deliver(CopyOnWriteArrayList<Subscription> targets, Map<String, Object> message) {
+        for (Subscription subscription : targets) {
+            if (subscription.queue != null) {
+                subscription.queue.offer(message);
+                continue;
+            }
             try {
-                c.accept(message);
+                subscription.consumer.accept(message);
             } catch (Exception e) {
                 Logging.error("MessagingBridge: Error in consumer during publish", e);
             }
@@ -153,10 +451,140 @@ public final class MessagingBridge {
     }
 
     /**
-     * Provides number of active consumers (useful for diagnostics).
+     * Provides number of active global consumers (useful for diagnostics).
      */
     public static int getConsumerCount() {
-        return consumers.size();
+        return globalBus.subscriptions.size();
+    }
+
+    // ==================== SCOPES ====================
+
+    /**
+     * Open a new scope with no consumers.
+     *
+     * @param name name for log messages (e.g. the session it belongs to)
+     * @return the new scope
+     */
+    public static Scope openScope(String name) {
+        return new Scope(name);
+    }
+
+    /**
+     * The scope of the code running on this thread.
+     *
+     * @return the current scope, or null outside any scope
+     */
+    public static Scope currentScope() {
+        return currentScope.get();
+    }
+
+    /**
+     * Leave any scope this thread inherited. For long-lived threads created
+     * lazily by shared infrastructure, which must not stay in their creator's scope.
+     */
+    static void clearScope() {
+        currentScope.remove();
+    }
+
+    /**
+     * An isolated set of consumers, typically one per game session.
+     *
+     * <p>Code run through {@link #call(Supplier)} or {@link #run(Runnable)}, and any
+     * thread it starts, publishes to this scope only. Consumers added to the scope
+     * see nothing published outside it. Closing the scope unsubscribes its consumers.
+     */
+    public static final class Scope {
+        private final String name;
+        private final Bus bus;
+        private volatile boolean open = true;
+
+        private Scope(String name) {
+            this.name = name;
+            this.bus = new Bus(this);
+        }
+
+        /** Register a consumer for every message published in this scope. */
+        public Subscription addConsumer(Consumer<Map<String, Object>> consumer) {
+            return register(bus, null, consumer, null);
+        }
+
+        /** Register an asynchronous consumer for every message published in this scope. */
+        public Subscription addConsumer(Consumer<Map<String, Object>> consumer, DeliveryOptions options) {
+            if (options == null) {
+                Logging.warning("MessagingBridge: Attempted to register consumer with null delivery options");
+                return null;
+            }
+            return register(bus, null, consumer, options);
+        }
+
+        /** Register a consumer for messages with the given functions published in this scope. */
+        public Subscription addConsumer(Collection<String> functions, Consumer<Map<String, Object>> consumer) {
+            return addTopicConsumer(bus, functions, consumer, null);
+        }
+
+        /**
+         * Publish a message to this scope's consumers, from any thread.
+         *
+         * @param message the message to publish
+         */
+        public void publish(Map<String, Object> message) {
+            if (open) {
+                MessagingBridge.publish(bus, message);
+            }
+        }
+
+        /**
+         * Run code in this scope on the calling thread.
+         *
+         * @param call the code to run
+         * @return the code's result
+         */
+        public <T> T call(Supplier<T> call) {
+            Scope previous = currentScope.get();
+            currentScope.set(this);
+            try {
+                return call.get();
+            } finally {
+                if (previous != null) {
+                    currentScope.set(previous);
+                } else {
+                    currentScope.remove();
+                }
+            }
+        }
+
+        /**
+         * Run code in this scope on the calling thread.
+         *
+         * @param task the code to run
+         */
+        public void run(Runnable task) {
+            call(() -> {
+                task.run();
+                return null;
+            });
+        }
+
+        /** Close the scope: its consumers are unsubscribed and later publishes in it are dropped. */
+        public void close() {
+            open = false;
+            for (Subscription subscription : bus.subscriptions) {
+                subscription.unsubscribe();
+            }
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /** Number of consumers in this scope. */
+        public int getConsumerCount() {
+            return bus.subscriptions.size();
+        }
     }
 
     // ==================== LOBBY RETURN FUNCTIONALITY ====================
@@ -0,0 +1,292 @@
+package gdk.internal;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous delivery for one {@link MessagingBridge} subscription.
+ *
+ * Publishing only enqueues the message in this subscriber's bounded queue.
+ * The queue is drained in batches, either on a dispatcher pool thread or
+ * with one JavaFX thread hop per batch, so messages reach the consumer in
+ * publish order and a slow consumer never runs on the publisher's thread.
+ * At most one drain per subscriber runs at a time, but different subscribers
+ * drain in parallel, so a slow consumer only delays its own queue.
+ *
+ * @authors Clement Luo
+ * @date January 18, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+final class QueuedSubscriber {
+
+    // ==================== CONSTANTS ====================
+
+    /** Maximum number of messages delivered per drain. */
+    private static final int BATCH_SIZE = 64;
+
+    /** Set while the current thread is delivering messages to any queued subscriber. */
+    private static final ThreadLocal<Boolean> DELIVERING = ThreadLocal.withInitial(() -> false);
+
+    /** Daemon pool that drains dispatcher-delivered subscriptions, created on first use. */
+    private static final class Dispatcher {
+        private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            // Created on demand, possibly inside a scope; the dispatcher serves every scope
+            Thread thread = new Thread(() -> {
+                MessagingBridge.clearScope();
+                runnable.run();
+            }, "MessagingBridge-Dispatcher-" + THREAD_COUNT.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ==================== STATE ====================
+
+    private final Consumer<Map<String, Object>> consumer;
+    private final MessagingBridge.DeliveryOptions options;
+
+    /** Pending messages in publish order, keyed by coalesce key (or a unique key). */
+    private final LinkedHashMap<Object, Map<String, Object>> queue = new LinkedHashMap<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition idle = lock.newCondition();
+
+    /** Whether a drain is scheduled or running. */
+    private boolean scheduled;
+    /** Thread currently running this subscriber's consumer, if any. */
+    private volatile Thread drainThread;
+    private boolean closed;
+
+    private long delivered;
+    private long dropped;
+    private long coalesced;
+    private long blockedPublishes;
+    private int maxQueued;
+
+    QueuedSubscriber(Consumer<Map<String, Object>> consumer, MessagingBridge.DeliveryOptions options) {
+        this.consumer = consumer;
+        this.options = options;
+    }
+
+    // ==================== PUBLISHING ====================
+
+    /**
+     * Enqueues a message, applying the overflow policy if the queue is full.
+     *
+     * @param message The message to deliver
+     */
+    void offer(Map<String, Object> message) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+
+            Object coalesceKey = coalesceKeyOf(message);
+            if (coalesceKey != null && queue.containsKey(coalesceKey)) {
+                // Replace the pending message in place; it keeps its position in the queue
+                queue.put(coalesceKey, message);
+                coalesced++;
+                return;
+            }
+
+            if (queue.size() >= options.capacity()) {
+                if (options.overflowPolicy() != MessagingBridge.OverflowPolicy.BLOCK) {
+                    dropOldest();
+                } else if (!isDeliveryThread()) {
+                    blockedPublishes++;
+                    while (queue.size() >= options.capacity() && !closed) {
+                        notFull.await();
+                    }
+                    if (closed) {
+                        return;
+                    }
+                }
+                // Blocking on the delivery thread would deadlock, so the queue grows past capacity instead
+            }
+
+            queue.put(coalesceKey != null ? coalesceKey : new Object(), message);
+            maxQueued = Math.max(maxQueued, queue.size());
+            if (!scheduled) {
+                scheduled = true;
+                scheduleDrain();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped++;
+            Logging.warning("MessagingBridge: Publisher interrupted while blocked; message dropped");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Waits until every queued message has been delivered.
+     *
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if the queue is empty and no delivery is running
+     */
+    boolean flush(long timeoutMs) {
+        if (isOwnDeliveryThread()) {
+            // The drain we would wait for cannot run while we hold this thread
+            return false;
+        }
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (scheduled && remaining > 0) {
+                remaining = idle.awaitNanos(remaining);
+            }
+            return !scheduled;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops delivery and discards pending messages. Blocked publishers are released.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            dropped += queue.size();
+            queue.clear();
+            notFull.signalAll();
+            if (!scheduled) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Snapshot of this subscription's delivery counters.
+     *
+     * @return The current statistics
+     */
+    MessagingBridge.SubscriptionStats stats() {
+        lock.lock();
+        try {
+            return new MessagingBridge.SubscriptionStats(
+                queue.size(), maxQueued, delivered, dropped, coalesced, blockedPublishes);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================== DELIVERY ====================
+
+    /**
+     * Delivers up to one batch, then reschedules itself if more messages are pending.
+     */
+    private void drain() {
+        List<Map<String, Object>> batch = new ArrayList<>(BATCH_SIZE);
+        lock.lock();
+        try {
+            Iterator<Map<String, Object>> pending = queue.values().iterator();
+            while (pending.hasNext() && batch.size() < BATCH_SIZE) {
+                batch.add(pending.next());
+                pending.remove();
+            }
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        boolean wasDelivering = DELIVERING.get();
+        DELIVERING.set(true);
+        drainThread = Thread.currentThread();
+        try {
+            for (Map<String, Object> message : batch) {
+                try {
+                    consumer.accept(message);
+                } catch (Exception e) {
+                    Logging.error("MessagingBridge: Error in consumer during delivery", e);
+                }
+            }
+        } finally {
+            drainThread = null;
+            DELIVERING.set(wasDelivering);
+        }
+
+        lock.lock();
+        try {
+            delivered += batch.size();
+            if (!queue.isEmpty() && !closed) {
+                scheduleDrain();
+            } else {
+                scheduled = false;
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void scheduleDrain() {
+        if (options.onFxThread()) {
+            try {
+                Platform.runLater(this::drain);
+                return;
+            } catch (IllegalStateException toolkitNotRunning) {
+                // No JavaFX toolkit (e.g. headless use) - fall back to the dispatcher
+            }
+        }
+        Dispatcher.EXECUTOR.execute(this::drain);
+    }
+
+    /**
+     * Whether blocking the current thread could stop queues from draining: it is
+     * delivering to some queued subscriber (two consumers blocked on each other's
+     * full queues would deadlock), or it is the thread this subscriber drains on.
+     */
+    private boolean isDeliveryThread() {
+        return DELIVERING.get() || isOwnDeliveryThread();
+    }
+
+    /** Whether the current thread is the one this subscriber's drain needs. */
+    private boolean isOwnDeliveryThread() {
+        if (options.onFxThread() && Platform.isFxApplicationThread()) {
+            return true;
+        }
+        return Thread.currentThread() == drainThread;
+    }
+
+    private Object coalesceKeyOf(Map<String, Object> message) {
+        if (options.overflowPolicy() != MessagingBridge.OverflowPolicy.COALESCE) {
+            return null;
+        }
+        return message.get(options.coalesceKey());
+    }
+
+    private void dropOldest() {
+        Iterator<Object> oldest = queue.keySet().iterator();
+        if (oldest.hasNext()) {
+            oldest.next();
+            oldest.remove();
+            dropped++;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package gdk.internal;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Log file that is rolled over once it reaches a size limit.
+ *
+ * When {@code gdk.log} is full it becomes {@code gdk.log.1}, the previous
+ * {@code gdk.log.1} becomes {@code gdk.log.2}, and so on; the oldest file is deleted.
+ * Not thread-safe: only the log writer uses it.
+ *
+ * @authors Clement Luo
+ * @date January 28, 2026
+ * @edited January 28, 2026
+ * @since Beta 1.0
+ */
+final class RollingLogFile {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private BufferedWriter out;
+    private long size;
+
+    /**
+     * @param file The current log file; rolled files are kept next to it
+     * @param maxBytes Size at which the file is rolled over
+     * @param maxFiles Number of rolled files to keep
+     * @throws IOException If the file cannot be opened
+     */
+    RollingLogFile(Path file, long maxBytes, int maxFiles) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.maxBytes = Math.max(1024, maxBytes);
+        this.maxFiles = Math.max(0, maxFiles);
+        open();
+    }
+
+    /**
+     * Appends a line, rolling the file over first if it is full.
+     *
+     * @param line The line, without a line separator
+     * @throws IOException If the file cannot be written
+     */
+    void writeLine(String line) throws IOException {
+        if (size >= maxBytes) {
+            roll();
+        }
+        out.write(line);
+        out.newLine();
+        // Close enough for rolling; the exact size in bytes does not matter
+        size += line.length() + 1;
+    }
+
+    /**
+     * Flushes buffered lines to the file.
+     *
+     * @throws IOException If the file cannot be written
+     */
+    void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Flushes and closes the file.
+     */
+    void close() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            System.err.println("Logging: could not close " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void open() throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        out = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(file);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        if (maxFiles == 0) {
+            Files.delete(file);
+        } else {
+            Files.deleteIfExists(rolled(maxFiles));
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                if (Files.exists(rolled(i))) {
+                    Files.move(rolled(i), rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+}
@@ -0,0 +1,31 @@
+package launcher.core;
+
+/**
+ * Plain entry point for starting the GDK with {@code java -cp}.
+ *
+ * <p>The Java launcher refuses to start a main class that extends
+ * {@link javafx.application.Application} when JavaFX is on the class path rather
+ * than the module path. This class does not, so it can start {@link GDKApplication}
+ * from a class path of plain jars, which is what class data sharing needs (see
+ * {@code cds.sh}).
+ *
+ * @author Clement Luo
+ * @date January 30, 2026
+ * @edited January 30, 2026
+ * @since Beta 1.0
+ */
+public final class GDKLauncher {
+
+    private GDKLauncher() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Starts the GDK.
+     *
+     * @param args Command line arguments passed to the application
+     */
+    public static void main(String[] args) {
+        GDKApplication.main(args);
+    }
+}
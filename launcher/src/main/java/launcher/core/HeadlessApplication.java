@@ -0,0 +1,177 @@
+package launcher.core;
+
+import gdk.internal.Logging;
+
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.headless_runtime.HeadlessSession;
+import launcher.features.headless_runtime.SessionHost;
+import launcher.features.json_processing.JsonParser;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point for running game modules without a display.
+ *
+ * <p>Loads the given modules, starts one or more headless sessions of each (see
+ * {@link gdk.api.GameModule#startHeadless()}), waits for every one of them to send an
+ * end message and stops them. {@code --wait} caps the wait; sessions still running
+ * when it passes are stopped and the process exits with {@value #EXIT_TIMED_OUT}.
+ * No JavaFX toolkit is initialized, so this runs in CI and on servers. Sessions run
+ * concurrently on a {@link SessionHost} with {@code --threads} threads;
+ * {@code --isolate} loads every session from its own class loader.
+ *
+ * <pre>
+ * HeadlessApplication [--sessions N] [--threads N] [--isolate] [--start JSON] [--wait SECONDS]
+ *                     [--transcripts DIR | --no-transcripts] MODULE_DIR...
+ * </pre>
+ *
+ * @author Clement Luo
+ * @date January 24, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class HeadlessApplication {
+
+    private static final String DEFAULT_START_MESSAGE = "{\"function\":\"start\"}";
+    private static final String DEFAULT_TRANSCRIPT_DIRECTORY = "saved/transcripts/headless";
+
+    /** {@code --wait} value meaning "wait until every session ends". */
+    private static final long NO_TIMEOUT = -1;
+
+    private static final int EXIT_OK = 0;
+    private static final int EXIT_START_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+    private static final int EXIT_TIMED_OUT = 3;
+
+    private HeadlessApplication() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Main entry point for headless mode.
+     *
+     * @param args Command line arguments (see class documentation)
+     */
+    public static void main(String[] args) {
+        int sessionsPerModule = 1;
+        int threads = SessionHost.DEFAULT_THREADS;
+        boolean isolateClassLoaders = false;
+        String startMessageText = DEFAULT_START_MESSAGE;
+        long waitSeconds = NO_TIMEOUT;
+        Path transcriptDirectory = Path.of(DEFAULT_TRANSCRIPT_DIRECTORY);
+        List<File> moduleDirectories = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--sessions":
+                        sessionsPerModule = Integer.parseInt(args[++i]);
+                        break;
+                    case "--threads":
+                        threads = Integer.parseInt(args[++i]);
+                        break;
+                    case "--isolate":
+                        isolateClassLoaders = true;
+                        break;
+                    case "--start":
+                        startMessageText = args[++i];
+                        break;
+                    case "--wait":
+                        waitSeconds = Long.parseLong(args[++i]);
+                        if (waitSeconds < 0) {
+                            throw new IllegalArgumentException("--wait must not be negative");
+                        }
+                        break;
+                    case "--transcripts":
+                        transcriptDirectory = Path.of(args[++i]);
+                        break;
+                    case "--no-transcripts":
+                        transcriptDirectory = null;
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        moduleDirectories.add(new File(args[i]));
+                }
+            }
+            if (moduleDirectories.isEmpty() || sessionsPerModule < 1 || threads < 1) {
+                throw new IllegalArgumentException(
+                    "At least one module directory and positive session and thread counts are required");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Usage: HeadlessApplication [--sessions N] [--threads N] [--isolate] [--start JSON] "
+                + "[--wait SECONDS] [--transcripts DIR | --no-transcripts] MODULE_DIR...");
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        Map<String, Object> startMessage = JsonParser.parse(startMessageText);
+        if (startMessage == null) {
+            System.err.println("❌ Invalid start message: " + startMessageText);
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        HeadlessRuntime.activate();
+        SessionHost host = new SessionHost(threads);
+        int exitCode = run(host, moduleDirectories, sessionsPerModule, isolateClassLoaders, startMessage,
+            waitSeconds, transcriptDirectory);
+        host.close();
+        Shutdown.shutdown(exitCode);
+    }
+
+    /**
+     * Starts the sessions, waits for them and stops them.
+     *
+     * @return The process exit code: {@value #EXIT_OK} if every session started and ended,
+     *         {@value #EXIT_START_FAILED} if a session failed to start, {@value #EXIT_TIMED_OUT}
+     *         if a session was still running when {@code --wait} passed
+     */
+    private static int run(SessionHost host, List<File> moduleDirectories, int sessionsPerModule,
+                           boolean isolateClassLoaders, Map<String, Object> startMessage, long waitSeconds,
+                           Path transcriptDirectory) {
+        long startTime = System.currentTimeMillis();
+        int failed = 0;
+        for (File moduleDirectory : moduleDirectories) {
+            List<HeadlessSession> started = host.startSessions(
+                moduleDirectory, sessionsPerModule, isolateClassLoaders, startMessage, transcriptDirectory);
+            failed += sessionsPerModule - started.size();
+        }
+
+        List<HeadlessSession> sessions = host.getSessions();
+        Logging.info("🖥️ " + sessions.size() + " headless session(s) running, " + failed + " failed to start ("
+            + (System.currentTimeMillis() - startTime) + "ms)");
+
+        long deadline = waitSeconds == NO_TIMEOUT ? Long.MAX_VALUE : System.currentTimeMillis() + waitSeconds * 1000;
+        int stillRunning = 0;
+        for (HeadlessSession session : sessions) {
+            long remaining = deadline == Long.MAX_VALUE ? Long.MAX_VALUE : Math.max(0, deadline - System.currentTimeMillis());
+            if (!session.awaitEnd(remaining)) {
+                stillRunning++;
+            }
+        }
+
+        for (HeadlessSession session : sessions) {
+            Logging.info("🖥️ " + session + ": " + session.getMessagesSent() + " sent, "
+                + session.getMessagesReceived() + " received, " + (session.isEnded() ? "ended" : "still running")
+                + (session.getTranscriptFile() != null ? ", transcript " + session.getTranscriptFile() : ""));
+        }
+        host.stopAll();
+
+        if (failed > 0) {
+            return EXIT_START_FAILED;
+        }
+        if (stillRunning > 0) {
+            Logging.warning("🖥️ " + stillRunning + " session(s) still running after " + waitSeconds + "s - stopped");
+            return EXIT_TIMED_OUT;
+        }
+        return EXIT_OK;
+    }
+}
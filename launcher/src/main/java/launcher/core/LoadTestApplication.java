@@ -0,0 +1,179 @@
+package launcher.core;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.game_messaging.ServerSimulatorProtocol;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.load_generation.LoadGenerator;
+import launcher.features.load_generation.LoadProfile;
+import launcher.features.load_generation.LoadReport;
+import launcher.features.load_generation.LoadScript;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.load_modules.LoadModules;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entry point for load testing a game module without a display.
+ *
+ * <p>Loads one module and drives it with {@link LoadGenerator}. Several rates can
+ * be given; they are run in turn, stopping at the first one the module cannot
+ * keep up with (or that fails more than 1% of its messages), to find where it
+ * falls over.
+ *
+ * <pre>
+ * LoadTestApplication (--template TEXT | --transcript FILE) [--rate R[,R...]] [--concurrency N]
+ *                     [--duration SECONDS] [--messages N] [--randomize FIELD[,FIELD...]]
+ *                     [--start JSON] MODULE_DIR
+ * </pre>
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public final class LoadTestApplication {
+
+    private static final String USAGE = "Usage: LoadTestApplication (--template TEXT | --transcript FILE) "
+        + "[--rate R[,R...]] [--concurrency N] [--duration SECONDS] [--messages N] "
+        + "[--randomize FIELD[,FIELD...]] [--start JSON] MODULE_DIR";
+
+    /** Share of failed messages above which a rate counts as too high. */
+    private static final double MAX_ERROR_RATIO = 0.01;
+
+    private LoadTestApplication() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Main entry point for load tests.
+     *
+     * @param args Command line arguments (see class documentation)
+     */
+    public static void main(String[] args) {
+        String template = null;
+        Path transcript = null;
+        List<Double> rates = new ArrayList<>(List.of(0.0));
+        int concurrency = 1;
+        long durationSeconds = 10;
+        long maxMessages = 0;
+        Set<String> randomizedFields = Set.of();
+        String startMessage = null;
+        File moduleDirectory = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--template":
+                        template = args[++i];
+                        break;
+                    case "--transcript":
+                        transcript = Path.of(args[++i]);
+                        break;
+                    case "--rate":
+                        rates.clear();
+                        for (String rate : args[++i].split(",")) {
+                            rates.add(Double.parseDouble(rate.trim()));
+                        }
+                        break;
+                    case "--concurrency":
+                        concurrency = Integer.parseInt(args[++i]);
+                        break;
+                    case "--duration":
+                        durationSeconds = Long.parseLong(args[++i]);
+                        break;
+                    case "--messages":
+                        maxMessages = Long.parseLong(args[++i]);
+                        break;
+                    case "--randomize":
+                        randomizedFields = Set.of(args[++i].split(","));
+                        break;
+                    case "--start":
+                        startMessage = args[++i];
+                        break;
+                    default:
+                        if (args[i].startsWith("--") || moduleDirectory != null) {
+                            throw new IllegalArgumentException("Unexpected argument " + args[i]);
+                        }
+                        moduleDirectory = new File(args[i]);
+                }
+            }
+            if (moduleDirectory == null || (template == null) == (transcript == null)) {
+                throw new IllegalArgumentException("A module directory and one of --template or --transcript are required");
+            }
+            // Validates every step up front
+            for (double rate : rates) {
+                new LoadProfile(rate, concurrency, Duration.ofSeconds(durationSeconds), maxMessages, randomizedFields);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+
+        HeadlessRuntime.activate();
+        LoadScript script;
+        try {
+            script = template != null ? LoadScript.fromTemplate(template) : LoadScript.fromTranscript(transcript);
+        } catch (IOException e) {
+            Logging.error("❌ " + e.getMessage());
+            Shutdown.shutdown(1);
+            return;
+        }
+
+        GameModule module = LoadModules.loadModule(moduleDirectory);
+        if (module == null) {
+            Logging.error("❌ Could not load module " + moduleDirectory + " (is it compiled?)");
+            Shutdown.shutdown(1);
+            return;
+        }
+        module = DeferredGameModule.resolve(module);
+
+        int exitCode = 0;
+        try {
+            if (!module.startHeadless()) {
+                Logging.info("📈 Module has no headless mode; driving handleMessage without starting it");
+            }
+            if (startMessage != null) {
+                ServerSimulatorProtocol.deliver(module, ServerSimulatorProtocol.toMessage(startMessage));
+            }
+            for (double rate : rates) {
+                LoadProfile profile = new LoadProfile(rate, concurrency, Duration.ofSeconds(durationSeconds),
+                    maxMessages, randomizedFields);
+                LoadReport report = LoadGenerator.run(module, script, profile);
+                if (report == null) {
+                    exitCode = 1;
+                    break;
+                }
+                Logging.info("📈 Latency in ms:\n" + report.table());
+                boolean tooManyErrors = report.total().errors() > report.total().sent() * MAX_ERROR_RATIO;
+                if (!report.completed() || !report.keptUp() || tooManyErrors) {
+                    if (rates.size() > 1) {
+                        Logging.warning("📈 Module " + (tooManyErrors ? "failed too many messages" : "fell behind")
+                            + " at " + (rate > 0 ? rate + " msg/s" : "full speed") + "; stopping");
+                    }
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            Logging.error("❌ Load test failed: " + e.getMessage(), e);
+            exitCode = 1;
+        } finally {
+            try {
+                module.stopGame();
+            } catch (RuntimeException e) {
+                Logging.warning("⚠️ Error stopping module: " + e.getMessage());
+            }
+        }
+        Shutdown.shutdown(exitCode);
+    }
+}
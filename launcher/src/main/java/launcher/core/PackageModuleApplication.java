@@ -0,0 +1,82 @@
+package launcher.core;
+
+import gdk.internal.Logging;
+
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Entry point for packaging game modules for shipping.
+ *
+ * <p>Compiles each module if needed and writes it as a packaged module (see
+ * {@link PackagedModules}) to {@code OUTPUT_DIR/<module folder name>/}. Copy
+ * that folder into a modules directory; the launcher loads it from its
+ * {@code module.jar} without the sources. No JavaFX toolkit is initialized.
+ *
+ * <pre>
+ * PackageModuleApplication [--output OUTPUT_DIR] MODULE_DIR...
+ * </pre>
+ *
+ * @author Clement Luo
+ * @date January 31, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class PackageModuleApplication {
+
+    private static final String DEFAULT_OUTPUT_DIRECTORY = "target/packaged-modules";
+
+    private PackageModuleApplication() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Main entry point for packaging.
+     *
+     * @param args Command line arguments (see class documentation)
+     */
+    public static void main(String[] args) {
+        Path outputDirectory = Path.of(DEFAULT_OUTPUT_DIRECTORY);
+        List<File> moduleDirectories = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--output":
+                        outputDirectory = Path.of(args[++i]);
+                        break;
+                    default:
+                        if (args[i].startsWith("--")) {
+                            throw new IllegalArgumentException("Unknown option " + args[i]);
+                        }
+                        moduleDirectories.add(new File(args[i]));
+                }
+            }
+            if (moduleDirectories.isEmpty()) {
+                throw new IllegalArgumentException("At least one module directory is required");
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Usage: PackageModuleApplication [--output OUTPUT_DIR] MODULE_DIR...");
+            System.exit(2);
+            return;
+        }
+
+        HeadlessRuntime.activate();
+        int failed = 0;
+        for (File moduleDirectory : moduleDirectories) {
+            if (PackagedModules.packageModule(moduleDirectory, outputDirectory) == null) {
+                failed++;
+            }
+        }
+        Logging.info("📦 Packaged " + (moduleDirectories.size() - failed) + " of " + moduleDirectories.size()
+            + " module(s) into " + outputDirectory.toAbsolutePath());
+        Shutdown.shutdown(failed == 0 ? 0 : 1);
+    }
+}
@@ -4,6 +4,7 @@ import gdk.internal.Logging;
 import javafx.stage.Stage;
 import launcher.core.lifecycle.start.auto_launch.AutoLaunchProcess;
 import launcher.core.lifecycle.start.launch.StandardLaunchProcess;
+import launcher.ui_areas.shared.fonts.FontLoader;
 import launcher.ui_areas.startup_window.StartupWindow;
 import launcher.ui_areas.lobby.lifecycle.startup.LobbyStartup;
 
@@ -11,12 +12,13 @@ import launcher.ui_areas.lobby.lifecycle.startup.LobbyStartup;
  * Orchestrates the startup process of the GDK application.
  * 
  * This class coordinates the startup sequence:
- * 1. Shows the startup progress window
- * 2. Determines and executes the appropriate launch mode (auto-launch or standard)
+ * 1. Determines the appropriate launch mode (auto-launch or standard)
+ * 2. Executes it; the standard launch shows the startup progress window
+ *    while the rest of startup runs (see {@link LobbyStartup#startStandardLaunch})
  * 
  * @author Clement Luo
  * @date August 8, 2025
- * @edited December 24, 2025
+ * @edited January 29, 2026
  * @since Beta 1.0
  */
 public final class Startup {
@@ -33,22 +35,26 @@ public final class Startup {
 
         Logging.info("Beginning GDK application startup process");
         
-        // Show startup window
-        StartupWindow startupWindow = StartupWindow.show();
-        
         // Execute launch mode
         try {
 
-            // Attempt auto-launch
-            if (LobbyStartup.isAutoLaunchEnabled() &&
-                AutoLaunchProcess.launch(primaryApplicationStage, () -> StandardLaunchProcess.launch(primaryApplicationStage, startupWindow))) {
-                Logging.info("Auto-launch successful");
+            // Attempt auto-launch; it needs the startup window up front to fall back to
+            if (LobbyStartup.isAutoLaunchEnabled()) {
+                FontLoader.loadSwingFonts();
+                StartupWindow startupWindow = StartupWindow.show();
+                if (AutoLaunchProcess.launch(primaryApplicationStage, () -> StandardLaunchProcess.launch(primaryApplicationStage, startupWindow))) {
+                    Logging.info("Auto-launch successful");
+                    return;
+                }
+
+                Logging.info("Proceeding with standard launch");
+                StandardLaunchProcess.launch(primaryApplicationStage, startupWindow);
                 return;
             }
             
-            // Fall back to standard launch
+            // Standard launch shows the startup window alongside the rest of startup
             Logging.info("Proceeding with standard launch");
-            StandardLaunchProcess.launch(primaryApplicationStage, startupWindow);
+            StandardLaunchProcess.launch(primaryApplicationStage, null);
 
         } catch (Exception startupError) {
             Logging.error("GDK application startup failed: " + startupError.getMessage(), startupError);
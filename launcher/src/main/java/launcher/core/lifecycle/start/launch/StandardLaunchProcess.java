@@ -11,7 +11,7 @@ import launcher.features.development.ProgramDelay;
  * 
  * @author Clement Luo
  * @date December 22, 2025
- * @edited January 8, 2026
+ * @edited January 29, 2026
  * @since Beta 1.0
  */
 public final class StandardLaunchProcess {
@@ -21,12 +21,14 @@ public final class StandardLaunchProcess {
     /**
      * Starts the standard GDK interface with game selection.
      * 
-     * This method initializes the full GDK application:
-     * 1. Creates and displays the startup progress window
+     * This method starts initializing the full GDK application and returns
+     * without waiting for it:
+     * 1. Creates and displays the startup progress window (unless one is given)
      * 2. Initializes the user interface
-     * 3. Loads game modules in the background
+     * 3. Loads game modules in the background, alongside the user interface
      * 
      * @param primaryApplicationStage The primary JavaFX stage
+     * @param windowManager The startup window already shown, or null to show one
      * @throws RuntimeException if the startup process fails
      */
     public static void launch(Stage primaryApplicationStage, StartupWindow windowManager) {
@@ -34,10 +36,10 @@ public final class StandardLaunchProcess {
             // Single development delay point for debugging startup window
             ProgramDelay.delay("Startup process beginning");
 
-            // Initialize the user interface and start module loading
+            // Initialize the user interface and load modules
             LobbyStartup.startStandardLaunch(primaryApplicationStage, windowManager);
 
-            Logging.info("GDK application startup completed successfully");
+            Logging.info("GDK application startup steps scheduled");
             
         } catch (Exception startupError) {
             Logging.error("GDK application startup failed: " + startupError.getMessage(), startupError);
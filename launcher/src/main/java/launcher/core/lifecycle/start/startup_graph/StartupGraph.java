@@ -0,0 +1,239 @@
+package launcher.core.lifecycle.start.startup_graph;
+
+import gdk.internal.Logging;
+import javafx.application.Platform;
+import launcher.core.lifecycle.stop.Shutdown;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs startup as a graph of steps instead of one fixed sequence.
+ *
+ * <p>Each step names the steps it needs; everything else runs at the same time,
+ * either on a small pool of background threads or on the JavaFX application
+ * thread. Every step is timed, and once all of them have finished the graph
+ * produces a {@link StartupReport} with the per-phase timings, the critical path,
+ * the time it took to get from JVM start to the lobby and the memory footprint.
+ *
+ * <p>Steps are added first and then the graph is started once; steps cannot be
+ * added to a running graph, so a step can only depend on steps added before it.
+ *
+ * @author Clement Luo
+ * @date January 29, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class StartupGraph {
+
+    /** Background steps mostly wait on disk, the EDT or the compiler, so a few threads are enough. */
+    private static final int BACKGROUND_THREADS = 4;
+
+    private final List<StartupStep<?>> steps = new ArrayList<>();
+    private final CompletableFuture<StartupReport> done = new CompletableFuture<>();
+
+    private ExecutorService backgroundPool;
+    private Instant startedAt;
+    private long startNanos;
+    private volatile long lobbyShownNanos;
+
+    // ==================== BUILDING ====================
+
+    /**
+     * Adds a step that runs on a background thread.
+     *
+     * @param name Name of the step in logs and the report
+     * @param work The step's work; its result is available to dependents through {@link StartupStep#value()}
+     * @param dependencies Steps that must finish first
+     * @return The step
+     */
+    public <T> StartupStep<T> inBackground(String name, Callable<T> work, StartupStep<?>... dependencies) {
+        return add(new StartupStep<>(name, false, work, Arrays.asList(dependencies)));
+    }
+
+    /**
+     * Adds a step that runs on the JavaFX application thread.
+     *
+     * @param name Name of the step in logs and the report
+     * @param work The step's work; its result is available to dependents through {@link StartupStep#value()}
+     * @param dependencies Steps that must finish first
+     * @return The step
+     */
+    public <T> StartupStep<T> onFxThread(String name, Callable<T> work, StartupStep<?>... dependencies) {
+        return add(new StartupStep<>(name, true, work, Arrays.asList(dependencies)));
+    }
+
+    private synchronized <T> StartupStep<T> add(StartupStep<T> step) {
+        if (startedAt != null) {
+            throw new IllegalStateException("Cannot add step '" + step.getName() + "' to a running startup graph");
+        }
+        for (StartupStep<?> dependency : step.dependencies()) {
+            if (!steps.contains(dependency)) {
+                throw new IllegalArgumentException("Step '" + step.getName() + "' depends on '"
+                    + dependency.getName() + "', which is not part of this startup graph");
+            }
+        }
+        steps.add(step);
+        return step;
+    }
+
+    // ==================== RUNNING ====================
+
+    /**
+     * Starts every step as soon as its dependencies have finished. Returns immediately.
+     *
+     * @return Completes with the report once every step has finished
+     */
+    public synchronized CompletableFuture<StartupReport> start() {
+        if (startedAt != null) {
+            return done;
+        }
+        startedAt = Instant.now();
+        startNanos = System.nanoTime();
+        backgroundPool = Executors.newFixedThreadPool(BACKGROUND_THREADS, daemonThreads());
+        Shutdown.registerBackgroundExecutor(backgroundPool);
+        Logging.info("🚀 Starting " + steps.size() + " startup step(s)");
+
+        List<CompletableFuture<?>> results = new ArrayList<>();
+        for (StartupStep<?> step : steps) {
+            CompletableFuture<?>[] dependencies = step.dependencies().stream()
+                .map(StartupStep::result)
+                .toArray(CompletableFuture<?>[]::new);
+            // A failed dependency does not hold its dependents back; they see a null value
+            CompletableFuture.allOf(dependencies).handle((ignored, failure) -> {
+                dispatch(step);
+                return null;
+            });
+            results.add(step.result().whenComplete((value, failure) -> logFinished(step)));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).handle((ignored, failure) -> {
+            backgroundPool.shutdown();
+            try {
+                done.complete(report());
+            } catch (RuntimeException e) {
+                done.completeExceptionally(e);
+            }
+            return null;
+        });
+        return done;
+    }
+
+    /**
+     * Records that the lobby is now visible, which is what the time-to-lobby measures.
+     * Only the first call counts.
+     */
+    public void markLobbyShown() {
+        if (lobbyShownNanos == 0) {
+            lobbyShownNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Gets the report once every step has finished.
+     *
+     * @return Completes with the report; not completed before {@link #start()}
+     */
+    public CompletableFuture<StartupReport> whenDone() {
+        return done;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private void dispatch(StartupStep<?> step) {
+        try {
+            if (step.runsOnFxThread()) {
+                Platform.runLater(step::run);
+            } else {
+                backgroundPool.execute(step::run);
+            }
+        } catch (RuntimeException e) {
+            // e.g. the pool or the toolkit is already shut down
+            step.result().completeExceptionally(e);
+        }
+    }
+
+    private void logFinished(StartupStep<?> step) {
+        if (step.hasFailed()) {
+            Throwable failure = step.failure();
+            Logging.error("❌ Startup step '" + step.getName() + "' failed: "
+                + (failure != null ? failure.getMessage() : "unknown error"), failure);
+        } else {
+            Logging.debug(() -> "⏱️ Startup step '" + step.getName() + "' took "
+                + toMillis(step.endNanos() - step.startNanos()) + " ms on " + step.threadName());
+        }
+    }
+
+    private StartupReport report() {
+        List<StartupReport.Phase> phases = new ArrayList<>();
+        for (StartupStep<?> step : steps) {
+            boolean ran = step.threadName() != null;
+            Throwable failure = step.failure();
+            phases.add(new StartupReport.Phase(
+                step.getName(),
+                ran ? step.threadName() : null,
+                ran ? toMillis(step.startNanos() - startNanos) : -1,
+                ran ? toMillis(step.endNanos() - step.startNanos()) : -1,
+                step.dependencies().stream().map(StartupStep::getName).toList(),
+                step.hasFailed() ? StartupReport.FAILED : StartupReport.OK,
+                failure != null ? String.valueOf(failure.getMessage()) : null));
+        }
+        phases.sort(Comparator.comparingLong(StartupReport.Phase::startMs));
+
+        // Time from JVM start to this graph starting, if the platform tells us when the process started
+        long jvmToGraphMs = ProcessHandle.current().info().startInstant()
+            .map(processStart -> Duration.between(processStart, startedAt).toMillis())
+            .filter(ms -> ms >= 0)
+            .orElse(-1L);
+        long lobbyMs = lobbyShownNanos != 0 ? toMillis(lobbyShownNanos - startNanos) : -1;
+        long timeToLobbyMs = lobbyMs < 0 ? -1 : lobbyMs + Math.max(0, jvmToGraphMs);
+
+        return new StartupReport(startedAt.toString(), jvmToGraphMs, lobbyMs, timeToLobbyMs,
+            toMillis(System.nanoTime() - startNanos), criticalPath(), phases, StartupReport.Memory.measure());
+    }
+
+    /**
+     * Follows the latest-finishing dependency back from the step that finished last.
+     */
+    private List<String> criticalPath() {
+        List<String> path = new ArrayList<>();
+        StartupStep<?> current = latestFinishing(steps);
+        while (current != null) {
+            path.add(current.getName());
+            current = latestFinishing(current.dependencies());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static StartupStep<?> latestFinishing(List<StartupStep<?>> candidates) {
+        return candidates.stream()
+            .filter(step -> step.threadName() != null)
+            .max(Comparator.comparingLong(StartupStep::endNanos))
+            .orElse(null);
+    }
+
+    private static long toMillis(long nanos) {
+        return Math.round(nanos / 1_000_000.0);
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "Startup-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package launcher.core.lifecycle.start.startup_graph;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Timings of one startup, as produced by {@link StartupGraph}.
+ *
+ * <p>All phase offsets are in milliseconds from the moment the graph started;
+ * {@code jvmToGraphMs} is how long the JVM and JavaFX took to get there.
+ * Values that could not be measured are -1.
+ *
+ * @param startedAt When the graph started (ISO-8601)
+ * @param jvmToGraphMs Time from JVM start to the graph starting
+ * @param lobbyShownMs Time from the graph starting to the lobby being shown
+ * @param timeToLobbyMs Time from JVM start to the lobby being shown (from the graph start if the JVM start is unknown)
+ * @param totalMs Time from the graph starting until its last step finished
+ * @param criticalPath The chain of steps that decided when startup finished
+ * @param phases One entry per step, in the order they started
+ * @param memory Memory footprint once every step had finished
+ * @author Clement Luo
+ * @date January 29, 2026
+ * @edited January 30, 2026
+ * @since Beta 1.0
+ */
+public record StartupReport(String startedAt, long jvmToGraphMs, long lobbyShownMs, long timeToLobbyMs,
+                            long totalMs, List<String> criticalPath, List<Phase> phases, Memory memory) {
+
+    /** Status of a step that finished normally. */
+    public static final String OK = "ok";
+
+    /** Status of a step that threw. */
+    public static final String FAILED = "failed";
+
+    /**
+     * Timing of one startup step.
+     *
+     * @param name The step
+     * @param thread Thread it ran on, or null if it never ran
+     * @param startMs When it started, from the graph start
+     * @param durationMs How long it ran
+     * @param dependsOn Steps it waited for
+     * @param status {@link #OK} or {@link #FAILED}
+     * @param error What went wrong, if it failed
+     */
+    public record Phase(String name, String thread, long startMs, long durationMs, List<String> dependsOn,
+                        String status, String error) {
+    }
+
+    /**
+     * Memory footprint of the process, in megabytes.
+     *
+     * @param heapUsedMb Java heap in use
+     * @param nonHeapUsedMb Non-heap memory in use (metaspace, class space, code cache)
+     * @param residentMb Resident set size of the process, or -1 where the platform does not report it
+     * @param sharedArchiveFile The class data sharing archive the JVM was started with, or null
+     */
+    public record Memory(long heapUsedMb, long nonHeapUsedMb, long residentMb, String sharedArchiveFile) {
+
+        private static final long MB = 1024 * 1024;
+
+        /**
+         * Measures the current process.
+         *
+         * @return The footprint
+         */
+        public static Memory measure() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            return new Memory(memory.getHeapMemoryUsage().getUsed() / MB,
+                memory.getNonHeapMemoryUsage().getUsed() / MB, readResidentMb(), readSharedArchiveFile());
+        }
+
+        /**
+         * Reads the resident set size from /proc (Linux only).
+         */
+        private static long readResidentMb() {
+            try {
+                for (String line : Files.readAllLines(Path.of("/proc/self/status"))) {
+                    if (line.startsWith("VmRSS:")) {
+                        // e.g. "VmRSS:	  123456 kB"
+                        return Long.parseLong(line.replaceAll("[^0-9]", "")) / 1024;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // Not Linux
+            }
+            return -1;
+        }
+
+        private static String readSharedArchiveFile() {
+            try {
+                String archive = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class)
+                    .getVMOption("SharedArchiveFile").getValue();
+                return archive == null || archive.isEmpty() ? null : archive;
+            } catch (RuntimeException e) {
+                // Not a HotSpot JVM
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Gets a one-line summary, e.g. for the lobby's message area.
+     *
+     * @return The summary
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder("Startup took ");
+        summary.append(timeToLobbyMs >= 0 ? timeToLobbyMs + " ms to the lobby" : totalMs + " ms");
+        summary.append(" (");
+        if (jvmToGraphMs >= 0) {
+            summary.append("JVM ").append(jvmToGraphMs).append(" ms; ");
+        }
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            summary.append(i > 0 ? ", " : "").append(phase.name()).append(' ')
+                .append(FAILED.equals(phase.status()) ? "failed" : phase.durationMs() + " ms");
+        }
+        summary.append(')');
+        if (!criticalPath.isEmpty()) {
+            summary.append("; critical path: ").append(String.join(" → ", criticalPath));
+        }
+        if (memory != null && memory.residentMb() >= 0) {
+            summary.append("; ").append(memory.residentMb()).append(" MB resident");
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Gets the phases as a text table, one line per phase.
+     *
+     * @return The table
+     */
+    public String table() {
+        StringBuilder table = new StringBuilder(String.format("%-16s %8s %8s  %-8s %s%n",
+            "phase", "start", "took", "status", "thread"));
+        for (Phase phase : phases) {
+            table.append(String.format("%-16s %6d ms %5d ms  %-8s %s%n", phase.name(), phase.startMs(),
+                phase.durationMs(), phase.status(), phase.thread() != null ? phase.thread() : "-"));
+        }
+        return table.toString().stripTrailing();
+    }
+
+    /**
+     * Checks whether any step failed.
+     *
+     * @return true if a phase has the status {@link #FAILED}
+     */
+    public boolean hasFailures() {
+        return phases.stream().anyMatch(phase -> FAILED.equals(phase.status()));
+    }
+}
@@ -0,0 +1,46 @@
+package launcher.core.lifecycle.start.startup_graph;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
+import launcher.features.file_handling.file_paths.GetOtherPaths;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the report of the latest startup to {@code saved/startup-report.json}.
+ *
+ * <p>Only the latest startup is kept; compare runs by copying the file aside.
+ *
+ * @author Clement Luo
+ * @date January 29, 2026
+ * @edited January 29, 2026
+ * @since Beta 1.0
+ */
+public final class StartupReportFile {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private StartupReportFile() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes a report, replacing the previous one.
+     *
+     * @param report The report to write
+     * @return true if the report was written
+     */
+    public static boolean write(StartupReport report) {
+        try {
+            Path reportFile = Paths.get(GetOtherPaths.STARTUP_REPORT_FILE);
+            ParentDirectoryExistenceCheck.exists(reportFile);
+            JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile.toFile(), report);
+            return true;
+        } catch (Exception e) {
+            Logging.error("❌ Error saving startup report: " + e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package launcher.core.lifecycle.start.startup_graph;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * One step of a {@link StartupGraph}: a named piece of startup work, where it runs,
+ * the steps it waits for, and - once it has run - its result and timing.
+ *
+ * <p>A step runs after all of its dependencies have finished, whether they succeeded
+ * or not; {@link #value()} of a failed step is null, so each step decides for itself
+ * how to carry on without it.
+ *
+ * @param <T> The type of the step's result
+ * @author Clement Luo
+ * @date January 29, 2026
+ * @edited January 29, 2026
+ * @since Beta 1.0
+ */
+public final class StartupStep<T> {
+
+    private final String name;
+    private final boolean onFxThread;
+    private final Callable<T> work;
+    private final List<StartupStep<?>> dependencies;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    private volatile String threadName;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    StartupStep(String name, boolean onFxThread, Callable<T> work, List<StartupStep<?>> dependencies) {
+        this.name = name;
+        this.onFxThread = onFxThread;
+        this.work = work;
+        this.dependencies = List.copyOf(dependencies);
+    }
+
+    // ==================== RESULT ====================
+
+    /**
+     * Gets the step's result. Meant for the steps that depend on this one.
+     *
+     * @return The result, or null if the step failed or has not finished yet
+     */
+    public T value() {
+        return result.isDone() && !result.isCompletedExceptionally() ? result.join() : null;
+    }
+
+    /**
+     * Checks whether the step ran and threw.
+     *
+     * @return true if the step failed
+     */
+    public boolean hasFailed() {
+        return result.isCompletedExceptionally();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean runsOnFxThread() {
+        return onFxThread;
+    }
+
+    // ==================== PACKAGE-PRIVATE (used by StartupGraph) ====================
+
+    List<StartupStep<?>> dependencies() {
+        return dependencies;
+    }
+
+    CompletableFuture<T> result() {
+        return result;
+    }
+
+    /**
+     * Runs the work on the current thread and records when and where it ran.
+     */
+    void run() {
+        threadName = Thread.currentThread().getName();
+        startNanos = System.nanoTime();
+        try {
+            T value = work.call();
+            endNanos = System.nanoTime();
+            result.complete(value);
+        } catch (Throwable e) {
+            endNanos = System.nanoTime();
+            result.completeExceptionally(e);
+        }
+    }
+
+    String threadName() {
+        return threadName;
+    }
+
+    long startNanos() {
+        return startNanos;
+    }
+
+    long endNanos() {
+        return endNanos;
+    }
+
+    /**
+     * Gets what the step threw, if it failed.
+     */
+    Throwable failure() {
+        if (!hasFailed()) {
+            return null;
+        }
+        try {
+            result.join();
+            return null;
+        } catch (Exception e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+}
@@ -14,7 +14,7 @@ import java.util.List;
  * 
  * @author Clement Luo
  * @date August 6, 2025
- * @edited December 27, 2025
+ * @edited January 24, 2026
  * @since Beta 1.0
  */
 public final class Shutdown {
@@ -55,6 +55,15 @@ public final class Shutdown {
      * Execute the shutdown process.
      */
     public static void shutdown() {
+        shutdown(0);
+    }
+    
+    /**
+     * Execute the shutdown process, exiting with the given status.
+     * 
+     * @param exitCode The process exit status once cleanup has finished
+     */
+    public static void shutdown(int exitCode) {
         // Step 1: Check if shutdown is already in progress
         if (isShuttingDown) {
             Logging.info("Shutdown already in progress, skipping duplicate call");
@@ -77,7 +86,7 @@ public final class Shutdown {
             
             // Step 5: Exit the application
             Logging.info("GDK application shutdown completed - exiting");
-            System.exit(0);
+            System.exit(exitCode);
             
         } catch (Exception e) {
             // Handle critical errors during shutdown
@@ -0,0 +1,96 @@
+package launcher.features.class_data_sharing;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Startup that exits as soon as the lobby is shown, for training and measuring runs.
+ *
+ * <p>{@code cds.sh} starts the GDK with {@code -XX:ArchiveClassesAtExit}; every class
+ * loaded by the time the JVM exits goes into the class data sharing archive. A training
+ * run ({@code -Dgdk.cds.training=true}) also loads every class of every game module, which
+ * startup itself leaves until a game is launched, so the archive covers them too. A
+ * measuring run ({@code -Dgdk.startup.exitWhenReady=true}) only exits, leaving the
+ * startup report behind.
+ *
+ * @author Clement Luo
+ * @date January 30, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class TrainingRun {
+
+    /** System property that makes the GDK exit once the lobby is shown. */
+    public static final String EXIT_WHEN_READY_PROPERTY = "gdk.startup.exitWhenReady";
+
+    /** System property that marks a training run (implies exiting when ready). */
+    public static final String TRAINING_PROPERTY = "gdk.cds.training";
+
+    private TrainingRun() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Checks whether this startup should exit once the lobby is shown.
+     *
+     * @return true for training and measuring runs
+     */
+    public static boolean shouldExitWhenReady() {
+        return Boolean.getBoolean(EXIT_WHEN_READY_PROPERTY) || isTraining();
+    }
+
+    /**
+     * Checks whether this is a training run.
+     *
+     * @return true if module classes should be loaded before exiting
+     */
+    public static boolean isTraining() {
+        return Boolean.getBoolean(TRAINING_PROPERTY);
+    }
+
+    /**
+     * Loads every class of the given modules from the module's own class loader,
+     * without initializing them.
+     *
+     * @param modules The modules startup discovered
+     * @return The number of classes loaded
+     */
+    public static int loadModuleClasses(List<GameModule> modules) {
+        int loaded = 0;
+        for (GameModule module : modules) {
+            if (!(module instanceof DeferredGameModule)) {
+                continue;
+            }
+            File moduleDirectory = ((DeferredGameModule) module).getModuleDirectory();
+            try {
+                ClassLoader moduleLoader = DeferredGameModule.resolve(module).getClass().getClassLoader();
+                loaded += loadClasses(PackagedModules.listClassNames(moduleDirectory), moduleLoader);
+            } catch (Exception e) {
+                Logging.warning("⚠️ Training run: could not load module " + moduleDirectory.getName() + ": " + e.getMessage());
+            }
+        }
+        Logging.info("🎓 Training run: loaded " + loaded + " module class(es)");
+        return loaded;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static int loadClasses(List<String> classNames, ClassLoader loader) {
+        int loaded = 0;
+        for (String className : classNames) {
+            try {
+                Class.forName(className, false, loader);
+                loaded++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                // Optional dependencies the module never uses at runtime; nothing to archive
+                Logging.debug(() -> "Training run: skipped " + className + ": " + e);
+            }
+        }
+        return loaded;
+    }
+}
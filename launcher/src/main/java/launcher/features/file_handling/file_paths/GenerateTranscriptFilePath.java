@@ -4,14 +4,13 @@ import launcher.features.transcript_recording.Transcript;
 
 import java.nio.file.Path;
 import java.time.Instant;
-import java.util.Map;
 
 /**
  * Generates file paths for transcript files.
  * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 21, 2026
  * @since Beta 1.0
  */
 public final class GenerateTranscriptFilePath {
@@ -34,12 +33,8 @@ public final class GenerateTranscriptFilePath {
     }
     
     private static String getGameName() {
-        for (Map<String, Object> entry : Transcript.entries) {
-            if ("meta".equals(entry.get("type")) && entry.containsKey("gameName")) {
-                return (String) entry.get("gameName");
-            }
-        }
-        return "unknown";
+        String gameName = Transcript.gameName;
+        return gameName != null ? gameName : "unknown";
     }
 }
 
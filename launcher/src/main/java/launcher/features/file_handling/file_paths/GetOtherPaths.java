@@ -9,7 +9,7 @@ package launcher.features.file_handling.file_paths;
  * 
  * @author Clement Luo
  * @date December 19, 2025
- * @edited January 4, 2026
+ * @edited January 29, 2026
  * @since 1.0
  */
 public final class GetOtherPaths {
@@ -54,6 +54,22 @@ public final class GetOtherPaths {
      */
     public static final String AUTO_SELECT_ENABLED_FILE = "saved/gdk-auto-select-enabled.txt";
     
+    // ==================== MODULE INDEX PATHS ====================
+    
+    /**
+     * Path to the persistent module index file.
+     * Stores per-module fingerprints, metadata snapshots and compile status.
+     */
+    public static final String MODULE_INDEX_FILE = "saved/module-index.json";
+    
+    // ==================== STARTUP REPORT PATHS ====================
+    
+    /**
+     * Path to the startup report file.
+     * Stores the per-phase timings of the latest startup.
+     */
+    public static final String STARTUP_REPORT_FILE = "saved/startup-report.json";
+    
     // ==================== SERVER SIMULATOR PATHS ====================
     
     /**
@@ -0,0 +1,185 @@
+package launcher.features.game_launching;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import gdk.internal.MessagingBridge;
+import launcher.features.game_launching.helpers.SendStartMessage;
+import launcher.features.json_processing.JsonParser;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_finding.ModuleDiscovery;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.security.CodeSource;
+import java.util.Map;
+
+/**
+ * Hot-reloads a running game module.
+ *
+ * <p>A reload happens in two halves. {@link #loadFreshInstance(File)} compiles
+ * the module if needed and instantiates its Main class from a brand new class
+ * loader; it is slow and should run off the JavaFX thread. {@link #handOff}
+ * then swaps the running instance for the fresh one on the JavaFX thread:
+ * the old instance saves its state and is stopped, the new instance receives
+ * the original start message, launches, and restores the saved state. The old
+ * instance is stopped inside a throwaway {@link MessagingBridge.Scope}, so the
+ * end message a game publishes from {@code stopGame()} does not end the
+ * transcript session or return the launcher to the lobby.
+ * Finally {@link #closeClassLoader(GameModule)} releases the old classes.
+ *
+ * @author Clement Luo
+ * @date January 15, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class HotReloadGame {
+
+    private HotReloadGame() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Finds the directory a loaded module came from.
+     *
+     * @param gameModule The loaded (not deferred) game module
+     * @return The module directory, or null if the module was not loaded from a module's target/classes or module.jar
+     */
+    public static File findModuleDirectory(GameModule gameModule) {
+        try {
+            CodeSource codeSource = gameModule.getClass().getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return null;
+            }
+
+            // A packaged module's Main class lives in <module>/module.jar
+            File classesDir = new File(codeSource.getLocation().toURI());
+            if (PackagedModules.MODULE_JAR.equals(classesDir.getName())) {
+                return classesDir.getParentFile();
+            }
+            
+            // Otherwise Main.class lives in <module>/target/classes
+            File targetDir = classesDir.getParentFile();
+            if (!"classes".equals(classesDir.getName()) || targetDir == null || !"target".equals(targetDir.getName())) {
+                return null;
+            }
+            return targetDir.getParentFile();
+        } catch (Exception e) {
+            Logging.warning("Could not determine module directory for hot reload: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Compiles (if needed) and instantiates a module from a fresh class loader.
+     *
+     * @param moduleDirectory The module directory
+     * @return The new module instance, or null if compiling or loading failed
+     */
+    public static GameModule loadFreshInstance(File moduleDirectory) {
+        Logging.info("🔧 Hot reload: loading fresh instance of " + moduleDirectory.getName());
+        long startTime = System.currentTimeMillis();
+
+        // Cached instances of this module are about to be stale
+        ModuleDiscovery.invalidate(moduleDirectory);
+        GameModule fresh = LoadModules.loadModule(moduleDirectory);
+
+        if (fresh == null) {
+            Logging.error("❌ Hot reload: could not load " + moduleDirectory.getName() + " - keeping the running instance");
+        } else {
+            Logging.info("✅ Hot reload: loaded " + moduleDirectory.getName() + " in "
+                + (System.currentTimeMillis() - startTime) + "ms");
+        }
+        return fresh;
+    }
+
+    /**
+     * Replaces the running instance with a fresh one. Must be called on the JavaFX thread.
+     *
+     * <p>If the fresh instance cannot be launched, the previous instance is
+     * relaunched with its saved state so the session can continue.
+     *
+     * @param running The running instance
+     * @param fresh The fresh instance from {@link #loadFreshInstance(File)}
+     * @param stage The stage showing the game
+     * @param startMessage The start message the game was launched with (may be null)
+     * @return The instance now running, and the scene it launched (null if neither could launch)
+     */
+    public static HandOffResult handOff(GameModule running, GameModule fresh, Stage stage, String startMessage) {
+        Map<String, Object> state = null;
+        try {
+            state = running.saveStateForReload();
+        } catch (Exception e) {
+            Logging.warning("Hot reload: saving state failed, starting fresh: " + e.getMessage());
+        }
+
+        // The game is not ending, so whatever the old instance publishes while stopping goes nowhere
+        MessagingBridge.Scope retiring = MessagingBridge.openScope("hot-reload-" + running.getMetadata().getGameName());
+        try {
+            retiring.run(running::stopGame);
+        } catch (Exception e) {
+            Logging.warning("Hot reload: error stopping previous instance: " + e.getMessage());
+        } finally {
+            retiring.close();
+        }
+
+        Scene scene = launch(fresh, stage, startMessage, state);
+        if (scene != null) {
+            return new HandOffResult(fresh, scene);
+        }
+
+        Logging.error("❌ Hot reload: new instance failed to launch - restoring previous instance");
+        return new HandOffResult(running, launch(running, stage, startMessage, state));
+    }
+
+    /**
+     * Releases the class loader a module was loaded from, so its classes can be collected.
+     *
+     * <p>The loader is handed back to {@link ModuleRegistry}, which closes it once no
+     * running game has it pinned. Modules loaded by the launcher's own class loader
+     * are not tracked and are left alone.
+     *
+     * @param gameModule The module that is no longer used
+     */
+    public static void closeClassLoader(GameModule gameModule) {
+        ModuleRegistry.release(gameModule);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Sends the start message, launches the module and restores state.
+     *
+     * @return The launched scene, or null if launching failed
+     */
+    private static Scene launch(GameModule gameModule, Stage stage, String startMessage, Map<String, Object> state) {
+        try {
+            Map<String, Object> startMessageMap = startMessage != null ? JsonParser.parse(startMessage) : null;
+            if (startMessageMap != null) {
+                SendStartMessage.send(gameModule, startMessageMap, true);
+            }
+
+            Scene scene = gameModule.launchGame(stage);
+            if (scene != null && state != null) {
+                gameModule.restoreStateAfterReload(state);
+            }
+            return scene;
+        } catch (Exception e) {
+            Logging.error("❌ Hot reload: error launching " + gameModule.getMetadata().getGameName() + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    // ==================== INNER CLASSES ====================
+
+    /**
+     * Outcome of a hand-off.
+     *
+     * @param runningGame The instance that is running after the hand-off
+     * @param scene The scene it launched, or null if it could not launch
+     */
+    public record HandOffResult(GameModule runningGame, Scene scene) {}
+}
@@ -2,19 +2,27 @@ package launcher.features.game_launching;
 
 import gdk.api.GameModule;
 import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
 import launcher.ui_areas.lobby.GDKViewModel;
 import launcher.features.game_launching.helpers.SendStartMessage;
 import launcher.features.json_processing.JsonParser;
 import launcher.features.json_processing.MessageFunctionCheck;
 
+import javafx.application.Platform;
+
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Launches games.
  * 
+ * <p>A module discovered by metadata only is loaded (and compiled if needed) in the
+ * background; the start message is sent and the game shown on the JavaFX thread
+ * once it is ready, so the lobby stays responsive while the module loads.
+ * 
  * @author Clement Luo
  * @date December 30, 2025
- * @edited January 4, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class LaunchGame {
@@ -22,17 +30,21 @@ public class LaunchGame {
     /**
      * Launches a game with the provided ViewModel, game module, and start message.
      * 
+     * <p>The arguments are validated before this method returns. The rest of the
+     * launch completes the returned future on the JavaFX thread.
+     * 
      * @param viewModel The ViewModel to use for launching
      * @param gameModule The game module to launch
      * @param startMessage The JSON start message string
      * @param isAutoLaunch Whether this is an auto-launch (affects logging verbosity)
+     * @return Completes with the launched (real) module once the game is shown, or
+     *         exceptionally if the module cannot be loaded or the launch fails
      * @throws IllegalStateException If validation fails
-     * @throws Exception If the launch fails
      */
-    public static void launch(GDKViewModel viewModel,
-                              GameModule gameModule,
-                              String startMessage,
-                              boolean isAutoLaunch) throws Exception {
+    public static CompletableFuture<GameModule> launch(GDKViewModel viewModel,
+                                                       GameModule gameModule,
+                                                       String startMessage,
+                                                       boolean isAutoLaunch) {
 
         // Validate the prerequisites
         if (viewModel == null) {
@@ -52,14 +64,18 @@ public class LaunchGame {
         }
         MessageFunctionCheck.checkIfMessageIsStartMessage(startMessageMap);
         
-        // Send the start message to the game module
-        if (!SendStartMessage.send(gameModule, startMessageMap, isAutoLaunch)) {
-            throw new IllegalStateException("Failed to send start message");
-        }
-        
-        // Launch the game via the ViewModel
-        Logging.info("Calling ViewModel to launch game: " + gameModule.getMetadata().getGameName());
-        viewModel.handleLaunchGame(gameModule, startMessage);
+        // Modules discovered by metadata only are instantiated here, off the JavaFX thread
+        return DeferredGameModule.resolveAsync(gameModule).thenApplyAsync(module -> {
+            // Send the start message to the game module
+            if (!SendStartMessage.send(module, startMessageMap, isAutoLaunch)) {
+                throw new IllegalStateException("Failed to send start message");
+            }
+            
+            // Launch the game via the ViewModel
+            Logging.info("Calling ViewModel to launch game: " + module.getMetadata().getGameName());
+            viewModel.handleLaunchGame(module, startMessage);
+            return module;
+        }, Platform::runLater);
     }
 }
 
@@ -0,0 +1,83 @@
+package launcher.features.game_messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.api.GameModule;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How the server simulator turns typed text into messages and delivers them to a game.
+ *
+ * <p>Text that is a JSON object is sent as-is; anything else is sent as a chat
+ * message from {@code "server"}. When the game returns no response, the simulator
+ * answers with an {@code ack} of its own. Shared by the server simulator window and
+ * the load generator, so both drive a game the same way.
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public final class ServerSimulatorProtocol {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private ServerSimulatorProtocol() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Turns text typed into the simulator into a message.
+     *
+     * @param text The typed text
+     * @return The parsed JSON object, or a chat message carrying the text
+     */
+    public static Map<String, Object> toMessage(String text) {
+        try {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> message = JSON_MAPPER.readValue(text, Map.class);
+            if (message != null) {
+                return message;
+            }
+        } catch (Exception parseError) {
+            // Not JSON; treat as plain chat text
+        }
+        Map<String, Object> message = new HashMap<>();
+        message.put("function", "message");
+        message.put("from", "server");
+        message.put("text", text);
+        return message;
+    }
+
+    /**
+     * Delivers a message to a game and returns its response, or the simulator's ack if it returned none.
+     *
+     * @param gameModule The game to deliver to
+     * @param message The message to deliver
+     * @return The game's response or an ack; never null
+     */
+    public static Map<String, Object> deliver(GameModule gameModule, Map<String, Object> message) {
+        Map<String, Object> response = gameModule.handleMessage(message);
+        return response != null ? response : acknowledge(message);
+    }
+
+    /**
+     * Builds the ack the simulator sends for a message the game did not answer.
+     *
+     * @param message The message that was delivered
+     * @return The ack message
+     */
+    public static Map<String, Object> acknowledge(Map<String, Object> message) {
+        Map<String, Object> ack = new HashMap<>();
+        ack.put("function", "ack");
+        ack.put("status", "ok");
+        Object of = message.get("function");
+        if (of != null) {
+            ack.put("of", of);
+        }
+        ack.put("timestamp", Instant.now().toString());
+        return ack;
+    }
+}
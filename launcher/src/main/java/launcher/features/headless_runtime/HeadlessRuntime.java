@@ -0,0 +1,114 @@
+package launcher.features.headless_runtime;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs game modules without a JavaFX stage or toolkit.
+ *
+ * <p>Each session is one module instance started through
+ * {@link GameModule#startHeadless()}. Sessions started here run on a shared
+ * {@link SessionHost}; create a separate host for its own thread pool. Modules
+ * publish to the {@link gdk.internal.MessagingBridge} as usual; each session has
+ * its own bridge scope, so a message reaches the session whose code (or a thread
+ * that code started) published it.
+ *
+ * @author Clement Luo
+ * @date January 24, 2026
+ * @edited January 25, 2026
+ * @since Beta 1.0
+ */
+public final class HeadlessRuntime {
+
+    /** Host for sessions started through this class, created on first use. */
+    private static SessionHost defaultHost;
+
+    private static volatile boolean active;
+
+    private HeadlessRuntime() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== MODE ====================
+
+    /**
+     * Marks the launcher as running headless (no JavaFX toolkit will be started).
+     */
+    public static void activate() {
+        active = true;
+        Logging.info("🖥️ Headless mode - JavaFX toolkit will not be started");
+    }
+
+    /**
+     * Checks whether the launcher is running headless.
+     *
+     * @return true if {@link #activate()} was called
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    // ==================== SESSIONS ====================
+
+    /**
+     * Gets the shared session host.
+     *
+     * @return The host, with {@link SessionHost#DEFAULT_THREADS} threads
+     */
+    public static synchronized SessionHost host() {
+        if (defaultHost == null) {
+            defaultHost = new SessionHost(SessionHost.DEFAULT_THREADS);
+        }
+        return defaultHost;
+    }
+
+    /**
+     * Starts a headless session on the shared host.
+     *
+     * @param gameModule The module instance (each session needs its own, see {@link #newInstance})
+     * @param startMessage The start message to send once the module has started, or null
+     * @param transcriptDirectory Directory for the session's transcript, or null to not record one
+     * @return The running session, or null if the module does not support headless mode or failed to start
+     */
+    public static HeadlessSession startSession(GameModule gameModule, Map<String, Object> startMessage,
+                                               Path transcriptDirectory) {
+        return host().startSession(gameModule, startMessage, transcriptDirectory);
+    }
+
+    /**
+     * Creates another instance of a loaded module, for running several sessions of the same game.
+     *
+     * @param gameModule A loaded module instance
+     * @return A new instance from the same class loader, or null if the Main class cannot be instantiated
+     */
+    public static GameModule newInstance(GameModule gameModule) {
+        GameModule module = DeferredGameModule.resolve(gameModule);
+        try {
+            return module.getClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            Logging.error("❌ Could not create another instance of " + module.getClass().getName() + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Gets the sessions running on the shared host.
+     *
+     * @return A snapshot of the running sessions
+     */
+    public static List<HeadlessSession> getSessions() {
+        return host().getSessions();
+    }
+
+    /**
+     * Stops every session running on the shared host.
+     */
+    public static void stopAll() {
+        host().stopAll();
+    }
+}
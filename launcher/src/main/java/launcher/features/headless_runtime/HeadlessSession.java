@@ -0,0 +1,315 @@
+package launcher.features.headless_runtime;
+
+import gdk.api.GameMessage;
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import gdk.internal.MessagingBridge;
+import launcher.features.json_processing.MessageFunctionCheck;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptWriter;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * One game module instance running headless.
+ *
+ * <p>Messages sent to the module and messages it publishes are recorded to the
+ * session's own transcript file (same JSON Lines format as the launcher's session
+ * files), so many sessions can record side by side. Created by
+ * {@link SessionHost#startSession}.
+ *
+ * <p>The module runs in the session's own {@link MessagingBridge.Scope}: what it
+ * publishes reaches this session only. The module is called by one thread at a
+ * time, whether messages are sent directly or posted to the host's threads.
+ *
+ * @author Clement Luo
+ * @date January 24, 2026
+ * @edited January 25, 2026
+ * @since Beta 1.0
+ */
+public final class HeadlessSession {
+
+    /** Maximum time to wait for the transcript to be written when the session stops. */
+    private static final long TRANSCRIPT_CLOSE_TIMEOUT_MS = 5000;
+
+    /** Posted messages handled per turn on a host thread, so busy sessions do not starve others. */
+    private static final int MESSAGES_PER_TURN = 64;
+
+    private final SessionHost host;
+    private final MessagingBridge.Scope scope;
+    private final int id;
+    private final GameModule module;
+    private final String gameName;
+    private final TranscriptWriter transcript;
+
+    private final AtomicLong messagesSent = new AtomicLong();
+    private final AtomicLong messagesReceived = new AtomicLong();
+    private final CountDownLatch ended = new CountDownLatch(1);
+
+    /** Serializes calls into the module. */
+    private final Object moduleLock = new Object();
+
+    /** Posted messages waiting to be handled, and whether a host thread is handling them. */
+    private final ConcurrentLinkedQueue<Map<String, Object>> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private volatile Consumer<Map<String, Object>> messageListener;
+    private volatile boolean stopped;
+
+    HeadlessSession(SessionHost host, int id, GameModule module, String gameName, TranscriptWriter transcript) {
+        this.host = host;
+        this.id = id;
+        this.module = module;
+        this.gameName = gameName;
+        this.transcript = transcript;
+        this.scope = MessagingBridge.openScope(gameName + "#" + id);
+        scope.addConsumer(this::receive);
+    }
+
+    // ==================== MESSAGING ====================
+
+    /**
+     * Sends a message to the module on the calling thread and records it and the module's response.
+     * Waits while the module is handling another message.
+     *
+     * @param message The message to send
+     * @return The module's response, or null if it returned none, failed, or the session is stopped
+     */
+    public Map<String, Object> send(Map<String, Object> message) {
+        if (stopped || message == null) {
+            return null;
+        }
+        record("out", message);
+        messagesSent.incrementAndGet();
+
+        Map<String, Object> response;
+        try {
+            response = call(() -> module.handleMessage(message));
+        } catch (RuntimeException e) {
+            Logging.error("❌ " + this + " failed to handle " + message.get("function") + ": " + e.getMessage(), e);
+            return null;
+        }
+        if (response != null) {
+            receive(response);
+        }
+        return response;
+    }
+
+    /**
+     * Queues a message for the module; it is sent on one of the host's threads.
+     * Posted messages are sent in order.
+     *
+     * @param message The message to send
+     */
+    public void post(Map<String, Object> message) {
+        if (stopped || message == null) {
+            return;
+        }
+        mailbox.add(message);
+        schedule();
+    }
+
+    /**
+     * Sets a listener for messages the module returns or publishes.
+     * Called on the thread that produced the message.
+     *
+     * @param listener The listener, or null to remove it
+     */
+    public void setMessageListener(Consumer<Map<String, Object>> listener) {
+        this.messageListener = listener;
+    }
+
+    /**
+     * Handles a message from the module: records it and ends the session on an end message.
+     */
+    void receive(Map<String, Object> message) {
+        if (stopped) {
+            return;
+        }
+        messagesReceived.incrementAndGet();
+        record("in", message);
+
+        Consumer<Map<String, Object>> listener = messageListener;
+        if (listener != null) {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                Logging.error("❌ Headless session " + id + " message listener failed: " + e.getMessage(), e);
+            }
+        }
+        if (MessageFunctionCheck.isEndMessage(message)) {
+            ended.countDown();
+        }
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Waits until the module sends an end message.
+     *
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if the session ended
+     */
+    public boolean awaitEnd(long timeoutMs) {
+        try {
+            return ended.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Stops the module and closes the session's transcript.
+     */
+    public void stop() {
+        synchronized (this) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+        }
+        mailbox.clear();
+        try {
+            call(() -> {
+                module.stopGame();
+                return null;
+            });
+        } catch (RuntimeException e) {
+            Logging.error("❌ " + this + " failed to stop: " + e.getMessage(), e);
+        } finally {
+            scope.close();
+            host.remove(this);
+            if (transcript != null) {
+                Map<String, Object> meta = new HashMap<>();
+                meta.put("type", "meta");
+                meta.put("event", "session_end");
+                meta.put("timestamp", Instant.now().toString());
+                transcript.append(meta);
+                transcript.close(TRANSCRIPT_CLOSE_TIMEOUT_MS);
+            }
+        }
+    }
+
+    // ==================== ACCESSORS ====================
+
+    public int getId() {
+        return id;
+    }
+
+    public GameModule getModule() {
+        return module;
+    }
+
+    public String getGameName() {
+        return gameName;
+    }
+
+    public long getMessagesSent() {
+        return messagesSent.get();
+    }
+
+    public long getMessagesReceived() {
+        return messagesReceived.get();
+    }
+
+    public boolean isEnded() {
+        return ended.getCount() == 0;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    /**
+     * Gets the number of posted messages not yet sent.
+     *
+     * @return The number of queued messages
+     */
+    public int getPendingMessages() {
+        return mailbox.size();
+    }
+
+    /**
+     * Gets the session's transcript file.
+     *
+     * @return The transcript file, or null if the session is not recorded
+     */
+    public Path getTranscriptFile() {
+        return transcript != null ? transcript.getFile() : null;
+    }
+
+    @Override
+    public String toString() {
+        return gameName + "#" + id;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Calls into the module in the session's scope, one call at a time.
+     */
+    <T> T call(Supplier<T> call) {
+        synchronized (moduleLock) {
+            return scope.call(call);
+        }
+    }
+
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            host.executor().execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            Logging.warning("🖥️ " + this + ": session host is closed, " + mailbox.size() + " message(s) not sent");
+            mailbox.clear();
+        }
+    }
+
+    /**
+     * Sends a turn's worth of posted messages, then reschedules if more are waiting.
+     */
+    private void drain() {
+        for (int i = 0; i < MESSAGES_PER_TURN && !stopped; i++) {
+            Map<String, Object> message = mailbox.poll();
+            if (message == null) {
+                break;
+            }
+            send(message);
+        }
+        scheduled.set(false);
+        if (!mailbox.isEmpty() && !stopped) {
+            schedule();
+        }
+    }
+
+    void recordMeta(Map<String, Object> meta) {
+        if (transcript != null) {
+            transcript.append(meta);
+        }
+    }
+
+    private void record(String direction, Map<String, Object> message) {
+        if (transcript == null) {
+            return;
+        }
+        Map<String, Object> entry = new HashMap<>();
+        entry.put("direction", direction);
+        entry.put("timestamp", Instant.now().toString());
+        // Immutable snapshot; a GameMessage is kept as-is instead of being copied
+        entry.put("message", GameMessage.of(message));
+        transcript.append(entry);
+    }
+}
@@ -0,0 +1,252 @@
+package launcher.features.headless_runtime;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import gdk.internal.MessagingBridge;
+import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
+import launcher.features.json_processing.MessageFunctionCheck;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts any number of isolated game sessions in one JVM.
+ *
+ * <p>Each session has its own module instance (optionally from its own class
+ * loader), its own {@link MessagingBridge.Scope} and its own transcript, so
+ * sessions never see each other's messages. Messages posted to sessions are
+ * processed on a shared pool of threads; each session handles its messages one
+ * at a time and in order, while different sessions run in parallel.
+ *
+ * @author Clement Luo
+ * @date January 25, 2026
+ * @edited January 25, 2026
+ * @since Beta 1.0
+ */
+public final class SessionHost {
+
+    /** Default number of threads processing session messages. */
+    public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors();
+
+    /** Time to wait for running message handlers when the host is closed. */
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final ThreadPoolExecutor executor;
+    private final List<HeadlessSession> sessions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextSessionId = new AtomicInteger(1);
+
+    /**
+     * Creates a host with its own thread pool.
+     *
+     * @param threads Number of threads processing session messages
+     */
+    public SessionHost(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "SessionHost-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        // Started now, so no pool thread inherits the scope of whoever first posts a message
+        executor.prestartAllCoreThreads();
+    }
+
+    // ==================== SESSIONS ====================
+
+    /**
+     * Starts a session for a module instance.
+     *
+     * <p>{@link GameModule#startHeadless()} is called on the calling thread; the start
+     * message is then posted, so it is handled on the host's threads.
+     *
+     * @param gameModule The module instance (each session needs its own, see {@link HeadlessRuntime#newInstance})
+     * @param startMessage The start message to post once the module has started, or null
+     * @param transcriptDirectory Directory for the session's transcript, or null to not record one
+     * @return The running session, or null if the module does not support headless mode or failed to start
+     */
+    public HeadlessSession startSession(GameModule gameModule, Map<String, Object> startMessage,
+                                        Path transcriptDirectory) {
+        if (gameModule == null) {
+            Logging.error("❌ Cannot start headless session: no module");
+            return null;
+        }
+        if (executor.isShutdown()) {
+            Logging.error("❌ Cannot start headless session: the session host is closed");
+            return null;
+        }
+        if (startMessage != null) {
+            try {
+                MessageFunctionCheck.checkIfMessageIsStartMessage(startMessage);
+            } catch (IllegalStateException e) {
+                Logging.error("❌ Cannot start headless session: " + e.getMessage());
+                return null;
+            }
+        }
+
+        GameModule module = DeferredGameModule.resolve(gameModule);
+        String gameName = module.getMetadata() != null ? module.getMetadata().getGameName() : module.getClass().getName();
+        int id = nextSessionId.getAndIncrement();
+
+        TranscriptWriter transcript = null;
+        if (transcriptDirectory != null) {
+            transcript = openTranscript(transcriptDirectory, gameName, id);
+        }
+        HeadlessSession session = new HeadlessSession(this, id, module, gameName, transcript);
+
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("type", "meta");
+        meta.put("event", "session_start");
+        meta.put("timestamp", Instant.now().toString());
+        meta.put("gameName", gameName);
+        meta.put("gameVersion", module.getMetadata() != null ? module.getMetadata().getGameVersion() : "unknown");
+        meta.put("headless", true);
+        session.recordMeta(meta);
+
+        sessions.add(session);
+        ModuleRegistry.pin(module);
+
+        boolean started;
+        try {
+            started = session.call(module::startHeadless);
+        } catch (RuntimeException e) {
+            Logging.error("❌ " + session + " failed to start headless: " + e.getMessage(), e);
+            started = false;
+        }
+        if (!started) {
+            Logging.error("❌ " + gameName + " does not support headless mode (startHeadless returned false)");
+            session.stop();
+            return null;
+        }
+
+        if (startMessage != null) {
+            session.post(startMessage);
+        }
+        Logging.debug("🖥️ Headless session started: " + session);
+        return session;
+    }
+
+    /**
+     * Loads a module and starts several sessions of it.
+     *
+     * <p>With {@code isolateClassLoaders}, every session loads the module from its own
+     * class loader, so sessions do not share the module's static state. Otherwise the
+     * sessions are instances of the same loaded class.
+     *
+     * @param moduleDirectory The module directory (compiled)
+     * @param count Number of sessions to start
+     * @param isolateClassLoaders Whether each session gets its own class loader
+     * @param startMessage The start message for each session (each gets its own copy), or null
+     * @param transcriptDirectory Directory for the transcripts, or null to not record them
+     * @return The sessions that started (fewer than {@code count} if some failed)
+     */
+    public List<HeadlessSession> startSessions(File moduleDirectory, int count, boolean isolateClassLoaders,
+                                               Map<String, Object> startMessage, Path transcriptDirectory) {
+        List<HeadlessSession> started = new ArrayList<>();
+        GameModule loaded = null;
+        for (int i = 0; i < count; i++) {
+            GameModule instance;
+            if (isolateClassLoaders || loaded == null) {
+                instance = LoadModules.loadModule(moduleDirectory);
+                if (instance == null) {
+                    Logging.error("❌ Could not load module " + moduleDirectory + " (is it compiled?)");
+                    break;
+                }
+                loaded = instance;
+            } else {
+                instance = HeadlessRuntime.newInstance(loaded);
+            }
+
+            HeadlessSession session = instance == null ? null
+                : startSession(instance, startMessage != null ? new HashMap<>(startMessage) : null, transcriptDirectory);
+            if (session != null) {
+                started.add(session);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Gets the running sessions.
+     *
+     * @return A snapshot of the running sessions
+     */
+    public List<HeadlessSession> getSessions() {
+        return new ArrayList<>(sessions);
+    }
+
+    /**
+     * Stops every running session.
+     */
+    public void stopAll() {
+        for (HeadlessSession session : getSessions()) {
+            session.stop();
+        }
+    }
+
+    /**
+     * Stops every session and shuts the host's threads down.
+     */
+    public void close() {
+        stopAll();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                Logging.warning("🖥️ Session host threads did not finish within " + SHUTDOWN_TIMEOUT_MS + "ms");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== PACKAGE METHODS ====================
+
+    /**
+     * Runs a session's message processing on the host's threads.
+     */
+    ExecutorService executor() {
+        return executor;
+    }
+
+    void remove(HeadlessSession session) {
+        if (sessions.remove(session)) {
+            ModuleRegistry.unpin(session.getModule());
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static TranscriptWriter openTranscript(Path directory, String gameName, int id) {
+        String timestamp = Instant.now().toString().replace(":", "-").replace("T", "_").replace("Z", "");
+        Path file = directory.resolve(
+            "transcript-" + gameName.replaceAll("[^a-zA-Z0-9]", "_") + "-" + id + "-" + timestamp + ".jsonl");
+        try {
+            ParentDirectoryExistenceCheck.exists(file);
+            return new TranscriptWriter(file);
+        } catch (IOException e) {
+            Logging.error("❌ Could not open headless transcript " + file + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package launcher.features.load_generation;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import gdk.internal.MessagingBridge;
+import launcher.features.game_messaging.ServerSimulatorProtocol;
+import launcher.features.load_generation.helpers.LatencyHistogram;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fires scripted messages at a game module's {@code handleMessage} to measure how much load it takes.
+ *
+ * <p>Messages are delivered the way the server simulator delivers typed messages
+ * (see {@link ServerSimulatorProtocol}), from {@link LoadProfile#concurrency()}
+ * threads at once, so the module must be safe to call concurrently for a
+ * concurrency above 1. Messages the module publishes are captured in a bridge scope
+ * of their own and only counted; nothing is recorded to the launcher's transcript.
+ *
+ * <p>The test runs on the calling thread's behalf and can be stopped by interrupting it.
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public final class LoadGenerator {
+
+    /** Function name for messages without a function field. */
+    private static final String NO_FUNCTION = "(none)";
+
+    /** Function name of the total row. */
+    private static final String ALL_FUNCTIONS = "(all)";
+
+    /** How long in-flight messages may take after the test ends before their senders are abandoned. */
+    private static final long STOP_TIMEOUT_MS = 10_000;
+
+    private LoadGenerator() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Runs a load test and waits for it to finish.
+     *
+     * @param gameModule The module to drive (launching it, if needed, is up to the caller)
+     * @param script The messages to send
+     * @param profile Rate, concurrency and duration
+     * @return The report, or null if the module, script or profile is missing
+     */
+    public static LoadReport run(GameModule gameModule, LoadScript script, LoadProfile profile) {
+        if (gameModule == null || script == null || profile == null) {
+            Logging.error("❌ Cannot run load test: module, script and profile are required");
+            return null;
+        }
+        GameModule module = DeferredGameModule.resolve(gameModule);
+        Logging.info("📈 Load test: " + (profile.isRateLimited() ? profile.ratePerSecond() + " msg/s" : "unthrottled")
+            + ", " + profile.concurrency() + " sender(s), " + profile.duration().toSeconds() + "s, "
+            + script.size() + " scripted message(s)");
+
+        MessagingBridge.Scope scope = MessagingBridge.openScope("load-test");
+        AtomicLong published = new AtomicLong();
+        scope.addConsumer(message -> published.incrementAndGet());
+
+        Run run = new Run(module, script, profile);
+        List<Sender> senders = new ArrayList<>();
+        for (int i = 0; i < profile.concurrency(); i++) {
+            Sender sender = new Sender(run);
+            Thread thread = new Thread(() -> scope.run(sender::sendUntilDone), "LoadGenerator-" + (i + 1));
+            thread.setDaemon(true);
+            sender.thread = thread;
+            senders.add(sender);
+        }
+        for (Sender sender : senders) {
+            sender.thread.start();
+        }
+
+        boolean completed = awaitSenders(run, senders);
+        long elapsed = System.nanoTime() - run.startNanos;
+        scope.close();
+
+        LoadReport report = report(profile, senders, published.get(), elapsed, completed);
+        Logging.info("📈 Load test finished: " + report.summary());
+        return report;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Waits for the senders to stop; senders stuck in the module are abandoned after a timeout.
+     *
+     * @return false if the calling thread was interrupted
+     */
+    private static boolean awaitSenders(Run run, List<Sender> senders) {
+        boolean completed = true;
+        long giveUpAt = run.deadlineNanos + STOP_TIMEOUT_MS * 1_000_000;
+        for (Sender sender : senders) {
+            try {
+                long wait = Math.max(1, (giveUpAt - System.nanoTime()) / 1_000_000);
+                sender.thread.join(wait);
+            } catch (InterruptedException e) {
+                run.stopped = true;
+                completed = false;
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        run.stopped = true;
+        for (Sender sender : senders) {
+            if (sender.thread.isAlive()) {
+                // Its statistics are still being written; leave them out
+                sender.abandoned = true;
+                sender.thread.interrupt();
+                Logging.warning("📈 " + sender.thread.getName() + " is still inside handleMessage after the test; "
+                    + "its messages are not reported");
+            }
+        }
+        return completed;
+    }
+
+    private static LoadReport report(LoadProfile profile, List<Sender> senders, long published, long elapsed,
+                                     boolean completed) {
+        Map<String, FunctionRecorder> merged = new TreeMap<>();
+        FunctionRecorder total = new FunctionRecorder();
+        for (Sender sender : senders) {
+            if (sender.abandoned) {
+                continue;
+            }
+            for (Map.Entry<String, FunctionRecorder> entry : sender.recorders.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), key -> new FunctionRecorder()).merge(entry.getValue());
+                total.merge(entry.getValue());
+            }
+        }
+        Map<String, LoadReport.FunctionStats> byFunction = new TreeMap<>();
+        merged.forEach((function, recorder) -> byFunction.put(function, recorder.stats(function)));
+        return new LoadReport(profile, total.stats(ALL_FUNCTIONS), byFunction, published, elapsed, completed);
+    }
+
+    /**
+     * Describes an error response, or returns null for a normal one.
+     */
+    private static String errorIn(Map<String, Object> response) {
+        if ("error".equals(response.get("function")) || "error".equals(response.get("status"))) {
+            Object detail = response.containsKey("message") ? response.get("message") : response.get("reason");
+            return "error response" + (detail != null ? ": " + detail : "");
+        }
+        return null;
+    }
+
+    // ==================== TEST STATE ====================
+
+    /**
+     * State shared by the senders: the sequence counter and the schedule.
+     */
+    private static final class Run {
+
+        private final GameModule module;
+        private final LoadScript script;
+        private final LoadProfile profile;
+        private final AtomicLong nextSequence = new AtomicLong();
+        private final long startNanos = System.nanoTime();
+        private final long deadlineNanos;
+        private final double intervalNanos;
+
+        private volatile boolean stopped;
+
+        Run(GameModule module, LoadScript script, LoadProfile profile) {
+            this.module = module;
+            this.script = script;
+            this.profile = profile;
+            this.deadlineNanos = startNanos + profile.duration().toNanos();
+            this.intervalNanos = profile.isRateLimited() ? 1_000_000_000.0 / profile.ratePerSecond() : 0;
+        }
+    }
+
+    /**
+     * One sending thread and the statistics it collected.
+     */
+    private static final class Sender {
+
+        private final Run run;
+        private final Map<String, FunctionRecorder> recorders = new HashMap<>();
+        private Thread thread;
+        private volatile boolean abandoned;
+
+        Sender(Run run) {
+            this.run = run;
+        }
+
+        void sendUntilDone() {
+            Random random = ThreadLocalRandom.current();
+            LoadProfile profile = run.profile;
+            while (!run.stopped) {
+                long sequence = run.nextSequence.getAndIncrement();
+                if (profile.maxMessages() > 0 && sequence >= profile.maxMessages()) {
+                    return;
+                }
+
+                // Latency counts from when the message was due, so falling behind shows up in it.
+                // Messages still owed when the time is up are not sent.
+                long due = profile.isRateLimited()
+                    ? run.startNanos + (long) (sequence * run.intervalNanos)
+                    : System.nanoTime();
+                if (due >= run.deadlineNanos || System.nanoTime() >= run.deadlineNanos || !waitUntil(due)) {
+                    return;
+                }
+
+                Map<String, Object> message = run.script.message(sequence, profile.randomizedFields(), random);
+                Object function = message.get("function");
+                String error;
+                try {
+                    error = errorIn(ServerSimulatorProtocol.deliver(run.module, message));
+                } catch (Exception e) {
+                    error = e.toString();
+                }
+                long latency = System.nanoTime() - due;
+
+                recorders.computeIfAbsent(function instanceof String ? (String) function : NO_FUNCTION,
+                    key -> new FunctionRecorder()).record(latency, error);
+            }
+        }
+
+        /**
+         * Parks until the given time.
+         *
+         * @return false if the test was stopped meanwhile
+         */
+        private boolean waitUntil(long dueNanos) {
+            long wait;
+            while ((wait = dueNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (run.stopped || Thread.currentThread().isInterrupted()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Latency histogram and error count of one function.
+     */
+    private static final class FunctionRecorder {
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private long errors;
+        private String firstError;
+
+        void record(long latencyNanos, String error) {
+            histogram.record(latencyNanos);
+            if (error != null) {
+                if (errors++ == 0) {
+                    firstError = error;
+                }
+            }
+        }
+
+        void merge(FunctionRecorder other) {
+            histogram.merge(other.histogram);
+            if (firstError == null) {
+                firstError = other.firstError;
+            }
+            errors += other.errors;
+        }
+
+        LoadReport.FunctionStats stats(String function) {
+            return new LoadReport.FunctionStats(function, histogram.getCount(), errors, firstError,
+                histogram.getMean(), histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getValueAtPercentile(99.9), histogram.getMax());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package launcher.features.load_generation;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * How hard and how long a load test drives a game module.
+ *
+ * @param ratePerSecond Target messages per second across all senders, or 0 to send as fast as possible
+ * @param concurrency Number of threads calling the module at the same time
+ * @param duration How long to send for
+ * @param maxMessages Stop after this many messages, or 0 for no limit
+ * @param randomizedFields Top-level message fields replaced by a random value in every message (e.g. from, text)
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public record LoadProfile(double ratePerSecond, int concurrency, Duration duration, long maxMessages,
+                          Set<String> randomizedFields) {
+
+    public LoadProfile {
+        if (!(ratePerSecond >= 0)) {
+            throw new IllegalArgumentException("ratePerSecond must not be negative");
+        }
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("concurrency must be positive");
+        }
+        if (duration == null || duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("duration must be positive");
+        }
+        if (maxMessages < 0) {
+            throw new IllegalArgumentException("maxMessages must not be negative");
+        }
+        randomizedFields = randomizedFields == null ? Set.of() : Set.copyOf(randomizedFields);
+    }
+
+    /**
+     * Sends at a fixed rate.
+     *
+     * @param ratePerSecond Target messages per second, or 0 for as fast as possible
+     * @param concurrency Number of sending threads
+     * @param duration How long to send for
+     */
+    public static LoadProfile of(double ratePerSecond, int concurrency, Duration duration) {
+        return new LoadProfile(ratePerSecond, concurrency, duration, 0, Set.of());
+    }
+
+    /**
+     * Same profile, stopping after a number of messages.
+     */
+    public LoadProfile withMaxMessages(long maxMessages) {
+        return new LoadProfile(ratePerSecond, concurrency, duration, maxMessages, randomizedFields);
+    }
+
+    /**
+     * Same profile, randomizing the given fields of every message.
+     */
+    public LoadProfile randomizing(Set<String> fields) {
+        return new LoadProfile(ratePerSecond, concurrency, duration, maxMessages, fields);
+    }
+
+    /**
+     * Whether messages are paced to a target rate.
+     */
+    public boolean isRateLimited() {
+        return ratePerSecond > 0;
+    }
+}
@@ -0,0 +1,107 @@
+package launcher.features.load_generation;
+
+import java.util.Map;
+
+/**
+ * Result of a load test against a game module.
+ *
+ * <p>With a target rate, latency is measured from the time each message was due to
+ * be sent, not from when a sender got to it, so a module that falls behind shows
+ * the queueing delay its clients would see.
+ *
+ * @param profile The profile the test ran with
+ * @param total Statistics over all messages
+ * @param byFunction Statistics per message function, sorted by function
+ * @param publishedMessages Messages the module published to the bridge during the test
+ * @param elapsedNanos Wall-clock duration of the test
+ * @param completed Whether the test ran to its duration or message limit (false if interrupted)
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public record LoadReport(LoadProfile profile, FunctionStats total, Map<String, FunctionStats> byFunction,
+                         long publishedMessages, long elapsedNanos, boolean completed) {
+
+    /**
+     * Statistics for the messages of one function.
+     *
+     * @param function The message function, or "(all)" for the total
+     * @param sent Messages delivered to the module
+     * @param errors Deliveries that threw or were answered with an error
+     * @param firstError Description of the first error, or null if there was none
+     * @param meanNanos Mean latency
+     * @param p50Nanos Median latency
+     * @param p90Nanos 90th percentile latency
+     * @param p99Nanos 99th percentile latency
+     * @param p999Nanos 99.9th percentile latency
+     * @param maxNanos Highest latency
+     */
+    public record FunctionStats(String function, long sent, long errors, String firstError, long meanNanos,
+                                long p50Nanos, long p90Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+
+        /**
+         * One table row for logs.
+         *
+         * @return The row
+         */
+        public String row() {
+            return String.format("%-20s %10d %8d %10.3f %10.3f %10.3f %10.3f %10.3f %10.3f",
+                function, sent, errors, meanNanos / 1e6, p50Nanos / 1e6, p90Nanos / 1e6,
+                p99Nanos / 1e6, p999Nanos / 1e6, maxNanos / 1e6);
+        }
+    }
+
+    /**
+     * Messages delivered per second of wall-clock time.
+     *
+     * @return The throughput, or 0 if the test did not run
+     */
+    public double messagesPerSecond() {
+        return elapsedNanos == 0 ? 0 : total.sent() * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * Whether the module kept up with the target rate (within 5%).
+     *
+     * @return true if the test was not rate limited or reached at least 95% of the rate
+     */
+    public boolean keptUp() {
+        return !profile.isRateLimited() || messagesPerSecond() >= profile.ratePerSecond() * 0.95;
+    }
+
+    /**
+     * One-line summary for logs.
+     *
+     * @return The summary
+     */
+    public String summary() {
+        return String.format("%d messages in %.1fs (%s), %.0f msg/s%s, %d errors; latency p50 %.3fms, "
+                + "p99 %.3fms, p99.9 %.3fms, max %.3fms; %d published",
+            total.sent(), elapsedNanos / 1e9, completed ? "complete" : "interrupted", messagesPerSecond(),
+            profile.isRateLimited() ? String.format(" of %.0f target", profile.ratePerSecond()) : "",
+            total.errors(), total.p50Nanos() / 1e6, total.p99Nanos() / 1e6, total.p999Nanos() / 1e6,
+            total.maxNanos() / 1e6, publishedMessages);
+    }
+
+    /**
+     * Per-function table (latencies in milliseconds) followed by the first error of each function.
+     *
+     * @return The table, one line per function plus the total
+     */
+    public String table() {
+        StringBuilder table = new StringBuilder(String.format("%-20s %10s %8s %10s %10s %10s %10s %10s %10s",
+            "function", "sent", "errors", "mean", "p50", "p90", "p99", "p99.9", "max"));
+        for (FunctionStats stats : byFunction.values()) {
+            table.append('\n').append(stats.row());
+        }
+        table.append('\n').append(total.row());
+        for (FunctionStats stats : byFunction.values()) {
+            if (stats.firstError() != null) {
+                table.append("\nfirst error in ").append(stats.function()).append(": ").append(stats.firstError());
+            }
+        }
+        return table.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package launcher.features.load_generation;
+
+import gdk.internal.Logging;
+import launcher.features.game_messaging.ServerSimulatorProtocol;
+import launcher.features.load_generation.helpers.ValueInjection;
+import launcher.features.transcript_recording.transcript_replay.helpers.ReplaySources;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * The messages a load test sends, cycled in order.
+ *
+ * <p>Built from message templates (see {@link ValueInjection} for placeholders) or
+ * from the outbound messages of a recorded transcript. Every sent message is a
+ * new map, since modules may modify the messages they receive.
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public final class LoadScript {
+
+    private final List<Map<String, Object>> templates;
+    private final boolean[] needsFilling;
+
+    private LoadScript(List<Map<String, Object>> templates) {
+        this.templates = List.copyOf(templates);
+        this.needsFilling = new boolean[templates.size()];
+        for (int i = 0; i < templates.size(); i++) {
+            needsFilling[i] = ValueInjection.hasPlaceholders(templates.get(i));
+        }
+    }
+
+    // ==================== FACTORIES ====================
+
+    /**
+     * Builds a script from one template, written as the server simulator would accept it
+     * (a JSON object, or plain text sent as a chat message).
+     *
+     * @param template The template text
+     * @return The script
+     */
+    public static LoadScript fromTemplate(String template) {
+        return fromTemplates(List.of(ServerSimulatorProtocol.toMessage(template)));
+    }
+
+    /**
+     * Builds a script from message templates, sent in turn.
+     *
+     * @param templates The templates (at least one)
+     * @return The script
+     */
+    public static LoadScript fromTemplates(List<Map<String, Object>> templates) {
+        if (templates == null || templates.isEmpty()) {
+            throw new IllegalArgumentException("At least one message template is required");
+        }
+        return new LoadScript(templates);
+    }
+
+    /**
+     * Builds a script from the outbound messages of a saved transcript
+     * ({@code .jsonl}, {@code .json} or {@code .gdkt}).
+     *
+     * @param transcript The transcript file
+     * @return The script
+     * @throws IOException If the transcript cannot be read or has no outbound messages
+     */
+    public static LoadScript fromTranscript(Path transcript) throws IOException {
+        TranscriptEntrySource source = ReplaySources.open(transcript);
+        List<Map<String, Object>> messages = new ArrayList<>();
+        boolean completed = source.forEachEntry(entry -> {
+            if ("out".equals(entry.get("direction")) && entry.get("message") instanceof Map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> message = (Map<String, Object>) entry.get("message");
+                messages.add(new LinkedHashMap<>(message));
+            }
+        });
+        if (!completed) {
+            Logging.warning("⚠️ Transcript " + transcript.getFileName() + " could not be read completely; using "
+                + messages.size() + " message(s)");
+        }
+        if (messages.isEmpty()) {
+            throw new IOException("Transcript has no outbound messages: " + transcript);
+        }
+        return new LoadScript(messages);
+    }
+
+    // ==================== MESSAGES ====================
+
+    /**
+     * Builds the message with a given sequence number.
+     *
+     * @param sequence The message's sequence number (0-based)
+     * @param randomizedFields Top-level fields to replace with random text
+     * @param random Source of random values
+     * @return A new, mutable message
+     */
+    public Map<String, Object> message(long sequence, Set<String> randomizedFields, Random random) {
+        int index = (int) (sequence % templates.size());
+        Map<String, Object> template = templates.get(index);
+        if (!needsFilling[index] && randomizedFields.isEmpty()) {
+            return new LinkedHashMap<>(template);
+        }
+        return ValueInjection.fill(template, sequence, randomizedFields, random);
+    }
+
+    /**
+     * Gets the number of distinct messages in the script.
+     */
+    public int size() {
+        return templates.size();
+    }
+}
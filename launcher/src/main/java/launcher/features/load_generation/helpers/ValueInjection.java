@@ -0,0 +1,176 @@
+package launcher.features.load_generation.helpers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Fills message templates with generated values.
+ *
+ * <p>String values may contain placeholders:
+ * <ul>
+ *   <li>{@code {{seq}}} - the message's sequence number</li>
+ *   <li>{@code {{uuid}}} - a random UUID</li>
+ *   <li>{@code {{random.int:MIN:MAX}}} - a random integer, inclusive</li>
+ *   <li>{@code {{random.text:LENGTH}}} - random lowercase words of about that length</li>
+ *   <li>{@code {{random.player:COUNT}}} - one of {@code player1} to {@code playerCOUNT}</li>
+ * </ul>
+ * A value that is a single numeric placeholder becomes a number. Separately, named
+ * top-level fields can be replaced by random text of the same length as the template's.
+ *
+ * @author Clement Luo
+ * @date January 26, 2026
+ * @edited January 26, 2026
+ * @since Beta 1.0
+ */
+public final class ValueInjection {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{([a-z.]+)(?::(-?\\d+))?(?::(-?\\d+))?}}");
+
+    /** Length of random text for a randomized field that has no template value. */
+    private static final int DEFAULT_RANDOM_LENGTH = 8;
+
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    private ValueInjection() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Builds one message from a template. The template is not modified.
+     *
+     * @param template The message template
+     * @param sequence The message's sequence number
+     * @param randomizedFields Top-level fields to replace with random text
+     * @param random Source of random values (one per sending thread)
+     * @return A new, mutable message
+     */
+    public static Map<String, Object> fill(Map<String, Object> template, long sequence,
+                                           Set<String> randomizedFields, Random random) {
+        Map<String, Object> message = fillMap(template, sequence, random);
+        for (String field : randomizedFields) {
+            Object current = message.get(field);
+            int length = current instanceof String && !((String) current).isEmpty()
+                ? ((String) current).length()
+                : DEFAULT_RANDOM_LENGTH;
+            message.put(field, randomText(length, random));
+        }
+        return message;
+    }
+
+    /**
+     * Checks whether a template needs filling (has placeholders), so plain templates can be copied cheaply.
+     *
+     * @param template The message template
+     * @return true if any string value contains a placeholder
+     */
+    public static boolean hasPlaceholders(Object template) {
+        if (template instanceof String) {
+            return PLACEHOLDER.matcher((String) template).find();
+        }
+        if (template instanceof Map) {
+            for (Object value : ((Map<?, ?>) template).values()) {
+                if (hasPlaceholders(value)) {
+                    return true;
+                }
+            }
+        }
+        if (template instanceof List) {
+            for (Object value : (List<?>) template) {
+                if (hasPlaceholders(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static Map<String, Object> fillMap(Map<?, ?> template, long sequence, Random random) {
+        Map<String, Object> filled = new LinkedHashMap<>();
+        for (Map.Entry<?, ?> entry : template.entrySet()) {
+            filled.put(String.valueOf(entry.getKey()), fillValue(entry.getValue(), sequence, random));
+        }
+        return filled;
+    }
+
+    private static Object fillValue(Object value, long sequence, Random random) {
+        if (value instanceof String) {
+            return fillString((String) value, sequence, random);
+        }
+        if (value instanceof Map) {
+            return fillMap((Map<?, ?>) value, sequence, random);
+        }
+        if (value instanceof List) {
+            List<Object> filled = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                filled.add(fillValue(item, sequence, random));
+            }
+            return filled;
+        }
+        return value;
+    }
+
+    private static Object fillString(String text, long sequence, Random random) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        if (!matcher.find()) {
+            return text;
+        }
+        // A lone numeric placeholder keeps its type
+        if (matcher.start() == 0 && matcher.end() == text.length()) {
+            Object value = generate(matcher, sequence, random);
+            if (value instanceof Number) {
+                return value;
+            }
+        }
+        StringBuilder filled = new StringBuilder();
+        do {
+            matcher.appendReplacement(filled, Matcher.quoteReplacement(String.valueOf(generate(matcher, sequence, random))));
+        } while (matcher.find());
+        matcher.appendTail(filled);
+        return filled.toString();
+    }
+
+    private static Object generate(Matcher placeholder, long sequence, Random random) {
+        String name = placeholder.group(1);
+        String first = placeholder.group(2);
+        String second = placeholder.group(3);
+        switch (name) {
+            case "seq":
+                return sequence;
+            case "uuid":
+                return new UUID(random.nextLong(), random.nextLong()).toString();
+            case "random.int": {
+                long min = first != null ? Long.parseLong(first) : 0;
+                long max = second != null ? Long.parseLong(second) : Integer.MAX_VALUE;
+                return max <= min ? min : min + (long) (random.nextDouble() * (max - min + 1));
+            }
+            case "random.text":
+                return randomText(first != null ? Math.max(1, Integer.parseInt(first)) : DEFAULT_RANDOM_LENGTH, random);
+            case "random.player":
+                return "player" + (1 + random.nextInt(first != null ? Math.max(1, Integer.parseInt(first)) : 2));
+            default:
+                // Unknown placeholders are left in place, so typos show up in the game's input
+                return placeholder.group();
+        }
+    }
+
+    private static String randomText(int length, Random random) {
+        StringBuilder text = new StringBuilder(length);
+        while (text.length() < length) {
+            if (text.length() > 0 && random.nextInt(6) == 0) {
+                text.append(' ');
+            } else {
+                text.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+        }
+        return text.toString();
+    }
+}
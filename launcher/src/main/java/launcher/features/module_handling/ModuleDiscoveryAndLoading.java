@@ -4,7 +4,10 @@ import gdk.api.GameModule;
 import gdk.internal.Logging;
 import launcher.features.file_handling.file_paths.GetModulesDirectoryPath;
 import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_finding.ModuleDiscovery;
 import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_packaging.PackagedModules;
 import launcher.features.module_handling.module_source_validation.ModuleSourceValidator;
 
 import java.io.File;
@@ -17,6 +20,7 @@ import java.util.List;
  * 
  * @author Clement Luo
  * @date January 8, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class ModuleDiscoveryAndLoading {
@@ -40,6 +44,9 @@ public final class ModuleDiscoveryAndLoading {
             // Scan for module folders
             List<File> moduleDirectories = ScanForModuleFolders.findModuleFolders(modulesDirectoryPath);
             
+            // Forget index entries for modules that were deleted since the last run
+            ModuleIndex.pruneMissing();
+            
             if (moduleDirectories.isEmpty()) {
                 Logging.info("No module directories found in: " + modulesDirectoryPath);
                 return new LoadModules.ModuleLoadResult(new ArrayList<>(), new ArrayList<>());
@@ -47,8 +54,11 @@ public final class ModuleDiscoveryAndLoading {
             
             // Filter to only valid module structures
             List<File> validModuleDirectories = new ArrayList<>();
+            // (modules unchanged since their last successful load are trusted from the index,
+            // packaged modules are checked through their descriptor when they are loaded)
             for (File folder : moduleDirectories) {
-                if (ModuleSourceValidator.isValidModule(folder)) {
+                if (PackagedModules.isPackaged(folder) || ModuleIndex.isUpToDate(folder)
+                        || ModuleSourceValidator.isValidModule(folder)) {
                     validModuleDirectories.add(folder);
                 }
             }
@@ -60,8 +70,14 @@ public final class ModuleDiscoveryAndLoading {
             
             Logging.info("Found " + validModuleDirectories.size() + " valid module(s). Loading...");
             
-            // Load the discovered modules into memory
-            LoadModules.ModuleLoadResult result = LoadModules.loadModules(validModuleDirectories);
+            // Discover the modules by metadata; Main classes are instantiated at launch
+            LoadModules.ModuleLoadResult discovered = LoadModules.loadModuleDescriptors(validModuleDirectories);
+            
+            // Share instances with name lookups (auto-launch) through the loaded-module cache;
+            // a full discovery also rebuilds the name index on the next lookup
+            ModuleDiscovery.refresh();
+            LoadModules.ModuleLoadResult result = new LoadModules.ModuleLoadResult(
+                ModuleDiscovery.shareLoadedModules(discovered.getLoadedModules()), discovered.getCompilationFailures());
             
             // Log results
             List<GameModule> loadedModules = result.getLoadedModules();
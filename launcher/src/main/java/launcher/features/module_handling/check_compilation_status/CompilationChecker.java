@@ -1,33 +1,47 @@
 package launcher.features.module_handling.check_compilation_status;
 
 import gdk.internal.Logging;
+import launcher.features.module_handling.check_compilation_status.helpers.ChangedFileDetector;
+import launcher.features.module_handling.check_compilation_status.helpers.SourceManifest;
 
 import java.io.File;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * Checks if a module needs to be compiled.
- * 
+ *
+ * <p>Each module keeps a source manifest (see {@link SourceManifest}) holding the
+ * size, timestamp and content hash of every file under {@code src/main/java}
+ * and {@code src/main/resources} as of its last successful compile. A module
+ * needs compiling when any of those files was added, removed or had its
+ * contents changed. Modules compiled before manifests existed fall back to a
+ * timestamp comparison against Main.class, and get a manifest once they are
+ * found to be up to date.
+ *
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 4, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class CompilationChecker {
-    
+
     private CompilationChecker() {
         throw new AssertionError("Utility class should not be instantiated");
     }
-    
+
     /**
      * Checks if a module needs to be compiled by checking for compiled classes.
-     * 
+     *
      * <p>This method checks if:
      * <ul>
      *   <li>Compiled classes directory exists</li>
      *   <li>Main.class file exists</li>
-     *   <li>Source files are newer than compiled classes</li>
+     *   <li>Any source or resource file changed since the last successful compile</li>
      * </ul>
-     * 
+     *
      * @param moduleDir The module folder to check
      * @return true if the module needs compile_modules, false otherwise
      */
@@ -35,34 +49,134 @@ public final class CompilationChecker {
         try {
             File targetClassesDir = new File(moduleDir, "target/classes");
             File mainClassFile = new File(targetClassesDir, "Main.class");
-            
+
             if (!targetClassesDir.exists()) {
                 Logging.info("Module " + moduleDir.getName() + " missing target/classes directory");
                 return true;
             }
-            
+
             if (!mainClassFile.exists()) {
                 Logging.info("Module " + moduleDir.getName() + " missing Main.class");
                 return true;
             }
-            
-            // Check if source files are newer than compiled classes
-            File mainJavaFile = new File(moduleDir, "src/main/java/Main.java");
-            
-            if (mainJavaFile.exists() && mainClassFile.exists()) {
-                if (mainJavaFile.lastModified() > mainClassFile.lastModified()) {
-                    Logging.info("Module " + moduleDir.getName() + " source files are newer than compiled classes");
-                    return true;
-                }
+
+            // Check if any source or resource changed since the last compile
+            Set<String> changedFiles = getChangedFiles(moduleDir);
+            if (!changedFiles.isEmpty()) {
+                Logging.info("Module " + moduleDir.getName() + " has " + changedFiles.size()
+                    + " changed file(s) since last compile: " + changedFiles);
+                return true;
             }
-            
+
             Logging.info("Module " + moduleDir.getName() + " is compiled and up to date");
             return false;
-            
+
         } catch (Exception e) {
             Logging.error("Error checking compile_modules status for " + moduleDir.getName() + ": " + e.getMessage());
             return true; // Assume compile_modules is needed if we can't check
         }
     }
-}
 
+    /**
+     * Gets the source and resource files that changed since the last successful compile.
+     *
+     * <p>Paths are relative to the module directory (e.g. {@code src/main/java/Main.java})
+     * and include added, modified and removed files. Without a manifest, files newer
+     * than Main.class are reported instead.
+     *
+     * @param moduleDir The module folder to check
+     * @return Sorted set of changed file paths (empty if nothing changed)
+     * @throws Exception If the module's files cannot be read
+     */
+    public static Set<String> getChangedFiles(File moduleDir) throws Exception {
+        // Scan and refresh under the module's lock so a concurrent compile's manifest is never overwritten
+        synchronized (SourceManifest.lockFor(moduleDir)) {
+            if (!SourceManifest.exists(moduleDir)) {
+                Set<String> newerFiles = findFilesNewerThanMainClass(moduleDir);
+                if (newerFiles.isEmpty()) {
+                    recordCompiled(moduleDir);
+                }
+                return newerFiles;
+            }
+
+            ChangedFileDetector.Scan scan = ChangedFileDetector.scan(moduleDir, SourceManifest.read(moduleDir));
+            if (scan.changedFiles().isEmpty() && scan.refreshed()) {
+                // Contents unchanged but timestamps moved - remember them so the next check skips hashing
+                SourceManifest.write(moduleDir, scan.currentEntries());
+            }
+            return scan.changedFiles();
+        }
+    }
+
+    /**
+     * Records the module's current sources and resources as compiled.
+     *
+     * <p>Used when a module is found to be up to date without compiling it. After
+     * an actual compile, record the snapshot taken before the compiler ran instead
+     * (see {@link #snapshotSources(File)}).
+     *
+     * @param moduleDir The module folder that was compiled
+     */
+    public static void recordCompiled(File moduleDir) {
+        synchronized (SourceManifest.lockFor(moduleDir)) {
+            recordCompiled(moduleDir, snapshotSources(moduleDir));
+        }
+    }
+
+    /**
+     * Takes a snapshot of the module's sources and resources (size, timestamp and hash).
+     *
+     * <p>Take it right before compiling: a file edited while the compiler runs then
+     * no longer matches the recorded snapshot and is picked up by the next check.
+     *
+     * @param moduleDir The module folder about to be compiled
+     * @return The snapshot, or null if the module's files could not be read
+     */
+    public static Map<String, SourceManifest.Entry> snapshotSources(File moduleDir) {
+        try {
+            return ChangedFileDetector.snapshot(moduleDir, SourceManifest.read(moduleDir));
+        } catch (Exception e) {
+            Logging.error("Error snapshotting sources for " + moduleDir.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Records a snapshot taken before a successful compile as the module's compiled state.
+     *
+     * @param moduleDir The module folder that was compiled
+     * @param snapshot The snapshot from {@link #snapshotSources(File)} (ignored if null)
+     */
+    public static void recordCompiled(File moduleDir, Map<String, SourceManifest.Entry> snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            synchronized (SourceManifest.lockFor(moduleDir)) {
+                SourceManifest.write(moduleDir, snapshot);
+            }
+        } catch (Exception e) {
+            Logging.error("Error recording source manifest for " + moduleDir.getName() + ": " + e.getMessage());
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Finds source and resource files newer than the module's Main.class.
+     *
+     * @param moduleDir The module folder to check
+     * @return Sorted set of module-relative paths
+     * @throws Exception If the module's files cannot be read
+     */
+    private static Set<String> findFilesNewerThanMainClass(File moduleDir) throws Exception {
+        long compiledAt = new File(moduleDir, "target/classes/Main.class").lastModified();
+        Set<String> newerFiles = new TreeSet<>();
+        for (Map.Entry<String, BasicFileAttributes> file : ChangedFileDetector.listFiles(moduleDir).entrySet()) {
+            if (file.getValue().lastModifiedTime().toMillis() > compiledAt) {
+                newerFiles.add(file.getKey());
+            }
+        }
+        return newerFiles;
+    }
+}
@@ -0,0 +1,189 @@
+package launcher.features.module_handling.check_compilation_status.helpers;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Compares a module's source and resource files against its source manifest.
+ *
+ * <p>Files are stat'ed first; a file whose size and last modified time match
+ * its manifest entry is taken as unchanged without being read. Only files
+ * whose metadata differs are hashed, so touching a file (checkout, copy,
+ * IDE save without edits) does not count as a change.
+ *
+ * @author Clement Luo
+ * @date January 13, 2026
+ * @edited January 13, 2026
+ * @since Beta 1.0
+ */
+public final class ChangedFileDetector {
+
+    /** Directories (relative to the module) covered by the manifest. */
+    public static final String[] SOURCE_ROOTS = { "src/main/java", "src/main/resources" };
+
+    /** Read buffer size used when hashing. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Result of scanning a module against its manifest.
+     *
+     * @param changedFiles Module-relative paths that were added, modified or removed
+     * @param currentEntries Manifest entries for every file that was unchanged, with refreshed timestamps
+     * @param refreshed true if any unchanged file had new metadata (so the manifest is worth rewriting)
+     */
+    public record Scan(Set<String> changedFiles, Map<String, SourceManifest.Entry> currentEntries, boolean refreshed) {}
+
+    private ChangedFileDetector() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Scans a module against a manifest.
+     *
+     * @param moduleDir The module directory
+     * @param manifest The manifest recorded at the last successful compile
+     * @return The scan result
+     * @throws IOException If the module cannot be read
+     */
+    public static Scan scan(File moduleDir, Map<String, SourceManifest.Entry> manifest) throws IOException {
+        Set<String> changedFiles = new TreeSet<>();
+        Map<String, SourceManifest.Entry> currentEntries = new HashMap<>();
+        boolean refreshed = false;
+
+        for (Map.Entry<String, BasicFileAttributes> file : listFiles(moduleDir).entrySet()) {
+            String relativePath = file.getKey();
+            BasicFileAttributes attributes = file.getValue();
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            SourceManifest.Entry recorded = manifest.get(relativePath);
+
+            if (recorded == null) {
+                changedFiles.add(relativePath);
+            } else if (recorded.size() == size && recorded.lastModified() == lastModified) {
+                currentEntries.put(relativePath, recorded);
+            } else {
+                String hash = hash(new File(moduleDir, relativePath).toPath());
+                if (recorded.hash().equals(hash)) {
+                    currentEntries.put(relativePath, new SourceManifest.Entry(size, lastModified, hash));
+                    refreshed = true;
+                } else {
+                    changedFiles.add(relativePath);
+                }
+            }
+        }
+
+        // Anything recorded that no longer exists was removed
+        for (String recordedPath : manifest.keySet()) {
+            if (!currentEntries.containsKey(recordedPath) && !new File(moduleDir, recordedPath).isFile()) {
+                changedFiles.add(recordedPath);
+            }
+        }
+
+        return new Scan(changedFiles, currentEntries, refreshed);
+    }
+
+    /**
+     * Builds a full manifest for the module as it is now.
+     *
+     * <p>Hashes from the previous manifest are reused for files whose size and
+     * last modified time have not changed.
+     *
+     * @param moduleDir The module directory
+     * @param previous The previous manifest (may be empty)
+     * @return Manifest entries keyed by module-relative path
+     * @throws IOException If the module cannot be read
+     */
+    public static Map<String, SourceManifest.Entry> snapshot(File moduleDir, Map<String, SourceManifest.Entry> previous)
+            throws IOException {
+        Map<String, SourceManifest.Entry> entries = new HashMap<>();
+        for (Map.Entry<String, BasicFileAttributes> file : listFiles(moduleDir).entrySet()) {
+            long size = file.getValue().size();
+            long lastModified = file.getValue().lastModifiedTime().toMillis();
+            SourceManifest.Entry recorded = previous.get(file.getKey());
+
+            if (recorded != null && recorded.size() == size && recorded.lastModified() == lastModified) {
+                entries.put(file.getKey(), recorded);
+            } else {
+                String hash = hash(new File(moduleDir, file.getKey()).toPath());
+                entries.put(file.getKey(), new SourceManifest.Entry(size, lastModified, hash));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Lists every regular file under the source roots.
+     *
+     * @param moduleDir The module directory
+     * @return File attributes keyed by module-relative path (always using '/')
+     * @throws IOException If a source root cannot be walked
+     */
+    public static Map<String, BasicFileAttributes> listFiles(File moduleDir) throws IOException {
+        Map<String, BasicFileAttributes> files = new HashMap<>();
+        Path modulePath = moduleDir.toPath();
+
+        for (String root : SOURCE_ROOTS) {
+            Path rootPath = modulePath.resolve(root);
+            if (!Files.isDirectory(rootPath)) {
+                continue;
+            }
+
+            try (Stream<Path> paths = Files.walk(rootPath)) {
+                paths.forEach(path -> {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        if (attributes.isRegularFile()) {
+                            files.put(modulePath.relativize(path).toString().replace('\\', '/'), attributes);
+                        }
+                    } catch (IOException e) {
+                        // File vanished mid-walk; it is picked up as removed if it was recorded
+                    }
+                });
+            }
+        }
+        return files;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Computes the SHA-256 of a file's contents.
+     *
+     * @param file The file to hash
+     * @return Hex hash string
+     * @throws IOException If the file cannot be read
+     */
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
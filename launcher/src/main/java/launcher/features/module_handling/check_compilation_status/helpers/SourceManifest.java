@@ -0,0 +1,129 @@
+package launcher.features.module_handling.check_compilation_status.helpers;
+
+import gdk.internal.Logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes a module's source manifest.
+ *
+ * <p>The manifest records, for every source and resource file, its size, last
+ * modified time and SHA-256 hash as of the last successful compile. It lives in
+ * {@code target/} (next to, not inside, {@code target/classes}) so that a
+ * {@code mvn clean} discards it together with the classes it describes.
+ *
+ * <p>Format: one line per file, {@code path<TAB>size<TAB>mtime<TAB>sha256}.
+ *
+ * <p>Compiling a module and writing its manifest must hold the module's lock
+ * (see {@link #lockFor(File)}), so a status check running next to a compile
+ * never overwrites the manifest the compile records.
+ *
+ * @author Clement Luo
+ * @date January 13, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class SourceManifest {
+
+    /** Manifest location relative to the module directory. */
+    public static final String MANIFEST_PATH = "target/gdk-source-manifest.txt";
+
+    /**
+     * Recorded state of a single file.
+     *
+     * @param size File size in bytes
+     * @param lastModified Last modified time in epoch milliseconds
+     * @param hash Hex SHA-256 of the file contents
+     */
+    public record Entry(long size, long lastModified, String hash) {}
+
+    /** One lock per module directory, shared by compiles and manifest writes. */
+    private static final Map<String, Object> MODULE_LOCKS = new ConcurrentHashMap<>();
+
+    private SourceManifest() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the lock that guards a module's compile output and manifest.
+     *
+     * @param moduleDir The module directory
+     * @return The module's lock (the same object for every path to the same directory)
+     */
+    public static Object lockFor(File moduleDir) {
+        return MODULE_LOCKS.computeIfAbsent(
+            moduleDir.getAbsoluteFile().toPath().normalize().toString(), key -> new Object());
+    }
+
+    /**
+     * Checks whether a module has a manifest.
+     *
+     * @param moduleDir The module directory
+     * @return true if the manifest file exists
+     */
+    public static boolean exists(File moduleDir) {
+        return new File(moduleDir, MANIFEST_PATH).isFile();
+    }
+
+    /**
+     * Reads a module's manifest.
+     *
+     * @param moduleDir The module directory
+     * @return Entries keyed by module-relative path, or an empty map if there is no readable manifest
+     */
+    public static Map<String, Entry> read(File moduleDir) {
+        Map<String, Entry> entries = new TreeMap<>();
+        Path manifestFile = new File(moduleDir, MANIFEST_PATH).toPath();
+        if (!Files.isRegularFile(manifestFile)) {
+            return entries;
+        }
+
+        try {
+            for (String line : Files.readAllLines(manifestFile, StandardCharsets.UTF_8)) {
+                String[] parts = line.split("\t");
+                if (parts.length == 4) {
+                    entries.put(parts[0], new Entry(Long.parseLong(parts[1]), Long.parseLong(parts[2]), parts[3]));
+                }
+            }
+        } catch (Exception e) {
+            Logging.warning("Unreadable source manifest for " + moduleDir.getName() + ": " + e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * Writes a module's manifest.
+     *
+     * @param moduleDir The module directory
+     * @param entries Entries keyed by module-relative path
+     */
+    public static void write(File moduleDir, Map<String, Entry> entries) {
+        Path manifestFile = new File(moduleDir, MANIFEST_PATH).toPath();
+        try {
+            Files.createDirectories(manifestFile.getParent());
+
+            List<String> lines = new ArrayList<>(entries.size());
+            for (Map.Entry<String, Entry> entry : new TreeMap<>(entries).entrySet()) {
+                Entry value = entry.getValue();
+                lines.add(entry.getKey() + "\t" + value.size() + "\t" + value.lastModified() + "\t" + value.hash());
+            }
+
+            Path tempFile = Files.createTempFile(manifestFile.getParent(), "gdk-source-manifest", ".tmp");
+            Files.write(tempFile, lines, StandardCharsets.UTF_8);
+            Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Logging.error("Error writing source manifest for " + moduleDir.getName() + ": " + e.getMessage(), e);
+        }
+    }
+}
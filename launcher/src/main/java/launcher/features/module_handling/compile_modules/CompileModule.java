@@ -1,15 +1,33 @@
 package launcher.features.module_handling.compile_modules;
 
+import gdk.internal.Logging;
+import launcher.features.module_handling.check_compilation_status.CompilationChecker;
+import launcher.features.module_handling.check_compilation_status.helpers.SourceManifest;
+import launcher.features.module_handling.compile_modules.compilers.InProcessModuleCompiler;
 import launcher.features.module_handling.compile_modules.compilers.MavenModuleCompiler;
 
 import java.io.File;
+import java.util.Map;
 
 /**
  * Compiles modules when needed.
  * 
+ * <p>Modules are compiled in-process with {@link javax.tools.JavaCompiler} when the
+ * launcher runs on a JDK. Maven is used as a fallback when no system compiler is
+ * available, or when the in-process build of a module that has its own pom.xml
+ * fails on unresolved dependencies (it may need libraries the launcher's classpath
+ * does not provide). Ordinary compile errors are reported as they are, without
+ * a second, slower Maven build that would only repeat them.
+ * Compilation is thread-safe, so modules loaded in parallel also compile in parallel;
+ * compiles of the same module (e.g. the module watcher and a hot reload reacting to
+ * the same edit) are serialized so they never write the same output at once.
+ * After a successful compile the module's sources are recorded as compiled, using
+ * a snapshot taken under the same lock before the compiler ran, so an edit made
+ * during the compile is never mistaken for compiled.
+ * 
  * @author Clement Luo
  * @date January 4, 2026
- * @edited January 4, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class CompileModule {
@@ -25,8 +43,45 @@ public final class CompileModule {
      * @return true if compile_modules was successful, false otherwise
      */
     public static boolean compile(File moduleDir) {
+        return compileWithDiagnostics(moduleDir).success();
+    }
+    
+    /**
+     * Compiles a module given its folder and reports per-file diagnostics.
+     * 
+     * @param moduleDir The module directory to compile
+     * @return The compilation result, including which backend was used
+     */
+    public static ModuleCompilationResult compileWithDiagnostics(File moduleDir) {
+        // One lock per module, so each module compiles at most once at a time
+        synchronized (SourceManifest.lockFor(moduleDir)) {
+            Map<String, SourceManifest.Entry> snapshot = CompilationChecker.snapshotSources(moduleDir);
+            ModuleCompilationResult result = compileWithBestBackend(moduleDir);
+            if (result.success()) {
+                CompilationChecker.recordCompiled(moduleDir, snapshot);
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Compiles a module in-process, falling back to Maven where needed.
+     * 
+     * @param moduleDir The module directory to compile
+     * @return The compilation result
+     */
+    private static ModuleCompilationResult compileWithBestBackend(File moduleDir) {
+        if (InProcessModuleCompiler.isAvailable()) {
+            ModuleCompilationResult result = InProcessModuleCompiler.compile(moduleDir);
+            if (!result.failedOnClasspath() || !new File(moduleDir, "pom.xml").exists()) {
+                return result;
+            }
+            Logging.info("Unresolved dependencies - falling back to Maven for module: " + moduleDir.getName());
+        } else {
+            Logging.info("No system Java compiler available - using Maven for module: " + moduleDir.getName());
+        }
+        
         String modulePath = moduleDir.getAbsolutePath();
-        return MavenModuleCompiler.compile(modulePath);
+        return ModuleCompilationResult.of(MavenModuleCompiler.compile(modulePath), "maven");
     }
 }
-
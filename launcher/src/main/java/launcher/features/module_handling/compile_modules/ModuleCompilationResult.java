@@ -0,0 +1,82 @@
+package launcher.features.module_handling.compile_modules;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outcome of compiling a module.
+ *
+ * @param success true if the module compiled successfully
+ * @param compiler Name of the backend that produced this result ("javac" or "maven")
+ * @param diagnostics Per-file diagnostics reported by the compiler (empty for Maven)
+ *
+ * @author Clement Luo
+ * @date January 12, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public record ModuleCompilationResult(
+    boolean success,
+    String compiler,
+    List<Diagnostic> diagnostics
+) {
+
+    /**
+     * A single compiler diagnostic tied to a source file.
+     *
+     * @param file Source file path relative to the module's source root (or null)
+     * @param line Line number, or -1 if unknown
+     * @param kind Diagnostic kind (ERROR, WARNING, ...)
+     * @param message The compiler message
+     * @param code The compiler's message key (e.g. {@code compiler.err.doesnt.exist}), or null if unknown
+     */
+    public record Diagnostic(String file, long line, String kind, String message, String code) {
+
+        /** javac message keys for references the classpath could not satisfy. */
+        private static final Set<String> UNRESOLVED_DEPENDENCY_CODES = Set.of(
+            "compiler.err.doesnt.exist",
+            "compiler.err.cant.access",
+            "compiler.err.module.not.found"
+        );
+
+        /**
+         * Checks whether this error points at a missing dependency rather than a
+         * mistake in the module's own code (e.g. an imported package that does not exist).
+         *
+         * @return true if the classpath could not satisfy a reference
+         */
+        public boolean isUnresolvedDependency() {
+            return "ERROR".equals(kind) && code != null && UNRESOLVED_DEPENDENCY_CODES.contains(code);
+        }
+
+        @Override
+        public String toString() {
+            String location = file != null ? file + (line > 0 ? ":" + line : "") : "<unknown>";
+            return location + ": " + kind.toLowerCase() + ": " + message;
+        }
+    }
+
+    /**
+     * Creates a result without diagnostics.
+     *
+     * @param success true if the module compiled successfully
+     * @param compiler Name of the backend that produced this result
+     * @return The result
+     */
+    public static ModuleCompilationResult of(boolean success, String compiler) {
+        return new ModuleCompilationResult(success, compiler, List.of());
+    }
+
+    /**
+     * Checks whether a failed compile may succeed with the module's own build, i.e. it
+     * failed without diagnostics (the compiler itself failed) or on unresolved dependencies.
+     *
+     * @return true if the failure is not explained by errors in the module's code
+     */
+    public boolean failedOnClasspath() {
+        if (success) {
+            return false;
+        }
+        return diagnostics.isEmpty() || diagnostics.stream().anyMatch(Diagnostic::isUnresolvedDependency);
+    }
+}
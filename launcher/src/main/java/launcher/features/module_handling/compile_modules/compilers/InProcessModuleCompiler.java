@@ -0,0 +1,374 @@
+package launcher.features.module_handling.compile_modules.compilers;
+
+import gdk.internal.Logging;
+import launcher.features.module_handling.check_compilation_status.CompilationChecker;
+import launcher.features.module_handling.compile_modules.ModuleCompilationResult;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helper class for compiling modules in-process with {@link javax.tools.JavaCompiler}.
+ *
+ * <p>Compared to forking Maven, this avoids JVM start-up and dependency resolution
+ * on every build. Nothing is compiled while every source is up to date; once any
+ * source is added, changed or removed, the module's class files are deleted and
+ * its whole source set is recompiled, so classes that depend on a changed class
+ * (e.g. through an inlined constant) are never left stale and classes of deleted
+ * sources do not linger. Resources are copied into {@code target/classes} the
+ * same way Maven's resources phase would.
+ *
+ * <p>The {@code --release} level is taken from the module's pom.xml
+ * ({@code maven.compiler.release}, {@code <release>} or {@code maven.compiler.target}),
+ * falling back to the running JDK's version.
+ *
+ * <p>The compiler is safe to use from several threads at once; each call creates
+ * its own compilation task.
+ *
+ * @author Clement Luo
+ * @date January 12, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class InProcessModuleCompiler {
+
+    /** Name reported in compilation results. */
+    public static final String COMPILER_NAME = "javac";
+
+    /** Compiler settings in a pom.xml that name the Java release, most specific first. */
+    private static final List<Pattern> RELEASE_PATTERNS = List.of(
+        Pattern.compile("<maven\\.compiler\\.release>\\s*(?:1\\.)?(\\d+)\\s*</maven\\.compiler\\.release>"),
+        Pattern.compile("<release>\\s*(?:1\\.)?(\\d+)\\s*</release>"),
+        Pattern.compile("<maven\\.compiler\\.target>\\s*(?:1\\.)?(\\d+)\\s*</maven\\.compiler\\.target>"),
+        Pattern.compile("<target>\\s*(?:1\\.)?(\\d+)\\s*</target>")
+    );
+
+    private InProcessModuleCompiler() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Checks whether an in-process compiler is available (i.e. running on a JDK).
+     *
+     * @return true if {@link ToolProvider#getSystemJavaCompiler()} is available
+     */
+    public static boolean isAvailable() {
+        return ToolProvider.getSystemJavaCompiler() != null;
+    }
+
+    /**
+     * Compiles a module in-process.
+     *
+     * @param moduleDir The module directory
+     * @return The compilation result with per-file diagnostics
+     */
+    public static ModuleCompilationResult compile(File moduleDir) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            return ModuleCompilationResult.of(false, COMPILER_NAME);
+        }
+
+        File absoluteModuleDir = moduleDir.getAbsoluteFile();
+        Path sourceRoot = new File(absoluteModuleDir, "src/main/java").toPath();
+        Path resourceRoot = new File(absoluteModuleDir, "src/main/resources").toPath();
+        Path outputRoot = new File(absoluteModuleDir, "target/classes").toPath();
+
+        try {
+            Files.createDirectories(outputRoot);
+            Set<Path> changedFiles = findChangedFiles(absoluteModuleDir);
+            copyResources(resourceRoot, outputRoot, changedFiles);
+
+            if (!needsRebuild(sourceRoot, outputRoot, changedFiles)) {
+                Logging.info("Module " + moduleDir.getName() + " sources up to date - nothing to compile");
+                return ModuleCompilationResult.of(true, COMPILER_NAME);
+            }
+            List<File> sources = listSources(sourceRoot);
+            if (sources.isEmpty()) {
+                return ModuleCompilationResult.of(true, COMPILER_NAME);
+            }
+            deleteClassFiles(outputRoot, resourceRoot);
+            String release = resolveRelease(absoluteModuleDir);
+            Logging.info("🔧 Compiling " + sources.size() + " source file(s) in-process for " + moduleDir.getName()
+                + " (release " + release + ")");
+
+            DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+            try (StandardJavaFileManager fileManager =
+                     compiler.getStandardFileManager(collector, null, StandardCharsets.UTF_8)) {
+
+                List<String> options = List.of(
+                    "-d", outputRoot.toString(),
+                    "-sourcepath", sourceRoot.toString(),
+                    "-classpath", buildClasspath(),
+                    "--release", release,
+                    "-encoding", "UTF-8",
+                    "-implicit:class"
+                );
+
+                Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(sources);
+                boolean success = compiler.getTask(null, fileManager, collector, options, null, units).call();
+
+                List<ModuleCompilationResult.Diagnostic> diagnostics = toDiagnostics(collector, sourceRoot);
+                for (ModuleCompilationResult.Diagnostic diagnostic : diagnostics) {
+                    if ("ERROR".equals(diagnostic.kind())) {
+                        Logging.error("   " + moduleDir.getName() + "/" + diagnostic);
+                    } else {
+                        Logging.warning("   " + moduleDir.getName() + "/" + diagnostic);
+                    }
+                }
+
+                Logging.info((success ? "✅ In-process compile succeeded for " : "❌ In-process compile failed for ")
+                    + moduleDir.getName());
+                return new ModuleCompilationResult(success, COMPILER_NAME, diagnostics);
+            }
+        } catch (Exception e) {
+            Logging.error("In-process compile error for " + moduleDir.getName() + ": " + e.getMessage(), e);
+            return ModuleCompilationResult.of(false, COMPILER_NAME);
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Gets the files whose contents changed since the module was last compiled.
+     *
+     * <p>This catches edits that timestamps alone miss, such as a checkout that
+     * restores an older modification time.
+     *
+     * @param moduleDir The absolute module directory
+     * @return Absolute paths of changed files (empty if unknown)
+     */
+    private static Set<Path> findChangedFiles(File moduleDir) {
+        Set<Path> changedFiles = new HashSet<>();
+        try {
+            for (String relativePath : CompilationChecker.getChangedFiles(moduleDir)) {
+                changedFiles.add(new File(moduleDir, relativePath).toPath());
+            }
+        } catch (Exception e) {
+            Logging.warning("Could not read source manifest for " + moduleDir.getName() + ": " + e.getMessage());
+        }
+        return changedFiles;
+    }
+
+    /**
+     * Checks whether the module's sources must be recompiled.
+     *
+     * <p>True when a source was added, changed or removed according to the source
+     * manifest, or when a source has no class file or is newer than it.
+     *
+     * @param sourceRoot The module's src/main/java directory
+     * @param outputRoot The module's target/classes directory
+     * @param changedFiles Files reported as changed by the source manifest
+     * @return true if the whole source set should be recompiled
+     * @throws IOException If the source tree cannot be walked
+     */
+    private static boolean needsRebuild(Path sourceRoot, Path outputRoot, Set<Path> changedFiles) throws IOException {
+        // Removed sources only show up in the manifest diff
+        for (Path changed : changedFiles) {
+            if (changed.startsWith(sourceRoot) && changed.toString().endsWith(".java")) {
+                return true;
+            }
+        }
+
+        for (File source : listSources(sourceRoot)) {
+            String relative = sourceRoot.relativize(source.toPath()).toString();
+            File classFile = outputRoot.resolve(relative.substring(0, relative.length() - ".java".length()) + ".class").toFile();
+            if (!classFile.exists() || source.lastModified() > classFile.lastModified()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Lists every Java source in the module.
+     *
+     * @param sourceRoot The module's src/main/java directory
+     * @return List of source files (empty if there is no source directory)
+     * @throws IOException If the source tree cannot be walked
+     */
+    private static List<File> listSources(Path sourceRoot) throws IOException {
+        if (!Files.isDirectory(sourceRoot)) {
+            return List.of();
+        }
+
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            return paths
+                .filter(path -> path.toString().endsWith(".java"))
+                .map(Path::toFile)
+                .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Deletes the class files in the output directory so a rebuild leaves none
+     * behind for removed sources or classes. Class files shipped as resources are kept.
+     *
+     * @param outputRoot The module's target/classes directory
+     * @param resourceRoot The module's src/main/resources directory
+     * @throws IOException If a class file cannot be deleted
+     */
+    private static void deleteClassFiles(Path outputRoot, Path resourceRoot) throws IOException {
+        List<Path> classFiles;
+        try (Stream<Path> paths = Files.walk(outputRoot)) {
+            classFiles = paths
+                .filter(path -> path.toString().endsWith(".class"))
+                .filter(path -> !Files.exists(resourceRoot.resolve(outputRoot.relativize(path).toString())))
+                .collect(Collectors.toList());
+        }
+        for (Path classFile : classFiles) {
+            Files.deleteIfExists(classFile);
+        }
+    }
+
+    /**
+     * Resolves the {@code --release} level for a module.
+     *
+     * <p>Uses the first release setting found in the module's pom.xml, as long as the
+     * running JDK supports it; otherwise the running JDK's own version.
+     *
+     * @param moduleDir The absolute module directory
+     * @return The release level, e.g. "17"
+     */
+    private static String resolveRelease(File moduleDir) {
+        int runtimeRelease = Runtime.version().feature();
+        File pom = new File(moduleDir, "pom.xml");
+        if (pom.isFile()) {
+            try {
+                String content = Files.readString(pom.toPath(), StandardCharsets.UTF_8);
+                for (Pattern pattern : RELEASE_PATTERNS) {
+                    Matcher matcher = pattern.matcher(content);
+                    if (matcher.find()) {
+                        int release = Integer.parseInt(matcher.group(1));
+                        if (release <= runtimeRelease) {
+                            return String.valueOf(release);
+                        }
+                        Logging.warning("Module " + moduleDir.getName() + " targets Java " + release
+                            + " but the launcher runs on Java " + runtimeRelease + " - compiling for " + runtimeRelease);
+                        break;
+                    }
+                }
+            } catch (Exception e) {
+                Logging.warning("Could not read release level from pom.xml of " + moduleDir.getName() + ": " + e.getMessage());
+            }
+        }
+        return String.valueOf(runtimeRelease);
+    }
+
+    /**
+     * Copies resources that are missing, changed, or newer than their copy in the output directory.
+     *
+     * @param resourceRoot The module's src/main/resources directory
+     * @param outputRoot The module's target/classes directory
+     * @param changedFiles Files reported as changed by the source manifest
+     * @throws IOException If a resource cannot be copied
+     */
+    private static void copyResources(Path resourceRoot, Path outputRoot, Set<Path> changedFiles) throws IOException {
+        if (!Files.isDirectory(resourceRoot)) {
+            return;
+        }
+
+        List<Path> resources;
+        try (Stream<Path> paths = Files.walk(resourceRoot)) {
+            resources = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        // Drop copies of resources that were removed from the module
+        for (Path changed : changedFiles) {
+            if (changed.startsWith(resourceRoot) && !Files.exists(changed)) {
+                Files.deleteIfExists(outputRoot.resolve(resourceRoot.relativize(changed).toString()));
+            }
+        }
+
+        for (Path resource : resources) {
+            Path target = outputRoot.resolve(resourceRoot.relativize(resource).toString());
+            if (!Files.exists(target) || changedFiles.contains(resource)
+                    || Files.getLastModifiedTime(resource).compareTo(Files.getLastModifiedTime(target)) > 0) {
+                Files.createDirectories(target.getParent());
+                Files.copy(resource, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+            }
+        }
+    }
+
+    /**
+     * Builds the compile classpath: everything the launcher itself runs with
+     * (GDK, JavaFX, Jackson, ...). The module's own output is left off so javac
+     * never resolves a class against a stale class file.
+     *
+     * @return Classpath string
+     */
+    private static String buildClasspath() {
+        Set<String> entries = new LinkedHashSet<>();
+
+        // Under mvn exec:java the launcher runs in a URLClassLoader rather than on java.class.path
+        ClassLoader loader = InProcessModuleCompiler.class.getClassLoader();
+        while (loader != null) {
+            if (loader instanceof URLClassLoader) {
+                for (URL url : ((URLClassLoader) loader).getURLs()) {
+                    try {
+                        entries.add(new File(url.toURI()).getAbsolutePath());
+                    } catch (Exception e) {
+                        // Skip URLs that are not plain files
+                    }
+                }
+            }
+            loader = loader.getParent();
+        }
+
+        for (String property : new String[] { "java.class.path", "jdk.module.path" }) {
+            String value = System.getProperty(property);
+            if (value != null && !value.isEmpty()) {
+                for (String entry : value.split(File.pathSeparator)) {
+                    entries.add(entry);
+                }
+            }
+        }
+
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Converts collected diagnostics into per-file result diagnostics.
+     *
+     * @param collector The diagnostic collector
+     * @param sourceRoot The module's source root (paths are made relative to it)
+     * @return List of diagnostics
+     */
+    private static List<ModuleCompilationResult.Diagnostic> toDiagnostics(
+            DiagnosticCollector<JavaFileObject> collector, Path sourceRoot) {
+        List<ModuleCompilationResult.Diagnostic> diagnostics = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : collector.getDiagnostics()) {
+            String file = null;
+            if (diagnostic.getSource() != null) {
+                Path sourcePath = Path.of(diagnostic.getSource().toUri());
+                file = sourcePath.startsWith(sourceRoot)
+                    ? sourceRoot.relativize(sourcePath).toString()
+                    : sourcePath.toString();
+            }
+            diagnostics.add(new ModuleCompilationResult.Diagnostic(
+                file, diagnostic.getLineNumber(), diagnostic.getKind().name(), diagnostic.getMessage(null),
+                diagnostic.getCode()));
+        }
+        return diagnostics;
+    }
+}
@@ -9,11 +9,14 @@ import java.io.File;
  * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 4, 2026
+ * @edited January 12, 2026
  * @since Beta 1.0
  */
 public final class MavenModuleCompiler {
     
+    /** Maven command resolved on first use and reused for the lifetime of the JVM. */
+    private static volatile String cachedMavenCommand;
+    
     private MavenModuleCompiler() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -56,11 +59,30 @@ public final class MavenModuleCompiler {
      * 
      * <p>This method tries common Maven command names (mvn, mvn.cmd, mvn.bat)
      * and tests if they work by running "mvn --version". Returns the first
-     * working command, or "mvn" as a default.
+     * working command, or "mvn" as a default. The probe runs at most once per
+     * JVM; later calls return the cached command.
      * 
      * @return The Maven command path
      */
     private static String findMavenCommand() {
+        String command = cachedMavenCommand;
+        if (command == null) {
+            synchronized (MavenModuleCompiler.class) {
+                if (cachedMavenCommand == null) {
+                    cachedMavenCommand = probeMavenCommand();
+                }
+                command = cachedMavenCommand;
+            }
+        }
+        return command;
+    }
+    
+    /**
+     * Probes the system PATH for a working Maven command.
+     * 
+     * @return The first working Maven command, or "mvn" if none responded
+     */
+    private static String probeMavenCommand() {
         // Try to find Maven in the system PATH
         String[] possibleCommands = {"mvn", "mvn.cmd", "mvn.bat"};
         
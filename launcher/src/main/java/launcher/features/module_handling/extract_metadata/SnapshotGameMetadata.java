@@ -0,0 +1,143 @@
+package launcher.features.module_handling.extract_metadata;
+
+import gdk.api.GameMetadata;
+import gdk.internal.DifficultyLevel;
+import gdk.internal.GameMode;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Game metadata backed by a snapshot map produced by {@link GameMetadata#toMap()}.
+ *
+ * <p>Used when a module's metadata comes from a cached descriptor instead of a
+ * live Metadata instance, so no module classes (or classloader) have to be kept
+ * around just to show the game in the lobby.
+ *
+ * @author Clement Luo
+ * @date January 11, 2026
+ * @edited January 11, 2026
+ * @since Beta 1.0
+ */
+public final class SnapshotGameMetadata extends GameMetadata {
+
+    /** The snapshot this metadata reads from. */
+    private final Map<String, Object> snapshot;
+
+    /**
+     * Creates metadata from a snapshot map.
+     *
+     * @param snapshot Map in the format produced by {@link GameMetadata#toMap()}
+     */
+    public SnapshotGameMetadata(Map<String, Object> snapshot) {
+        this.snapshot = new HashMap<>(snapshot);
+    }
+
+    /**
+     * Creates a detached snapshot of live metadata.
+     *
+     * @param metadata The metadata to copy
+     * @return A snapshot that does not reference the original metadata's class
+     */
+    public static SnapshotGameMetadata of(GameMetadata metadata) {
+        return new SnapshotGameMetadata(metadata.toMap());
+    }
+
+    // ==================== GAME INFORMATION ====================
+
+    @Override
+    public String getGameName() {
+        return getString("name");
+    }
+
+    @Override
+    public String getGameVersion() {
+        return getString("version");
+    }
+
+    @Override
+    public String getGameDescription() {
+        return getString("description");
+    }
+
+    @Override
+    public String getGameAuthor() {
+        return getString("author");
+    }
+
+    // ==================== REQUIREMENTS ====================
+
+    @Override
+    public int getMinPlayers() {
+        return getInt("min_players");
+    }
+
+    @Override
+    public int getMaxPlayers() {
+        return getInt("max_players");
+    }
+
+    @Override
+    public int getEstimatedDurationMinutes() {
+        return getInt("estimated_duration_minutes");
+    }
+
+    // ==================== MODES AND DIFFICULTY ====================
+
+    @Override
+    public Set<GameMode> getSupportedGameModes() {
+        Set<GameMode> modes = EnumSet.noneOf(GameMode.class);
+        for (Object value : getCollection("supported_game_modes")) {
+            for (GameMode mode : GameMode.values()) {
+                if (mode.name().equals(String.valueOf(value))) {
+                    modes.add(mode);
+                }
+            }
+        }
+        return modes;
+    }
+
+    @Override
+    public Set<DifficultyLevel> getSupportedDifficultyLevels() {
+        Set<DifficultyLevel> levels = EnumSet.noneOf(DifficultyLevel.class);
+        for (Object value : getCollection("supported_difficulty_levels")) {
+            for (DifficultyLevel level : DifficultyLevel.values()) {
+                if (level.getLabel().equals(String.valueOf(value))) {
+                    levels.add(level);
+                }
+            }
+        }
+        return levels;
+    }
+
+    /**
+     * Returns a copy of the underlying snapshot.
+     *
+     * @return The snapshot map
+     */
+    @Override
+    public Map<String, Object> toMap() {
+        return new HashMap<>(snapshot);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private String getString(String key) {
+        Object value = snapshot.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private int getInt(String key) {
+        Object value = snapshot.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private Collection<?> getCollection(String key) {
+        Object value = snapshot.get(key);
+        return value instanceof Collection ? (Collection<?>) value : List.of();
+    }
+}
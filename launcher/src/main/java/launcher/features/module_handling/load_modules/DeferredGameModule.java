@@ -0,0 +1,223 @@
+package launcher.features.module_handling.load_modules;
+
+import gdk.api.GameMetadata;
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.helpers.ModuleLoadingExecutor;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A game module known only by its metadata until it is actually needed.
+ *
+ * <p>Discovery produces these so the lobby can list games without loading and
+ * instantiating every module's Main class. The real module is instantiated on
+ * first use - normally by {@code LaunchGame.launch} through {@link #instantiateAsync()},
+ * or ahead of time by {@link #preload()} when the game is selected in the lobby -
+ * and every {@link GameModule} call is delegated to it from then on. Loading may
+ * compile the module, so the JavaFX thread must never call {@link #instantiate()}.
+ *
+ * <p>Messages are not a reason to load a module: {@link #handleMessage(Map)} on a
+ * module that has not been instantiated is ignored.
+ *
+ * @author Clement Luo
+ * @date January 11, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class DeferredGameModule implements GameModule {
+
+    /** The module directory the real module is loaded from. */
+    private final File moduleDirectory;
+
+    /** Metadata available without instantiating the module. */
+    private final GameMetadata metadata;
+
+    /** The real module, once instantiated. */
+    private volatile GameModule instance;
+
+    /** The background instantiation in progress (or last finished), if any. */
+    private final AtomicReference<CompletableFuture<GameModule>> pending = new AtomicReference<>();
+
+    /**
+     * Creates a deferred module.
+     *
+     * @param moduleDirectory The module directory
+     * @param metadata The module's metadata (from its Metadata class or a cached descriptor)
+     */
+    public DeferredGameModule(File moduleDirectory, GameMetadata metadata) {
+        this.moduleDirectory = moduleDirectory;
+        this.metadata = metadata;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Gets the module directory.
+     *
+     * @return The module directory
+     */
+    public File getModuleDirectory() {
+        return moduleDirectory;
+    }
+
+    /**
+     * Checks whether the real module has been instantiated yet.
+     *
+     * @return true if the real module exists
+     */
+    public boolean isInstantiated() {
+        return instance != null;
+    }
+
+    /**
+     * Instantiates the real module if needed and returns it.
+     * An instance whose classloader has since been released (the module changed
+     * on disk) is replaced with a fresh one.
+     *
+     * @return The fully loaded GameModule
+     * @throws IllegalStateException If the module cannot be loaded
+     */
+    public synchronized GameModule instantiate() {
+        if (instance == null || !ModuleRegistry.isUsable(instance)) {
+            Logging.info("🎯 Instantiating deferred module: " + metadata.getGameName());
+            GameModule loaded = LoadModules.loadModule(moduleDirectory);
+            if (loaded == null) {
+                throw new IllegalStateException("Failed to load game module: " + metadata.getGameName());
+            }
+            instance = loaded;
+        }
+        return instance;
+    }
+
+    /**
+     * Instantiates the real module in the background if needed.
+     * Concurrent callers share the same background load.
+     *
+     * @return Completes with the fully loaded GameModule, or exceptionally with
+     *         {@link IllegalStateException} if the module cannot be loaded
+     */
+    public CompletableFuture<GameModule> instantiateAsync() {
+        GameModule current = instance;
+        if (current != null && ModuleRegistry.isUsable(current)) {
+            return CompletableFuture.completedFuture(current);
+        }
+        while (true) {
+            CompletableFuture<GameModule> inProgress = pending.get();
+            if (inProgress != null && !inProgress.isDone()) {
+                return inProgress;
+            }
+            CompletableFuture<GameModule> started = new CompletableFuture<>();
+            if (pending.compareAndSet(inProgress, started)) {
+                ModuleLoadingExecutor.getResolver().execute(() -> {
+                    try {
+                        started.complete(instantiate());
+                    } catch (Throwable t) {
+                        started.completeExceptionally(t);
+                    }
+                });
+                return started;
+            }
+        }
+    }
+
+    /**
+     * Starts instantiating the real module in the background, so a later launch
+     * finds it ready. Failures are logged; the launch reports them again.
+     */
+    public void preload() {
+        if (isInstantiated() && ModuleRegistry.isUsable(instance)) {
+            return;
+        }
+        Logging.info("⏳ Preloading module: " + metadata.getGameName());
+        instantiateAsync().exceptionally(error -> {
+            Logging.warning("Preloading module " + metadata.getGameName() + " failed: " + error.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * Resolves a module to its real instance if it is deferred.
+     *
+     * @param gameModule Any game module
+     * @return The real module (the argument itself if it was not deferred)
+     * @throws IllegalStateException If a deferred module cannot be loaded
+     */
+    public static GameModule resolve(GameModule gameModule) {
+        if (gameModule instanceof DeferredGameModule) {
+            return ((DeferredGameModule) gameModule).instantiate();
+        }
+        return gameModule;
+    }
+
+    /**
+     * Resolves a module to its real instance in the background if it is deferred.
+     *
+     * @param gameModule Any game module
+     * @return Completes with the real module (the argument itself if it was not deferred)
+     */
+    public static CompletableFuture<GameModule> resolveAsync(GameModule gameModule) {
+        if (gameModule instanceof DeferredGameModule) {
+            return ((DeferredGameModule) gameModule).instantiateAsync();
+        }
+        return CompletableFuture.completedFuture(gameModule);
+    }
+
+    // ==================== GAME MODULE ====================
+
+    @Override
+    public Scene launchGame(Stage primaryStage) {
+        return instantiate().launchGame(primaryStage);
+    }
+
+    @Override
+    public boolean startHeadless() {
+        return instantiate().startHeadless();
+    }
+
+    @Override
+    public void stopGame() {
+        // Nothing to stop if the module was never started
+        if (instance != null) {
+            instance.stopGame();
+        }
+    }
+
+    @Override
+    public Map<String, Object> handleMessage(Map<String, Object> message) {
+        // Loading may compile the module; only a launch or a preload does that
+        GameModule current = instance;
+        if (current == null) {
+            Logging.warning("Message for " + metadata.getGameName() + " ignored - module not loaded yet");
+            return null;
+        }
+        return current.handleMessage(message);
+    }
+
+    @Override
+    public Map<String, Object> saveStateForReload() {
+        return instance != null ? instance.saveStateForReload() : null;
+    }
+
+    @Override
+    public void restoreStateAfterReload(Map<String, Object> state) {
+        instantiate().restoreStateAfterReload(state);
+    }
+
+    @Override
+    public GameMetadata getMetadata() {
+        return metadata;
+    }
+
+    @Override
+    public String toString() {
+        return metadata.getGameName();
+    }
+}
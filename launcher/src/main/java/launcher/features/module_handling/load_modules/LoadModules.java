@@ -20,7 +20,7 @@ import java.util.List;
  *
  * @author Clement Luo
  * @date August 8, 2025
- * @edited January 3, 2026
+ * @edited January 11, 2026
  * @since 1.0
  */
 public final class LoadModules {
@@ -91,7 +91,9 @@ public final class LoadModules {
     /**
      * Loads multiple modules from their compiled classes.
      * 
-     * <p>This method loads multiple modules sequentially with timeout protection.
+     * <p>This method loads multiple modules in parallel on a bounded executor with
+     * per-module and global timeouts enforced by cancelling the load task.
+     * Results are returned in the same order as the given directories.
      * It continues load_modules other modules even if one fails, ensuring maximum
      * module availability.
      * 
@@ -101,5 +103,18 @@ public final class LoadModules {
     public static ModuleLoadResult loadModules(List<File> moduleDirectories) {
         return ModuleLoadingProcess.loadModules(moduleDirectories);
     }
+    
+    /**
+     * Discovers multiple modules by their metadata only.
+     * 
+     * <p>Only each module's Metadata class is loaded (or its cached descriptor from
+     * the module index is reused). The returned modules are {@link DeferredGameModule}
+     * instances whose Main class is instantiated when the game is launched.
+     * 
+     * @param moduleDirectories List of module directories to discover
+     * @return ModuleLoadResult containing deferred modules and load_modules failures
+     */
+    public static ModuleLoadResult loadModuleDescriptors(List<File> moduleDirectories) {
+        return ModuleLoadingProcess.loadModuleDescriptors(moduleDirectories);
+    }
 }
-
@@ -0,0 +1,140 @@
+package launcher.features.module_handling.load_modules.helpers;
+
+import gdk.internal.Logging;
+import launcher.core.lifecycle.stop.Shutdown;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Owns the bounded thread pool used to load modules in parallel.
+ *
+ * <p>The pool is created lazily on first use and registered with
+ * {@link Shutdown#registerBackgroundExecutor} so it is stopped together with
+ * the rest of the application. Worker threads are daemons so a module that
+ * refuses to stop loading can never keep the JVM alive.
+ *
+ * <p>A single watchdog thread fires per-load timeouts, so a load's time budget
+ * starts when a worker picks it up rather than when it was queued. A separate
+ * resolver pool waits on loads for callers that must not block (e.g. the JavaFX
+ * thread launching a game); it is not a worker pool, so those loads keep their timeout.
+ *
+ * @author Clement Luo
+ * @date January 10, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleLoadingExecutor {
+
+    /** Upper bound on concurrent module loads (compilation can be heavy). */
+    private static final int MAX_THREADS = 4;
+
+    /** Name prefix for worker threads. */
+    private static final String THREAD_PREFIX = "ModuleLoader-";
+
+    /** Counter used to give worker threads readable names. */
+    private static final AtomicInteger threadCounter = new AtomicInteger(1);
+
+    /** Name of the thread that fires load timeouts. */
+    private static final String WATCHDOG_THREAD = "ModuleLoadWatchdog";
+
+    /** The shared executor, created on first use. */
+    private static ExecutorService executor;
+
+    /** Name prefix for resolver threads. */
+    private static final String RESOLVER_PREFIX = "ModuleResolver-";
+
+    /** The timeout watchdog, created on first use. */
+    private static ScheduledExecutorService watchdog;
+
+    /** The resolver pool, created on first use. */
+    private static ExecutorService resolver;
+
+    private ModuleLoadingExecutor() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the shared module loading executor, creating it if needed.
+     *
+     * @return The executor service used for module loading
+     */
+    public static synchronized ExecutorService get() {
+        if (executor == null || executor.isShutdown()) {
+            int threads = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors()));
+            executor = Executors.newFixedThreadPool(threads, createThreadFactory());
+            Shutdown.registerBackgroundExecutor(executor);
+            Logging.info("🔧 Created module loading executor with " + threads + " thread(s)");
+        }
+        return executor;
+    }
+
+    /**
+     * Gets the pool that resolves modules off the caller's thread, creating it if needed.
+     *
+     * <p>Its threads only wait on loads submitted to {@link #get()}; they are not
+     * worker threads, so {@link #isWorkerThread()} is false on them.
+     *
+     * @return The executor service used to resolve deferred modules in the background
+     */
+    public static synchronized ExecutorService getResolver() {
+        if (resolver == null || resolver.isShutdown()) {
+            AtomicInteger resolverCounter = new AtomicInteger(1);
+            resolver = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, RESOLVER_PREFIX + resolverCounter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+            Shutdown.registerBackgroundExecutor(resolver);
+        }
+        return resolver;
+    }
+
+    /**
+     * Schedules a timeout action on the watchdog thread.
+     *
+     * @param action The action to run when the timeout expires
+     * @param timeoutMs Delay before the action runs, in milliseconds
+     * @return The scheduled timeout; cancel it once the guarded work has finished
+     */
+    public static synchronized ScheduledFuture<?> scheduleTimeout(Runnable action, long timeoutMs) {
+        if (watchdog == null || watchdog.isShutdown()) {
+            watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, WATCHDOG_THREAD);
+                thread.setDaemon(true);
+                return thread;
+            });
+            Shutdown.registerBackgroundExecutor(watchdog);
+        }
+        return watchdog.schedule(action, timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the calling thread is one of the module loading workers.
+     * Callers use this to run nested loads inline instead of queueing them
+     * behind themselves in the bounded pool.
+     *
+     * @return true if called from a module loading worker thread
+     */
+    public static boolean isWorkerThread() {
+        return Thread.currentThread().getName().startsWith(THREAD_PREFIX);
+    }
+
+    /**
+     * Creates the thread factory for module loading workers.
+     *
+     * @return A thread factory producing named daemon threads
+     */
+    private static ThreadFactory createThreadFactory() {
+        return runnable -> {
+            Thread thread = new Thread(runnable, THREAD_PREFIX + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,20 +1,38 @@
 package launcher.features.module_handling.load_modules.helpers;
 
+import gdk.api.GameMetadata;
 import gdk.api.GameModule;
 import gdk.internal.Logging;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.module_handling.extract_metadata.SnapshotGameMetadata;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
 import launcher.features.module_handling.load_modules.LoadModules;
 import launcher.features.module_handling.load_modules.helpers.steps.ClassLoaderCreator;
 import launcher.features.module_handling.load_modules.helpers.steps.LoadGameModuleFromMain;
 import launcher.features.module_handling.load_modules.helpers.steps.LoadMainClassFromBytecode;
+import launcher.features.module_handling.load_modules.helpers.steps.LoadMetadataFromBytecode;
 import launcher.features.module_handling.load_modules.helpers.steps.PreLoadValidation;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_index.ModuleIndexEntry;
+import launcher.features.module_handling.module_packaging.ModuleDescriptor;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
 import launcher.features.module_handling.module_target_validation.ModuleTargetValidator;
 
 import java.io.File;
 import java.net.URLClassLoader;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
 import javafx.application.Platform;
 
 /**
@@ -24,13 +42,21 @@ import javafx.application.Platform;
  * compiled bytecode into a usable GameModule instance. It performs validation,
  * class load_modules, and instantiation with comprehensive error handling.
  * 
+ * <p>Each load runs as a task on the shared {@link ModuleLoadingExecutor}. A load's
+ * time budget starts when a worker picks it up, so modules queued behind a busy pool
+ * are not charged for the wait. When the budget runs out the worker is interrupted
+ * (e.g. while waiting on a Maven build) instead of only checking the clock between steps.
+ * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 4, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class ModuleLoadingProcess {
     
+    /** Time budget for loading a single module, from the moment its load starts (30 seconds). */
+    private static final long MODULE_TIMEOUT_MS = 30000;
+    
     private ModuleLoadingProcess() {
         throw new AssertionError("Utility class should not be instantiated");
     }
@@ -40,8 +66,9 @@ public final class ModuleLoadingProcess {
      * 
      * <p>This method performs the complete module load_modules process:
      * <ol>
-     *   <li><b>Pre-validation:</b> Checks that source files are valid and compiled classes exist</li>
-     *   <li><b>ClassLoader creation:</b> Creates a URLClassLoader with module dependencies</li>
+     *   <li><b>Pre-validation:</b> Checks that source files exist and compiled classes are up to date</li>
+     *   <li><b>ClassLoader creation:</b> Creates a URLClassLoader with module dependencies, while
+     *       the Main and Metadata class files are validated in parallel</li>
      *   <li><b>Class load_modules:</b> Loads the Main class from bytecode into memory</li>
      *   <li><b>Post-validation:</b> Verifies the loaded class implements GameModule interface</li>
      *   <li><b>Instantiation:</b> Creates an instance of the Main class as a GameModule</li>
@@ -49,12 +76,230 @@ public final class ModuleLoadingProcess {
      * 
      * <p>Includes timeout protection (30 seconds per module) and extensive error handling
      * for common issues like missing dependencies, JavaFX initialization problems, and
-     * class load_modules failures.
+     * class load_modules failures. When the timeout expires the load task is interrupted.
      * 
      * @param moduleDir The module directory (e.g., modules/tictactoe/)
      * @return The loaded GameModule instance, or null if load_modules failed
      */
     public static GameModule loadModule(File moduleDir) {
+        // Nested loads from a worker thread run inline so they cannot queue behind themselves
+        if (ModuleLoadingExecutor.isWorkerThread()) {
+            return loadModuleSteps(moduleDir);
+        }
+        
+        return awaitModule(submitLoad(moduleDir, ModuleLoadingProcess::loadModuleSteps), moduleDir.getName());
+    }
+    
+    /**
+     * Loads multiple modules from their compiled classes.
+     * 
+     * <p>Modules are loaded in parallel on the bounded {@link ModuleLoadingExecutor}.
+     * It continues load_modules other modules even if one fails, ensuring maximum
+     * module availability. This is a "best effort" approach - we want to load
+     * as many modules as possible, even if some fail.
+     * 
+     * <p>The method:
+     * <ul>
+     *   <li>Submits one load task per module directory</li>
+     *   <li>Records each result as soon as its task completes, so a slow module
+     *       does not hold up the others</li>
+     *   <li>Interrupts any task that runs past its own budget (30 seconds from the
+     *       moment it starts); there is no budget shared by the whole batch</li>
+     * </ul>
+     * 
+     * @param moduleDirectories List of module directories to load (e.g., [modules/tictactoe/, modules/chatroom/])
+     * @return ModuleLoadResult containing:
+     *         - List of successfully loaded GameModule instances, in input order
+     *         - List of module names that failed to load, in input order
+     *         (results are recorded as they complete, then ordered like the input)
+     */
+    public static LoadModules.ModuleLoadResult loadModules(List<File> moduleDirectories) {
+        return loadAll(moduleDirectories, ModuleLoadingProcess::loadModuleSteps);
+    }
+    
+    /**
+     * Discovers modules by their metadata only.
+     * 
+     * <p>For each module this loads only the Metadata class - or, if the module is
+     * unchanged since it was last indexed, reuses the cached metadata snapshot without
+     * loading any classes at all. The returned modules are {@link DeferredGameModule}
+     * instances; their Main class is instantiated only when the game is launched.
+     * 
+     * <p>Uses the same parallel execution, timeouts and ordering as {@link #loadModules}.
+     * 
+     * @param moduleDirectories List of module directories to discover
+     * @return ModuleLoadResult containing deferred modules and failures, in input order
+     */
+    public static LoadModules.ModuleLoadResult loadModuleDescriptors(List<File> moduleDirectories) {
+        return loadAll(moduleDirectories, ModuleLoadingProcess::loadDescriptorSteps);
+    }
+    
+    // ==================== PRIVATE METHODS ====================
+    
+    /**
+     * Runs a load step for every module directory in parallel and collects the results.
+     * 
+     * @param moduleDirectories List of module directories to load
+     * @param loader The per-module load step to run on the executor
+     * @return ModuleLoadResult with successes and failures, in input order
+     */
+    private static LoadModules.ModuleLoadResult loadAll(List<File> moduleDirectories,
+                                                        Function<File, GameModule> loader) {
+        int count = moduleDirectories.size();
+        AtomicReferenceArray<GameModule> results = new AtomicReferenceArray<>(count);
+        List<CompletableFuture<GameModule>> loads = new ArrayList<>(count);
+        List<CompletableFuture<Void>> recorded = new ArrayList<>(count);
+        
+        // Submit every module up front so they load concurrently, and record each result as it completes
+        for (int i = 0; i < count; i++) {
+            File moduleDir = moduleDirectories.get(i);
+            int index = i;
+            CompletableFuture<GameModule> load = ModuleLoadingExecutor.isWorkerThread()
+                ? CompletableFuture.completedFuture(loader.apply(moduleDir))
+                : submitLoad(moduleDir, loader);
+            loads.add(load);
+            recorded.add(load.thenAccept(module -> {
+                if (module != null) {
+                    results.set(index, module);
+                    Logging.info("✅ Module added to loaded list: " + moduleDir.getName());
+                } else {
+                    // Module failed to load, timed out, or threw
+                    // We continue with other modules instead of stopping
+                    Logging.warning("⚠️ Module load returned null: " + moduleDir.getName() +
+                        " (check logs above for details)");
+                }
+            }));
+        }
+        
+        // Every load ends on its own (each started load has its own budget), so wait for all of them
+        try {
+            CompletableFuture.allOf(recorded.toArray(new CompletableFuture<?>[0])).get();
+        } catch (InterruptedException e) {
+            loads.forEach(load -> load.cancel(true));
+            Thread.currentThread().interrupt();
+            Logging.warning("Interrupted while load_modules " + count + " module(s)");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            Logging.error("❌ Exception while recording module load results: " + cause.getMessage(), cause);
+        }
+        
+        // Order the results like the input, so they are deterministic
+        List<GameModule> loadedModules = new ArrayList<>();
+        Set<String> failures = new LinkedHashSet<>();
+        for (int i = 0; i < count; i++) {
+            GameModule module = results.get(i);
+            if (module != null) {
+                loadedModules.add(module);
+            } else {
+                failures.add(moduleDirectories.get(i).getName());
+            }
+        }
+        
+        // Log summary of load_modules results
+        Logging.info("Module load_modules completed. Successfully loaded " + loadedModules.size() + " modules");
+        if (!failures.isEmpty()) {
+            Logging.info("Failed to load " + failures.size() + " module(s): " + String.join(", ", failures));
+        }
+        
+        // Return both successful loads and failures so caller can handle them appropriately
+        return new LoadModules.ModuleLoadResult(loadedModules, new ArrayList<>(failures));
+    }
+    
+    /**
+     * Submits a load step to the executor with a time budget that starts when the step starts.
+     * 
+     * <p>A watchdog completes the returned future with null and interrupts the worker if the
+     * step runs past {@link #MODULE_TIMEOUT_MS}. Cancelling the returned future cancels the
+     * task, interrupting it if it is running.
+     * 
+     * @param moduleDir The module directory
+     * @param loader The load step to run
+     * @return Completes with the loaded module, or null if the step failed or timed out
+     */
+    private static CompletableFuture<GameModule> submitLoad(File moduleDir, Function<File, GameModule> loader) {
+        String moduleName = moduleDir.getName();
+        CompletableFuture<GameModule> result = new CompletableFuture<>();
+        
+        Future<?> task = ModuleLoadingExecutor.get().submit(() -> {
+            // Cancelled while still queued
+            if (result.isDone()) {
+                return;
+            }
+            
+            // The worker is only interrupted while it is still running this load, never a later one
+            Thread worker = Thread.currentThread();
+            AtomicBoolean running = new AtomicBoolean(true);
+            ScheduledFuture<?> timeout = ModuleLoadingExecutor.scheduleTimeout(() -> {
+                synchronized (running) {
+                    if (running.get() && !result.isDone()) {
+                        // Interrupt the worker so a blocked compile or load does not keep running in the background
+                        Logging.warning("Module load_modules timeout for " + moduleName + " - task cancelled");
+                        if (result.complete(null)) {
+                            worker.interrupt();
+                        }
+                    }
+                }
+            }, MODULE_TIMEOUT_MS);
+            
+            try {
+                GameModule module = loader.apply(moduleDir);
+                if (!result.complete(module) && module != null) {
+                    // Timed out or cancelled just after instantiating - nobody will receive this module
+                    ModuleRegistry.release(module);
+                }
+            } catch (Throwable t) {
+                // Load steps catch Exceptions, so this is an Error
+                Logging.error("❌ Exception while load_modules module " + moduleName + ": " + t.getMessage(), t);
+                result.complete(null);
+            } finally {
+                synchronized (running) {
+                    running.set(false);
+                }
+                timeout.cancel(false);
+            }
+        });
+        
+        result.whenComplete((module, error) -> {
+            if (result.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        return result;
+    }
+    
+    /**
+     * Waits for a submitted load, which ends on its own when it runs past its budget.
+     * 
+     * @param load The submitted load
+     * @param moduleName The name of the module (for logging)
+     * @return The loaded GameModule, or null if the load failed, timed out, or was interrupted
+     */
+    private static GameModule awaitModule(CompletableFuture<GameModule> load, String moduleName) {
+        try {
+            return load.get();
+        } catch (InterruptedException e) {
+            load.cancel(true);
+            Thread.currentThread().interrupt();
+            Logging.warning("Interrupted while load_modules module " + moduleName);
+            return null;
+        } catch (ExecutionException | CancellationException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            Logging.error("❌ Exception while load_modules module " + moduleName + ": " + cause.getMessage(), cause);
+            return null;
+        }
+    }
+    
+    /**
+     * Runs the load steps for a single module on the current thread.
+     * Timeouts are enforced by the caller through task cancellation.
+     * 
+     * <p>The module's classloader is handed to {@link ModuleRegistry} once the module
+     * is instantiated; on any failure it is closed straight away.
+     * 
+     * @param moduleDir The module directory
+     * @return The loaded GameModule instance, or null if load_modules failed
+     */
+    private static GameModule loadModuleSteps(File moduleDir) {
 
         // ========================================================================
         // STEP 1: Initialize and log module load_modules attempt
@@ -62,29 +307,36 @@ public final class ModuleLoadingProcess {
         String moduleName = moduleDir.getName();
         Logging.info("Loading module from: " + moduleName);
         Logging.info("   Current thread: " + Thread.currentThread().getName());
-        Logging.info("   Is JavaFX thread: " + Platform.isFxApplicationThread());
+        // Asking for the FX thread starts the toolkit, which a headless run must not do
+        if (!HeadlessRuntime.isActive()) {
+            Logging.info("   Is JavaFX thread: " + Platform.isFxApplicationThread());
+        }
         
-        // Set up timeout protection to prevent hanging on problematic modules
-        // 30 seconds should be enough for normal load_modules, but allows for JavaFX initialization delays
         long startTime = System.currentTimeMillis();
-        long timeout = 30000; // 30 second timeout for individual module load_modules
+        URLClassLoader classLoader = null;
+        GameModule module = null;
         
         try {
             // ========================================================================
             // STEP 2: Pre-load validation - ensure module is ready to load
             // ========================================================================
             // This checks:
-            //   - Source files are valid (Main.java, Metadata.java exist and have correct structure)
-            //   - Compiled classes exist (target/classes/Main.class exists)
+            //   - Source files exist (Main.java, Metadata.java)
+            //   - Compiled classes exist and are up to date (compiling the module if not)
+            //   - (or, for a packaged module, that its module.jar has a usable descriptor)
             // If either check fails, we can't load the module, so return early
-            if (!PreLoadValidation.preLoadCheck(moduleDir)) {
+            // Modules unchanged since their last successful load skip this step entirely
+            boolean upToDate = ModuleIndex.isUpToDate(moduleDir);
+            if (upToDate) {
+                Logging.info("Module " + moduleName + " unchanged since last load - skipping validation");
+            } else if (!PreLoadValidation.preLoadCheck(moduleDir)) {
                 Logging.info("Module " + moduleName + " failed pre-load validation");
+                ModuleIndex.record(moduleDir, null, false);
                 return null;
             }
             
-            // Check timeout after validation (should be fast, but check anyway)
-            if (System.currentTimeMillis() - startTime > timeout) {
-                Logging.warning("Module load_modules timeout for " + moduleName);
+            // Stop early if the caller cancelled us while validating or compiling
+            if (Thread.currentThread().isInterrupted()) {
                 return null;
             }
             
@@ -92,19 +344,17 @@ public final class ModuleLoadingProcess {
             // STEP 3: Create ClassLoader for the module
             // ========================================================================
             // The ClassLoader is responsible for:
-            //   - Finding the compiled .class files in target/classes/
+            //   - Finding the compiled .class files in target/classes/ (or module.jar)
             //   - Loading dependencies (GDK, JavaFX, etc.) from the classpath
             //   - Resolving class references when load_modules the Main class
             // ModuleClassLoaderFactory creates a URLClassLoader with all necessary paths
+            // Unless the module is up to date, its class files are validated meanwhile
             Logging.info("🔧 Creating classloader for module: " + moduleName);
-            URLClassLoader classLoader = ClassLoaderCreator.create(moduleDir);
-            Logging.info("✅ Classloader created successfully for module: " + moduleName);
-            
-            // Check timeout after ClassLoader creation
-            if (System.currentTimeMillis() - startTime > timeout) {
-                Logging.warning("Module load_modules timeout for " + moduleName);
+            classLoader = upToDate ? ClassLoaderCreator.create(moduleDir) : createValidatedClassLoader(moduleDir);
+            if (classLoader == null) {
                 return null;
             }
+            Logging.info("✅ Classloader created successfully for module: " + moduleName);
             
             // ========================================================================
             // STEP 4: Load the Main class from bytecode into memory
@@ -114,12 +364,6 @@ public final class ModuleLoadingProcess {
                 return null; // Error already logged in LoadMainClass
             }
             
-            // Check timeout after class load_modules
-            if (System.currentTimeMillis() - startTime > timeout) {
-                Logging.warning("Module load_modules timeout for " + moduleName);
-                return null;
-            }
-            
             // ========================================================================
             // STEP 5: Post-load validation - verify the loaded class is valid
             // ========================================================================
@@ -128,98 +372,127 @@ public final class ModuleLoadingProcess {
                 return null;
             }
             
-            // Check timeout after validation
-            if (System.currentTimeMillis() - startTime > timeout) {
-                Logging.warning("Module load_modules timeout for " + moduleName);
+            if (Thread.currentThread().isInterrupted()) {
                 return null;
             }
             
             // ========================================================================
             // STEP 6: Instantiate the GameModule
             // ========================================================================
-            return LoadGameModuleFromMain.load(mainClass, moduleName);
+            module = LoadGameModuleFromMain.load(mainClass, moduleName);
+            
+            // A load that timed out or was cancelled meanwhile has no receiver; the loader is discarded below
+            if (Thread.currentThread().isInterrupted()) {
+                module = null;
+                return null;
+            }
+            if (module != null) {
+                ModuleRegistry.register(moduleDir, classLoader);
+            }
+            
+            // Remember the validated state so the next scan can skip this module
+            if (module != null && !upToDate) {
+                ModuleIndex.record(moduleDir, module.getMetadata(), true);
+            }
+            return module;
             
         } catch (Exception e) {
             // Catch-all for any unexpected errors in the entire load_modules process
             Logging.error("❌ Error load_modules module " + moduleName + ": " + e.getMessage(), e);
             Logging.error("   Module directory: " + moduleDir.getAbsolutePath(), e);
             return null;
+        } finally {
+            // Nothing will use a loader whose module failed to load
+            if (module == null && classLoader != null) {
+                ModuleRegistry.discard(classLoader);
+            }
         }
     }
     
     /**
-     * Loads multiple modules from their compiled classes.
+     * Resolves the metadata for a single module on the current thread.
+     * Uses the module index when the module is unchanged, the jar's descriptor for
+     * a packaged module, otherwise loads only the Metadata class in a short-lived classloader.
      * 
-     * <p>This method loads multiple modules sequentially with timeout protection.
-     * It continues load_modules other modules even if one fails, ensuring maximum
-     * module availability. This is a "best effort" approach - we want to load
-     * as many modules as possible, even if some fail.
-     * 
-     * <p>The method:
-     * <ul>
-     *   <li>Iterates through each module directory</li>
-     *   <li>Calls loadModule() for each one</li>
-     *   <li>Collects successful loads and failures separately</li>
-     *   <li>Continues even if individual modules fail</li>
-     *   <li>Has a global timeout (15 seconds total for all modules)</li>
-     * </ul>
-     * 
-     * @param moduleDirectories List of module directories to load (e.g., [modules/tictactoe/, modules/chatroom/])
-     * @return ModuleLoadResult containing:
-     *         - List of successfully loaded GameModule instances
-     *         - List of module names that failed to load
+     * @param moduleDir The module directory
+     * @return A DeferredGameModule for the module, or null if its metadata could not be loaded
      */
-    public static LoadModules.ModuleLoadResult loadModules(List<File> moduleDirectories) {
-        List<GameModule> loadedModules = new ArrayList<>();
-        Set<String> failures = new HashSet<>();
+    private static GameModule loadDescriptorSteps(File moduleDir) {
+        String moduleName = moduleDir.getName();
         
-        // Global timeout for load_modules ALL modules (15 seconds total)
-        // This prevents the entire load_modules process from hanging if modules are problematic
-        long startTime = System.currentTimeMillis();
-        long timeout = 15000; // 15 second timeout for all module load_modules
+        // Fast path: unchanged module with a cached metadata snapshot
+        ModuleIndexEntry entry = ModuleIndex.getUpToDateEntry(moduleDir);
+        if (entry != null && entry.compiled() && entry.metadata() != null) {
+            Logging.info("📝 Using cached descriptor for module: " + moduleName);
+            return new DeferredGameModule(moduleDir, new SnapshotGameMetadata(entry.metadata()));
+        }
         
-        // Process each module directory
-        for (File moduleDir : moduleDirectories) {
-            // Check if we've exceeded the global timeout
-            if (System.currentTimeMillis() - startTime > timeout) {
-                Logging.warning("Module load_modules timeout reached, stopping module load_modules");
-                break;
+        try {
+            // Packaged module: the metadata snapshot is in the jar's descriptor
+            if (PackagedModules.isPackaged(moduleDir)) {
+                ModuleDescriptor descriptor = PackagedModules.readDescriptor(moduleDir);
+                if (descriptor == null) {
+                    ModuleIndex.record(moduleDir, null, false);
+                    return null;
+                }
+                Logging.info("📦 Using packaged descriptor for module: " + moduleName);
+                GameMetadata metadata = new SnapshotGameMetadata(descriptor.metadata());
+                ModuleIndex.record(moduleDir, metadata, true);
+                return new DeferredGameModule(moduleDir, metadata);
             }
             
-            String moduleName = moduleDir.getName();
-            try {
-                // Attempt to load this module (see loadModule() for detailed process)
-                GameModule module = loadModule(moduleDir);
-                
-                if (module != null) {
-                    // Success! Add to the loaded modules list
-                    loadedModules.add(module);
-                    Logging.info("✅ Module added to loaded list: " + moduleName);
-                } else {
-                    // Module failed to load (loadModule returned null)
-                    // This could be due to validation failure, class load_modules error, etc.
-                    // We continue with other modules instead of stopping
-                    Logging.warning("⚠️ Module load returned null: " + moduleName + 
-                        " (check logs above for details)");
-                    failures.add(moduleName);
+            if (!PreLoadValidation.preLoadCheck(moduleDir)) {
+                Logging.info("Module " + moduleName + " failed pre-load validation");
+                ModuleIndex.record(moduleDir, null, false);
+                return null;
+            }
+            
+            // Load only the Metadata class, then drop the classloader again
+            GameMetadata metadata;
+            try (URLClassLoader classLoader = createValidatedClassLoader(moduleDir)) {
+                if (classLoader == null) {
+                    return null;
+                }
+                GameMetadata loaded = LoadMetadataFromBytecode.load(classLoader, moduleName);
+                if (loaded == null) {
+                    return null;
                 }
-            } catch (Exception e) {
-                // Unexpected exception during load_modules (shouldn't happen, but catch it anyway)
-                // This is different from loadModule returning null - this is an actual exception
-                Logging.error("❌ Exception while load_modules module " + moduleName + ": " + e.getMessage(), e);
-                failures.add(moduleName);
-                // Continue with other modules instead of failing completely
+                metadata = SnapshotGameMetadata.of(loaded);
             }
+            
+            ModuleIndex.record(moduleDir, metadata, true);
+            return new DeferredGameModule(moduleDir, metadata);
+            
+        } catch (Exception e) {
+            Logging.error("❌ Error reading metadata for module " + moduleName + ": " + e.getMessage(), e);
+            return null;
         }
+    }
+    
+    /**
+     * Creates a module's classloader while its class files are validated in parallel.
+     * 
+     * <p>The Main and Metadata class headers are read on a resolver thread (see
+     * {@link ModuleTargetValidator#preLoadCheck}), so validation adds no time to a
+     * successful load. If validation fails, the loader is discarded and the module
+     * is recorded as invalid in the module index.
+     * 
+     * @param moduleDir The module directory
+     * @return The classloader, or null if the module's class files are invalid
+     * @throws Exception If the classloader cannot be created
+     */
+    private static URLClassLoader createValidatedClassLoader(File moduleDir) throws Exception {
+        // Not the common pool, which other work shares, nor the worker pool, whose workers wait on this
+        CompletableFuture<Boolean> validation = CompletableFuture.supplyAsync(
+            () -> ModuleTargetValidator.preLoadCheck(moduleDir), ModuleLoadingExecutor.getResolver());
+        URLClassLoader classLoader = ClassLoaderCreator.create(moduleDir);
         
-        // Log summary of load_modules results
-        Logging.info("Module load_modules completed. Successfully loaded " + loadedModules.size() + " modules");
-        if (!failures.isEmpty()) {
-            Logging.info("Failed to load " + failures.size() + " module(s): " + String.join(", ", failures));
+        if (!validation.join()) {
+            Logging.info("Module " + moduleDir.getName() + " failed class file validation");
+            ModuleRegistry.discard(classLoader);
+            ModuleIndex.record(moduleDir, null, false);
+            return null;
         }
-        
-        // Return both successful loads and failures so caller can handle them appropriately
-        return new LoadModules.ModuleLoadResult(loadedModules, new ArrayList<>(failures));
+        return classLoader;
     }
 }
-
@@ -1,6 +1,8 @@
 package launcher.features.module_handling.load_modules.helpers.steps;
 
 import gdk.internal.Logging;
+import launcher.features.headless_runtime.HeadlessRuntime;
+import launcher.features.module_handling.module_packaging.PackagedModules;
 
 import java.io.File;
 import java.net.URLClassLoader;
@@ -14,7 +16,7 @@ import javafx.application.Platform;
  * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 4, 2026
+ * @edited January 31, 2026
  * @since Beta 1.0
  */
 public final class LoadMainClassFromBytecode {
@@ -48,21 +50,26 @@ public final class LoadMainClassFromBytecode {
         Logging.info("📥 Loading Main class for module: " + moduleName);
         Logging.info("   Elapsed time: " + (System.currentTimeMillis() - startTime) + "ms");
         
-        // JavaFX check: Some modules may use JavaFX, so we verify the platform is accessible
-        // This helps diagnose issues if JavaFX isn't properly initialized
-        Logging.info("   JavaFX Platform check - on FX thread: " + Platform.isFxApplicationThread());
-        try {
-            // This will throw if JavaFX is not initialized
-            Platform.isFxApplicationThread();
-        } catch (Exception javafxCheck) {
-            Logging.warning("   JavaFX Platform might not be initialized: " + javafxCheck.getMessage());
+        // Loading Main needs the JavaFX classes, not a running toolkit. In headless mode the
+        // toolkit is never started, so modules must not use it from static initializers.
+        if (HeadlessRuntime.isActive()) {
+            Logging.info("   Headless mode - JavaFX toolkit not started");
+        } else {
+            Logging.info("   JavaFX Platform check - on FX thread: " + Platform.isFxApplicationThread());
+        }
+        
+        // "Main" for source modules; packaged modules name it in their descriptor
+        String mainClassName = PackagedModules.mainClassName(moduleDir);
+        if (mainClassName == null) {
+            Logging.error("❌ No usable descriptor for packaged module " + moduleName);
+            return null;
         }
         
         try {
             // Actually load the class - this is where most errors occur
-            Logging.info("   Attempting to load class 'Main'...");
+            Logging.info("   Attempting to load class '" + mainClassName + "'...");
             long classLoadStart = System.currentTimeMillis();
-            Class<?> mainClass = classLoader.loadClass("Main");
+            Class<?> mainClass = classLoader.loadClass(mainClassName);
             long classLoadTime = System.currentTimeMillis() - classLoadStart;
             Logging.info("✅ Main class loaded successfully for module: " + moduleName + " (took " + classLoadTime + "ms)");
             Logging.info("   Class name: " + mainClass.getName());
@@ -70,18 +77,16 @@ public final class LoadMainClassFromBytecode {
             return mainClass;
             
         } catch (ClassNotFoundException e) {
-            // The Main.class file doesn't exist or can't be found by the ClassLoader
+            // The Main class file doesn't exist or can't be found by the ClassLoader
             // This usually means load_modules failed or the file is in the wrong location
             Logging.error("❌ Main class not found for module " + moduleName + ": " + e.getMessage(), e);
             
-            // Diagnostic: List what class files actually exist to help debug
+            // Diagnostic: List what classes actually exist to help debug
+            // (a packaged module's class index, so the jar is not scanned)
             try {
-                File classesDir = new File(moduleDir, "target/classes");
-                if (classesDir.exists()) {
-                    Logging.info("🔍 Checking for classes in: " + classesDir.getAbsolutePath());
-                    java.nio.file.Files.walk(classesDir.toPath())
-                        .filter(p -> p.toString().endsWith(".class"))
-                        .forEach(p -> Logging.info("   Found class file: " + p.toString()));
+                Logging.info("🔍 Checking for classes in: " + moduleDir.getAbsolutePath());
+                for (String className : PackagedModules.listClassNames(moduleDir)) {
+                    Logging.info("   Found class: " + className);
                 }
             } catch (Exception listError) {
                 Logging.error("Error listing classes: " + listError.getMessage());
@@ -0,0 +1,55 @@
+package launcher.features.module_handling.load_modules.helpers.steps;
+
+import gdk.api.GameMetadata;
+import gdk.internal.Logging;
+
+import java.net.URLClassLoader;
+
+/**
+ * Helper class for loading only a module's Metadata class.
+ *
+ * <p>Used by metadata-only discovery: the Metadata class is small and has no
+ * JavaFX dependencies, so it can be loaded and instantiated without touching
+ * the module's Main class or any of its game code.
+ *
+ * @author Clement Luo
+ * @date January 11, 2026
+ * @edited January 11, 2026
+ * @since Beta 1.0
+ */
+public final class LoadMetadataFromBytecode {
+
+    private LoadMetadataFromBytecode() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Loads and instantiates the Metadata class of a module.
+     *
+     * @param classLoader The URLClassLoader for the module
+     * @param moduleName The name of the module (for logging)
+     * @return The module's metadata, or null if it could not be loaded
+     */
+    public static GameMetadata load(URLClassLoader classLoader, String moduleName) {
+        Logging.info("📥 Loading Metadata class for module: " + moduleName);
+        try {
+            Class<?> metadataClass = classLoader.loadClass("Metadata");
+
+            if (!GameMetadata.class.isAssignableFrom(metadataClass)) {
+                Logging.error("❌ Metadata class for module " + moduleName + " does not extend GameMetadata");
+                return null;
+            }
+
+            GameMetadata metadata = (GameMetadata) metadataClass.getDeclaredConstructor().newInstance();
+            Logging.info("✅ Metadata loaded for module: " + moduleName + " (Game: " + metadata.getGameName() + ")");
+            return metadata;
+
+        } catch (ClassNotFoundException e) {
+            Logging.error("❌ Metadata class not found for module " + moduleName + ": " + e.getMessage());
+            return null;
+        } catch (Exception | LinkageError e) {
+            Logging.error("❌ Error loading Metadata class for module " + moduleName + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+}
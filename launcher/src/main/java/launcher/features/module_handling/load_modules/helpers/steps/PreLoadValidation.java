@@ -3,6 +3,7 @@ package launcher.features.module_handling.load_modules.helpers.steps;
 import gdk.internal.Logging;
 import launcher.features.module_handling.check_compilation_status.CompilationChecker;
 import launcher.features.module_handling.compile_modules.CompileModule;
+import launcher.features.module_handling.module_packaging.PackagedModules;
 import launcher.features.module_handling.module_source_validation.ModuleSourceValidator;
 
 import java.io.File;
@@ -11,12 +12,13 @@ import java.io.File;
  * Validates that a module is ready to be loaded.
  * 
  * <p>This class combines source validation and compile_modules status checking to ensure
- * a module has both valid source files and compiled classes ready for load_modules.
+ * a module has its source files and up-to-date compiled classes ready for load_modules.
+ * The compiled classes themselves are validated by {@code ModuleTargetValidator}.
  * If compile_modules is needed, it automatically compiles the module before validation.
  * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 3, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class PreLoadValidation {
@@ -30,17 +32,19 @@ public final class PreLoadValidation {
      * 
      * <p>This method:
      * <ol>
-     *   <li>Validates source files are valid (via ModuleSourceValidator)</li>
+     *   <li>Validates the required source files exist (via ModuleSourceValidator)</li>
      *   <li>Checks if module needs compile_modules (via CheckCompilationNeeded)</li>
      *   <li>If compile_modules is needed, automatically compiles the module (via CompileModule)</li>
      *   <li>Verifies compile_modules succeeded and module is ready to load</li>
      * </ol>
      * 
+     * <p>A packaged module (see {@link PackagedModules}) only needs a readable descriptor.
+     * 
      * <p>The compile_modules check verifies:
      * <ul>
      *   <li>Compiled classes directory exists</li>
      *   <li>Main.class file exists</li>
-     *   <li>Source files are not newer than compiled classes</li>
+     *   <li>No source or resource file changed since the last successful compile</li>
      * </ul>
      * 
      * @param moduleDir The module directory to validate
@@ -49,6 +53,11 @@ public final class PreLoadValidation {
     public static boolean preLoadCheck(File moduleDir) {
         String moduleName = moduleDir.getName();
         
+        // Packaged modules have no sources to validate or compile; the jar must have a usable descriptor
+        if (PackagedModules.isPackaged(moduleDir)) {
+            return PackagedModules.readDescriptor(moduleDir) != null;
+        }
+        
         // Validate source files first
         if (!ModuleSourceValidator.isValidModule(moduleDir)) {
             Logging.info("Module " + moduleName + " has invalid structure");
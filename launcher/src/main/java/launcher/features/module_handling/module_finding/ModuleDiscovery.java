@@ -4,7 +4,9 @@ import gdk.api.GameModule;
 import gdk.internal.Logging;
 import launcher.features.module_handling.load_modules.LoadModules;
 import launcher.features.file_handling.file_paths.GetModulesDirectoryPath;
-import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+import launcher.features.module_handling.module_finding.helpers.LoadedModuleCache;
+import launcher.features.module_handling.module_finding.helpers.ModuleNameIndex;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
 import java.io.File;
 import java.util.List;
 
@@ -18,7 +20,7 @@ import java.util.List;
  * 
  * @author Clement Luo
  * @date August 12, 2025
- * @edited January 3, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class ModuleDiscovery {
@@ -36,13 +38,17 @@ public final class ModuleDiscovery {
     // ==================== PUBLIC METHODS - MODULE LOOKUP ====================
     
     /**
-     * Finds and loads a game module by its game name.
+     * Finds a game module by its game name.
      * 
-     * <p>This method loads modules one by one until finding a match, stopping
-     * early for efficiency. It uses ModuleCompiler to load each module.
+     * <p>The game name is resolved to a module directory through a name index that
+     * is built once and kept current by the module watcher (see {@link #invalidate(File)})
+     * and {@link #refresh()}; a lookup does not scan or fingerprint modules. The module instance
+     * comes from the loaded-module cache shared with the lobby, so repeated lookups
+     * (and the lobby's game list) see the same instance. Modules are returned in
+     * deferred form; the Main class is instantiated when the game is launched.
      * 
      * @param gameName The name of the game to find (as returned by getGameName())
-     * @return The loaded GameModule instance, or null if not found
+     * @return The GameModule instance, or null if not found
      */
     public static GameModule getModuleByName(String gameName) {
 
@@ -53,26 +59,28 @@ public final class ModuleDiscovery {
         }
         
         try {
-            // Find module directory path
+            // Resolve the game name to its module directory
             String modulesDirectoryPath = GetModulesDirectoryPath.getModulesDirectoryPath();
-            List<File> moduleDirectories = ScanForModuleFolders.findModuleFolders(modulesDirectoryPath);
+            File moduleDir = ModuleNameIndex.find(modulesDirectoryPath, gameName);
             
-            if (moduleDirectories.isEmpty()) {
-                Logging.info("Module lookup: No module directories found");
+            if (moduleDir == null) {
+                Logging.info("Module lookup: Game module not found: " + gameName);
                 return null;
             }
             
-            // Load modules one by one until we find the selected game
-            for (File moduleDir : moduleDirectories) {
-                GameModule module = LoadModules.loadModule(moduleDir);
-                if (module != null && gameName.equals(module.getMetadata().getGameName())) {
-                    Logging.info("Module lookup: Found game module: " + gameName);
-                    return module;
+            // Reuse the shared instance if one exists for this module
+            GameModule module = LoadedModuleCache.get(moduleDir);
+            if (module == null) {
+                List<GameModule> discovered = LoadModules.loadModuleDescriptors(List.of(moduleDir)).getLoadedModules();
+                if (discovered.isEmpty()) {
+                    Logging.info("Module lookup: Failed to load game module: " + gameName);
+                    return null;
                 }
+                module = LoadedModuleCache.share(discovered).get(0);
             }
             
-            Logging.info("Module lookup: Game module not found: " + gameName);
-            return null;
+            Logging.info("Module lookup: Found game module: " + gameName);
+            return module;
             
         } catch (Exception e) {
             Logging.error("Module lookup failed: " + e.getMessage(), e);
@@ -80,7 +88,56 @@ public final class ModuleDiscovery {
         }
     }
     
+    // ==================== PUBLIC METHODS - CACHE MANAGEMENT ====================
+    
+    /**
+     * Shares discovered modules with the loaded-module cache.
+     * 
+     * <p>The lobby passes its discovery results through here so that modules already
+     * known to the cache keep their existing instance, and name lookups afterwards
+     * return the same instances the lobby shows.
+     * 
+     * @param discoveredModules Modules produced by discovery
+     * @return The modules to use, in the same order
+     */
+    public static List<GameModule> shareLoadedModules(List<GameModule> discoveredModules) {
+        List<GameModule> shared = LoadedModuleCache.share(discoveredModules);
+        shared.forEach(ModuleNameIndex::put);
+        return shared;
+    }
+    
+    /**
+     * Drops the name index so the next lookup rebuilds it from the modules directory.
+     * Call this on an explicit refresh, which may find modules the watcher did not
+     * report (e.g. when it was not running).
+     */
+    public static void refresh() {
+        ModuleNameIndex.invalidate();
+    }
+    
+    /**
+     * Invalidates the name index and loaded-module cache, and releases every
+     * module's classloader. Call this when module folders change on disk.
+     */
+    public static void invalidate() {
+        ModuleNameIndex.invalidate();
+        LoadedModuleCache.clear();
+        ModuleRegistry.releaseAll();
+    }
+    
+    /**
+     * Invalidates a single module.
+     * 
+     * <p>The module's cached instance and its name are dropped; both come back
+     * when the module is rediscovered (possibly under a new name). Other modules
+     * keep their cached instances. The module's classloader is released and closed
+     * once no running game uses it.
+     * 
+     * @param moduleDir The module directory that changed or was removed
+     */
+    public static void invalidate(File moduleDir) {
+        ModuleNameIndex.remove(moduleDir);
+        LoadedModuleCache.remove(moduleDir);
+        ModuleRegistry.release(moduleDir);
+    }
 }
-
-
-
@@ -0,0 +1,118 @@
+package launcher.features.module_handling.module_finding.helpers;
+
+import gdk.api.GameModule;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.module_index.ModuleIndex;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide cache of module instances, keyed by module directory.
+ *
+ * <p>Both the lobby's list of available games and name lookups (auto-launch)
+ * go through this cache, so a module discovered once is represented by the
+ * same instance everywhere. Lookups do not touch the filesystem: entries are
+ * dropped by the module watcher (or an explicit invalidation) when a module
+ * changes, and a rediscovered module replaces its entry only if its fingerprint
+ * differs from the one the entry was cached with.
+ *
+ * @author Clement Luo
+ * @date January 12, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class LoadedModuleCache {
+
+    /**
+     * A cached module together with the fingerprint it was loaded from.
+     */
+    private record CachedModule(String fingerprint, GameModule module) {}
+
+    /** Cached modules keyed by absolute module directory path. */
+    private static final Map<String, CachedModule> cache = new ConcurrentHashMap<>();
+
+    private LoadedModuleCache() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the cached module for a directory.
+     *
+     * @param moduleDir The module directory
+     * @return The cached module, or null if none is cached
+     */
+    public static GameModule get(File moduleDir) {
+        CachedModule cached = cache.get(keyOf(moduleDir));
+        return cached != null ? cached.module() : null;
+    }
+
+    /**
+     * Merges freshly discovered modules into the cache.
+     *
+     * <p>For each discovered module, a cached instance for the same directory with
+     * the fingerprint discovery just recorded is returned in its place; otherwise
+     * the discovered module is cached.
+     * Modules that are not deferred (and so carry no directory) are passed through.
+     *
+     * @param discoveredModules Modules produced by discovery
+     * @return The modules to use, in the same order, sharing cached instances
+     */
+    public static List<GameModule> share(List<GameModule> discoveredModules) {
+        List<GameModule> shared = new ArrayList<>(discoveredModules.size());
+        for (GameModule module : discoveredModules) {
+            if (!(module instanceof DeferredGameModule)) {
+                shared.add(module);
+                continue;
+            }
+
+            File moduleDir = ((DeferredGameModule) module).getModuleDirectory();
+            CachedModule cached = cache.get(keyOf(moduleDir));
+            String fingerprint = ModuleIndex.recordedFingerprint(moduleDir);
+            if (cached != null && fingerprint != null && fingerprint.equals(cached.fingerprint())) {
+                shared.add(cached.module());
+            } else {
+                put(moduleDir, module);
+                shared.add(module);
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Caches a module for a directory, with the fingerprint recorded when it was
+     * discovered or loaded.
+     *
+     * @param moduleDir The module directory
+     * @param module The module instance
+     */
+    public static void put(File moduleDir, GameModule module) {
+        String fingerprint = ModuleIndex.recordedFingerprint(moduleDir);
+        if (fingerprint != null) {
+            cache.put(keyOf(moduleDir), new CachedModule(fingerprint, module));
+        }
+    }
+
+    /**
+     * Removes the cached module for a directory.
+     *
+     * @param moduleDir The module directory
+     */
+    public static void remove(File moduleDir) {
+        cache.remove(keyOf(moduleDir));
+    }
+
+    /**
+     * Removes all cached modules.
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    private static String keyOf(File moduleDir) {
+        return moduleDir.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
@@ -0,0 +1,144 @@
+package launcher.features.module_handling.module_finding.helpers;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_index.ModuleIndexEntry;
+import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory index from game name to module directory.
+ *
+ * <p>The index is built once per modules directory from the module index (for
+ * unchanged modules) and metadata-only discovery (for the rest). Lookups are then
+ * a map access; they never rescan the modules directory or fingerprint modules.
+ * The module watcher keeps it current: a changed or removed module is dropped
+ * with {@link #remove(File)} and re-added with {@link #put(GameModule)} once it has
+ * been rediscovered. An explicit refresh drops the whole index with {@link #invalidate()}.
+ *
+ * @author Clement Luo
+ * @date January 12, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleNameIndex {
+
+    /** Game name to module directory, or null until built. */
+    private static Map<String, File> directoriesByName;
+
+    /** The modules directory the index was built from. */
+    private static String builtForPath;
+
+    private ModuleNameIndex() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Finds the module directory for a game name, building the index on first use.
+     *
+     * @param modulesDirectoryPath The modules directory to search
+     * @param gameName The game name (as returned by getGameName())
+     * @return The module directory, or null if no module has that name
+     */
+    public static synchronized File find(String modulesDirectoryPath, String gameName) {
+        if (directoriesByName == null || !modulesDirectoryPath.equals(builtForPath)) {
+            build(modulesDirectoryPath);
+        }
+        return directoriesByName.get(gameName);
+    }
+
+    /**
+     * Adds or updates the name of a (re)discovered module. Does nothing until the
+     * index has been built; the build picks the module up then.
+     *
+     * @param module A module produced by discovery
+     */
+    public static synchronized void put(GameModule module) {
+        if (directoriesByName == null || !(module instanceof DeferredGameModule)) {
+            return;
+        }
+        File moduleDir = ((DeferredGameModule) module).getModuleDirectory();
+        // The module may have been renamed since it was indexed
+        removeDirectory(moduleDir);
+        directoriesByName.put(module.getMetadata().getGameName(), moduleDir);
+    }
+
+    /**
+     * Drops a module that changed or was removed.
+     *
+     * @param moduleDir The module directory
+     */
+    public static synchronized void remove(File moduleDir) {
+        if (directoriesByName != null) {
+            removeDirectory(moduleDir);
+        }
+    }
+
+    /**
+     * Drops the index so the next lookup rebuilds it.
+     */
+    public static synchronized void invalidate() {
+        directoriesByName = null;
+        builtForPath = null;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Builds the name index for the module folders of a modules directory.
+     *
+     * @param modulesDirectoryPath The modules directory
+     */
+    private static void build(String modulesDirectoryPath) {
+        List<File> moduleDirectories = ScanForModuleFolders.findModuleFolders(modulesDirectoryPath);
+        Map<String, File> index = new HashMap<>();
+        List<File> unresolved = new ArrayList<>();
+
+        // Unchanged modules resolve their names straight from the persistent index
+        for (File moduleDir : moduleDirectories) {
+            ModuleIndexEntry entry = ModuleIndex.getUpToDateEntry(moduleDir);
+            if (entry != null && entry.compiled() && entry.gameName() != null) {
+                index.put(entry.gameName(), moduleDir);
+            } else {
+                unresolved.add(moduleDir);
+            }
+        }
+
+        // Everything else needs its metadata read; keep the results so they are not loaded twice
+        if (!unresolved.isEmpty()) {
+            List<GameModule> discovered = LoadedModuleCache.share(
+                LoadModules.loadModuleDescriptors(unresolved).getLoadedModules());
+            for (GameModule module : discovered) {
+                if (module instanceof DeferredGameModule) {
+                    index.put(module.getMetadata().getGameName(), ((DeferredGameModule) module).getModuleDirectory());
+                }
+            }
+        }
+
+        directoriesByName = index;
+        builtForPath = modulesDirectoryPath;
+        Logging.info("Module lookup: name index built with " + index.size() + " module(s)");
+    }
+
+    /**
+     * Removes every name that points at a module directory.
+     *
+     * @param moduleDir The module directory
+     */
+    private static void removeDirectory(File moduleDir) {
+        String key = keyOf(moduleDir);
+        directoriesByName.values().removeIf(indexed -> keyOf(indexed).equals(key));
+    }
+
+    private static String keyOf(File moduleDir) {
+        return moduleDir.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
@@ -0,0 +1,179 @@
+package launcher.features.module_handling.module_index;
+
+import gdk.api.GameMetadata;
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_index.helpers.ModuleFingerprint;
+import launcher.features.module_handling.module_index.helpers.ModuleIndexFile;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persistent on-disk index of module directories.
+ *
+ * <p>The index remembers, per module directory, a fingerprint of its sources
+ * and compiled classes together with the metadata snapshot and compile status
+ * from the last time it was validated. While a module's fingerprint is
+ * unchanged, source validation and compilation checks can be skipped.
+ *
+ * <p>All other classes in this package are internal implementation details.
+ * External code should only use this class for module index operations.
+ *
+ * @author Clement Luo
+ * @date January 10, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleIndex {
+
+    /** Entries keyed by absolute module directory path. Loaded lazily from disk. */
+    private static Map<String, ModuleIndexEntry> entries;
+
+    private ModuleIndex() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== PUBLIC METHODS - LOOKUP ====================
+
+    /**
+     * Gets the index entry for a module if it is still up to date.
+     *
+     * @param moduleDir The module directory
+     * @return The entry, or null if the module is not indexed or has changed since
+     */
+    public static ModuleIndexEntry getUpToDateEntry(File moduleDir) {
+        ModuleIndexEntry entry = getEntries().get(keyOf(moduleDir));
+        if (entry == null) {
+            return null;
+        }
+
+        String fingerprint = ModuleFingerprint.compute(moduleDir);
+        if (fingerprint == null || !fingerprint.equals(entry.fingerprint())) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Checks if a module is unchanged since it last compiled and loaded successfully.
+     * Such a module does not need to be re-validated.
+     *
+     * @param moduleDir The module directory
+     * @return true if the module can skip validation, false otherwise
+     */
+    public static boolean isUpToDate(File moduleDir) {
+        ModuleIndexEntry entry = getUpToDateEntry(moduleDir);
+        return entry != null && entry.compiled();
+    }
+
+    /**
+     * Computes the current fingerprint of a module directory.
+     * Other packages use this to tell whether something they cached for a
+     * module is still valid.
+     *
+     * @param moduleDir The module directory
+     * @return The fingerprint, or null if it could not be computed
+     */
+    public static String currentFingerprint(File moduleDir) {
+        return ModuleFingerprint.compute(moduleDir);
+    }
+
+    /**
+     * Gets the fingerprint recorded the last time a module was validated or loaded,
+     * without looking at the module's files. Right after discovery or a load this
+     * is the module's current fingerprint.
+     *
+     * @param moduleDir The module directory
+     * @return The recorded fingerprint, or null if the module is not indexed
+     */
+    public static String recordedFingerprint(File moduleDir) {
+        ModuleIndexEntry entry = getEntries().get(keyOf(moduleDir));
+        return entry != null ? entry.fingerprint() : null;
+    }
+
+    /**
+     * Gets a snapshot of all indexed entries.
+     *
+     * @return List of all entries in the index
+     */
+    public static List<ModuleIndexEntry> getAllEntries() {
+        return new ArrayList<>(getEntries().values());
+    }
+
+    // ==================== PUBLIC METHODS - UPDATES ====================
+
+    /**
+     * Records the outcome of validating a module and saves the index.
+     *
+     * @param moduleDir The module directory
+     * @param metadata The module's metadata, or null if it did not load
+     * @param compiled true if the module compiled and loaded successfully
+     */
+    public static void record(File moduleDir, GameMetadata metadata, boolean compiled) {
+        String fingerprint = ModuleFingerprint.compute(moduleDir);
+        if (fingerprint == null) {
+            return;
+        }
+
+        Map<String, Object> metadataSnapshot = null;
+        if (metadata != null) {
+            try {
+                metadataSnapshot = metadata.toMap();
+            } catch (Exception e) {
+                Logging.warning("Could not snapshot metadata for " + moduleDir.getName() + ": " + e.getMessage());
+            }
+        }
+
+        String key = keyOf(moduleDir);
+        getEntries().put(key, new ModuleIndexEntry(key, fingerprint, metadataSnapshot, compiled, System.currentTimeMillis()));
+        save();
+    }
+
+    /**
+     * Removes entries whose module directory no longer exists and saves the index.
+     */
+    public static void pruneMissing() {
+        boolean removed = getEntries().keySet().removeIf(key -> !new File(key).isDirectory());
+        if (removed) {
+            save();
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Gets the in-memory entries, loading them from disk on first use.
+     *
+     * @return Map of entries keyed by module directory
+     */
+    private static synchronized Map<String, ModuleIndexEntry> getEntries() {
+        if (entries == null) {
+            entries = new ConcurrentHashMap<>();
+            for (ModuleIndexEntry entry : ModuleIndexFile.read()) {
+                entries.put(entry.moduleDirectory(), entry);
+            }
+            Logging.info("Module index loaded with " + entries.size() + " entr" + (entries.size() == 1 ? "y" : "ies"));
+        }
+        return entries;
+    }
+
+    /**
+     * Writes the current entries to disk.
+     */
+    private static synchronized void save() {
+        ModuleIndexFile.write(getEntries().values());
+    }
+
+    /**
+     * Gets the index key for a module directory.
+     *
+     * @param moduleDir The module directory
+     * @return The absolute, normalized path of the directory
+     */
+    private static String keyOf(File moduleDir) {
+        return moduleDir.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
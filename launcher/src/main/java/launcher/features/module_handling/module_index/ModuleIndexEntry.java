@@ -0,0 +1,44 @@
+package launcher.features.module_handling.module_index;
+
+import java.util.Map;
+
+/**
+ * A single entry in the persistent module index.
+ *
+ * <p>Each entry describes one module directory as it looked the last time it
+ * was validated: the fingerprint of its sources and compiled classes, the
+ * metadata snapshot produced by {@code GameMetadata.toMap()}, and whether the
+ * module compiled and loaded successfully.
+ *
+ * @param moduleDirectory Absolute path of the module directory (the index key)
+ * @param fingerprint Fingerprint of src/main/java and target/classes (module.jar if packaged)
+ * @param metadata Metadata snapshot, or null if the module never loaded
+ * @param compiled true if the module compiled and loaded successfully
+ * @param indexedAt Time the entry was written, in epoch milliseconds
+ *
+ * @author Clement Luo
+ * @date January 10, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public record ModuleIndexEntry(
+    String moduleDirectory,
+    String fingerprint,
+    Map<String, Object> metadata,
+    boolean compiled,
+    long indexedAt
+) {
+
+    /**
+     * Gets the game name from the metadata snapshot.
+     *
+     * @return The game name, or null if no metadata was recorded
+     */
+    public String gameName() {
+        if (metadata == null) {
+            return null;
+        }
+        Object name = metadata.get("name");
+        return name != null ? name.toString() : null;
+    }
+}
@@ -0,0 +1,106 @@
+package launcher.features.module_handling.module_index.helpers;
+
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Computes a cheap fingerprint of a module's source and compiled trees.
+ *
+ * <p>The fingerprint only uses file metadata (relative path, size and last
+ * modified time) of everything under {@code src/main/java},
+ * {@code src/main/resources} and {@code target/classes} - or, for a packaged module, of its
+ * {@code module.jar} and {@code lib/}. No file contents are read, so it stays fast enough
+ * to compute on every refresh.
+ *
+ * @author Clement Luo
+ * @date January 10, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleFingerprint {
+
+    /** Directories (relative to the module) that contribute to the fingerprint. */
+    private static final String[] FINGERPRINT_ROOTS = { "src/main/java", "src/main/resources", "target/classes" };
+
+    /** Files and directories that contribute to the fingerprint of a packaged module. */
+    private static final String[] PACKAGED_FINGERPRINT_ROOTS = { PackagedModules.MODULE_JAR, PackagedModules.LIB_DIRECTORY };
+
+    private ModuleFingerprint() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Computes the fingerprint for a module directory.
+     *
+     * @param moduleDir The module directory
+     * @return Hex fingerprint string, or null if it could not be computed
+     */
+    public static String compute(File moduleDir) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            String[] roots = PackagedModules.isPackaged(moduleDir) ? PACKAGED_FINGERPRINT_ROOTS : FINGERPRINT_ROOTS;
+            for (String root : roots) {
+                Path rootPath = new File(moduleDir, root).toPath();
+                digest.update(root.getBytes(StandardCharsets.UTF_8));
+
+                if (!Files.exists(rootPath)) {
+                    digest.update((byte) 0);
+                    continue;
+                }
+
+                for (String line : describeTree(rootPath)) {
+                    digest.update(line.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+
+        } catch (Exception e) {
+            Logging.error("Error computing fingerprint for " + moduleDir.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Describes every regular file under a directory (or the file itself) as "path|size|mtime",
+     * sorted by path so the result does not depend on walk order.
+     *
+     * @param rootPath The directory to describe
+     * @return Sorted list of file descriptions
+     * @throws IOException If the directory cannot be walked
+     */
+    private static List<String> describeTree(Path rootPath) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(rootPath)) {
+            paths.forEach(path -> {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        lines.add(rootPath.relativize(path).toString().replace('\\', '/') + "|"
+                            + attributes.size() + "|" + attributes.lastModifiedTime().toMillis() + "\n");
+                    }
+                } catch (IOException e) {
+                    // File vanished mid-walk; it simply does not contribute
+                }
+            });
+        }
+        lines.sort(null);
+        return lines;
+    }
+}
@@ -0,0 +1,75 @@
+package launcher.features.module_handling.module_index.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
+import launcher.features.file_handling.file_paths.GetOtherPaths;
+import launcher.features.module_handling.module_index.ModuleIndexEntry;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads and writes the module index file under {@code saved/}.
+ *
+ * <p>The index is stored as a JSON array of {@link ModuleIndexEntry}. Writes go
+ * to a temporary file first and are then moved into place, so a crash mid-write
+ * never leaves a truncated index behind.
+ *
+ * @author Clement Luo
+ * @date January 10, 2026
+ * @edited January 10, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleIndexFile {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private ModuleIndexFile() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Reads all entries from the index file.
+     *
+     * @return The stored entries, or an empty list if the file is missing or unreadable
+     */
+    public static List<ModuleIndexEntry> read() {
+        Path indexFile = Paths.get(GetOtherPaths.MODULE_INDEX_FILE);
+        if (!Files.exists(indexFile)) {
+            return new ArrayList<>();
+        }
+
+        try {
+            return JSON_MAPPER.readValue(indexFile.toFile(), new TypeReference<List<ModuleIndexEntry>>() {});
+        } catch (Exception e) {
+            // A corrupt index is not fatal - every module is simply re-validated
+            Logging.warning("Module index unreadable, rebuilding: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Writes all entries to the index file.
+     *
+     * @param entries The entries to store
+     */
+    public static void write(Collection<ModuleIndexEntry> entries) {
+        try {
+            Path indexFile = Paths.get(GetOtherPaths.MODULE_INDEX_FILE);
+            ParentDirectoryExistenceCheck.exists(indexFile);
+
+            Path tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+            JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), new ArrayList<>(entries));
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (Exception e) {
+            Logging.error("❌ Error saving module index: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package launcher.features.module_handling.module_packaging;
+
+import java.util.Map;
+
+/**
+ * The descriptor stored in a packaged module's jar.
+ *
+ * <p>Holds everything the launcher needs to list the module in the lobby and
+ * to launch it, so neither the module's sources nor its Metadata class have to
+ * be read at discovery time.
+ *
+ * @param formatVersion Version of the packaged module format ({@link PackagedModules#FORMAT_VERSION})
+ * @param name The game name
+ * @param version The game version
+ * @param mainClass Binary name of the class implementing {@code GameModule}
+ * @param metadata Metadata snapshot produced by {@code GameMetadata.toMap()}
+ * @param packagedAt Time the module was packaged, in epoch milliseconds
+ *
+ * @author Clement Luo
+ * @date January 31, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public record ModuleDescriptor(
+    int formatVersion,
+    String name,
+    String version,
+    String mainClass,
+    Map<String, Object> metadata,
+    long packagedAt
+) {
+}
@@ -0,0 +1,195 @@
+package launcher.features.module_handling.module_packaging;
+
+import gdk.api.GameMetadata;
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_packaging.helpers.ModuleJarReader;
+import launcher.features.module_handling.module_packaging.helpers.ModuleJarWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Packaged game modules: a module folder holding a single {@code module.jar}
+ * instead of sources and a {@code target/classes} tree.
+ *
+ * <p>The jar carries the module's classes and resources, a {@link ModuleDescriptor}
+ * (name, version, main class and metadata snapshot) and a class index. The
+ * module's private dependency jars sit next to it in {@code lib/}. A folder with
+ * a {@code module.jar} is always loaded from it; its {@code src/} is never read,
+ * so packaged modules can be shipped without sources.
+ *
+ * <pre>
+ * modules/tictactoe/
+ * ├── module.jar
+ * └── lib/            (optional)
+ * </pre>
+ *
+ * <p>All other classes in this package are internal implementation details.
+ * External code should only use this class for packaged module operations.
+ *
+ * @author Clement Luo
+ * @date January 31, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class PackagedModules {
+
+    /** File name of the module jar inside a packaged module folder. */
+    public static final String MODULE_JAR = "module.jar";
+
+    /** Folder (next to the module jar) holding the module's private dependency jars. */
+    public static final String LIB_DIRECTORY = "lib";
+
+    /** Jar entry holding the descriptor as JSON. */
+    public static final String DESCRIPTOR_ENTRY = "META-INF/gdk-module.json";
+
+    /** Jar entry listing the module's classes, one binary name per line. */
+    public static final String CLASS_INDEX_ENTRY = "META-INF/gdk-module.classes";
+
+    /** Current packaged module format. Jars with a newer format are rejected. */
+    public static final int FORMAT_VERSION = 1;
+
+    /** Main class of a module loaded from sources. */
+    private static final String SOURCE_MAIN_CLASS = "Main";
+
+    private PackagedModules() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== PUBLIC METHODS - LOOKUP ====================
+
+    /**
+     * Checks whether a module folder holds a packaged module.
+     *
+     * @param moduleDir The module directory
+     * @return true if the folder has a {@code module.jar}
+     */
+    public static boolean isPackaged(File moduleDir) {
+        return moduleJar(moduleDir).isFile();
+    }
+
+    /**
+     * Gets the module jar of a module folder.
+     *
+     * @param moduleDir The module directory
+     * @return The jar file (which may not exist)
+     */
+    public static File moduleJar(File moduleDir) {
+        return new File(moduleDir, MODULE_JAR);
+    }
+
+    /**
+     * Reads the descriptor of a packaged module.
+     *
+     * @param moduleDir The module directory
+     * @return The descriptor, or null if the module is not packaged or its descriptor is unusable
+     */
+    public static ModuleDescriptor readDescriptor(File moduleDir) {
+        if (!isPackaged(moduleDir)) {
+            return null;
+        }
+        return ModuleJarReader.readDescriptor(moduleJar(moduleDir));
+    }
+
+    /**
+     * Gets the name of the class implementing {@code GameModule}.
+     *
+     * @param moduleDir The module directory
+     * @return The descriptor's main class for packaged modules, {@code Main} otherwise,
+     *         or null if a packaged module's descriptor is unusable
+     */
+    public static String mainClassName(File moduleDir) {
+        if (!isPackaged(moduleDir)) {
+            return SOURCE_MAIN_CLASS;
+        }
+        ModuleDescriptor descriptor = readDescriptor(moduleDir);
+        return descriptor != null ? descriptor.mainClass() : null;
+    }
+
+    /**
+     * Lists every class of a module: from the class index of a packaged module,
+     * otherwise by walking its {@code target/classes} tree.
+     *
+     * @param moduleDir The module directory
+     * @return Binary class names (empty if the module has no classes)
+     * @throws IOException If the jar or the classes directory cannot be read
+     */
+    public static List<String> listClassNames(File moduleDir) throws IOException {
+        if (isPackaged(moduleDir)) {
+            return ModuleJarReader.readClassNames(moduleJar(moduleDir));
+        }
+
+        Path classesDirectory = new File(moduleDir, "target/classes").toPath();
+        if (!Files.isDirectory(classesDirectory)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> files = Files.walk(classesDirectory)) {
+            return files.filter(Files::isRegularFile)
+                .map(file -> ModuleJarWriter.classNameOf(classesDirectory.relativize(file).toString().replace('\\', '/')))
+                .filter(Objects::nonNull)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+
+    // ==================== PUBLIC METHODS - PACKAGING ====================
+
+    /**
+     * Packages a source module.
+     *
+     * <p>The module is compiled if needed and its Metadata class is loaded once
+     * to take the metadata snapshot. The packaged module is written to
+     * {@code outputDirectory/<module folder name>/}, ready to be copied into a
+     * modules directory.
+     *
+     * @param moduleDir The source module directory
+     * @param outputDirectory Directory to write the packaged module folder into
+     * @return The written module jar, or null if packaging failed
+     */
+    public static File packageModule(File moduleDir, Path outputDirectory) {
+        String moduleName = moduleDir.getName();
+        if (isPackaged(moduleDir)) {
+            Logging.error("❌ Module " + moduleName + " is already packaged; package it from its sources");
+            return null;
+        }
+
+        try {
+            // Same validation and compilation as discovery, and the same metadata snapshot
+            List<GameModule> discovered = LoadModules.loadModuleDescriptors(List.of(moduleDir)).getLoadedModules();
+            if (discovered.isEmpty()) {
+                Logging.error("❌ Module " + moduleName + " could not be loaded - not packaged");
+                return null;
+            }
+            GameMetadata metadata = discovered.get(0).getMetadata();
+            ModuleDescriptor descriptor = new ModuleDescriptor(FORMAT_VERSION, metadata.getGameName(),
+                metadata.getGameVersion(), SOURCE_MAIN_CLASS, metadata.toMap(), System.currentTimeMillis());
+
+            List<File> dependencyJars = new ArrayList<>();
+            File[] jars = new File(moduleDir, "target/dependency").listFiles((dir, name) -> name.endsWith(".jar"));
+            if (jars != null) {
+                Arrays.sort(jars);
+                dependencyJars.addAll(Arrays.asList(jars));
+            }
+
+            File moduleJar = ModuleJarWriter.write(new File(moduleDir, "target/classes").toPath(), dependencyJars,
+                descriptor, outputDirectory.resolve(moduleName));
+            Logging.info("📦 Packaged module " + moduleName + " (" + descriptor.name() + " " + descriptor.version()
+                + "): " + moduleJar + (dependencyJars.isEmpty() ? "" : " + " + dependencyJars.size() + " dependency jar(s)"));
+            return moduleJar;
+
+        } catch (Exception e) {
+            Logging.error("❌ Error packaging module " + moduleName + ": " + e.getMessage(), e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package launcher.features.module_handling.module_packaging.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_packaging.ModuleDescriptor;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Reads the descriptor and class index of a packaged module jar.
+ *
+ * <p>Opening a jar only reads its central directory, and the descriptor is one
+ * small entry, so this is far cheaper than walking a {@code target/classes} tree.
+ * Descriptors are cached per jar until the jar's size or modified time changes.
+ *
+ * @author Clement Luo
+ * @date January 31, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleJarReader {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    /** Descriptors read so far, keyed by absolute jar path. */
+    private static final Map<String, CachedDescriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+
+    private ModuleJarReader() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Reads and checks the descriptor of a module jar.
+     *
+     * @param moduleJar The module jar
+     * @return The descriptor, or null if it is missing, unreadable or invalid
+     */
+    public static ModuleDescriptor readDescriptor(File moduleJar) {
+        String key = moduleJar.getAbsolutePath();
+        long size = moduleJar.length();
+        long lastModified = moduleJar.lastModified();
+
+        CachedDescriptor cached = DESCRIPTORS.get(key);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.descriptor();
+        }
+
+        ModuleDescriptor descriptor = null;
+        try (JarFile jar = new JarFile(moduleJar)) {
+            JarEntry entry = jar.getJarEntry(PackagedModules.DESCRIPTOR_ENTRY);
+            if (entry == null) {
+                Logging.error("❌ " + moduleJar + " has no " + PackagedModules.DESCRIPTOR_ENTRY);
+            } else {
+                try (InputStream input = jar.getInputStream(entry)) {
+                    descriptor = check(JSON_MAPPER.readValue(input, ModuleDescriptor.class), moduleJar);
+                }
+            }
+        } catch (Exception e) {
+            Logging.error("❌ Error reading module descriptor from " + moduleJar + ": " + e.getMessage());
+        }
+
+        // Invalid descriptors are cached too, so a broken jar is not re-read on every scan
+        DESCRIPTORS.put(key, new CachedDescriptor(size, lastModified, descriptor));
+        return descriptor;
+    }
+
+    /**
+     * Lists the classes in a module jar, from its class index if it has one.
+     *
+     * @param moduleJar The module jar
+     * @return Binary class names, in index (or jar) order
+     * @throws IOException If the jar cannot be read
+     */
+    public static List<String> readClassNames(File moduleJar) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (JarFile jar = new JarFile(moduleJar)) {
+            JarEntry index = jar.getJarEntry(PackagedModules.CLASS_INDEX_ENTRY);
+            if (index != null) {
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(jar.getInputStream(index), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isBlank()) {
+                            classNames.add(line.strip());
+                        }
+                    }
+                }
+                return classNames;
+            }
+
+            // No index: fall back to the jar's own entry list
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                String className = ModuleJarWriter.classNameOf(entries.nextElement().getName());
+                if (className != null) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Rejects descriptors this launcher cannot use.
+     */
+    private static ModuleDescriptor check(ModuleDescriptor descriptor, File moduleJar) {
+        if (descriptor.formatVersion() > PackagedModules.FORMAT_VERSION) {
+            Logging.error("❌ " + moduleJar + " uses packaged module format " + descriptor.formatVersion()
+                + "; this launcher supports up to " + PackagedModules.FORMAT_VERSION);
+            return null;
+        }
+        if (descriptor.mainClass() == null || descriptor.mainClass().isBlank() || descriptor.metadata() == null) {
+            Logging.error("❌ " + moduleJar + " has an incomplete descriptor (main class and metadata are required)");
+            return null;
+        }
+        return descriptor;
+    }
+
+    private record CachedDescriptor(long size, long lastModified, ModuleDescriptor descriptor) {
+    }
+}
@@ -0,0 +1,142 @@
+package launcher.features.module_handling.module_packaging.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import launcher.features.module_handling.module_packaging.ModuleDescriptor;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Writes a packaged module: the module jar plus its private dependency jars.
+ *
+ * <p>The jar holds the module's compiled classes and resources, the
+ * {@link ModuleDescriptor} and a class index (one binary class name per line).
+ * It is written to a temporary file first and then moved into place, so a
+ * running launcher never sees a half-written jar.
+ *
+ * @author Clement Luo
+ * @date January 31, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleJarWriter {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    private ModuleJarWriter() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes a packaged module into a directory.
+     *
+     * @param classesDirectory The module's compiled classes and resources (target/classes)
+     * @param dependencyJars The module's private dependency jars, copied to {@code lib/}
+     * @param descriptor The descriptor to store in the jar
+     * @param outputDirectory The packaged module directory to write
+     * @return The written module jar
+     * @throws IOException If anything cannot be read or written
+     */
+    public static File write(Path classesDirectory, List<File> dependencyJars, ModuleDescriptor descriptor,
+                             Path outputDirectory) throws IOException {
+        Files.createDirectories(outputDirectory);
+
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(classesDirectory)) {
+            files = paths.filter(path -> !path.equals(classesDirectory)).sorted().collect(Collectors.toList());
+        }
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE, descriptor.name());
+        if (descriptor.version() != null) {
+            manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_VERSION, descriptor.version());
+        }
+
+        Path moduleJar = outputDirectory.resolve(PackagedModules.MODULE_JAR);
+        Path tempJar = outputDirectory.resolve(PackagedModules.MODULE_JAR + ".tmp");
+        List<String> classNames = new ArrayList<>();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(tempJar), manifest)) {
+            for (Path file : files) {
+                String entryName = classesDirectory.relativize(file).toString().replace('\\', '/');
+                if (Files.isDirectory(file)) {
+                    jar.putNextEntry(new JarEntry(entryName + "/"));
+                    jar.closeEntry();
+                    continue;
+                }
+                // Written below; a second copy would be a duplicate entry
+                if (entryName.equals(JarFile.MANIFEST_NAME) || entryName.equals(PackagedModules.DESCRIPTOR_ENTRY)
+                        || entryName.equals(PackagedModules.CLASS_INDEX_ENTRY)) {
+                    continue;
+                }
+                JarEntry entry = new JarEntry(entryName);
+                entry.setTime(Files.getLastModifiedTime(file).toMillis());
+                jar.putNextEntry(entry);
+                Files.copy(file, jar);
+                jar.closeEntry();
+
+                String className = classNameOf(entryName);
+                if (className != null) {
+                    classNames.add(className);
+                }
+            }
+
+            jar.putNextEntry(new JarEntry(PackagedModules.DESCRIPTOR_ENTRY));
+            jar.write(JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(descriptor));
+            jar.closeEntry();
+
+            jar.putNextEntry(new JarEntry(PackagedModules.CLASS_INDEX_ENTRY));
+            jar.write((String.join("\n", classNames) + "\n").getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempJar);
+            throw e;
+        }
+        Files.move(tempJar, moduleJar, StandardCopyOption.REPLACE_EXISTING);
+
+        // Replace the dependency jars of any earlier packaging
+        Path libDirectory = outputDirectory.resolve(PackagedModules.LIB_DIRECTORY);
+        File[] staleJars = libDirectory.toFile().listFiles((dir, name) -> name.endsWith(".jar"));
+        if (staleJars != null) {
+            for (File staleJar : staleJars) {
+                Files.delete(staleJar.toPath());
+            }
+        }
+        if (!dependencyJars.isEmpty()) {
+            Files.createDirectories(libDirectory);
+            for (File dependencyJar : dependencyJars) {
+                Files.copy(dependencyJar.toPath(), libDirectory.resolve(dependencyJar.getName()),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        return moduleJar.toFile();
+    }
+
+    /**
+     * Gets the binary class name for a jar entry.
+     *
+     * @param entryName The entry name, e.g. {@code games/Board.class}
+     * @return The class name (e.g. {@code games.Board}), or null if the entry is not a loadable class
+     */
+    public static String classNameOf(String entryName) {
+        if (!entryName.endsWith(".class") || entryName.startsWith("META-INF/")
+                || entryName.endsWith("module-info.class") || entryName.endsWith("package-info.class")) {
+            return null;
+        }
+        return entryName.substring(0, entryName.length() - ".class".length()).replace('/', '.');
+    }
+}
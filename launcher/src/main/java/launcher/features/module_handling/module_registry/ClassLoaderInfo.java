@@ -0,0 +1,35 @@
+package launcher.features.module_handling.module_registry;
+
+/**
+ * Diagnostic snapshot of a module class loader that has not been collected yet.
+ *
+ * @param moduleName The module directory name
+ * @param state ACTIVE (current loader for the module), RETIRED (replaced, still in use) or CLOSED
+ * @param pinCount Number of running games using the loader
+ * @param ageMillis Time since the loader was registered
+ * @param classCount Classes defined by the loader
+ * @param metaspaceEstimateBytes Estimated Metaspace used by those classes
+ * @param suspectedLeak true if the loader was closed long ago but is still reachable
+ *
+ * @author Clement Luo
+ * @date January 16, 2026
+ * @edited January 16, 2026
+ * @since Beta 1.0
+ */
+public record ClassLoaderInfo(
+    String moduleName,
+    String state,
+    int pinCount,
+    long ageMillis,
+    int classCount,
+    long metaspaceEstimateBytes,
+    boolean suspectedLeak
+) {
+
+    @Override
+    public String toString() {
+        return moduleName + " [" + state + (pinCount > 0 ? ", pinned x" + pinCount : "") + "] "
+            + classCount + " classes, ~" + (metaspaceEstimateBytes / 1024) + " KB metaspace, age "
+            + (ageMillis / 1000) + "s" + (suspectedLeak ? " - SUSPECTED LEAK" : "");
+    }
+}
@@ -0,0 +1,68 @@
+package launcher.features.module_handling.module_registry;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class loader for a single game module.
+ *
+ * <p>Behaves exactly like a {@link URLClassLoader}, but remembers which module
+ * it belongs to and counts the classes it defines, so {@link ModuleRegistry}
+ * can report per-module class counts without holding on to the loader.
+ *
+ * @author Clement Luo
+ * @date January 16, 2026
+ * @edited January 16, 2026
+ * @since Beta 1.0
+ */
+public class ModuleClassLoader extends URLClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    /** The module directory this loader loads from. */
+    private final File moduleDirectory;
+
+    /** Number of classes defined by this loader (shared with the registry). */
+    private final AtomicInteger definedClassCount = new AtomicInteger();
+
+    /**
+     * Creates a module class loader.
+     *
+     * @param moduleDirectory The module directory
+     * @param urls The classpath URLs
+     * @param parent The parent class loader
+     */
+    public ModuleClassLoader(File moduleDirectory, URL[] urls, ClassLoader parent) {
+        super("module-" + moduleDirectory.getName(), urls, parent);
+        this.moduleDirectory = moduleDirectory;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        Class<?> definedClass = super.findClass(name);
+        definedClassCount.incrementAndGet();
+        return definedClass;
+    }
+
+    /**
+     * Gets the module directory this loader loads from.
+     *
+     * @return The module directory
+     */
+    public File getModuleDirectory() {
+        return moduleDirectory;
+    }
+
+    /**
+     * Gets the live counter of classes defined by this loader.
+     *
+     * @return The class counter
+     */
+    AtomicInteger getDefinedClassCounter() {
+        return definedClassCount;
+    }
+}
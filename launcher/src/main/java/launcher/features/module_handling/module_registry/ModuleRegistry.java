@@ -0,0 +1,270 @@
+package launcher.features.module_handling.module_registry;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_registry.helpers.LoaderRecord;
+
+import java.io.File;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.ref.Cleaner;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Owns the class loaders of loaded game modules.
+ *
+ * <p>Each module has at most one ACTIVE loader. Registering a new loader for a
+ * module (reload, refresh, hot reload) retires the previous one, and releasing
+ * a module (changed or removed on disk) retires its loader. A retired loader is
+ * closed as soon as no running game uses it; running games pin their loader
+ * for as long as they run.
+ *
+ * <p>Every loader is tracked with a {@link Cleaner}, so the registry knows
+ * when a loader has actually been garbage collected. Loaders that were closed
+ * more than {@link #LEAK_GRACE_MS} ago but are still reachable are reported as
+ * suspected leaks by {@link #getLiveClassLoaders()}.
+ *
+ * @author Clement Luo
+ * @date January 16, 2026
+ * @edited January 16, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleRegistry {
+
+    /** Time after closing before an uncollected loader is reported as a suspected leak. */
+    public static final long LEAK_GRACE_MS = 60_000;
+
+    /** Notifies the registry when a loader becomes phantom reachable. */
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    /** Next record id. */
+    private static final AtomicLong nextId = new AtomicLong();
+
+    /** Records of loaders that have not been collected yet, by id. */
+    private static final Map<Long, LoaderRecord> liveRecords = new ConcurrentHashMap<>();
+
+    /** Active record per module, keyed by absolute module path. */
+    private static final Map<String, LoaderRecord> activeByModule = new ConcurrentHashMap<>();
+
+    /** Record for each registered loader (weak keys, so lookups never keep a loader alive). */
+    private static final Map<ClassLoader, LoaderRecord> recordsByLoader =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ModuleRegistry() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== PUBLIC METHODS - LIFECYCLE ====================
+
+    /**
+     * Registers a module's newly created class loader as its active loader.
+     * Any previous loader for the same module is retired.
+     *
+     * @param moduleDir The module directory
+     * @param loader The loader the module was loaded with
+     */
+    public static void register(File moduleDir, URLClassLoader loader) {
+        AtomicInteger classCounter = loader instanceof ModuleClassLoader
+            ? ((ModuleClassLoader) loader).getDefinedClassCounter()
+            : new AtomicInteger();
+        LoaderRecord record = new LoaderRecord(nextId.incrementAndGet(), moduleDir, loader, classCounter);
+
+        liveRecords.put(record.getId(), record);
+        recordsByLoader.put(loader, record);
+        long id = record.getId();
+        CLEANER.register(loader, () -> onCollected(id));
+
+        LoaderRecord previous = activeByModule.put(keyOf(moduleDir), record);
+        if (previous != null && previous != record) {
+            previous.retire();
+        }
+    }
+
+    /**
+     * Closes a loader that was created but will not be used (e.g. the module failed to load).
+     *
+     * @param loader The loader to close
+     */
+    public static void discard(URLClassLoader loader) {
+        LoaderRecord record = recordsByLoader.get(loader);
+        if (record != null) {
+            activeByModule.remove(keyOf(record.getModuleDirectory()), record);
+            record.close();
+            return;
+        }
+        try {
+            loader.close();
+        } catch (Exception e) {
+            Logging.warning("Error closing discarded class loader: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases a module whose files changed or that was removed.
+     * Its loader is closed once no running game uses it.
+     *
+     * @param moduleDir The module directory
+     */
+    public static void release(File moduleDir) {
+        LoaderRecord record = activeByModule.remove(keyOf(moduleDir));
+        if (record != null) {
+            record.retire();
+        }
+    }
+
+    /**
+     * Releases a module instance's loader, e.g. the instance left behind by a hot reload.
+     *
+     * @param gameModule The module instance that is no longer used
+     */
+    public static void release(GameModule gameModule) {
+        LoaderRecord record = recordOf(gameModule);
+        if (record != null) {
+            activeByModule.remove(keyOf(record.getModuleDirectory()), record);
+            record.retire();
+        }
+    }
+
+    /**
+     * Releases every module.
+     */
+    public static void releaseAll() {
+        for (String key : new ArrayList<>(activeByModule.keySet())) {
+            LoaderRecord record = activeByModule.remove(key);
+            if (record != null) {
+                record.retire();
+            }
+        }
+    }
+
+    /**
+     * Marks a module instance's loader as in use by a running game.
+     *
+     * @param gameModule The running module instance
+     */
+    public static void pin(GameModule gameModule) {
+        LoaderRecord record = recordOf(gameModule);
+        if (record != null) {
+            record.pin();
+        }
+    }
+
+    /**
+     * Marks a module instance's loader as no longer used by a running game.
+     *
+     * @param gameModule The module instance that stopped running
+     */
+    public static void unpin(GameModule gameModule) {
+        LoaderRecord record = recordOf(gameModule);
+        if (record != null) {
+            record.unpin();
+        }
+    }
+
+    /**
+     * Checks whether a module instance can still be used (its loader has not been retired).
+     *
+     * @param gameModule The module instance
+     * @return true if the instance's loader is still the active one, or is not managed by the registry
+     */
+    public static boolean isUsable(GameModule gameModule) {
+        LoaderRecord record = recordOf(gameModule);
+        return record == null || record.getState() == LoaderRecord.State.ACTIVE;
+    }
+
+    // ==================== PUBLIC METHODS - DIAGNOSTICS ====================
+
+    /**
+     * Lists the module class loaders that have not been garbage collected yet.
+     *
+     * <p>The Metaspace estimate apportions the JVM's current Metaspace usage by
+     * class count, so it is an average rather than an exact measurement.
+     *
+     * @return Loaders, oldest first
+     */
+    public static List<ClassLoaderInfo> getLiveClassLoaders() {
+        long bytesPerClass = estimateMetaspaceBytesPerClass();
+        long now = System.currentTimeMillis();
+
+        List<LoaderRecord> records = new ArrayList<>(liveRecords.values());
+        records.sort(Comparator.comparingLong(LoaderRecord::getId));
+
+        List<ClassLoaderInfo> infos = new ArrayList<>(records.size());
+        for (LoaderRecord record : records) {
+            boolean suspectedLeak = record.getState() == LoaderRecord.State.CLOSED
+                && now - record.getClosedAt() > LEAK_GRACE_MS;
+            infos.add(new ClassLoaderInfo(
+                record.getModuleDirectory().getName(),
+                record.getState().name(),
+                record.getPinCount(),
+                now - record.getRegisteredAt(),
+                record.getClassCount(),
+                record.getClassCount() * bytesPerClass,
+                suspectedLeak));
+        }
+        return infos;
+    }
+
+    /**
+     * Logs the live module class loaders and JVM class/Metaspace totals.
+     */
+    public static void logLiveClassLoaders() {
+        List<ClassLoaderInfo> infos = getLiveClassLoaders();
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        Logging.info("📝 Module class loaders: " + infos.size() + " live, JVM classes loaded: "
+            + classLoading.getLoadedClassCount() + ", metaspace used: " + (getMetaspaceUsedBytes() / 1024) + " KB");
+        for (ClassLoaderInfo info : infos) {
+            if (info.suspectedLeak()) {
+                Logging.warning("   " + info);
+            } else {
+                Logging.info("   " + info);
+            }
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Called by the cleaner once a loader has been collected.
+     *
+     * @param id The record id
+     */
+    private static void onCollected(long id) {
+        LoaderRecord record = liveRecords.remove(id);
+        if (record != null) {
+            Logging.debug("Module class loader collected: " + record.getModuleDirectory().getName());
+        }
+    }
+
+    private static LoaderRecord recordOf(GameModule gameModule) {
+        return gameModule != null ? recordsByLoader.get(gameModule.getClass().getClassLoader()) : null;
+    }
+
+    private static long estimateMetaspaceBytesPerClass() {
+        int loadedClasses = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        return loadedClasses > 0 ? getMetaspaceUsedBytes() / loadedClasses : 0;
+    }
+
+    private static long getMetaspaceUsedBytes() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return 0;
+    }
+
+    private static String keyOf(File moduleDir) {
+        return moduleDir.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
@@ -0,0 +1,61 @@
+package launcher.features.module_handling.module_registry;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+
+import java.security.CodeSource;
+
+/**
+ * The class loader shared by every module class loader as its parent.
+ *
+ * <p>GDK, launcher and JavaFX classes are already loaded once by the launcher's
+ * own class loader, so that loader is the shared parent. Module loaders delegate
+ * to it first and only carry the module's own classes and private dependencies;
+ * no module ever defines its own copy of {@code gdk.api.GameModule}, so checks
+ * against {@code GameModule.class} are plain identity checks.
+ *
+ * @author Clement Luo
+ * @date January 17, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class SharedParentClassLoader {
+
+    /** The launcher's class loader, which defines the GDK and launcher classes. */
+    private static final ClassLoader SHARED_PARENT = SharedParentClassLoader.class.getClassLoader();
+
+    /** Whether the shared classes' locations have been logged. */
+    private static volatile boolean logged;
+
+    private SharedParentClassLoader() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Gets the parent for module class loaders.
+     *
+     * @return The shared parent class loader
+     */
+    public static ClassLoader get() {
+        if (!logged) {
+            logged = true;
+            Logging.info("🔧 Module classloaders share parent " + describe(SHARED_PARENT)
+                + " (GDK classes from " + locationOf(GameModule.class) + ")");
+        }
+        return SHARED_PARENT;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static String describe(ClassLoader loader) {
+        if (loader == null) {
+            return "bootstrap";
+        }
+        return loader.getName() != null ? loader.getName() : loader.getClass().getName();
+    }
+
+    private static String locationOf(Class<?> type) {
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        return codeSource != null && codeSource.getLocation() != null ? codeSource.getLocation().toString() : "unknown";
+    }
+}
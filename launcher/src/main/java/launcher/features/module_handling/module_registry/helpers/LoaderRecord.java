@@ -0,0 +1,149 @@
+package launcher.features.module_handling.module_registry.helpers;
+
+import gdk.internal.Logging;
+
+import java.io.File;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry bookkeeping for one module class loader.
+ *
+ * <p>The record holds the loader strongly only while it is open, so that the
+ * registry can close it later. Once closed, nothing here keeps the loader
+ * reachable; the registry's {@link java.lang.ref.Cleaner} then reports when it
+ * has actually been collected. Class counts are kept in a counter shared with
+ * the loader so they stay readable without it.
+ *
+ * @author Clement Luo
+ * @date January 16, 2026
+ * @edited January 16, 2026
+ * @since Beta 1.0
+ */
+public final class LoaderRecord {
+
+    /**
+     * Lifecycle of a registered loader.
+     */
+    public enum State {
+        /** The module's current loader. */
+        ACTIVE,
+        /** Replaced or released, but still used by a running game. */
+        RETIRED,
+        /** Closed; waiting to be collected. */
+        CLOSED
+    }
+
+    private final long id;
+    private final File moduleDirectory;
+    private final AtomicInteger classCounter;
+    private final long registeredAt = System.currentTimeMillis();
+    private final AtomicInteger pins = new AtomicInteger();
+
+    private volatile State state = State.ACTIVE;
+    private volatile long closedAt;
+
+    /** Strong reference held until the loader is closed. */
+    private URLClassLoader loader;
+
+    /**
+     * Creates a record for a newly registered loader.
+     *
+     * @param id Unique record id
+     * @param moduleDirectory The module the loader belongs to
+     * @param loader The loader
+     * @param classCounter Counter of classes defined by the loader
+     */
+    public LoaderRecord(long id, File moduleDirectory, URLClassLoader loader, AtomicInteger classCounter) {
+        this.id = id;
+        this.moduleDirectory = moduleDirectory;
+        this.loader = loader;
+        this.classCounter = classCounter;
+    }
+
+    // ==================== LIFECYCLE ====================
+
+    /**
+     * Marks the loader as no longer current and closes it if nothing uses it.
+     */
+    public synchronized void retire() {
+        if (state == State.ACTIVE) {
+            state = State.RETIRED;
+        }
+        closeIfUnused();
+    }
+
+    /**
+     * Records that a running game uses this loader.
+     */
+    public synchronized void pin() {
+        pins.incrementAndGet();
+    }
+
+    /**
+     * Records that a running game stopped using this loader, closing it if it was retired.
+     */
+    public synchronized void unpin() {
+        if (pins.get() > 0) {
+            pins.decrementAndGet();
+        }
+        closeIfUnused();
+    }
+
+    /**
+     * Closes the loader now, regardless of pins.
+     */
+    public synchronized void close() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        try {
+            if (loader != null) {
+                loader.close();
+            }
+        } catch (Exception e) {
+            Logging.warning("Error closing class loader for " + moduleDirectory.getName() + ": " + e.getMessage());
+        }
+        loader = null;
+        state = State.CLOSED;
+        closedAt = System.currentTimeMillis();
+        Logging.info("🔧 Closed class loader for module " + moduleDirectory.getName()
+            + " (" + classCounter.get() + " classes)");
+    }
+
+    private void closeIfUnused() {
+        if (state == State.RETIRED && pins.get() == 0) {
+            close();
+        }
+    }
+
+    // ==================== ACCESSORS ====================
+
+    public long getId() {
+        return id;
+    }
+
+    public File getModuleDirectory() {
+        return moduleDirectory;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public int getPinCount() {
+        return pins.get();
+    }
+
+    public int getClassCount() {
+        return classCounter.get();
+    }
+
+    public long getRegisteredAt() {
+        return registeredAt;
+    }
+
+    public long getClosedAt() {
+        return closedAt;
+    }
+}
@@ -17,7 +17,7 @@ import java.util.List;
  * 
  * @author Clement Luo
  * @date December 27, 2025
- * @edited January 3, 2026
+ * @edited January 14, 2026
  * @since Beta 1.0
  */
 public final class ScanForModuleFolders {
@@ -48,5 +48,17 @@ public final class ScanForModuleFolders {
         // If accessible, find and return all module folders
         return ModuleFolderFinder.findModuleFolders(modulesDirectoryPath);
     }
+    
+    /**
+     * Checks whether a directory is a possible module folder.
+     * 
+     * <p>Applies the same filter as {@link #findModuleFolders(String)} to a single
+     * directory, without listing the whole modules directory.
+     * 
+     * @param directory The directory to check
+     * @return true if the directory exists and is not an infrastructure or hidden directory
+     */
+    public static boolean isModuleFolder(File directory) {
+        return ModuleFolderFinder.isModuleFolder(directory);
+    }
 }
-
@@ -19,7 +19,7 @@ import java.util.List;
  * 
  * @author Clement Luo
  * @date January 2, 2026
- * @edited January 3, 2026
+ * @edited January 14, 2026
  * @since Beta 1.0
  */
 public final class ModuleFolderFinder {
@@ -66,5 +66,14 @@ public final class ModuleFolderFinder {
 
         return allModules;
     }
+    
+    /**
+     * Checks whether a directory is a possible module folder.
+     * 
+     * @param directory The directory to check
+     * @return true if the directory exists and is not an infrastructure or hidden directory
+     */
+    public static boolean isModuleFolder(File directory) {
+        return directory.isDirectory() && !ModuleFolderFilter.shouldSkip(directory);
+    }
 }
-
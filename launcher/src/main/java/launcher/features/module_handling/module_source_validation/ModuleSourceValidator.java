@@ -1,8 +1,6 @@
 package launcher.features.module_handling.module_source_validation;
 
 import gdk.internal.Logging;
-import launcher.features.module_handling.module_source_validation.helpers.file_validation.ValidateMainFile;
-import launcher.features.module_handling.module_source_validation.helpers.file_validation.ValidateMetadataFile;
 import launcher.features.module_handling.module_source_validation.helpers.CheckForRequiredFiles;
 
 import java.io.File;
@@ -18,7 +16,7 @@ import java.io.File;
  * 
  * @author Clement Luo
  * @date January 2, 2026
- * @edited January 3, 2026
+ * @edited February 1, 2026
  * @since Beta 1.0
  */
 public final class ModuleSourceValidator {
@@ -30,41 +28,20 @@ public final class ModuleSourceValidator {
     /**
      * Checks if a directory contains a valid module.
      * 
-     * <p>Validity is determined by:
-     * <ul>
-     *   <li>Presence of required source files (Main.java, Metadata.java)</li>
-     *   <li>Minimal API signatures in those files</li>
-     * </ul>
+     * <p>Validity is determined by the presence of the required source files
+     * (Main.java, Metadata.java). Their contents are not scanned: once compiled,
+     * the Main and Metadata classes are checked from their class files (see
+     * {@code ModuleTargetValidator.preLoadCheck}).
      * 
      * @param moduleDir The module directory to validate
      * @return true if the directory contains a valid module, false otherwise
      */
     public static boolean isValidModule(File moduleDir) {
         try {
-            // Check for required file structure
-            if (!CheckForRequiredFiles.hasRequiredFiles(moduleDir)) {
-                return false;
-            }
-            
-            // Validate Main.java content
-            File mainJavaFile = new File(moduleDir, "src/main/java/Main.java");
-            if (!ValidateMainFile.isValid(mainJavaFile)) {
-                Logging.info("Module " + moduleDir.getName() + " missing required methods in Main.java");
-                return false;
-            }
-            
-            // Validate Metadata.java content
-            File metadataJavaFile = new File(moduleDir, "src/main/java/Metadata.java");
-            if (!ValidateMetadataFile.isValid(metadataJavaFile)) {
-                Logging.info("Module " + moduleDir.getName() + " missing required methods in Metadata.java");
-                return false;
-            }
-            
-            return true;
+            return CheckForRequiredFiles.hasRequiredFiles(moduleDir);
         } catch (Exception e) {
             Logging.error("Error validating module " + moduleDir.getName() + ": " + e.getMessage(), e);
             return false;
         }
     }
 }
-
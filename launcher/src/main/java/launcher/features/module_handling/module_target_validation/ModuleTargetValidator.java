@@ -1,13 +1,16 @@
 package launcher.features.module_handling.module_target_validation;
 
+import launcher.features.module_handling.module_packaging.PackagedModules;
+import launcher.features.module_handling.module_target_validation.helpers.ClassFileValidator;
 import launcher.features.module_handling.module_target_validation.helpers.ClassValidator;
 
 import java.io.File;
 
 /**
- * Checks if a loaded module is valid.
+ * Checks if a compiled module is valid.
  * 
- * <p>This class provides a single method to check if a module has valid compiled classes.
+ * <p>Before load, the module's Main and Metadata class files are checked without
+ * defining them; after load, the Main class itself is checked.
  * All other module_target_validation logic is delegated to helper classes.
  * 
  * <p>All other classes in this package are internal implementation details.
@@ -15,7 +18,7 @@ import java.io.File;
  * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 3, 2026
+ * @edited February 1, 2026
  * @since Beta 1.0
  */
 public final class ModuleTargetValidator {
@@ -24,6 +27,22 @@ public final class ModuleTargetValidator {
         throw new AssertionError("Utility class should not be instantiated");
     }
     
+    /**
+     * Validates a module's compiled classes from their class file headers.
+     * 
+     * <p>Checks that the main class implements GameModule and (for a source module)
+     * that Metadata extends GameMetadata, and that both can be instantiated. Only
+     * the class files are read, so this can run while the module's classloader is
+     * being created.
+     * 
+     * @param moduleDir The module directory (compiled, or packaged)
+     * @return true if the compiled classes are valid, false otherwise
+     */
+    public static boolean preLoadCheck(File moduleDir) {
+        String mainClassName = PackagedModules.mainClassName(moduleDir);
+        return mainClassName != null && ClassFileValidator.isValidModule(moduleDir, mainClassName);
+    }
+    
     /**
      * Validates that a loaded Main class implements the GameModule interface.
      * 
@@ -0,0 +1,184 @@
+package launcher.features.module_handling.module_target_validation.helpers;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The parts of a class file that module validation needs, read straight from
+ * its bytes without defining the class.
+ *
+ * <p>Only the constant pool, the class's own access flags, super class and
+ * interfaces, and the field and method tables (to find a public no-argument
+ * constructor) are read. Names are internal names, e.g. {@code gdk/api/GameModule}.
+ *
+ * @param name Internal name of the class
+ * @param superName Internal name of the super class, or null for {@code java/lang/Object}
+ * @param interfaces Internal names of the directly implemented interfaces
+ * @param accessFlags The class's access flags
+ * @param hasPublicNoArgConstructor true if the class declares {@code public <init>()V}
+ *
+ * @author Clement Luo
+ * @date February 1, 2026
+ * @edited February 1, 2026
+ * @since Beta 1.0
+ */
+public record ClassFileHeader(String name, String superName, List<String> interfaces, int accessFlags,
+                              boolean hasPublicNoArgConstructor) {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+
+    // Constant pool tags (JVMS 4.4)
+    private static final int CONSTANT_UTF8 = 1;
+    private static final int CONSTANT_INTEGER = 3;
+    private static final int CONSTANT_FLOAT = 4;
+    private static final int CONSTANT_LONG = 5;
+    private static final int CONSTANT_DOUBLE = 6;
+    private static final int CONSTANT_CLASS = 7;
+    private static final int CONSTANT_STRING = 8;
+    private static final int CONSTANT_FIELDREF = 9;
+    private static final int CONSTANT_METHODREF = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE = 12;
+    private static final int CONSTANT_METHOD_HANDLE = 15;
+    private static final int CONSTANT_METHOD_TYPE = 16;
+    private static final int CONSTANT_DYNAMIC = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+    private static final int CONSTANT_MODULE = 19;
+    private static final int CONSTANT_PACKAGE = 20;
+
+    /**
+     * Checks whether the launcher can instantiate the class reflectively: it is a
+     * public, concrete (neither interface nor abstract) class with a public
+     * no-argument constructor.
+     *
+     * @return true if {@code getDeclaredConstructor().newInstance()} can succeed
+     */
+    public boolean isInstantiable() {
+        return (accessFlags & ACC_PUBLIC) != 0 && (accessFlags & (ACC_INTERFACE | ACC_ABSTRACT)) == 0
+            && hasPublicNoArgConstructor;
+    }
+
+    /**
+     * Parses a class file.
+     *
+     * @param bytes The class file
+     * @return The header
+     * @throws IOException If the bytes are not a well-formed class file
+     */
+    public static ClassFileHeader parse(byte[] bytes) throws IOException {
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a class file");
+        }
+        input.readUnsignedShort(); // minor version
+        input.readUnsignedShort(); // major version
+
+        // Only UTF-8 and class entries are kept; everything else is skipped by its size
+        int constantPoolCount = input.readUnsignedShort();
+        String[] utf8 = new String[constantPoolCount];
+        int[] classNameIndex = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            int tag = input.readUnsignedByte();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    utf8[i] = input.readUTF();
+                    break;
+                case CONSTANT_CLASS:
+                    classNameIndex[i] = input.readUnsignedShort();
+                    break;
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    input.skipBytes(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    input.skipBytes(3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    input.skipBytes(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // Eight-byte constants take up two pool slots
+                    input.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag + " at index " + i);
+            }
+        }
+
+        int accessFlags = input.readUnsignedShort();
+        String name = className(input.readUnsignedShort(), utf8, classNameIndex);
+        int superIndex = input.readUnsignedShort();
+        String superName = superIndex == 0 ? null : className(superIndex, utf8, classNameIndex);
+
+        int interfaceCount = input.readUnsignedShort();
+        List<String> interfaces = new ArrayList<>(interfaceCount);
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(className(input.readUnsignedShort(), utf8, classNameIndex));
+        }
+
+        skipFields(input);
+
+        boolean hasPublicNoArgConstructor = false;
+        int methodCount = input.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            int methodAccess = input.readUnsignedShort();
+            String methodName = utf8[input.readUnsignedShort()];
+            String descriptor = utf8[input.readUnsignedShort()];
+            skipAttributes(input);
+            if ("<init>".equals(methodName) && "()V".equals(descriptor) && (methodAccess & ACC_PUBLIC) != 0) {
+                hasPublicNoArgConstructor = true;
+            }
+        }
+
+        return new ClassFileHeader(name, superName, List.copyOf(interfaces), accessFlags, hasPublicNoArgConstructor);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static String className(int index, String[] utf8, int[] classNameIndex) throws IOException {
+        if (index <= 0 || index >= classNameIndex.length || utf8[classNameIndex[index]] == null) {
+            throw new IOException("Bad class reference " + index);
+        }
+        return utf8[classNameIndex[index]];
+    }
+
+    /**
+     * Skips the field table.
+     */
+    private static void skipFields(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            input.skipBytes(6); // access flags, name, descriptor
+            skipAttributes(input);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream input) throws IOException {
+        int count = input.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            input.readUnsignedShort(); // attribute name
+            int length = input.readInt();
+            if (input.skipBytes(length) != length) {
+                throw new IOException("Truncated class file");
+            }
+        }
+    }
+}
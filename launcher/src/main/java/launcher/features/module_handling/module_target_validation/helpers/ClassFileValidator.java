@@ -0,0 +1,241 @@
+package launcher.features.module_handling.module_target_validation.helpers;
+
+import gdk.api.GameMetadata;
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Validates a module's compiled Main and Metadata classes from their class files.
+ *
+ * <p>The class files are read from {@code target/classes} (or a packaged module's
+ * {@code module.jar}) and only their headers are parsed - no class is defined, so no
+ * class loader or static initializer is involved. Parsed headers are cached by path
+ * until the class file's (or module.jar's) size or modified time changes, so an
+ * unchanged class is not even read again.
+ *
+ * <p>Super types are followed through the module's own classes. A super type the
+ * module does not contain (e.g. from a dependency jar) cannot be checked here and
+ * is given the benefit of the doubt; {@link ClassValidator} still checks the loaded class.
+ *
+ * @author Clement Luo
+ * @date February 1, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class ClassFileValidator {
+
+    private static final String GAME_MODULE = GameModule.class.getName().replace('.', '/');
+    private static final String GAME_METADATA = GameMetadata.class.getName().replace('.', '/');
+
+    /** Upper bound on cached headers; the cache is simply cleared when it is reached. */
+    private static final int MAX_CACHED_HEADERS = 4096;
+
+    /** Parsed headers keyed by class file path ({@code jar!entry} inside a module.jar). */
+    private static final Map<String, CachedHeader> HEADERS = new ConcurrentHashMap<>();
+
+    private ClassFileValidator() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Validates a module's compiled classes.
+     *
+     * <p>The main class must implement {@code GameModule} and a source module's
+     * {@code Metadata} class must extend {@code GameMetadata}; both must be public,
+     * non-abstract classes with a public no-argument constructor, as the launcher
+     * instantiates them reflectively. A packaged module carries its metadata in
+     * its descriptor, so only its main class is checked.
+     *
+     * @param moduleDir The module directory
+     * @param mainClassName Binary name of the main class
+     * @return true if the classes are valid, false otherwise
+     */
+    public static boolean isValidModule(File moduleDir, String mainClassName) {
+        String moduleName = moduleDir.getName();
+        try (ClassFiles classFiles = ClassFiles.open(moduleDir)) {
+            if (!isValidClass(classFiles, mainClassName.replace('.', '/'), GAME_MODULE, moduleName)) {
+                return false;
+            }
+            return classFiles.isPackaged() || isValidClass(classFiles, "Metadata", GAME_METADATA, moduleName);
+        } catch (Exception e) {
+            Logging.error("Error validating class files of module " + moduleName + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private static boolean isValidClass(ClassFiles classFiles, String className, String requiredType,
+                                        String moduleName) throws IOException {
+        ClassFileHeader header = classFiles.header(className);
+        if (header == null) {
+            Logging.info("Module " + moduleName + " has no compiled " + className + " class");
+            return false;
+        }
+        if (!header.isInstantiable()) {
+            Logging.info("Module " + moduleName + ": " + className
+                + " must be a public, non-abstract class with a public no-argument constructor");
+            return false;
+        }
+        if (!mayBeSubtypeOf(classFiles, header, requiredType, new HashSet<>())) {
+            Logging.info("Module " + moduleName + ": " + className + " does not "
+                + (requiredType.equals(GAME_MODULE) ? "implement GameModule" : "extend GameMetadata"));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks whether a class is (or, where its hierarchy leaves the module, may be) a subtype.
+     */
+    private static boolean mayBeSubtypeOf(ClassFiles classFiles, ClassFileHeader header, String requiredType,
+                                          Set<String> visited) throws IOException {
+        if (requiredType.equals(header.superName()) || header.interfaces().contains(requiredType)) {
+            return true;
+        }
+        Set<String> superTypes = new HashSet<>(header.interfaces());
+        if (header.superName() != null) {
+            superTypes.add(header.superName());
+        }
+        for (String superType : superTypes) {
+            // JDK and JavaFX types cannot lead to a GDK type
+            if (superType.startsWith("java/") || superType.startsWith("javax/") || superType.startsWith("javafx/")
+                    || !visited.add(superType)) {
+                continue;
+            }
+            ClassFileHeader superHeader = classFiles.header(superType);
+            if (superHeader == null) {
+                Logging.debug(() -> "Super type " + superType + " of " + header.name()
+                    + " is not in the module - left to the post-load check");
+                return true;
+            }
+            if (mayBeSubtypeOf(classFiles, superHeader, requiredType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the header cached for a class file, if the file has not changed since.
+     */
+    private static ClassFileHeader cachedHeader(String key, long size, long lastModified) {
+        CachedHeader cached = HEADERS.get(key);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.header();
+        }
+        return null;
+    }
+
+    private static void cacheHeader(String key, long size, long lastModified, ClassFileHeader header) {
+        if (HEADERS.size() >= MAX_CACHED_HEADERS) {
+            HEADERS.clear();
+        }
+        HEADERS.put(key, new CachedHeader(size, lastModified, header));
+    }
+
+    /**
+     * Class files of one module: its target/classes directory or its module.jar.
+     */
+    private static final class ClassFiles implements Closeable {
+
+        private final Path classesDirectory;
+        private final File moduleJarFile;
+        /** Opened on the first cache miss, so fully cached validations never open the jar. */
+        private JarFile moduleJar;
+
+        private ClassFiles(Path classesDirectory, File moduleJarFile) {
+            this.classesDirectory = classesDirectory;
+            this.moduleJarFile = moduleJarFile;
+        }
+
+        static ClassFiles open(File moduleDir) {
+            if (PackagedModules.isPackaged(moduleDir)) {
+                return new ClassFiles(null, PackagedModules.moduleJar(moduleDir).getAbsoluteFile());
+            }
+            return new ClassFiles(new File(moduleDir, "target/classes").toPath().toAbsolutePath(), null);
+        }
+
+        boolean isPackaged() {
+            return moduleJarFile != null;
+        }
+
+        /**
+         * Reads and parses a class of the module, unless its header is cached.
+         *
+         * @param internalName e.g. {@code games/Board}
+         * @return The header, or null if the module has no such class
+         */
+        ClassFileHeader header(String internalName) throws IOException {
+            String fileName = internalName + ".class";
+            if (moduleJarFile != null) {
+                String key = moduleJarFile.getPath() + "!" + fileName;
+                long size = moduleJarFile.length();
+                long lastModified = moduleJarFile.lastModified();
+                ClassFileHeader header = cachedHeader(key, size, lastModified);
+                if (header != null) {
+                    return header;
+                }
+
+                if (moduleJar == null) {
+                    moduleJar = new JarFile(moduleJarFile);
+                }
+                JarEntry entry = moduleJar.getJarEntry(fileName);
+                if (entry == null) {
+                    return null;
+                }
+                try (InputStream input = moduleJar.getInputStream(entry)) {
+                    header = ClassFileHeader.parse(input.readAllBytes());
+                }
+                cacheHeader(key, size, lastModified, header);
+                return header;
+            }
+
+            Path classFile = classesDirectory.resolve(fileName);
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+            } catch (NoSuchFileException e) {
+                return null;
+            }
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            String key = classFile.toString();
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            ClassFileHeader header = cachedHeader(key, size, lastModified);
+            if (header == null) {
+                header = ClassFileHeader.parse(Files.readAllBytes(classFile));
+                cacheHeader(key, size, lastModified, header);
+            }
+            return header;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (moduleJar != null) {
+                moduleJar.close();
+            }
+        }
+    }
+
+    private record CachedHeader(long size, long lastModified, ClassFileHeader header) {
+    }
+}
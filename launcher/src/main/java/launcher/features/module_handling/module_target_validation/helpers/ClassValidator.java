@@ -8,7 +8,7 @@ import gdk.internal.Logging;
  * 
  * @author Clement Luo
  * @date January 3, 2026
- * @edited January 3, 2026
+ * @edited January 17, 2026
  * @since Beta 1.0
  */
 public final class ClassValidator {
@@ -20,20 +20,46 @@ public final class ClassValidator {
     /**
      * Validates that a Main class implements the GameModule interface.
      * 
+     * <p>Module class loaders delegate GDK classes to a shared parent, so this is an
+     * identity check against the launcher's own {@code GameModule} class. A Main
+     * class that implements a {@code GameModule} defined by some other loader
+     * (e.g. a GDK copy bundled into the module) is rejected with a specific message.
+     * 
      * @param mainClass The Main class to validate
      * @return true if the class implements GameModule, false otherwise
      */
     public static boolean isValidMainClass(Class<?> mainClass) {
         try {
-            boolean implementsGameModule = GameModule.class.isAssignableFrom(mainClass);
-            if (!implementsGameModule) {
+            if (GameModule.class.isAssignableFrom(mainClass)) {
+                return true;
+            }
+            if (implementsInterfaceNamed(mainClass, GameModule.class.getName())) {
+                Logging.info("Main class implements a GameModule from a different class loader - "
+                    + "the module must not bundle its own copy of the GDK");
+            } else {
                 Logging.info("Main class does not implement GameModule interface");
             }
-            return implementsGameModule;
+            return false;
         } catch (Exception e) {
             Logging.error("Error validating main class: " + e.getMessage(), e);
             return false;
         }
     }
+    
+    // ==================== PRIVATE METHODS ====================
+    
+    /**
+     * Checks the class hierarchy for an interface by name, ignoring which loader defined it.
+     */
+    private static boolean implementsInterfaceNamed(Class<?> type, String interfaceName) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Class<?> implemented : current.getInterfaces()) {
+                if (implemented.getName().equals(interfaceName) || implementsInterfaceNamed(implemented, interfaceName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
 }
 
@@ -0,0 +1,40 @@
+package launcher.features.module_handling.module_watching;
+
+import gdk.api.GameModule;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Changes to the set of available modules detected by {@link ModuleWatcher}.
+ *
+ * <p>Modules are identified by their directory: an added or changed module
+ * replaces any module from the same directory, and removed modules are given
+ * by directory only.
+ *
+ * @param added Modules that were not available before
+ * @param changed Modules that were reloaded after their files changed
+ * @param removed Directories of modules that were deleted, became invalid or failed to load
+ * @param compilationFailures Names of modules that failed to compile or load
+ *
+ * @author Clement Luo
+ * @date January 14, 2026
+ * @edited January 14, 2026
+ * @since Beta 1.0
+ */
+public record ModuleChangeDelta(
+    List<GameModule> added,
+    List<GameModule> changed,
+    List<File> removed,
+    List<String> compilationFailures
+) {
+
+    /**
+     * Checks whether this delta contains any change.
+     *
+     * @return true if nothing was added, changed, removed or failed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty() && compilationFailures.isEmpty();
+    }
+}
@@ -0,0 +1,209 @@
+package launcher.features.module_handling.module_watching;
+
+import gdk.internal.Logging;
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+import launcher.features.module_handling.module_watching.helpers.ModuleChangeProcessor;
+import launcher.features.module_handling.module_watching.helpers.ModuleWatchRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches the modules directory and reloads modules as their files change.
+ *
+ * <p>A {@link WatchService} is registered on the modules root and on each
+ * module's {@code src} and {@code target/classes} trees. The watcher thread
+ * blocks until an event arrives, so it uses no CPU while idle. Events are
+ * debounced: after the first event, further events are collected until none
+ * arrive for {@link #DEBOUNCE_MS}, and each affected module is then re-scanned,
+ * re-validated and re-loaded once. The resulting {@link ModuleChangeDelta} is
+ * passed to the listener; empty deltas are not reported.
+ *
+ * @author Clement Luo
+ * @date January 14, 2026
+ * @edited February 2, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleWatcher {
+
+    /** Quiet period that ends a burst of events. */
+    public static final long DEBOUNCE_MS = 300;
+
+    private final Path modulesRoot;
+    private final Consumer<ModuleChangeDelta> listener;
+
+    private WatchService watchService;
+    private ModuleWatchRegistry registry;
+    private ModuleChangeProcessor processor;
+    private Thread watchThread;
+
+    /** Whether {@link #stop()} is registered to run on shutdown (once per watcher). */
+    private boolean shutdownCleanupRegistered;
+
+    /**
+     * Creates a watcher for a modules directory. Call {@link #start(Collection)} to begin watching.
+     *
+     * @param modulesDirectoryPath The modules directory
+     * @param listener Receives a delta after each burst of changes (called on the watcher thread)
+     */
+    public ModuleWatcher(String modulesDirectoryPath, Consumer<ModuleChangeDelta> listener) {
+        this.modulesRoot = new File(modulesDirectoryPath).toPath().toAbsolutePath().normalize();
+        this.listener = listener;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Starts watching, or re-synchronizes the set of available modules if already watching.
+     *
+     * @param availableModuleDirectories Directories of the modules currently shown to the user
+     * @return true if the watcher is running
+     */
+    public synchronized boolean start(Collection<File> availableModuleDirectories) {
+        if (isRunning()) {
+            processor.resync(availableModuleDirectories);
+            return true;
+        }
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registry = new ModuleWatchRegistry(watchService, modulesRoot);
+            registry.registerRoot();
+            processor = new ModuleChangeProcessor(registry);
+            processor.resync(availableModuleDirectories);
+
+            // Watch incomplete module folders too, so they are picked up once they become valid
+            for (File moduleDir : ScanForModuleFolders.findModuleFolders(modulesRoot.toString())) {
+                registry.registerModule(moduleDir);
+            }
+        } catch (IOException e) {
+            Logging.error("❌ Could not start module watcher on " + modulesRoot + ": " + e.getMessage(), e);
+            closeWatchService();
+            return false;
+        }
+
+        watchThread = new Thread(this::watchLoop, "ModuleWatcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        if (!shutdownCleanupRegistered) {
+            Shutdown.registerCleanupTask(this::stop);
+            shutdownCleanupRegistered = true;
+        }
+
+        Logging.info("✅ Watching " + registry.size() + " module director(ies) under " + modulesRoot);
+        return true;
+    }
+
+    /**
+     * Stops watching.
+     */
+    public synchronized void stop() {
+        if (watchThread == null) {
+            return;
+        }
+        Logging.info("Stopping module watcher");
+        closeWatchService();
+        watchThread.interrupt();
+        watchThread = null;
+    }
+
+    /**
+     * Checks whether the watcher is running.
+     *
+     * @return true if the watcher thread is alive
+     */
+    public synchronized boolean isRunning() {
+        return watchThread != null && watchThread.isAlive();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Waits for events, debounces them and processes the affected modules.
+     */
+    private void watchLoop() {
+        WatchService service = watchService;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<File> changedModules = new LinkedHashSet<>();
+
+                // Block until something happens, then keep collecting until it goes quiet
+                WatchKey key = service.take();
+                do {
+                    collectChangedModules(key, changedModules);
+                    key = service.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                if (changedModules.isEmpty()) {
+                    continue;
+                }
+
+                ModuleChangeDelta delta = processor.process(changedModules);
+                if (!delta.isEmpty()) {
+                    Logging.info("📥 Module changes: " + delta.added().size() + " added, " + delta.changed().size()
+                        + " changed, " + delta.removed().size() + " removed");
+                    listener.accept(delta);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        } catch (Exception e) {
+            Logging.error("❌ Module watcher stopped unexpectedly: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Maps the events on a key to module folders and resets the key.
+     *
+     * @param key The signalled key
+     * @param changedModules Collects the affected module folders
+     */
+    private void collectChangedModules(WatchKey key, Set<File> changedModules) {
+        Path directory = registry.directoryOf(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost; fall back to checking every module
+                changedModules.addAll(ScanForModuleFolders.findModuleFolders(modulesRoot.toString()));
+                continue;
+            }
+            if (directory == null) {
+                continue;
+            }
+
+            Path changedPath = directory.resolve((Path) event.context());
+            File moduleDir = registry.moduleDirectoryFor(key, changedPath);
+            if (moduleDir != null) {
+                changedModules.add(moduleDir);
+            }
+        }
+
+        if (!key.reset()) {
+            registry.forget(key);
+        }
+    }
+
+    private void closeWatchService() {
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            Logging.warning("Error closing module watcher: " + e.getMessage());
+        }
+        watchService = null;
+    }
+}
@@ -0,0 +1,143 @@
+package launcher.features.module_handling.module_watching;
+
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_watching.helpers.ModuleWatchRegistry;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a single module (typically the one currently running) for changes.
+ *
+ * <p>Registers the module's {@code src} and {@code target/classes} trees with a
+ * {@link WatchService}, debounces bursts of events the same way as
+ * {@link ModuleWatcher}, and runs the change callback on the watcher thread
+ * when the module's fingerprint has moved. The fingerprint is taken again after
+ * the callback returns, so files written by the callback itself (compile
+ * output) do not trigger it a second time.
+ *
+ * @author Clement Luo
+ * @date January 15, 2026
+ * @edited January 15, 2026
+ * @since Beta 1.0
+ */
+public final class RunningModuleWatcher {
+
+    private final File moduleDirectory;
+    private final Runnable onChange;
+
+    private WatchService watchService;
+    private Thread watchThread;
+
+    /** Fingerprint the module had after the last callback (or at start). */
+    private volatile String lastFingerprint;
+
+    /**
+     * Creates a watcher for one module. Call {@link #start()} to begin watching.
+     *
+     * @param moduleDirectory The module directory
+     * @param onChange Called on the watcher thread after the module changed
+     */
+    public RunningModuleWatcher(File moduleDirectory, Runnable onChange) {
+        this.moduleDirectory = moduleDirectory.getAbsoluteFile();
+        this.onChange = onChange;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Starts watching the module.
+     *
+     * @return true if the watcher is running
+     */
+    public synchronized boolean start() {
+        if (watchThread != null) {
+            return true;
+        }
+
+        ModuleWatchRegistry registry;
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            registry = new ModuleWatchRegistry(watchService, moduleDirectory.getParentFile().toPath());
+            registry.registerModule(moduleDirectory);
+        } catch (IOException e) {
+            Logging.error("❌ Could not watch module " + moduleDirectory.getName() + ": " + e.getMessage(), e);
+            closeWatchService();
+            return false;
+        }
+
+        lastFingerprint = ModuleIndex.currentFingerprint(moduleDirectory);
+        WatchService service = watchService;
+        watchThread = new Thread(() -> watchLoop(service, registry), "RunningModuleWatcher-" + moduleDirectory.getName());
+        watchThread.setDaemon(true);
+        watchThread.start();
+        return true;
+    }
+
+    /**
+     * Stops watching the module.
+     */
+    public synchronized void stop() {
+        if (watchThread == null) {
+            return;
+        }
+        closeWatchService();
+        watchThread.interrupt();
+        watchThread = null;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Waits for events, debounces them and runs the callback when the module changed.
+     *
+     * @param service The watch service to take events from
+     * @param registry The registry to keep in sync with new subdirectories
+     */
+    private void watchLoop(WatchService service, ModuleWatchRegistry registry) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                do {
+                    key.pollEvents();
+                    if (!key.reset()) {
+                        registry.forget(key);
+                    }
+                    key = service.poll(ModuleWatcher.DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+                } while (key != null);
+
+                registry.registerModule(moduleDirectory);
+                String fingerprint = ModuleIndex.currentFingerprint(moduleDirectory);
+                if (fingerprint == null || fingerprint.equals(lastFingerprint)) {
+                    continue;
+                }
+
+                try {
+                    onChange.run();
+                } catch (Exception e) {
+                    Logging.error("❌ Error handling change in module " + moduleDirectory.getName() + ": " + e.getMessage(), e);
+                }
+                lastFingerprint = ModuleIndex.currentFingerprint(moduleDirectory);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    private void closeWatchService() {
+        try {
+            if (watchService != null) {
+                watchService.close();
+            }
+        } catch (IOException e) {
+            Logging.warning("Error closing module watcher: " + e.getMessage());
+        }
+        watchService = null;
+    }
+}
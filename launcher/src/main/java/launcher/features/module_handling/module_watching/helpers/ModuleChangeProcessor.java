@@ -0,0 +1,166 @@
+package launcher.features.module_handling.module_watching.helpers;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_finding.ModuleDiscovery;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+import launcher.features.module_handling.module_source_validation.ModuleSourceValidator;
+import launcher.features.module_handling.module_watching.ModuleChangeDelta;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Re-scans, re-validates and re-loads individual modules after a change.
+ *
+ * <p>The processor remembers which modules are currently available and the
+ * fingerprint each module had when it was last processed. A module whose
+ * fingerprint has not moved (for example, when the only events came from its
+ * own compile output) is skipped, so every real change costs exactly one
+ * module's worth of work.
+ *
+ * @author Clement Luo
+ * @date January 14, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleChangeProcessor {
+
+    /** Fingerprint at last processing, keyed by module path. Present for every processed module. */
+    private final Map<String, String> processedFingerprints = new ConcurrentHashMap<>();
+
+    /** Paths of modules that are currently available (loaded successfully). */
+    private final Map<String, File> availableModules = new ConcurrentHashMap<>();
+
+    /** Registry to update as module folders appear and disappear. */
+    private final ModuleWatchRegistry registry;
+
+    /**
+     * Creates a processor.
+     *
+     * @param registry The watch registry to keep in sync with the modules
+     */
+    public ModuleChangeProcessor(ModuleWatchRegistry registry) {
+        this.registry = registry;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Replaces the set of available modules, e.g. after a full refresh.
+     *
+     * @param moduleDirectories Directories of the modules that are currently available
+     */
+    public void resync(Collection<File> moduleDirectories) {
+        availableModules.clear();
+        processedFingerprints.clear();
+        for (File moduleDir : moduleDirectories) {
+            String key = keyOf(moduleDir);
+            availableModules.put(key, moduleDir);
+            String fingerprint = ModuleIndex.currentFingerprint(moduleDir);
+            if (fingerprint != null) {
+                processedFingerprints.put(key, fingerprint);
+            }
+            registry.registerModule(moduleDir);
+        }
+    }
+
+    /**
+     * Processes a batch of changed module folders.
+     *
+     * @param moduleDirectories Module folders that had filesystem events
+     * @return The resulting changes (may be empty)
+     */
+    public ModuleChangeDelta process(Collection<File> moduleDirectories) {
+        List<GameModule> added = new ArrayList<>();
+        List<GameModule> changed = new ArrayList<>();
+        List<File> removed = new ArrayList<>();
+        List<String> compilationFailures = new ArrayList<>();
+
+        for (File moduleDir : moduleDirectories) {
+            try {
+                processModule(moduleDir, added, changed, removed, compilationFailures);
+            } catch (Exception e) {
+                Logging.error("Error processing change in module " + moduleDir.getName() + ": " + e.getMessage(), e);
+            }
+        }
+        return new ModuleChangeDelta(added, changed, removed, compilationFailures);
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    /**
+     * Processes a single module folder and records the outcome.
+     */
+    private void processModule(File moduleDir, List<GameModule> added, List<GameModule> changed,
+                               List<File> removed, List<String> compilationFailures) {
+        String key = keyOf(moduleDir);
+        boolean wasAvailable = availableModules.containsKey(key);
+
+        // Deleted, renamed away or no longer a valid module
+        if (!ScanForModuleFolders.isModuleFolder(moduleDir)
+                || !(PackagedModules.isPackaged(moduleDir) || ModuleIndex.isUpToDate(moduleDir)
+                    || ModuleSourceValidator.isValidModule(moduleDir))) {
+            processedFingerprints.remove(key);
+            if (!moduleDir.isDirectory()) {
+                registry.unregisterModule(moduleDir);
+            } else {
+                // Keep watching an incomplete module so it is picked up once it becomes valid
+                registry.registerModule(moduleDir);
+            }
+            if (wasAvailable) {
+                Logging.info("🎯 Module removed: " + moduleDir.getName());
+                availableModules.remove(key);
+                ModuleDiscovery.invalidate(moduleDir);
+                removed.add(moduleDir);
+            }
+            return;
+        }
+
+        // Pick up any new subdirectories before deciding whether anything changed
+        registry.registerModule(moduleDir);
+
+        String fingerprint = ModuleIndex.currentFingerprint(moduleDir);
+        if (fingerprint != null && fingerprint.equals(processedFingerprints.get(key))) {
+            return;
+        }
+
+        Logging.info("🔧 Reloading changed module: " + moduleDir.getName());
+        ModuleDiscovery.invalidate(moduleDir);
+        LoadModules.ModuleLoadResult result = LoadModules.loadModuleDescriptors(List.of(moduleDir));
+
+        // Compiling writes to target/classes; fingerprint afterwards so those events are skipped
+        String processedFingerprint = ModuleIndex.currentFingerprint(moduleDir);
+        if (processedFingerprint != null) {
+            processedFingerprints.put(key, processedFingerprint);
+        }
+
+        if (result.getLoadedModules().isEmpty()) {
+            compilationFailures.addAll(result.getCompilationFailures());
+            if (wasAvailable) {
+                availableModules.remove(key);
+                removed.add(moduleDir);
+            }
+            return;
+        }
+
+        GameModule module = ModuleDiscovery.shareLoadedModules(result.getLoadedModules()).get(0);
+        availableModules.put(key, moduleDir);
+        if (wasAvailable) {
+            changed.add(module);
+        } else {
+            added.add(module);
+        }
+    }
+
+    private static String keyOf(File moduleDir) {
+        return moduleDir.getAbsoluteFile().toPath().normalize().toString();
+    }
+}
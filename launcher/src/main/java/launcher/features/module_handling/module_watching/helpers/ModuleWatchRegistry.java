@@ -0,0 +1,186 @@
+package launcher.features.module_handling.module_watching.helpers;
+
+import gdk.internal.Logging;
+import launcher.features.module_handling.module_packaging.PackagedModules;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Keeps track of the directories registered with a module watcher.
+ *
+ * <p>A {@link WatchService} only reports changes to the direct children of a
+ * registered directory, so every directory under a module's {@code src} and
+ * {@code target/classes} is registered individually. The module folder itself
+ * (and its {@code target} folder) are registered for creations and deletions
+ * so that newly created {@code src} or {@code target/classes} trees are noticed.
+ * For a packaged module the module folder is watched for content changes too,
+ * since that is where its {@code module.jar} lives.
+ *
+ * @author Clement Luo
+ * @date January 14, 2026
+ * @edited January 31, 2026
+ * @since Beta 1.0
+ */
+public final class ModuleWatchRegistry {
+
+    /** Event kinds for directories whose file contents matter. */
+    private static final WatchEvent.Kind<?>[] CONTENT_EVENTS = {
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_DELETE,
+        StandardWatchEventKinds.ENTRY_MODIFY
+    };
+
+    /** Event kinds for directories where only structure matters. */
+    private static final WatchEvent.Kind<?>[] STRUCTURE_EVENTS = {
+        StandardWatchEventKinds.ENTRY_CREATE,
+        StandardWatchEventKinds.ENTRY_DELETE
+    };
+
+    /** Module subtrees that are watched recursively. */
+    private static final String[] WATCHED_TREES = { "src", "target/classes", PackagedModules.LIB_DIRECTORY };
+
+    private final WatchService watchService;
+    private final Path modulesRoot;
+
+    /** Watched directory for each registered key. */
+    private final Map<WatchKey, Path> directories = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a registry.
+     *
+     * @param watchService The watch service to register with
+     * @param modulesRoot The modules root directory
+     */
+    public ModuleWatchRegistry(WatchService watchService, Path modulesRoot) {
+        this.watchService = watchService;
+        this.modulesRoot = modulesRoot;
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Registers the modules root, so module folders being added or removed are seen.
+     *
+     * @throws IOException If the root cannot be registered
+     */
+    public void registerRoot() throws IOException {
+        register(modulesRoot, STRUCTURE_EVENTS);
+    }
+
+    /**
+     * Registers a module's folders. Safe to call again to pick up new subdirectories.
+     *
+     * @param moduleDir The module directory
+     */
+    public void registerModule(File moduleDir) {
+        Path modulePath = moduleDir.toPath().toAbsolutePath().normalize();
+        try {
+            // A packaged module changes by its module.jar being replaced, right in the module folder
+            register(modulePath, PackagedModules.isPackaged(moduleDir) ? CONTENT_EVENTS : STRUCTURE_EVENTS);
+
+            Path targetPath = modulePath.resolve("target");
+            if (Files.isDirectory(targetPath)) {
+                register(targetPath, STRUCTURE_EVENTS);
+            }
+
+            for (String tree : WATCHED_TREES) {
+                Path treeRoot = modulePath.resolve(tree);
+                if (!Files.isDirectory(treeRoot)) {
+                    continue;
+                }
+
+                List<Path> subdirectories;
+                try (Stream<Path> paths = Files.walk(treeRoot)) {
+                    subdirectories = paths.filter(Files::isDirectory).collect(Collectors.toList());
+                }
+                for (Path directory : subdirectories) {
+                    register(directory, CONTENT_EVENTS);
+                }
+            }
+        } catch (IOException e) {
+            Logging.warning("Could not watch module " + moduleDir.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stops watching a module's folders.
+     *
+     * @param moduleDir The module directory
+     */
+    public void unregisterModule(File moduleDir) {
+        Path modulePath = moduleDir.toPath().toAbsolutePath().normalize();
+        directories.entrySet().removeIf(entry -> {
+            if (entry.getValue().startsWith(modulePath)) {
+                entry.getKey().cancel();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Maps a changed path to the module folder it belongs to.
+     *
+     * @param key The key the event was reported on
+     * @param changedPath The path of the changed entry (watched directory + event context)
+     * @return The module folder, or null if the key is unknown or the path is outside the modules root
+     */
+    public File moduleDirectoryFor(WatchKey key, Path changedPath) {
+        Path directory = directories.get(key);
+        if (directory == null) {
+            return null;
+        }
+
+        Path relative = modulesRoot.relativize(directory.equals(modulesRoot) ? changedPath : directory);
+        if (relative.getNameCount() == 0 || relative.startsWith("..")) {
+            return null;
+        }
+        return modulesRoot.resolve(relative.getName(0)).toFile();
+    }
+
+    /**
+     * Gets the directory a key was registered for.
+     *
+     * @param key The watch key
+     * @return The watched directory, or null if unknown
+     */
+    public Path directoryOf(WatchKey key) {
+        return directories.get(key);
+    }
+
+    /**
+     * Forgets a key that is no longer valid (its directory was deleted).
+     *
+     * @param key The watch key
+     */
+    public void forget(WatchKey key) {
+        directories.remove(key);
+    }
+
+    /**
+     * Gets the number of watched directories.
+     *
+     * @return Watched directory count
+     */
+    public int size() {
+        return directories.size();
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private void register(Path directory, WatchEvent.Kind<?>[] kinds) throws IOException {
+        directories.put(directory.register(watchService, kinds), directory);
+    }
+}
@@ -1,16 +1,16 @@
 package launcher.features.transcript_recording;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.nio.file.Path;
 
 /**
  * Shared state for transcript recording.
  * 
+ * <p>Entries themselves are not kept in memory; they are streamed to the
+ * session's JSON Lines file by {@code TranscriptStream}.
+ * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 21, 2026
  * @since Beta 1.0
  */
 public final class Transcript {
@@ -18,11 +18,13 @@ public final class Transcript {
     /** Flag indicating whether a transcript session is currently active. */
     public static volatile boolean inSession = false;
     
-    /** Thread-safe list of transcript entries. */
-    public static final List<Map<String, Object>> entries = Collections.synchronizedList(new ArrayList<>());
+    /** Name of the game in the current (or most recent) session. */
+    public static volatile String gameName = "unknown";
+    
+    /** JSON Lines file of the current (or most recent) session, or null if none was opened. */
+    public static volatile Path sessionFile;
     
     private Transcript() {
         throw new AssertionError("Utility class should not be instantiated");
     }
 }
-
@@ -1,7 +1,10 @@
 package launcher.features.transcript_recording.recording;
 
+import gdk.api.GameMessage;
+import gdk.internal.Logging;
 import launcher.features.transcript_recording.Transcript;
 import launcher.features.transcript_recording.session_management.EndSession;
+import launcher.features.transcript_recording.transcript_streaming.TranscriptStream;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -12,7 +15,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 28, 2026
  * @since Beta 1.0
  */
 public final class RecordOutboundMessage {
@@ -31,12 +34,13 @@ public final class RecordOutboundMessage {
         Map<String, Object> entry = new HashMap<>();
         entry.put("direction", "out");
         entry.put("timestamp", Instant.now().toString());
-        entry.put("message", new HashMap<>(message));
-        Transcript.entries.add(entry);
+        // Immutable snapshot; a GameMessage is kept as-is instead of being copied
+        entry.put("message", GameMessage.of(message));
+        TranscriptStream.append(entry);
         
         // Log transcript recording (only for non-meta messages to avoid spam)
         if (!"meta".equals(message.get("type"))) {
-            System.out.println("📝 Recording message OUT to game: " + message.get("function"));
+            Logging.debug(() -> "📝 Recording message OUT to game: " + message.get("function"));
         }
         
         // Check if this is an end message
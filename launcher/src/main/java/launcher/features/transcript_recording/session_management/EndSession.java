@@ -1,7 +1,10 @@
 package launcher.features.transcript_recording.session_management;
 
+import gdk.api.GameMessage;
+import gdk.internal.Logging;
 import launcher.features.json_processing.MessageFunctionCheck;
 import launcher.features.transcript_recording.Transcript;
+import launcher.features.transcript_recording.transcript_streaming.TranscriptStream;
 import launcher.features.transcript_recording.transcript_saving.TranscriptSaver;
 
 import java.nio.file.Path;
@@ -14,7 +17,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class EndSession {
@@ -24,17 +27,18 @@ public final class EndSession {
     }
     
     /**
-     * Ends the current session.
+     * Ends the current session and closes its session file (flushed and forced to disk).
      */
     public static void end() {
         Map<String, Object> meta = new HashMap<>();
         meta.put("type", "meta");
         meta.put("event", "session_end");
         meta.put("timestamp", Instant.now().toString());
-        Transcript.entries.add(meta);
+        TranscriptStream.append(meta);
         
         Transcript.inSession = false;
-        System.out.println("📝 Session ended. Total entries: " + Transcript.entries.size());
+        TranscriptStream.close();
+        Logging.info("📝 Session ended. Transcript file: " + Transcript.sessionFile);
     }
     
     /**
@@ -45,29 +49,27 @@ public final class EndSession {
     public static void endFromEndMessage(Map<String, Object> message) {
         if (!MessageFunctionCheck.isEndMessage(message)) return;
         
-        System.out.println("📝 End message detected! Function: end");
-        System.out.println("📝 Current transcript entries: " + Transcript.entries.size());
-        System.out.println("📝 In session: " + Transcript.inSession);
+        Logging.debug(() -> "📝 End message detected (in session: " + Transcript.inSession + ")");
         
         // First, record the actual end message to preserve its function and details
         Map<String, Object> endMessageEntry = new HashMap<>();
         endMessageEntry.put("direction", "in"); // End messages typically come from the game
         endMessageEntry.put("timestamp", Instant.now().toString());
-        endMessageEntry.put("message", new HashMap<>(message));
-        Transcript.entries.add(endMessageEntry);
+        endMessageEntry.put("message", GameMessage.of(message));
+        TranscriptStream.append(endMessageEntry);
         
         // End the session
         end();
         
         // Automatically save the complete transcript in both formats when the game ends
-        System.out.println("📝 Attempting to save transcript in both formats...");
+        Logging.debug(() -> "📝 Attempting to save transcript in both formats...");
         Path[] savedTranscripts = TranscriptSaver.saveTranscriptBothFormats(null);
         if (savedTranscripts != null) {
-            System.out.println("📝 Game transcript automatically saved to:");
-            System.out.println("📝 JSON: " + savedTranscripts[0].toAbsolutePath());
-            System.out.println("📝 Text: " + savedTranscripts[1].toAbsolutePath());
+            Logging.info("📝 Game transcript automatically saved to:");
+            Logging.info("📝 JSON: " + savedTranscripts[0].toAbsolutePath());
+            Logging.info("📝 Text: " + savedTranscripts[1].toAbsolutePath());
         } else {
-            System.err.println("❌ Failed to automatically save game transcript");
+            Logging.error("❌ Failed to automatically save game transcript");
         }
     }
 }
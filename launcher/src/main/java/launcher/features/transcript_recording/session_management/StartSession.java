@@ -1,6 +1,8 @@
 package launcher.features.transcript_recording.session_management;
 
+import gdk.internal.Logging;
 import launcher.features.transcript_recording.Transcript;
+import launcher.features.transcript_recording.transcript_streaming.TranscriptStream;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -11,7 +13,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 21, 2026
  * @since Beta 1.0
  */
 public final class StartSession {
@@ -22,23 +24,25 @@ public final class StartSession {
     
     /**
      * Starts a transcript session with game metadata.
+     * Opens a new session file that entries are streamed to.
      * 
      * @param gameName The name of the game being played
      * @param gameVersion The version of the game
      */
     public static void start(String gameName, String gameVersion) {
+        Transcript.gameName = gameName != null ? gameName : "unknown";
+        TranscriptStream.open(Transcript.gameName);
         Transcript.inSession = true;
-        Transcript.entries.clear();
         Map<String, Object> meta = new HashMap<>();
         meta.put("type", "meta");
         meta.put("event", "session_start");
         meta.put("timestamp", Instant.now().toString());
         meta.put("gameName", gameName);
         meta.put("gameVersion", gameVersion);
-        Transcript.entries.add(meta);
+        TranscriptStream.append(meta);
         
-        System.out.println("📝 Transcript session started for: " + gameName + " (v" + gameVersion + ")");
-        System.out.println("📝 Session ID: " + System.identityHashCode(Transcript.entries));
+        Logging.info("📝 Transcript session started for: " + gameName + " (v" + gameVersion + ")");
+        Logging.info("📝 Session file: " + Transcript.sessionFile);
     }
 }
 
@@ -0,0 +1,98 @@
+package launcher.features.transcript_recording.transcript_replay;
+
+import java.util.Set;
+
+/**
+ * How a transcript is replayed.
+ *
+ * @param timing How outbound messages are paced
+ * @param speed Speed-up over the recorded timing (only used by {@link Timing#SCALED})
+ * @param ignoredFields Message fields left out when comparing responses (e.g. timestamps)
+ * @param maxReportedDivergences Maximum divergences kept in the report; all are counted
+ *
+ * @author Clement Luo
+ * @date January 23, 2026
+ * @edited January 23, 2026
+ * @since Beta 1.0
+ */
+public record ReplayOptions(Timing timing, double speed, Set<String> ignoredFields, int maxReportedDivergences) {
+
+    /** Fields ignored by default: they differ on every run. */
+    public static final Set<String> DEFAULT_IGNORED_FIELDS = Set.of("timestamp");
+
+    private static final int DEFAULT_MAX_REPORTED_DIVERGENCES = 100;
+
+    /**
+     * Pacing of replayed messages.
+     */
+    public enum Timing {
+        /** Same gaps between messages as in the recording. */
+        ORIGINAL,
+        /** Recorded gaps divided by the speed factor. */
+        SCALED,
+        /** No waiting; doubles as a throughput benchmark of the module's message handler. */
+        AS_FAST_AS_POSSIBLE
+    }
+
+    public ReplayOptions {
+        if (timing == null) {
+            throw new IllegalArgumentException("Timing is required");
+        }
+        if (timing == Timing.SCALED && !(speed > 0)) {
+            throw new IllegalArgumentException("Speed must be positive");
+        }
+        if (maxReportedDivergences < 0) {
+            throw new IllegalArgumentException("maxReportedDivergences must not be negative");
+        }
+        ignoredFields = ignoredFields == null ? Set.of() : Set.copyOf(ignoredFields);
+    }
+
+    /**
+     * Replays with the recorded timing.
+     */
+    public static ReplayOptions originalTiming() {
+        return new ReplayOptions(Timing.ORIGINAL, 1.0, DEFAULT_IGNORED_FIELDS, DEFAULT_MAX_REPORTED_DIVERGENCES);
+    }
+
+    /**
+     * Replays with the recorded timing sped up by a factor (e.g. 10 for 10x).
+     *
+     * @param speed The speed-up factor
+     */
+    public static ReplayOptions scaled(double speed) {
+        return new ReplayOptions(Timing.SCALED, speed, DEFAULT_IGNORED_FIELDS, DEFAULT_MAX_REPORTED_DIVERGENCES);
+    }
+
+    /**
+     * Replays without waiting between messages.
+     */
+    public static ReplayOptions asFastAsPossible() {
+        return new ReplayOptions(Timing.AS_FAST_AS_POSSIBLE, 1.0, DEFAULT_IGNORED_FIELDS, DEFAULT_MAX_REPORTED_DIVERGENCES);
+    }
+
+    /**
+     * Returns a copy that ignores the given fields when comparing responses.
+     *
+     * @param fields The fields to ignore
+     * @return The new options
+     */
+    public ReplayOptions ignoringFields(Set<String> fields) {
+        return new ReplayOptions(timing, speed, fields, maxReportedDivergences);
+    }
+
+    /**
+     * Gets the factor recorded gaps are divided by, or 0 if there is no waiting.
+     *
+     * @return The effective speed-up
+     */
+    public double effectiveSpeed() {
+        switch (timing) {
+            case ORIGINAL:
+                return 1.0;
+            case SCALED:
+                return speed;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package launcher.features.transcript_recording.transcript_replay;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of replaying a transcript against a game module.
+ *
+ * @param messagesSent Outbound messages re-delivered to the module
+ * @param divergentSteps Messages whose responses differed from the recording
+ * @param divergences The first divergences (up to the configured maximum)
+ * @param skippedInbound Recorded inbound messages with no outbound message before them (e.g. sent during launch)
+ * @param handlerErrors Deliveries where the module's handler threw
+ * @param completed Whether the whole transcript was replayed (false if interrupted)
+ * @param elapsedNanos Wall-clock duration of the replay
+ * @param handlerTotalNanos Total time spent inside {@code handleMessage}
+ * @param handlerP50Nanos Median {@code handleMessage} time
+ * @param handlerP99Nanos 99th percentile {@code handleMessage} time
+ * @param handlerMaxNanos Slowest {@code handleMessage} call
+ *
+ * @author Clement Luo
+ * @date January 23, 2026
+ * @edited January 23, 2026
+ * @since Beta 1.0
+ */
+public record ReplayReport(int messagesSent, int divergentSteps, List<Divergence> divergences,
+                           int skippedInbound, int handlerErrors, boolean completed, long elapsedNanos,
+                           long handlerTotalNanos, long handlerP50Nanos, long handlerP99Nanos, long handlerMaxNanos) {
+
+    /**
+     * One outbound message whose responses differed from the recording.
+     *
+     * @param step Index of the outbound message in the replay, from 0
+     * @param sent The message that was re-delivered
+     * @param expected The inbound messages recorded after it
+     * @param actual The messages the module returned or published
+     * @param reason The first difference found
+     */
+    public record Divergence(int step, Map<String, Object> sent, List<Map<String, Object>> expected,
+                             List<Map<String, Object>> actual, String reason) {
+    }
+
+    /**
+     * Whether every response matched the recording.
+     *
+     * @return true if no step diverged
+     */
+    public boolean matched() {
+        return divergentSteps == 0 && handlerErrors == 0;
+    }
+
+    /**
+     * Messages handled per second of handler time, i.e. the handler's throughput.
+     *
+     * @return The throughput, or 0 if nothing was sent
+     */
+    public double handlerMessagesPerSecond() {
+        return handlerTotalNanos == 0 ? 0 : messagesSent * 1_000_000_000.0 / handlerTotalNanos;
+    }
+
+    /**
+     * One-line summary for logs.
+     *
+     * @return The summary
+     */
+    public String summary() {
+        return String.format("%d messages replayed in %.1fms (%s), %d divergent, %d handler errors; "
+                + "handler p50 %.3fms, p99 %.3fms, max %.3fms, %.0f msg/s",
+            messagesSent, elapsedNanos / 1e6, completed ? "complete" : "interrupted", divergentSteps, handlerErrors,
+            handlerP50Nanos / 1e6, handlerP99Nanos / 1e6, handlerMaxNanos / 1e6, handlerMessagesPerSecond());
+    }
+}
@@ -0,0 +1,307 @@
+package launcher.features.transcript_recording.transcript_replay;
+
+import gdk.api.GameModule;
+import gdk.internal.Logging;
+import gdk.internal.MessagingBridge;
+import launcher.features.transcript_recording.transcript_replay.helpers.MessageComparison;
+import launcher.features.transcript_recording.transcript_replay.helpers.ReplaySources;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a saved transcript against a game module.
+ *
+ * <p>Every recorded outbound message is re-delivered to {@link GameModule#handleMessage},
+ * paced according to the {@link ReplayOptions}. The module's responses - its return
+ * value plus anything it publishes to the {@link MessagingBridge} until the next
+ * message is sent - are compared with the inbound messages recorded after that
+ * outbound message, and differences are reported as divergences.
+ *
+ * <p>The replay runs on the calling thread and can be stopped by interrupting it.
+ * The module is only sent messages; launching it (if it needs to be) is up to the
+ * caller. Run replays while no other game is publishing to the bridge, otherwise
+ * its messages are counted as the module's responses.
+ *
+ * @author Clement Luo
+ * @date January 23, 2026
+ * @edited January 23, 2026
+ * @since Beta 1.0
+ */
+public final class TranscriptReplay {
+
+    /** Handler errors logged individually before they are only counted. */
+    private static final int MAX_LOGGED_HANDLER_ERRORS = 10;
+
+    private TranscriptReplay() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Replays a saved transcript file ({@code .jsonl}, {@code .json} or {@code .gdkt}).
+     *
+     * @param module The module to drive
+     * @param transcript The transcript file
+     * @param options How to replay
+     * @return The replay report, or null if the transcript could not be opened
+     */
+    public static ReplayReport replay(GameModule module, Path transcript, ReplayOptions options) {
+        TranscriptEntrySource source;
+        try {
+            source = ReplaySources.open(transcript);
+        } catch (IOException e) {
+            Logging.error("❌ Cannot replay transcript: " + e.getMessage());
+            return null;
+        }
+        Logging.info("🔁 Replaying " + transcript.getFileName() + " (" + options.timing() + ")");
+        return replay(module, source, options);
+    }
+
+    /**
+     * Replays recorded entries from any source.
+     *
+     * @param module The module to drive
+     * @param source The recorded entries
+     * @param options How to replay
+     * @return The replay report, or null if the module, source or options are missing
+     */
+    public static ReplayReport replay(GameModule module, TranscriptEntrySource source, ReplayOptions options) {
+        if (module == null || source == null || options == null) {
+            Logging.error("❌ Cannot replay transcript: module, source and options are required");
+            return null;
+        }
+
+        Run run = new Run(module, options);
+        MessagingBridge.Subscription capture = MessagingBridge.addConsumer(run::captured);
+        boolean completed;
+        try {
+            completed = source.forEachEntry(run::accept);
+            run.finishStep();
+        } catch (ReplayInterrupted e) {
+            Thread.currentThread().interrupt();
+            completed = false;
+        } finally {
+            capture.unsubscribe();
+        }
+
+        ReplayReport report = run.report(completed);
+        if (report.matched()) {
+            Logging.info("🔁 Replay matched: " + report.summary());
+        } else {
+            Logging.warning("🔁 Replay diverged: " + report.summary());
+        }
+        return report;
+    }
+
+    // ==================== REPLAY STATE ====================
+
+    /** Thrown out of the entry stream when the replaying thread is interrupted. */
+    private static final class ReplayInterrupted extends RuntimeException {
+        ReplayInterrupted() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * State of one replay: the step in progress, pacing and counters.
+     */
+    private static final class Run {
+
+        private final GameModule module;
+        private final ReplayOptions options;
+        private final long startNanos = System.nanoTime();
+
+        /** Messages published to the bridge since the current step was sent. */
+        private final List<Map<String, Object>> published = new ArrayList<>();
+
+        private Map<String, Object> sent;
+        private Map<String, Object> response;
+        private final List<Map<String, Object>> expected = new ArrayList<>();
+
+        private Instant firstTimestamp;
+        private long firstSendNanos;
+
+        private int step = -1;
+        private int divergentSteps;
+        private int skippedInbound;
+        private int handlerErrors;
+        private final List<ReplayReport.Divergence> divergences = new ArrayList<>();
+        private long[] handlerNanos = new long[256];
+
+        Run(GameModule module, ReplayOptions options) {
+            this.module = module;
+            this.options = options;
+        }
+
+        void captured(Map<String, Object> message) {
+            synchronized (published) {
+                published.add(message);
+            }
+        }
+
+        void accept(Map<String, Object> entry) {
+            if ("meta".equals(entry.get("type")) || !(entry.get("message") instanceof Map)) {
+                return;
+            }
+            @SuppressWarnings("unchecked")
+            Map<String, Object> message = (Map<String, Object>) entry.get("message");
+            Object direction = entry.get("direction");
+
+            if ("out".equals(direction)) {
+                finishStep();
+                send(message, parseTimestamp(entry.get("timestamp")));
+            } else if ("in".equals(direction)) {
+                if (sent == null) {
+                    skippedInbound++;
+                } else {
+                    expected.add(message);
+                }
+            }
+        }
+
+        private void send(Map<String, Object> message, Instant timestamp) {
+            pace(timestamp);
+            synchronized (published) {
+                published.clear();
+            }
+
+            step++;
+            sent = message;
+            response = null;
+            // Modules may modify the message they receive
+            Map<String, Object> delivered = new LinkedHashMap<>(message);
+            long start = System.nanoTime();
+            try {
+                response = module.handleMessage(delivered);
+            } catch (Exception e) {
+                if (++handlerErrors <= MAX_LOGGED_HANDLER_ERRORS) {
+                    Logging.warning("🔁 handleMessage threw on step " + step + " (" + message.get("function") + "): " + e);
+                }
+            }
+            recordHandlerTime(System.nanoTime() - start);
+        }
+
+        void finishStep() {
+            if (sent == null) {
+                return;
+            }
+            List<Map<String, Object>> actual = new ArrayList<>();
+            if (response != null) {
+                actual.add(response);
+            }
+            synchronized (published) {
+                actual.addAll(published);
+                published.clear();
+            }
+            if (response == null) {
+                removeLauncherAck();
+            }
+
+            String difference = MessageComparison.difference(expected, actual, options.ignoredFields());
+            if (difference != null) {
+                divergentSteps++;
+                if (divergences.size() < options.maxReportedDivergences()) {
+                    divergences.add(new ReplayReport.Divergence(
+                        step, sent, List.copyOf(expected), List.copyOf(actual), difference));
+                }
+            }
+            sent = null;
+            response = null;
+            expected.clear();
+        }
+
+        /**
+         * The server simulator records an ack of its own when the module returns nothing;
+         * that ack is not the module's response, so it is not expected from the replay.
+         */
+        private void removeLauncherAck() {
+            Iterator<Map<String, Object>> recorded = expected.iterator();
+            while (recorded.hasNext()) {
+                Map<String, Object> message = recorded.next();
+                if ("ack".equals(message.get("function")) && "ok".equals(message.get("status"))
+                        && message.containsKey("of") && message.get("of").equals(sent.get("function"))) {
+                    recorded.remove();
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Waits until the message's (scaled) offset from the first replayed message.
+         */
+        private void pace(Instant timestamp) {
+            if (Thread.interrupted()) {
+                throw new ReplayInterrupted();
+            }
+            double speed = options.effectiveSpeed();
+            if (speed == 0 || timestamp == null) {
+                return;
+            }
+            if (firstTimestamp == null) {
+                firstTimestamp = timestamp;
+                firstSendNanos = System.nanoTime();
+                return;
+            }
+            long offset = (long) (Duration.between(firstTimestamp, timestamp).toNanos() / speed);
+            long due = firstSendNanos + offset;
+            long wait;
+            while ((wait = due - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+                if (Thread.interrupted()) {
+                    throw new ReplayInterrupted();
+                }
+            }
+        }
+
+        private void recordHandlerTime(long nanos) {
+            if (step == handlerNanos.length) {
+                handlerNanos = Arrays.copyOf(handlerNanos, handlerNanos.length * 2);
+            }
+            handlerNanos[step] = nanos;
+        }
+
+        ReplayReport report(boolean completed) {
+            int sentCount = step + 1;
+            long[] times = Arrays.copyOf(handlerNanos, sentCount);
+            Arrays.sort(times);
+            long total = 0;
+            for (long time : times) {
+                total += time;
+            }
+            return new ReplayReport(sentCount, divergentSteps, List.copyOf(divergences), skippedInbound,
+                handlerErrors, completed, System.nanoTime() - startNanos, total,
+                percentile(times, 0.50), percentile(times, 0.99), sentCount == 0 ? 0 : times[sentCount - 1]);
+        }
+
+        private static long percentile(long[] sorted, double fraction) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            return sorted[(int) Math.min(sorted.length - 1, Math.ceil(fraction * sorted.length) - 1)];
+        }
+
+        private static Instant parseTimestamp(Object timestamp) {
+            if (!(timestamp instanceof String)) {
+                return null;
+            }
+            try {
+                return Instant.parse((String) timestamp);
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+}
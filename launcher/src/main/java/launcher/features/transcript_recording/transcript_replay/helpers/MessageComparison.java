@@ -0,0 +1,149 @@
+package launcher.features.transcript_recording.transcript_replay.helpers;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Compares replayed responses with recorded ones.
+ *
+ * <p>Values are compared as they would look after a JSON round trip: numbers by
+ * value regardless of their Java type, maps by entries and lists in order.
+ * The responses to one message may match in any order, since a returned response
+ * and messages published during the same call can be recorded either way round.
+ *
+ * @author Clement Luo
+ * @date January 23, 2026
+ * @edited January 23, 2026
+ * @since Beta 1.0
+ */
+public final class MessageComparison {
+
+    private MessageComparison() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Finds the first difference between recorded and replayed messages.
+     *
+     * @param expected The recorded messages
+     * @param actual The replayed messages
+     * @param ignoredFields Top-level message fields to leave out
+     * @return A description of the first difference, or null if they match
+     */
+    public static String difference(List<Map<String, Object>> expected, List<Map<String, Object>> actual,
+                                    Set<String> ignoredFields) {
+        if (expected.size() != actual.size()) {
+            return "expected " + expected.size() + " response(s) but got " + actual.size();
+        }
+
+        // Pair each recorded response with an unused replayed one that matches it
+        boolean[] used = new boolean[actual.size()];
+        for (int i = 0; i < expected.size(); i++) {
+            int match = -1;
+            for (int j = 0; j < actual.size() && match < 0; j++) {
+                if (!used[j] && difference(expected.get(i), actual.get(j), ignoredFields, "") == null) {
+                    match = j;
+                }
+            }
+            if (match < 0) {
+                return "response[" + i + "] not matched: "
+                    + difference(expected.get(i), closest(expected.get(i), actual, used), ignoredFields, "response[" + i + "]");
+            }
+            used[match] = true;
+        }
+        return null;
+    }
+
+    /**
+     * Picks the unused replayed message to describe a mismatch against: one with the
+     * same function if there is one, otherwise the first unused message.
+     */
+    private static Map<String, Object> closest(Map<String, Object> expected, List<Map<String, Object>> actual,
+                                               boolean[] used) {
+        Map<String, Object> firstUnused = null;
+        for (int i = 0; i < actual.size(); i++) {
+            if (used[i]) {
+                continue;
+            }
+            if (firstUnused == null) {
+                firstUnused = actual.get(i);
+            }
+            Object function = expected.get("function");
+            if (function != null && function.equals(actual.get(i).get("function"))) {
+                return actual.get(i);
+            }
+        }
+        return firstUnused;
+    }
+
+    private static String difference(Map<?, ?> expected, Map<?, ?> actual, Set<String> ignoredFields, String path) {
+        Set<Object> keys = new TreeSet<>((a, b) -> String.valueOf(a).compareTo(String.valueOf(b)));
+        keys.addAll(expected.keySet());
+        keys.addAll(actual.keySet());
+        for (Object key : keys) {
+            if (ignoredFields.contains(key)) {
+                continue;
+            }
+            String fieldPath = path + "." + key;
+            if (!expected.containsKey(key)) {
+                return fieldPath + " was not recorded";
+            }
+            if (!actual.containsKey(key)) {
+                return fieldPath + " is missing";
+            }
+            String difference = difference(expected.get(key), actual.get(key), fieldPath);
+            if (difference != null) {
+                return difference;
+            }
+        }
+        return null;
+    }
+
+    private static String difference(Object expected, Object actual, String path) {
+        if (expected instanceof Map && actual instanceof Map) {
+            return difference((Map<?, ?>) expected, (Map<?, ?>) actual, Set.of(), path);
+        }
+        if (expected instanceof List && actual instanceof List) {
+            List<?> expectedList = (List<?>) expected;
+            List<?> actualList = (List<?>) actual;
+            if (expectedList.size() != actualList.size()) {
+                return path + " has " + actualList.size() + " elements, expected " + expectedList.size();
+            }
+            Iterator<?> expectedElements = expectedList.iterator();
+            Iterator<?> actualElements = actualList.iterator();
+            for (int i = 0; expectedElements.hasNext(); i++) {
+                String difference = difference(expectedElements.next(), actualElements.next(), path + "[" + i + "]");
+                if (difference != null) {
+                    return difference;
+                }
+            }
+            return null;
+        }
+        if (expected instanceof Number && actual instanceof Number) {
+            return sameNumber((Number) expected, (Number) actual) ? null
+                : path + " is " + actual + ", expected " + expected;
+        }
+        if (expected == null ? actual == null : expected.equals(actual)) {
+            return null;
+        }
+        return path + " is " + describe(actual) + ", expected " + describe(expected);
+    }
+
+    private static boolean sameNumber(Number expected, Number actual) {
+        if (isIntegral(expected) && isIntegral(actual)) {
+            return expected.longValue() == actual.longValue();
+        }
+        return Double.compare(expected.doubleValue(), actual.doubleValue()) == 0;
+    }
+
+    private static boolean isIntegral(Number number) {
+        return number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte;
+    }
+
+    private static String describe(Object value) {
+        return value instanceof String ? "\"" + value + "\"" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,155 @@
+package launcher.features.transcript_recording.transcript_replay.helpers;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+import launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptFormat;
+import launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptReader;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Opens saved transcripts of any replayable format as a stream of recorded entries.
+ *
+ * <p>Supported: session files ({@code .jsonl}), binary transcripts ({@code .gdkt})
+ * and JSON exports ({@code .json}). Text exports are not replayable because they
+ * do not keep value types.
+ *
+ * @author Clement Luo
+ * @date January 23, 2026
+ * @edited January 23, 2026
+ * @since Beta 1.0
+ */
+public final class ReplaySources {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ENTRY_TYPE = new TypeReference<>() {};
+
+    private ReplaySources() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Opens a saved transcript, choosing the reader by file extension.
+     *
+     * @param file The transcript file
+     * @return The entries of the transcript, in recorded order
+     * @throws IOException If the file does not exist or its format cannot be replayed
+     */
+    public static TranscriptEntrySource open(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new IOException("Transcript not found: " + file);
+        }
+        String name = file.getFileName().toString();
+        if (name.endsWith(".jsonl")) {
+            return action -> read(file, () -> TranscriptReader.forEachEntry(file, action));
+        }
+        if (name.endsWith(BinaryTranscriptFormat.FILE_EXTENSION)) {
+            return action -> {
+                try (BinaryTranscriptReader reader = BinaryTranscriptReader.open(file)) {
+                    return reader.forEachEntry(action);
+                } catch (IOException e) {
+                    Logging.error("❌ Could not read transcript " + file + ": " + e.getMessage(), e);
+                    return false;
+                }
+            };
+        }
+        if (name.endsWith(".json")) {
+            return action -> read(file, () -> forEachExportedEntry(file, action));
+        }
+        throw new IOException("Transcript format cannot be replayed (use .jsonl, .json or "
+            + BinaryTranscriptFormat.FILE_EXTENSION + "): " + file);
+    }
+
+    // ==================== JSON EXPORTS ====================
+
+    /**
+     * Streams the messages array of a JSON export, converted back to recorded entries.
+     */
+    private static void forEachExportedEntry(Path file, Consumer<Map<String, Object>> action) throws IOException {
+        try (JsonParser parser = JSON_MAPPER.getFactory().createParser(file.toFile())) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Not a transcript export: " + file);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!"messages".equals(field) || value != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    Map<String, Object> entry = fromExportedMessage(JSON_MAPPER.readValue(parser, ENTRY_TYPE));
+                    if (entry != null) {
+                        action.accept(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a recorded entry from an exported message, or returns null for the
+     * session-start line the exporter adds.
+     */
+    private static Map<String, Object> fromExportedMessage(Map<String, Object> exported) {
+        if ("ui_initialization".equals(exported.get("function")) && "session_start".equals(exported.get("event"))) {
+            return null;
+        }
+        Map<String, Object> message = new LinkedHashMap<>(exported);
+        Object direction = message.remove("direction");
+        Object timestamp = message.remove("timestamp");
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("direction", direction);
+        entry.put("timestamp", toIsoTimestamp(timestamp));
+        entry.put("message", message);
+        return entry;
+    }
+
+    /**
+     * Converts an exported timestamp ("2026-01-05 10:00:00.123") back to ISO-8601.
+     */
+    private static String toIsoTimestamp(Object timestamp) {
+        if (!(timestamp instanceof String)) {
+            return null;
+        }
+        String text = (String) timestamp;
+        try {
+            return Instant.parse(text).toString();
+        } catch (DateTimeParseException notIso) {
+            try {
+                return Instant.parse(text.replace(' ', 'T') + "Z").toString();
+            } catch (DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private interface Read {
+        void run() throws IOException;
+    }
+
+    private static boolean read(Path file, Read read) {
+        try {
+            read.run();
+            return true;
+        } catch (IOException e) {
+            Logging.error("❌ Could not read transcript " + file + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+}
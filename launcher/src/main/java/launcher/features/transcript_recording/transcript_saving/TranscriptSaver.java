@@ -1,19 +1,19 @@
 package launcher.features.transcript_recording.transcript_saving;
 
 import launcher.features.transcript_recording.Transcript;
+import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsBinary;
 import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsJson;
 import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsText;
 
 import java.nio.file.Path;
 import java.time.Instant;
-import java.util.Map;
 
 /**
- * Handles saving transcripts to files in JSON and text formats.
+ * Handles saving transcripts to files in JSON, text and binary formats.
  * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 22, 2026
  * @since Beta 1.0
  */
 public final class TranscriptSaver {
@@ -42,6 +42,18 @@ public final class TranscriptSaver {
         return SaveTranscriptAsText.save(targetFile);
     }
     
+    /**
+     * Saves the transcript in the compact, indexed binary format.
+     * Use {@code ConvertBinaryTranscript} to turn it back into JSON or text.
+     * 
+     * @param targetFile The target file path, or null for auto-generation
+     * @param compressed Whether to compress each block
+     * @return The path to the saved transcript file, or null if saving failed
+     */
+    public static Path saveTranscriptAsBinary(Path targetFile, boolean compressed) {
+        return SaveTranscriptAsBinary.save(targetFile, compressed);
+    }
+    
     /**
      * Saves the transcript in both JSON and text formats.
      * 
@@ -51,14 +63,7 @@ public final class TranscriptSaver {
     public static Path[] saveTranscriptBothFormats(String baseFileName) {
         String base = baseFileName;
         if (base == null) {
-            // Get game name from transcript entries
-            String gameName = "unknown";
-            for (Map<String, Object> entry : Transcript.entries) {
-                if ("meta".equals(entry.get("type")) && entry.containsKey("gameName")) {
-                    gameName = (String) entry.get("gameName");
-                    break;
-                }
-            }
+            String gameName = Transcript.gameName != null ? Transcript.gameName : "unknown";
             String timestamp = Instant.now().toString().replace(":", "-").replace("T", "_").replace("Z", "");
             base = "saved/transcripts/transcript-" + gameName.replaceAll("[^a-zA-Z0-9]", "_") + "-" + timestamp;
         }
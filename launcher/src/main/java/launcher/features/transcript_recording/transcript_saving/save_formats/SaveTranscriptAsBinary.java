@@ -0,0 +1,80 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats;
+
+import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
+import launcher.features.file_handling.file_paths.GenerateTranscriptFilePath;
+import launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptFormat;
+import launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptWriter;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+import launcher.features.transcript_recording.transcript_streaming.TranscriptStream;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Handles saving transcripts in the compact binary format.
+ * 
+ * <p>Much smaller than the JSON and text exports and indexed for random access;
+ * see {@link BinaryTranscriptFormat} for the layout and
+ * {@link launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptReader}
+ * for reading it back.
+ * 
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+public final class SaveTranscriptAsBinary {
+    
+    private SaveTranscriptAsBinary() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+    
+    /**
+     * Saves the transcript to a binary file.
+     * 
+     * @param targetFile The target file path, or null for auto-generation
+     * @param compressed Whether to compress each block
+     * @return The path to the saved transcript file, or null if saving failed
+     */
+    public static Path save(Path targetFile, boolean compressed) {
+        return save(targetFile, compressed, TranscriptStream::forEachEntry);
+    }
+    
+    /**
+     * Saves a transcript read from the given source to a binary file.
+     * 
+     * @param targetFile The target file path, or null for auto-generation
+     * @param compressed Whether to compress each block
+     * @param source The recorded entries to export
+     * @return The path to the saved transcript file, or null if saving failed
+     */
+    public static Path save(Path targetFile, boolean compressed, TranscriptEntrySource source) {
+        try {
+            if (targetFile == null) {
+                targetFile = GenerateTranscriptFilePath.generate(BinaryTranscriptFormat.FILE_EXTENSION);
+            }
+            
+            ParentDirectoryExistenceCheck.exists(targetFile);
+            
+            boolean read;
+            try (BinaryTranscriptWriter writer = new BinaryTranscriptWriter(
+                    targetFile, compressed, BinaryTranscriptWriter.DEFAULT_ENTRIES_PER_BLOCK)) {
+                read = source.forEachEntry(entry -> {
+                    try {
+                        writer.append(entry);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            if (!read) {
+                System.err.println("❌ No transcript entries to save");
+            }
+            return targetFile;
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("❌ Error saving binary transcript: " + e.getMessage());
+            return null;
+        }
+    }
+}
@@ -1,26 +1,33 @@
 package launcher.features.transcript_recording.transcript_saving.save_formats;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
 import launcher.features.file_handling.file_paths.GenerateTranscriptFilePath;
-import launcher.features.transcript_recording.Transcript;
 import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.FormatTimestamp;
+import launcher.features.transcript_recording.transcript_saving.save_formats.helpers.TranscriptEntrySource;
+import launcher.features.transcript_recording.transcript_streaming.TranscriptStream;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Handles saving transcripts in JSON format.
  * 
+ * <p>The document is generated from the session's JSON Lines file and written
+ * out entry by entry, so the transcript is never held in memory as a whole.
+ * 
  * @author Clement Luo
  * @date January 5, 2026
- * @edited January 5, 2026
+ * @edited January 22, 2026
  * @since Beta 1.0
  */
 public final class SaveTranscriptAsJson {
@@ -38,6 +45,17 @@ public final class SaveTranscriptAsJson {
      * @return The path to the saved transcript file, or null if saving failed
      */
     public static Path save(Path targetFile) {
+        return save(targetFile, TranscriptStream::forEachEntry);
+    }
+    
+    /**
+     * Saves a transcript read from the given source to a JSON file.
+     * 
+     * @param targetFile The target file path, or null for auto-generation
+     * @param source The recorded entries to export
+     * @return The path to the saved transcript file, or null if saving failed
+     */
+    public static Path save(Path targetFile, TranscriptEntrySource source) {
         try {
             if (targetFile == null) {
                 targetFile = GenerateTranscriptFilePath.generate(".json");
@@ -46,64 +64,86 @@ public final class SaveTranscriptAsJson {
             ParentDirectoryExistenceCheck.exists(targetFile);
             Files.deleteIfExists(targetFile);
             
-            Map<String, Object> transcript = new HashMap<>();
+            // Find the session start first - it is written as the first message
+            Map<String, Object> sessionStart = findSessionStart(source);
             
-            Map<String, Object> header = new HashMap<>();
-            header.put("generatedAt", FormatTimestamp.format(Instant.now()));
-            header.put("title", "Game Session Transcript");
-            transcript.put("header", header);
-            
-            List<Map<String, Object>> messages = new ArrayList<>();
-            for (Map<String, Object> entry : Transcript.entries) {
-                if (!"meta".equals(entry.get("type"))) {
-                    Map<String, Object> messageEntry = new HashMap<>();
-                    
-                    String timestamp = (String) entry.get("timestamp");
-                    messageEntry.put("timestamp", FormatTimestamp.format(Instant.parse(timestamp)));
-                    messageEntry.put("direction", entry.get("direction"));
-                    
-                    if (entry.get("message") instanceof Map) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> msg = (Map<String, Object>) entry.get("message");
-                        String function = (String) msg.get("function");
-                        messageEntry.put("function", function);
-                        
-                        for (Map.Entry<String, Object> field : msg.entrySet()) {
-                            messageEntry.put(field.getKey(), field.getValue());
-                        }
-                    }
-                    
-                    messages.add(messageEntry);
-                }
-            }
-            
-            // Add game ui_initialization message if available
-            for (Map<String, Object> entry : Transcript.entries) {
-                if ("meta".equals(entry.get("type")) && "session_start".equals(entry.get("event"))) {
-                    Map<String, Object> startMessage = new HashMap<>();
-                    String timestamp = (String) entry.get("timestamp");
-                    startMessage.put("timestamp", FormatTimestamp.format(Instant.parse(timestamp)));
+            try (BufferedWriter out = Files.newBufferedWriter(targetFile, StandardCharsets.UTF_8);
+                 JsonGenerator generator = JSON_MAPPER.getFactory().createGenerator(out)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                
+                Map<String, Object> header = new LinkedHashMap<>();
+                header.put("generatedAt", FormatTimestamp.format(Instant.now()));
+                header.put("title", "Game Session Transcript");
+                generator.writeObjectField("header", header);
+                
+                generator.writeArrayFieldStart("messages");
+                
+                // Add game ui_initialization message if available
+                if (sessionStart != null) {
+                    Map<String, Object> startMessage = new LinkedHashMap<>();
+                    startMessage.put("timestamp", FormatTimestamp.format(Instant.parse((String) sessionStart.get("timestamp"))));
                     startMessage.put("direction", "in");
                     startMessage.put("function", "ui_initialization");
-                    startMessage.put("gameName", entry.get("gameName"));
-                    startMessage.put("gameVersion", entry.get("gameVersion"));
+                    startMessage.put("gameName", sessionStart.get("gameName"));
+                    startMessage.put("gameVersion", sessionStart.get("gameVersion"));
                     startMessage.put("event", "session_start");
-                    messages.add(0, startMessage);
-                    break;
+                    generator.writeObject(startMessage);
+                }
+                
+                boolean read = source.forEachEntry(entry -> {
+                    if ("meta".equals(entry.get("type"))) {
+                        return;
+                    }
+                    try {
+                        generator.writeObject(toMessageEntry(entry));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (!read) {
+                    System.err.println("❌ No transcript entries to save");
                 }
+                
+                generator.writeEndArray();
+                generator.writeEndObject();
             }
-            
-            transcript.put("messages", messages);
-            
-            String transcriptJson = JSON_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(transcript);
-            transcriptJson = transcriptJson.replaceAll("\\},\\s*\\{", "},\n\n    {");
-            
-            Files.writeString(targetFile, transcriptJson);
             return targetFile;
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             System.err.println("❌ Error saving JSON transcript: " + e.getMessage());
             return null;
         }
     }
+    
+    /**
+     * Converts a recorded entry to its exported form.
+     */
+    private static Map<String, Object> toMessageEntry(Map<String, Object> entry) {
+        Map<String, Object> messageEntry = new LinkedHashMap<>();
+        
+        String timestamp = (String) entry.get("timestamp");
+        messageEntry.put("timestamp", FormatTimestamp.format(Instant.parse(timestamp)));
+        messageEntry.put("direction", entry.get("direction"));
+        
+        if (entry.get("message") instanceof Map) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> msg = (Map<String, Object>) entry.get("message");
+            messageEntry.put("function", msg.get("function"));
+            messageEntry.putAll(msg);
+        }
+        return messageEntry;
+    }
+    
+    /**
+     * Finds the session_start meta entry, or null if the session has none.
+     */
+    private static Map<String, Object> findSessionStart(TranscriptEntrySource source) {
+        AtomicReference<Map<String, Object>> sessionStart = new AtomicReference<>();
+        source.forEachEntry(entry -> {
+            if (sessionStart.get() == null && "meta".equals(entry.get("type")) && "session_start".equals(entry.get("event"))) {
+                sessionStart.set(entry);
+            }
+        });
+        return sessionStart.get();
+    }
 }
-
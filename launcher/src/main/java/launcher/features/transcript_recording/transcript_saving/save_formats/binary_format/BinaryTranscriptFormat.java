@@ -0,0 +1,154 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats.binary_format;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Layout constants and primitive encoding for the binary transcript format ({@code .gdkt}).
+ *
+ * <p>File layout:
+ * <pre>
+ *   header   "GDKT", version (1 byte), flags (1 byte), entries per block (4 bytes)
+ *   blocks   codec (1 byte), raw length (varint), stored length (varint), data
+ *   index    string dictionary, then per block: offset, base timestamp, running max timestamp
+ *   footer   index offset (8 bytes), entry count (8 bytes), "GDKI"
+ * </pre>
+ *
+ * <p>Every block holds a fixed number of entries (the last may hold fewer) and can be
+ * decoded on its own, so entry N is found by arithmetic on the index. Timestamps are
+ * stored as zigzag varint nanosecond deltas from the previous entry in the block.
+ * Map keys and function names are stored once in the dictionary and referenced by id.
+ *
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+public final class BinaryTranscriptFormat {
+
+    // ==================== LAYOUT ====================
+
+    public static final String FILE_EXTENSION = ".gdkt";
+
+    static final byte[] MAGIC = {'G', 'D', 'K', 'T'};
+    static final byte[] FOOTER_MAGIC = {'G', 'D', 'K', 'I'};
+    static final byte VERSION = 1;
+    static final int HEADER_SIZE = 10;
+    static final int FOOTER_SIZE = 20;
+
+    /** Header flag: blocks were written with compression enabled. */
+    static final byte FLAG_COMPRESSED = 1;
+
+    static final byte CODEC_RAW = 0;
+    static final byte CODEC_DEFLATE = 1;
+
+    /** Upper bound on dictionary entries; further strings are stored inline. */
+    static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    // ==================== ENTRY KINDS ====================
+
+    static final byte KIND_META = 0;
+    static final byte KIND_IN = 1;
+    static final byte KIND_OUT = 2;
+    static final byte KIND_OTHER = 3;
+
+    /** Kind bit set when the entry has no parseable timestamp. */
+    static final byte KIND_NO_TIMESTAMP = (byte) 0x80;
+
+    // ==================== VALUE TAGS ====================
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_FALSE = 1;
+    static final byte TAG_TRUE = 2;
+    static final byte TAG_LONG = 3;
+    static final byte TAG_DOUBLE = 4;
+    static final byte TAG_STRING = 5;
+    static final byte TAG_STRING_REF = 6;
+    static final byte TAG_MAP = 7;
+    static final byte TAG_LIST = 8;
+
+    private BinaryTranscriptFormat() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== VARINTS ====================
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    static void writeSignedVarLong(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(ByteBuffer in) throws IOException {
+        long encoded = readVarLong(in);
+        return (encoded >>> 1) ^ -(encoded & 1);
+    }
+
+    static int readLength(ByteBuffer in) throws IOException {
+        long length = readVarLong(in);
+        if (length < 0 || length > in.remaining()) {
+            throw new IOException("Length " + length + " exceeds remaining data");
+        }
+        return (int) length;
+    }
+
+    // ==================== STRINGS ====================
+
+    static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    static String readString(ByteBuffer in) throws IOException {
+        int length = readLength(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    // ==================== TIMESTAMPS ====================
+
+    /**
+     * Converts a recorded ISO-8601 timestamp to nanoseconds since the epoch.
+     *
+     * @param timestamp The timestamp string
+     * @return The nanoseconds, or null if the timestamp is missing or invalid
+     */
+    static Long toEpochNanos(Object timestamp) {
+        if (!(timestamp instanceof String)) {
+            return null;
+        }
+        try {
+            Instant instant = Instant.parse((String) timestamp);
+            return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000_000L), instant.getNano());
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    static Instant fromEpochNanos(long nanos) {
+        return Instant.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L), Math.floorMod(nanos, 1_000_000_000L));
+    }
+}
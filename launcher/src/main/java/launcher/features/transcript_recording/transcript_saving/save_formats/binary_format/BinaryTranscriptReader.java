@@ -0,0 +1,377 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats.binary_format;
+
+import gdk.internal.Logging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptFormat.*;
+
+/**
+ * Random-access reader for binary transcript files.
+ *
+ * <p>Opening a file reads only its dictionary and block index. Entry N is found by
+ * arithmetic on the index and decoded from its block; seeking by timestamp is a
+ * binary search over the index. The most recently decoded block is cached, so
+ * sequential reads decode each block once. Entries come back in the same shape
+ * the recorder wrote them. Not thread-safe.
+ *
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+public final class BinaryTranscriptReader implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int entriesPerBlock;
+    private final long entryCount;
+    private final String[] dictionary;
+
+    /** Per block: file offset, timestamp the first delta is relative to, and max timestamp so far. */
+    private final long[] blockOffsets;
+    private final long[] blockBaseTimestamps;
+    private final long[] blockMaxTimestamps;
+
+    private int cachedBlock = -1;
+    private List<Map<String, Object>> cachedEntries;
+
+    private BinaryTranscriptReader(Path file, FileChannel channel) throws IOException {
+        this.file = file;
+        this.channel = channel;
+
+        long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE + FOOTER_SIZE) {
+            throw new IOException("Not a binary transcript (file too small): " + file);
+        }
+
+        ByteBuffer header = read(0, HEADER_SIZE);
+        byte[] magic = new byte[MAGIC.length];
+        header.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a binary transcript: " + file);
+        }
+        byte version = header.get();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary transcript version " + version + ": " + file);
+        }
+        header.get(); // flags - the codec is recorded per block
+        this.entriesPerBlock = header.getInt();
+
+        ByteBuffer footer = read(fileSize - FOOTER_SIZE, FOOTER_SIZE);
+        long indexOffset = footer.getLong();
+        this.entryCount = footer.getLong();
+        footer.get(magic);
+        if (!Arrays.equals(magic, FOOTER_MAGIC) || indexOffset < HEADER_SIZE || indexOffset > fileSize - FOOTER_SIZE) {
+            throw new IOException("Binary transcript has no index (incomplete write?): " + file);
+        }
+
+        ByteBuffer index = read(indexOffset, (int) (fileSize - FOOTER_SIZE - indexOffset));
+        this.dictionary = new String[readLength(index)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(index);
+        }
+        int blockCount = readLength(index);
+        this.blockOffsets = new long[blockCount];
+        this.blockBaseTimestamps = new long[blockCount];
+        this.blockMaxTimestamps = new long[blockCount];
+        for (int i = 0; i < blockCount; i++) {
+            blockOffsets[i] = readVarLong(index);
+            blockBaseTimestamps[i] = readSignedVarLong(index);
+            blockMaxTimestamps[i] = readSignedVarLong(index);
+        }
+    }
+
+    /**
+     * Opens a binary transcript file.
+     *
+     * @param file The file to open
+     * @return The reader
+     * @throws IOException If the file cannot be read or is not a binary transcript
+     */
+    public static BinaryTranscriptReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new BinaryTranscriptReader(file, channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Corrupt binary transcript: " + file, e);
+        }
+    }
+
+    // ==================== RANDOM ACCESS ====================
+
+    /**
+     * Gets the number of entries in the file.
+     *
+     * @return The entry count
+     */
+    public long size() {
+        return entryCount;
+    }
+
+    /**
+     * Gets entry N.
+     *
+     * @param index The entry index, from 0
+     * @return The entry
+     * @throws IOException If the entry's block cannot be read
+     */
+    public Map<String, Object> get(long index) throws IOException {
+        if (index < 0 || index >= entryCount) {
+            throw new IndexOutOfBoundsException("Entry " + index + " of " + entryCount);
+        }
+        return block((int) (index / entriesPerBlock)).get((int) (index % entriesPerBlock));
+    }
+
+    /**
+     * Finds the first entry recorded at or after a point in time.
+     *
+     * @param timestamp The point in time
+     * @return The entry index, or -1 if every entry is earlier
+     * @throws IOException If a block cannot be read
+     */
+    public long indexOf(Instant timestamp) throws IOException {
+        long target = Math.addExact(Math.multiplyExact(timestamp.getEpochSecond(), 1_000_000_000L), timestamp.getNano());
+
+        // The running max never decreases, so the first block reaching the target holds the answer
+        int low = 0;
+        int high = blockOffsets.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (blockMaxTimestamps[middle] < target) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == blockOffsets.length) {
+            return -1;
+        }
+
+        List<Map<String, Object>> entries = block(low);
+        for (int i = 0; i < entries.size(); i++) {
+            Long entryTimestamp = toEpochNanos(entries.get(i).get("timestamp"));
+            if (entryTimestamp != null && entryTimestamp >= target) {
+                return (long) low * entriesPerBlock + i;
+            }
+        }
+        return -1;
+    }
+
+    // ==================== STREAMING ====================
+
+    /**
+     * Streams entries from a given index to the end of the file.
+     *
+     * @param fromIndex The first entry to deliver
+     * @param action Called for each entry
+     * @throws IOException If a block cannot be read
+     */
+    public void forEach(long fromIndex, Consumer<Map<String, Object>> action) throws IOException {
+        for (long i = Math.max(0, fromIndex); i < entryCount; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    /**
+     * Streams every entry. Read errors are logged rather than thrown, so this can be
+     * passed to the JSON and text savers as an entry source.
+     *
+     * @param action Called for each entry
+     * @return true if the whole file was read
+     */
+    public boolean forEachEntry(Consumer<Map<String, Object>> action) {
+        try {
+            forEach(0, action);
+            return true;
+        } catch (IOException e) {
+            Logging.error("❌ Could not read binary transcript " + file + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        cachedEntries = null;
+        channel.close();
+    }
+
+    // ==================== DECODING ====================
+
+    private List<Map<String, Object>> block(int blockIndex) throws IOException {
+        if (blockIndex == cachedBlock) {
+            return cachedEntries;
+        }
+
+        long offset = blockOffsets[blockIndex];
+        long end = blockIndex + 1 < blockOffsets.length ? blockOffsets[blockIndex + 1] : channel.size() - FOOTER_SIZE;
+        ByteBuffer stored = read(offset, (int) (end - offset));
+        try {
+            byte codec = stored.get();
+            int rawLength = (int) readVarLong(stored);
+            int storedLength = readLength(stored);
+
+            ByteBuffer raw;
+            if (codec == CODEC_DEFLATE) {
+                raw = ByteBuffer.wrap(inflate(stored, storedLength, rawLength));
+            } else if (codec == CODEC_RAW) {
+                raw = ByteBuffer.wrap(stored.array(), stored.position(), storedLength).slice();
+            } else {
+                throw new IOException("Unknown block codec " + codec);
+            }
+
+            int count = (int) Math.min(entriesPerBlock, entryCount - (long) blockIndex * entriesPerBlock);
+            List<Map<String, Object>> entries = new ArrayList<>(count);
+            long previousTimestamp = blockBaseTimestamps[blockIndex];
+            for (int i = 0; i < count; i++) {
+                byte kind = raw.get();
+                Instant timestamp = null;
+                if ((kind & KIND_NO_TIMESTAMP) == 0) {
+                    previousTimestamp += readSignedVarLong(raw);
+                    timestamp = fromEpochNanos(previousTimestamp);
+                }
+                entries.add(readEntry((byte) (kind & ~KIND_NO_TIMESTAMP), timestamp, raw));
+            }
+
+            cachedBlock = blockIndex;
+            cachedEntries = entries;
+            return entries;
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt block " + blockIndex + " in " + file, e);
+        }
+    }
+
+    private Map<String, Object> readEntry(byte kind, Instant timestamp, ByteBuffer in) throws IOException {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        switch (kind) {
+            case KIND_IN:
+            case KIND_OUT:
+                entry.put("direction", kind == KIND_IN ? "in" : "out");
+                entry.put("timestamp", timestamp != null ? timestamp.toString() : null);
+                entry.put("message", readValue(in));
+                break;
+            case KIND_META:
+                entry.put("type", "meta");
+                if (timestamp != null) {
+                    entry.put("timestamp", timestamp.toString());
+                }
+                readFields(in, entry);
+                break;
+            case KIND_OTHER:
+                if (timestamp != null) {
+                    entry.put("timestamp", timestamp.toString());
+                }
+                readFields(in, entry);
+                break;
+            default:
+                throw new IOException("Unknown entry kind " + kind);
+        }
+        return entry;
+    }
+
+    private void readFields(ByteBuffer in, Map<String, Object> target) throws IOException {
+        int count = readLength(in);
+        for (int i = 0; i < count; i++) {
+            String key = readKey(in);
+            target.put(key, readValue(in));
+        }
+    }
+
+    private String readKey(ByteBuffer in) throws IOException {
+        long id = readVarLong(in);
+        return id == 0 ? readString(in) : dictionaryString(id - 1);
+    }
+
+    private Object readValue(ByteBuffer in) throws IOException {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_LONG:
+                long value = readSignedVarLong(in);
+                // Match what a JSON parser would produce for the same number
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            case TAG_DOUBLE:
+                return in.getDouble();
+            case TAG_STRING:
+                return readString(in);
+            case TAG_STRING_REF:
+                return dictionaryString(readVarLong(in));
+            case TAG_MAP:
+                Map<String, Object> map = new LinkedHashMap<>();
+                readFields(in, map);
+                return map;
+            case TAG_LIST:
+                int size = readLength(in);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            default:
+                throw new IOException("Unknown value tag " + tag);
+        }
+    }
+
+    private String dictionaryString(long id) throws IOException {
+        if (id < 0 || id >= dictionary.length) {
+            throw new IOException("Dictionary id " + id + " out of range");
+        }
+        return dictionary[(int) id];
+    }
+
+    // ==================== FILE ACCESS ====================
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file: " + file);
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static byte[] inflate(ByteBuffer stored, int storedLength, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored.array(), stored.position(), storedLength);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength) {
+                throw new IOException("Compressed block is truncated");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Compressed block is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
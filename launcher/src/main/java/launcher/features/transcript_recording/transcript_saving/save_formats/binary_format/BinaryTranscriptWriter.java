@@ -0,0 +1,317 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats.binary_format;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import static launcher.features.transcript_recording.transcript_saving.save_formats.binary_format.BinaryTranscriptFormat.*;
+
+/**
+ * Writes transcript entries to a binary transcript file.
+ *
+ * <p>Entries are encoded into the current block as they are appended; a full block is
+ * (optionally) compressed and written out, so only one block is held in memory.
+ * The dictionary and block index are written when the writer is closed.
+ * Not thread-safe.
+ *
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+public final class BinaryTranscriptWriter implements Closeable {
+
+    /** Default number of entries per block. */
+    public static final int DEFAULT_ENTRIES_PER_BLOCK = 256;
+
+    /** Index entry for one written block. */
+    private record BlockIndex(long offset, long baseTimestamp, long maxTimestamp) {
+    }
+
+    private final OutputStream out;
+    private final boolean compressed;
+    private final int entriesPerBlock;
+
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> dictionaryStrings = new ArrayList<>();
+    private final List<BlockIndex> blocks = new ArrayList<>();
+
+    private final ByteArrayOutputStream block = new ByteArrayOutputStream(16 * 1024);
+    private int blockEntries;
+    private long blockBaseTimestamp;
+
+    private long position;
+    private long entryCount;
+    private long previousTimestamp;
+    private long maxTimestamp = Long.MIN_VALUE;
+    private boolean closed;
+
+    /**
+     * Creates (or replaces) a binary transcript file.
+     *
+     * @param file The target file
+     * @param compressed Whether to deflate each block
+     * @param entriesPerBlock Entries per block; smaller blocks make seeks cheaper, larger ones compress better
+     * @throws IOException If the file cannot be created
+     */
+    public BinaryTranscriptWriter(Path file, boolean compressed, int entriesPerBlock) throws IOException {
+        if (entriesPerBlock <= 0) {
+            throw new IllegalArgumentException("entriesPerBlock must be positive");
+        }
+        this.out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        this.compressed = compressed;
+        this.entriesPerBlock = entriesPerBlock;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).put(VERSION).put(compressed ? FLAG_COMPRESSED : 0).putInt(entriesPerBlock);
+        write(header.array(), header.array().length);
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Appends one recorded entry.
+     *
+     * @param entry The transcript entry, in the shape written by the recorder
+     * @throws IOException If a full block cannot be written
+     */
+    public void append(Map<String, Object> entry) throws IOException {
+        if (closed) {
+            throw new IOException("Writer is closed");
+        }
+        if (blockEntries == 0) {
+            blockBaseTimestamp = previousTimestamp;
+        }
+
+        Long timestamp = toEpochNanos(entry.get("timestamp"));
+        byte kind = kindOf(entry, timestamp != null);
+        block.write(timestamp == null ? kind | KIND_NO_TIMESTAMP : kind);
+        if (timestamp != null) {
+            writeSignedVarLong(block, timestamp - previousTimestamp);
+            previousTimestamp = timestamp;
+            maxTimestamp = Math.max(maxTimestamp, timestamp);
+        }
+
+        switch (kind) {
+            case KIND_IN:
+            case KIND_OUT:
+                writeValue(entry.get("message"), false);
+                break;
+            case KIND_META:
+                writeMap(entry, "type", timestamp != null);
+                break;
+            default:
+                writeMap(entry, null, timestamp != null);
+                break;
+        }
+
+        entryCount++;
+        if (++blockEntries == entriesPerBlock) {
+            writeBlock();
+        }
+    }
+
+    /**
+     * Writes the last block, the dictionary and the index, and closes the file.
+     *
+     * @throws IOException If the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (blockEntries > 0) {
+                writeBlock();
+            }
+
+            long indexOffset = position;
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            writeVarLong(index, dictionaryStrings.size());
+            for (String value : dictionaryStrings) {
+                writeString(index, value);
+            }
+            writeVarLong(index, blocks.size());
+            for (BlockIndex entry : blocks) {
+                writeVarLong(index, entry.offset());
+                writeSignedVarLong(index, entry.baseTimestamp());
+                writeSignedVarLong(index, entry.maxTimestamp());
+            }
+            write(index.toByteArray(), index.size());
+
+            ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE);
+            footer.putLong(indexOffset).putLong(entryCount).put(FOOTER_MAGIC);
+            write(footer.array(), footer.array().length);
+        } finally {
+            out.close();
+        }
+    }
+
+    // ==================== ENCODING ====================
+
+    private static byte kindOf(Map<String, Object> entry, boolean hasTimestamp) {
+        if ("meta".equals(entry.get("type"))) {
+            return KIND_META;
+        }
+        // Recorded messages are exactly {direction, timestamp, message}
+        if (hasTimestamp && entry.size() == 3 && entry.containsKey("message")) {
+            Object direction = entry.get("direction");
+            if ("in".equals(direction)) {
+                return KIND_IN;
+            }
+            if ("out".equals(direction)) {
+                return KIND_OUT;
+            }
+        }
+        return KIND_OTHER;
+    }
+
+    /**
+     * Writes a map, leaving out a key implied by the entry kind and, if it is stored
+     * separately, the timestamp.
+     */
+    private void writeMap(Map<?, ?> map, String impliedKey, boolean omitTimestamp) {
+        int count = 0;
+        for (Object key : map.keySet()) {
+            if (!isOmitted(key, impliedKey, omitTimestamp)) {
+                count++;
+            }
+        }
+        writeVarLong(block, count);
+        for (Map.Entry<?, ?> field : map.entrySet()) {
+            if (isOmitted(field.getKey(), impliedKey, omitTimestamp)) {
+                continue;
+            }
+            String key = String.valueOf(field.getKey());
+            writeKey(key);
+            writeValue(field.getValue(), "function".equals(key));
+        }
+    }
+
+    private static boolean isOmitted(Object key, String impliedKey, boolean omitTimestamp) {
+        return (impliedKey != null && impliedKey.equals(key)) || (omitTimestamp && "timestamp".equals(key));
+    }
+
+    /**
+     * Writes a key as dictionary id + 1, or 0 followed by the string once the dictionary is full.
+     */
+    private void writeKey(String key) {
+        int id = idOf(key);
+        writeVarLong(block, id + 1L);
+        if (id < 0) {
+            writeString(block, key);
+        }
+    }
+
+    private void writeValue(Object value, boolean dictionaryString) {
+        if (value == null) {
+            block.write(TAG_NULL);
+        } else if (value instanceof Boolean) {
+            block.write((Boolean) value ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            block.write(TAG_LONG);
+            writeSignedVarLong(block, ((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            block.write(TAG_DOUBLE);
+            long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                block.write((int) (bits >>> shift));
+            }
+        } else if (value instanceof Map) {
+            block.write(TAG_MAP);
+            writeMap((Map<?, ?>) value, null, false);
+        } else if (value instanceof Collection) {
+            block.write(TAG_LIST);
+            Collection<?> list = (Collection<?>) value;
+            writeVarLong(block, list.size());
+            for (Object element : list) {
+                writeValue(element, false);
+            }
+        } else {
+            // Strings, and anything else (e.g. big numbers) by its text form
+            String text = value.toString();
+            int id = dictionaryString ? idOf(text) : -1;
+            if (id >= 0) {
+                block.write(TAG_STRING_REF);
+                writeVarLong(block, id);
+            } else {
+                block.write(TAG_STRING);
+                writeString(block, text);
+            }
+        }
+    }
+
+    /**
+     * Gets (or assigns) the dictionary id of a string, or -1 if the dictionary is full.
+     */
+    private int idOf(String value) {
+        Integer id = dictionary.get(value);
+        if (id != null) {
+            return id;
+        }
+        if (dictionaryStrings.size() >= MAX_DICTIONARY_SIZE) {
+            return -1;
+        }
+        id = dictionaryStrings.size();
+        dictionary.put(value, id);
+        dictionaryStrings.add(value);
+        return id;
+    }
+
+    // ==================== BLOCKS ====================
+
+    private void writeBlock() throws IOException {
+        byte[] raw = block.toByteArray();
+        byte[] data = raw;
+        int storedLength = raw.length;
+        byte codec = CODEC_RAW;
+
+        if (compressed) {
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                byte[] buffer = new byte[raw.length];
+                int length = deflater.deflate(buffer);
+                // Keep the block raw when compression does not pay off
+                if (deflater.finished() && length < raw.length) {
+                    data = buffer;
+                    storedLength = length;
+                    codec = CODEC_DEFLATE;
+                }
+            } finally {
+                deflater.end();
+            }
+        }
+
+        blocks.add(new BlockIndex(position, blockBaseTimestamp, maxTimestamp));
+
+        ByteArrayOutputStream blockHeader = new ByteArrayOutputStream(16);
+        blockHeader.write(codec);
+        writeVarLong(blockHeader, raw.length);
+        writeVarLong(blockHeader, storedLength);
+        write(blockHeader.toByteArray(), blockHeader.size());
+        write(data, storedLength);
+
+        block.reset();
+        blockEntries = 0;
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        position += length;
+    }
+}
@@ -0,0 +1,65 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats.binary_format;
+
+import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsJson;
+import launcher.features.transcript_recording.transcript_saving.save_formats.SaveTranscriptAsText;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Converts binary transcripts back to the JSON and text formats.
+ * 
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+public final class ConvertBinaryTranscript {
+    
+    private ConvertBinaryTranscript() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+    
+    /**
+     * Converts a binary transcript to the JSON format.
+     * 
+     * @param binaryFile The binary transcript
+     * @param targetFile The target file path, or null to use the binary file's name with a .json extension
+     * @return The path to the saved transcript file, or null if conversion failed
+     */
+    public static Path toJson(Path binaryFile, Path targetFile) {
+        try (BinaryTranscriptReader reader = BinaryTranscriptReader.open(binaryFile)) {
+            return SaveTranscriptAsJson.save(targetFileFor(binaryFile, targetFile, ".json"), reader::forEachEntry);
+        } catch (IOException e) {
+            System.err.println("❌ Error converting binary transcript " + binaryFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Converts a binary transcript to the text format.
+     * 
+     * @param binaryFile The binary transcript
+     * @param targetFile The target file path, or null to use the binary file's name with a .txt extension
+     * @return The path to the saved transcript file, or null if conversion failed
+     */
+    public static Path toText(Path binaryFile, Path targetFile) {
+        try (BinaryTranscriptReader reader = BinaryTranscriptReader.open(binaryFile)) {
+            return SaveTranscriptAsText.save(targetFileFor(binaryFile, targetFile, ".txt"), reader::forEachEntry);
+        } catch (IOException e) {
+            System.err.println("❌ Error converting binary transcript " + binaryFile + ": " + e.getMessage());
+            return null;
+        }
+    }
+    
+    private static Path targetFileFor(Path binaryFile, Path targetFile, String extension) {
+        if (targetFile != null) {
+            return targetFile;
+        }
+        String name = binaryFile.getFileName().toString();
+        if (name.endsWith(BinaryTranscriptFormat.FILE_EXTENSION)) {
+            name = name.substring(0, name.length() - BinaryTranscriptFormat.FILE_EXTENSION.length());
+        }
+        return binaryFile.resolveSibling(name + extension);
+    }
+}
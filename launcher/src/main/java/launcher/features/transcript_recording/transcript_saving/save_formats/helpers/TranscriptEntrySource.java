@@ -0,0 +1,27 @@
+package launcher.features.transcript_recording.transcript_saving.save_formats.helpers;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * A source of recorded transcript entries, read in the order they were recorded.
+ * 
+ * <p>Entries have the shape written by the recorder: {@code type}, {@code timestamp}
+ * and either {@code direction} and {@code message}, or the meta fields of a session event.
+ * 
+ * @author Clement Luo
+ * @date January 22, 2026
+ * @edited January 22, 2026
+ * @since Beta 1.0
+ */
+@FunctionalInterface
+public interface TranscriptEntrySource {
+    
+    /**
+     * Streams every entry to the given action.
+     * 
+     * @param action Called for each entry
+     * @return true if the source was read
+     */
+    boolean forEachEntry(Consumer<Map<String, Object>> action);
+}
@@ -0,0 +1,140 @@
+package launcher.features.transcript_recording.transcript_streaming;
+
+import gdk.internal.Logging;
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.file_handling.directory_existence.ParentDirectoryExistenceCheck;
+import launcher.features.transcript_recording.Transcript;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptReader;
+import launcher.features.transcript_recording.transcript_streaming.helpers.TranscriptWriter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Streams the current transcript session to a JSON Lines file.
+ *
+ * <p>Each session gets its own {@code .jsonl} file under {@code saved/transcripts/sessions}.
+ * Entries are appended by a background writer as they are recorded, so nothing is
+ * held in memory; the JSON and text exports are generated from this file on demand.
+ *
+ * @author Clement Luo
+ * @date January 21, 2026
+ * @edited January 21, 2026
+ * @since Beta 1.0
+ */
+public final class TranscriptStream {
+
+    /** Directory holding the per-session JSON Lines files. */
+    private static final String SESSIONS_DIRECTORY = "saved/transcripts/sessions";
+
+    /** Maximum time to wait for queued entries to be written. */
+    private static final long WRITE_TIMEOUT_MS = 5000;
+
+    /** Writer for the open session, or null. */
+    private static TranscriptWriter writer;
+
+    /** Whether the shutdown hook that closes the open session has been registered. */
+    private static boolean shutdownTaskRegistered;
+
+    private TranscriptStream() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    // ==================== SESSION FILE ====================
+
+    /**
+     * Opens a new session file, closing the previous session's file if it is still open.
+     *
+     * @param gameName The name of the game, used in the file name
+     * @return true if the file was opened
+     */
+    public static synchronized boolean open(String gameName) {
+        close();
+
+        String timestamp = Instant.now().toString().replace(":", "-").replace("T", "_").replace("Z", "");
+        Path file = Path.of(SESSIONS_DIRECTORY,
+            "transcript-" + gameName.replaceAll("[^a-zA-Z0-9]", "_") + "-" + timestamp + ".jsonl");
+        try {
+            ParentDirectoryExistenceCheck.exists(file);
+            writer = new TranscriptWriter(file);
+            Transcript.sessionFile = file;
+        } catch (IOException e) {
+            Logging.error("❌ Could not open transcript file " + file + ": " + e.getMessage(), e);
+            writer = null;
+            Transcript.sessionFile = null;
+            return false;
+        }
+
+        if (!shutdownTaskRegistered) {
+            shutdownTaskRegistered = true;
+            Shutdown.registerCleanupTask(TranscriptStream::close);
+        }
+        return true;
+    }
+
+    /**
+     * Appends an entry to the open session file. Does nothing if no session file is open.
+     * The entry must not be modified afterwards.
+     *
+     * @param entry The transcript entry
+     */
+    public static void append(Map<String, Object> entry) {
+        TranscriptWriter current;
+        synchronized (TranscriptStream.class) {
+            current = writer;
+        }
+        if (current != null) {
+            current.append(entry);
+        }
+    }
+
+    /**
+     * Writes every queued entry through to the session file.
+     */
+    public static synchronized void flush() {
+        if (writer != null && !writer.flush(WRITE_TIMEOUT_MS)) {
+            Logging.warning("📝 Transcript entries still queued after " + WRITE_TIMEOUT_MS + "ms");
+        }
+    }
+
+    /**
+     * Writes every queued entry, forces the session file to disk and closes it.
+     * The file stays available for exports until the next session is opened.
+     */
+    public static synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        if (!writer.close(WRITE_TIMEOUT_MS)) {
+            Logging.warning("📝 Transcript file was not closed cleanly: " + writer.getFile());
+        }
+        writer = null;
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * Streams the entries of the current (or most recent) session, in recorded order.
+     * Queued entries are written out first.
+     *
+     * @param action Called for each entry
+     * @return true if the session file was read
+     */
+    public static boolean forEachEntry(Consumer<Map<String, Object>> action) {
+        flush();
+        Path file = Transcript.sessionFile;
+        if (file == null) {
+            return false;
+        }
+        try {
+            TranscriptReader.forEachEntry(file, action);
+            return true;
+        } catch (IOException e) {
+            Logging.error("❌ Could not read transcript file " + file + ": " + e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package launcher.features.transcript_recording.transcript_streaming.helpers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Reads transcript entries back from a JSON Lines file, one line at a time.
+ *
+ * @author Clement Luo
+ * @date January 21, 2026
+ * @edited January 21, 2026
+ * @since Beta 1.0
+ */
+public final class TranscriptReader {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> ENTRY_TYPE = new TypeReference<>() {};
+
+    private TranscriptReader() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Streams the entries of a session file to a consumer, in the order they were recorded.
+     * A line that cannot be parsed (e.g. cut off by a crash) is skipped.
+     *
+     * @param file The session file
+     * @param action Called for each entry
+     * @throws IOException If the file cannot be read
+     */
+    public static void forEachEntry(Path file, Consumer<Map<String, Object>> action) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    action.accept(JSON_MAPPER.readValue(line, ENTRY_TYPE));
+                } catch (IOException e) {
+                    Logging.warning("📝 Skipping unreadable transcript line " + lineNumber + " in " + file.getFileName());
+                }
+            }
+        }
+    }
+}
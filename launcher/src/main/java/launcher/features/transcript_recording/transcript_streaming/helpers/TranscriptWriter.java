@@ -0,0 +1,204 @@
+package launcher.features.transcript_recording.transcript_streaming.helpers;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gdk.internal.Logging;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends transcript entries to a JSON Lines file on a background thread.
+ *
+ * <p>Callers only enqueue entries. The writer thread serializes each entry as
+ * one JSON line into a buffered writer over a {@link FileChannel}, flushes the
+ * buffer to the file every {@link #FLUSH_INTERVAL_MS}, and forces the file to
+ * disk when it is closed. A crash therefore loses at most one flush window, and
+ * memory use does not grow with the length of the session.
+ *
+ * @author Clement Luo
+ * @date January 21, 2026
+ * @edited January 21, 2026
+ * @since Beta 1.0
+ */
+public final class TranscriptWriter {
+
+    /** How often buffered entries are written through to the file. */
+    public static final long FLUSH_INTERVAL_MS = 1000;
+
+    /** Maximum queued entries; recording waits when the writer falls this far behind. */
+    private static final int QUEUE_CAPACITY = 4096;
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+
+    /** Queue marker asking the writer thread to flush and count down. */
+    private record FlushRequest(CountDownLatch done, boolean close) {
+    }
+
+    private final Path file;
+    private final FileChannel channel;
+    private final Writer writer;
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread thread;
+
+    private volatile boolean closed;
+
+    /**
+     * Opens (or creates) a JSON Lines file for appending and starts the writer thread.
+     *
+     * @param file The session file
+     * @throws IOException If the file cannot be opened
+     */
+    public TranscriptWriter(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        this.writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        this.thread = new Thread(this::run, "TranscriptWriter");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    // ==================== PUBLIC METHODS ====================
+
+    /**
+     * Queues an entry to be appended. The entry must not be modified afterwards.
+     *
+     * @param entry The transcript entry
+     */
+    public void append(Map<String, Object> entry) {
+        if (closed) {
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Logging.warning("📝 Interrupted while queueing transcript entry - entry dropped");
+        }
+    }
+
+    /**
+     * Writes every queued entry through to the file.
+     *
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if everything queued before this call has been written
+     */
+    public boolean flush(long timeoutMs) {
+        return request(false, timeoutMs);
+    }
+
+    /**
+     * Writes every queued entry, forces the file to disk and closes it.
+     *
+     * @param timeoutMs Maximum time to wait, in milliseconds
+     * @return true if the file was closed cleanly
+     */
+    public boolean close(long timeoutMs) {
+        if (closed) {
+            return true;
+        }
+        boolean done = request(true, timeoutMs);
+        closed = true;
+        return done;
+    }
+
+    /**
+     * Gets the file this writer appends to.
+     *
+     * @return The session file
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    // ==================== PRIVATE METHODS ====================
+
+    private boolean request(boolean close, long timeoutMs) {
+        if (closed || !thread.isAlive()) {
+            return !thread.isAlive();
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            if (!queue.offer(new FlushRequest(done, close), timeoutMs, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            return done.await(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Writer thread: serializes queued entries and flushes on a fixed interval.
+     */
+    private void run() {
+        long lastFlush = System.currentTimeMillis();
+        boolean dirty = false;
+        try {
+            while (true) {
+                long untilFlush = FLUSH_INTERVAL_MS - (System.currentTimeMillis() - lastFlush);
+                Object item = dirty ? queue.poll(Math.max(0, untilFlush), TimeUnit.MILLISECONDS) : queue.take();
+
+                if (item instanceof FlushRequest) {
+                    FlushRequest request = (FlushRequest) item;
+                    writer.flush();
+                    if (request.close()) {
+                        channel.force(true);
+                        writer.close();
+                        request.done().countDown();
+                        return;
+                    }
+                    lastFlush = System.currentTimeMillis();
+                    dirty = false;
+                    request.done().countDown();
+                    continue;
+                }
+
+                if (item != null) {
+                    writeEntry(item);
+                    dirty = true;
+                }
+
+                if (dirty && System.currentTimeMillis() - lastFlush >= FLUSH_INTERVAL_MS) {
+                    writer.flush();
+                    lastFlush = System.currentTimeMillis();
+                    dirty = false;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            Logging.error("❌ Transcript file write failed: " + file + " - " + e.getMessage(), e);
+        } finally {
+            closed = true;
+            queue.clear();
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                // Already reported or closed
+            }
+        }
+    }
+
+    private void writeEntry(Object entry) throws IOException {
+        try {
+            writer.write(JSON_MAPPER.writeValueAsString(entry));
+            writer.write('\n');
+        } catch (JsonProcessingException e) {
+            // One unserializable entry must not end the transcript
+            Logging.warning("📝 Skipping transcript entry that cannot be serialized: " + e.getMessage());
+        }
+    }
+}
@@ -44,7 +44,7 @@ import launcher.ui_areas.lobby.subcontrollers.GameSelectionController;
  *
  * @author Clement Luo
  * @date July 25, 2025
- * @edited December 29, 2025       
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class GDKGameLobbyController implements Initializable {
@@ -211,6 +211,11 @@ public class GDKGameLobbyController implements Initializable {
             InitializationResult updatedResult =
                 viewModelInitialization.updateViewModel(applicationViewModel, lastInitializationResult);
             
+            // The replaced refresh manager's module watcher would otherwise keep running
+            if (gameModuleRefreshManager != null && gameModuleRefreshManager != updatedResult.gameModuleRefreshManager()) {
+                gameModuleRefreshManager.stopWatchingModules();
+            }
+            
             // Update all references with the new components
             moduleCompilationChecker = updatedResult.moduleCompilationChecker();
             gameLaunchManager = updatedResult.gameLaunchManager();
@@ -296,6 +301,15 @@ public class GDKGameLobbyController implements Initializable {
         }
     }
     
+    /**
+     * Shows how long startup took in the user message area.
+     * 
+     * @param summary One-line summary of the startup timings
+     */
+    public void reportStartupTimings(String summary) {
+        addUserMessage("⏱️ " + summary);
+    }
+    
     // ==================== GETTERS FOR INITIALIZATION ====================
     // Public getters for ControllerInitialization to access UI components
     
@@ -335,7 +349,7 @@ public class GDKGameLobbyController implements Initializable {
      * 
      * @param gameModule The game module to launch
      * @param savedJson The saved JSON configuration string
-     * @return true if launch was successful, false otherwise
+     * @return true if the launch was started, false otherwise
      */
     public boolean launchGameWithSavedJson(GameModule gameModule, String savedJson) {
         if (gameLaunchManager != null) {
@@ -347,9 +361,12 @@ public class GDKGameLobbyController implements Initializable {
     // ==================== NAVIGATION & LIFECYCLE ====================
     
     /**
-     * Handle application shutdown and save settings.
+     * Handle application shutdown: stop watching modules and save settings.
      */
     public void onApplicationShutdown() {
+        if (gameModuleRefreshManager != null) {
+            gameModuleRefreshManager.stopWatchingModules();
+        }
         if (lobbyShutdownManager != null) {
             lobbyShutdownManager.handleShutdown();
         }
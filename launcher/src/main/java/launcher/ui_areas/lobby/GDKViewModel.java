@@ -4,6 +4,10 @@ import gdk.api.GameModule;
 import gdk.internal.Logging;
 import gdk.internal.MessagingBridge;
 import launcher.features.file_handling.file_paths.GetModulesDirectoryPath;
+import launcher.features.game_launching.HotReloadGame;
+import launcher.features.game_messaging.ServerSimulatorProtocol;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+import launcher.features.module_handling.module_watching.RunningModuleWatcher;
 import launcher.features.transcript_recording.recording.RecordInboundMessage;
 import launcher.features.transcript_recording.recording.RecordOutboundMessage;
 import launcher.features.transcript_recording.session_management.EndSession;
@@ -40,11 +44,12 @@ import com.fasterxml.jackson.databind.ObjectWriter;
  * - Handle game module module_finding and ui_loading
  * - Coordinate game launching and management
  * - Manage server simulator lifecycle
+ * - Hot-reload the running game when its module changes
  * - Handle application cleanup and shutdown
  *
  * @author Clement Luo
  * @date July 25, 2025
- * @edited December 27, 2025  
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class GDKViewModel {
@@ -52,6 +57,10 @@ public class GDKViewModel {
     private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
     private static final ObjectWriter JSON_PRETTY_WRITER = JSON_MAPPER.writerWithDefaultPrettyPrinter();
 
+    /** The server simulator updates UI and acks the game, so it is delivered on the JavaFX thread. */
+    private static final MessagingBridge.DeliveryOptions SERVER_SIMULATOR_DELIVERY =
+        MessagingBridge.DeliveryOptions.onFxThread(256, MessagingBridge.OverflowPolicy.BLOCK);
+
     // ==================== DEPENDENCIES ====================
     
     // Module loader functionality is now handled by static methods in ModuleDiscovery and ModuleCompiler
@@ -67,6 +76,16 @@ public class GDKViewModel {
      * The currently running game module, if any
      */
     private GameModule currentlyRunningGame;
+    
+    /**
+     * The start message the running game was launched with (replayed on hot reload)
+     */
+    private String runningGameStartMessage;
+    
+    /**
+     * Watches the running game's module and hot-reloads it on change
+     */
+    private RunningModuleWatcher runningModuleWatcher;
 
     // ==================== SERVER SIMULATOR STATE ====================
     
@@ -239,6 +258,44 @@ public class GDKViewModel {
         }
         return null;
     }
+    
+    /**
+     * Hot-reload the running game from its module's current classes.
+     * 
+     * The module is recompiled if needed and instantiated from a fresh class loader,
+     * then swapped in on the existing stage. The transcript session and MessagingBridge
+     * subscriptions stay as they are, so the session continues uninterrupted. Games can
+     * carry state across the reload by implementing GameModule.saveStateForReload() and
+     * restoreStateAfterReload().
+     * 
+     * Loading happens on the calling thread, so prefer calling this off the JavaFX thread;
+     * the scene swap itself is always done on the JavaFX thread.
+     */
+    public void reloadRunningGame() {
+        GameModule runningGame = currentlyRunningGame;
+        if (runningGame == null) {
+            Logging.warning("Hot reload requested but no game is running");
+            return;
+        }
+        
+        File moduleDirectory = HotReloadGame.findModuleDirectory(runningGame);
+        if (moduleDirectory == null) {
+            Logging.warning("Hot reload not available - running game was not loaded from a module directory");
+            return;
+        }
+        
+        GameModule freshGame = HotReloadGame.loadFreshInstance(moduleDirectory);
+        if (freshGame == null) {
+            return;
+        }
+        
+        Runnable swap = () -> swapRunningGame(runningGame, freshGame);
+        if (Platform.isFxApplicationThread()) {
+            swap.run();
+        } else {
+            Platform.runLater(swap);
+        }
+    }
 
     // ==================== GAME MANAGEMENT ====================
     
@@ -272,6 +329,8 @@ public class GDKViewModel {
             transcriptSubscription.unsubscribe();
             transcriptSubscription = null;
         }
+        // Recorded synchronously, like outbound messages, so entries are timestamped at
+        // publish time and both directions stay in the order they actually happened
         transcriptSubscription = MessagingBridge.addConsumer(msg -> {
             try {
                 // Record the message to the transcript
@@ -283,6 +342,7 @@ public class GDKViewModel {
         if (gameScene != null) {
             primaryApplicationStage.setTitle(selectedGameModule.getMetadata().getGameName());
             primaryApplicationStage.setScene(gameScene);
+            runningGameStartMessage = jsonConfiguration;
             updateGameStateAfterSuccessfulLaunch(selectedGameModule);
             
             // Auto-ui_initialization server simulator with game (ensure single instance) - with delay to allow game to configure
@@ -325,6 +385,8 @@ public class GDKViewModel {
      */
     private void updateGameStateAfterSuccessfulLaunch(GameModule selectedGameModule) {
         currentlyRunningGame = selectedGameModule;
+        // Keep the game's classloader open for as long as it runs
+        ModuleRegistry.pin(selectedGameModule);
         // Set up the lobby return callback for games
         MessagingBridge.setLobbyReturnCallback(this::returnToLobby);
         
@@ -335,6 +397,70 @@ public class GDKViewModel {
         
         Logging.info("🎮 Game launched successfully: " + gameName + " (v" + gameVersion + ")");
         Logging.info("📝 Started transcript transcript_recording for game session");
+        
+        startHotReloadWatcher(selectedGameModule);
+    }
+    
+    /**
+     * Start watching the running game's module so edits are hot-reloaded.
+     * 
+     * @param runningGame The game that was just launched
+     */
+    private void startHotReloadWatcher(GameModule runningGame) {
+        stopHotReloadWatcher();
+        
+        File moduleDirectory = HotReloadGame.findModuleDirectory(runningGame);
+        if (moduleDirectory == null) {
+            return;
+        }
+        
+        runningModuleWatcher = new RunningModuleWatcher(moduleDirectory, this::reloadRunningGame);
+        if (runningModuleWatcher.start()) {
+            Logging.info("🔧 Hot reload enabled for " + moduleDirectory.getName());
+        }
+    }
+    
+    /**
+     * Stop watching the running game's module.
+     */
+    private void stopHotReloadWatcher() {
+        if (runningModuleWatcher != null) {
+            runningModuleWatcher.stop();
+            runningModuleWatcher = null;
+        }
+    }
+    
+    /**
+     * Swap the running game for a freshly loaded instance on the JavaFX thread.
+     * 
+     * @param previousGame The instance that was running when the reload started
+     * @param freshGame The freshly loaded instance
+     */
+    private void swapRunningGame(GameModule previousGame, GameModule freshGame) {
+        // The game may have been closed (or relaunched) while the new instance was loading
+        if (currentlyRunningGame != previousGame) {
+            Logging.info("Hot reload discarded - the game is no longer running");
+            HotReloadGame.closeClassLoader(freshGame);
+            return;
+        }
+        
+        HotReloadGame.HandOffResult result = HotReloadGame.handOff(
+            previousGame, freshGame, primaryApplicationStage, runningGameStartMessage);
+        
+        if (result.scene() != null) {
+            primaryApplicationStage.setScene(result.scene());
+            addEscapeShortcut(result.scene());
+        }
+        currentlyRunningGame = result.runningGame();
+        ModuleRegistry.pin(result.runningGame());
+        ModuleRegistry.unpin(previousGame);
+        
+        // Release whichever instance is no longer in use
+        HotReloadGame.closeClassLoader(result.runningGame() == freshGame ? previousGame : freshGame);
+        
+        if (result.runningGame() == freshGame) {
+            Logging.info("🎮 Hot reload complete: " + freshGame.getMetadata().getGameName());
+        }
     }
     
     /**
@@ -387,27 +513,31 @@ public class GDKViewModel {
         Platform.runLater(() -> {
             Scene gameScene = primaryApplicationStage.getScene();
             if (gameScene != null) {
-                KeyCombination escapeKey = new KeyCodeCombination(KeyCode.ESCAPE);
-                gameScene.getAccelerators().put(escapeKey, () -> {
-                    Logging.info("🎮 Escape key pressed - returning to lobby");
-                    returnToLobby();
-                });
-                Logging.info("🎮 Escape key shortcut configured (press Escape to return to lobby)");
+                addEscapeShortcut(gameScene);
             } else {
                 // If scene is still null, set up a listener for when it becomes available
                 primaryApplicationStage.sceneProperty().addListener((observable, oldScene, newScene) -> {
                     if (newScene != null) {
-                        KeyCombination escapeKey = new KeyCodeCombination(KeyCode.ESCAPE);
-                        newScene.getAccelerators().put(escapeKey, () -> {
-                            Logging.info("🎮 Escape key pressed - returning to lobby");
-                            returnToLobby();
-                        });
-                        Logging.info("🎮 Escape key shortcut configured (press Escape to return to lobby)");
+                        addEscapeShortcut(newScene);
                     }
                 });
             }
         });
     }
+    
+    /**
+     * Add the Escape key shortcut that returns to the lobby to a game scene.
+     * 
+     * @param gameScene The game scene
+     */
+    private void addEscapeShortcut(Scene gameScene) {
+        KeyCombination escapeKey = new KeyCodeCombination(KeyCode.ESCAPE);
+        gameScene.getAccelerators().put(escapeKey, () -> {
+            Logging.info("🎮 Escape key pressed - returning to lobby");
+            returnToLobby();
+        });
+        Logging.info("🎮 Escape key shortcut configured (press Escape to return to lobby)");
+    }
 
     // ==================== SERVER SIMULATOR MANAGEMENT ====================
     
@@ -430,27 +560,12 @@ public class GDKViewModel {
                             serverSimulatorController.addReceivedMessageToDisplay("ERROR: No game running");
                             return;
                         }
-                        java.util.Map<String, Object> messageMap;
-                        try {
-                            messageMap = JSON_MAPPER.readValue(messageText, java.util.Map.class);
-                        } catch (Exception parseError) {
-                            // Treat as plain chat text
-                            messageMap = new java.util.HashMap<>();
-                            messageMap.put("function", "message");
-                            messageMap.put("from", "server");
-                            messageMap.put("text", messageText);
-                        }
+                        // JSON objects are sent as-is, anything else as chat text
+                        java.util.Map<String, Object> messageMap = ServerSimulatorProtocol.toMessage(messageText);
                         // Record to transcript
                         RecordOutboundMessage.record(messageMap);
-                        java.util.Map<String, Object> response = currentlyRunningGame.handleMessage(messageMap);
-                        if (response == null) {
-                            response = new java.util.HashMap<>();
-                            response.put("function", "ack");
-                            response.put("status", "ok");
-                            Object of = messageMap.get("function");
-                            if (of != null) response.put("of", of);
-                            response.put("timestamp", java.time.Instant.now().toString());
-                        }
+                        java.util.Map<String, Object> response =
+                            ServerSimulatorProtocol.deliver(currentlyRunningGame, messageMap);
                         // Record from game
                         RecordInboundMessage.record(response);
                         String responseText = JSON_PRETTY_WRITER.writeValueAsString(response);
@@ -552,6 +667,8 @@ public class GDKViewModel {
      * This method stops the game and resets the game state.
      */
     private void cleanupCurrentGame() {
+        stopHotReloadWatcher();
+        
         if (currentlyRunningGame != null) {
             try {
                 currentlyRunningGame.stopGame();
@@ -565,7 +682,9 @@ public class GDKViewModel {
             TranscriptSaver.saveTranscriptBothFormats(null);
             Logging.info("📝 Transcript session ended and saved");
             
+            ModuleRegistry.unpin(currentlyRunningGame);
             currentlyRunningGame = null;
+            runningGameStartMessage = null;
         }
 
         cleanupMessagingBridgeSubscriptions();
@@ -628,7 +747,8 @@ public class GDKViewModel {
             
             List<File> validModuleDirectories = new ArrayList<>();
             for (File folder : moduleDirectories) {
-                if (launcher.features.module_handling.module_source_validation.ModuleSourceValidator.isValidModule(folder)) {
+                if (launcher.features.module_handling.module_packaging.PackagedModules.isPackaged(folder)
+                        || launcher.features.module_handling.module_source_validation.ModuleSourceValidator.isValidModule(folder)) {
                     validModuleDirectories.add(folder);
                 }
             }
@@ -644,6 +764,7 @@ public class GDKViewModel {
      * Set up the MessagingBridge consumer to handle messages from the currently running game.
      * This consumer is responsible for receiving messages from the game and
      * forwarding them to the server simulator for display and processing.
+     * Delivery is queued and runs on the JavaFX thread, so publishing never waits on the UI.
      */
     private void setupMessagingBridgeConsumer() {
         if (serverSimulatorSubscription != null) {
@@ -682,7 +803,7 @@ public class GDKViewModel {
             } catch (Exception e) {
                 Logging.error("❌ Error handling MessagingBridge message: " + e.getMessage(), e);
             }
-        });
+        }, SERVER_SIMULATOR_DELIVERY);
     }
 
     /**
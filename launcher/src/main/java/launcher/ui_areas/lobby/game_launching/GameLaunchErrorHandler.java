@@ -22,7 +22,7 @@ import launcher.ui_areas.shared.dialogs.DialogUtil;
  * 
  * @author Clement Luo
  * @date December 29, 2025
- * @edited December 30, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class GameLaunchErrorHandler {
@@ -122,6 +122,15 @@ public class GameLaunchErrorHandler {
     
     // ==================== PUBLIC METHODS - SUCCESS REPORTING ====================
     
+    /**
+     * Reports that a game's module is being loaded before it can be launched.
+     * 
+     * @param gameName The name of the game being loaded
+     */
+    public void reportModuleLoading(String gameName) {
+        messageManager.addMessage("Loading game: " + gameName + "...");
+    }
+    
     /**
      * Reports a successful game launch to the user.
      * 
@@ -3,10 +3,14 @@ package launcher.ui_areas.lobby.game_launching;
 import gdk.api.GameModule;
 import gdk.internal.Logging;
 import launcher.features.game_launching.LaunchGame;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
 import launcher.ui_areas.lobby.GDKViewModel;
 import launcher.ui_areas.lobby.subcontrollers.JsonActionButtonsController;
+import javafx.application.Platform;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Manages UI coordination for game launching operations.
@@ -20,6 +24,10 @@ import java.util.Map;
  * 
  * <p>Business logic (module_source_validation, parsing, launching) is delegated to {@link LaunchGame}.
  * 
+ * <p>A game whose module is not loaded yet is loaded in the background (see
+ * {@link LaunchGame}); the user sees a loading message and the launch is reported
+ * when it completes. Only one launch can be in progress at a time.
+ * 
  * <p>Supports two launch modes:
  * <ul>
  *   <li><b>UI launch</b>: User-initiated launch from the lobby UI</li>
@@ -28,7 +36,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date December 30, 2025
- * @edited December 30, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class GameLaunchingManager {
@@ -44,6 +52,11 @@ public class GameLaunchingManager {
     /** Error handler for reporting launch failures to UI. */
     private final GameLaunchErrorHandler errorHandler;
     
+    // ==================== STATE ====================
+    
+    /** The launch in progress, if any (only touched on the JavaFX thread). */
+    private CompletableFuture<GameModule> launchInProgress;
+    
     // ==================== CONSTRUCTOR ====================
     
     /**
@@ -75,7 +88,7 @@ public class GameLaunchingManager {
      * </ol>
      * 
      * @param selectedGameModule The selected game module to launch
-     * @return true if launch was successful, false otherwise
+     * @return true if the launch was started, false otherwise
      */
     public boolean launchGameFromUI(GameModule selectedGameModule) {
         Logging.info("Launch button clicked for game: " + 
@@ -106,7 +119,7 @@ public class GameLaunchingManager {
      * 
      * @param gameModule The game module to launch
      * @param savedJson The saved JSON configuration string
-     * @return true if launch was successful, false otherwise
+     * @return true if the launch was started, false otherwise
      */
     public boolean launchGameWithSavedJson(GameModule gameModule, String savedJson) {
         try {
@@ -123,18 +136,36 @@ public class GameLaunchingManager {
     /**
      * Core launch method that coordinates UI and business logic.
      * 
+     * <p>Validation errors are reported straight away. Loading the module and the
+     * launch itself finish in the background and are reported when they complete.
+     * 
      * @param gameModule The game module to launch
      * @param startMessage The JSON start message string
      * @param isAutoLaunch Whether this is an auto-launch (affects error handling)
-     * @return true if launch was successful, false otherwise
+     * @return true if the launch was started, false otherwise
      */
     private boolean launchGame(GameModule gameModule, String startMessage, boolean isAutoLaunch) {
+        String gameName = gameModule != null ? gameModule.getMetadata().getGameName() : "unknown";
+        if (launchInProgress != null && !launchInProgress.isDone()) {
+            Logging.info("Launch of " + gameName + " ignored - another game is still loading");
+            return false;
+        }
+        
         try {
-            String gameName = gameModule != null ? gameModule.getMetadata().getGameName() : "unknown";
             Logging.info("Preparing to launch game: " + gameName);
+            if (gameModule instanceof DeferredGameModule && !((DeferredGameModule) gameModule).isInstantiated()) {
+                errorHandler.reportModuleLoading(gameName);
+            }
             
-            LaunchGame.launch(viewModel, gameModule, startMessage, isAutoLaunch);
-            errorHandler.reportSuccessfulLaunch(gameName);
+            launchInProgress = LaunchGame.launch(viewModel, gameModule, startMessage, isAutoLaunch);
+            launchInProgress.whenComplete((module, error) -> {
+                if (error == null) {
+                    errorHandler.reportSuccessfulLaunch(gameName);
+                } else {
+                    // Failures before the JavaFX stage of the launch arrive on a background thread
+                    Platform.runLater(() -> reportLaunchFailure(gameName, error, isAutoLaunch));
+                }
+            });
             return true;
         } catch (IllegalStateException e) {
             if (viewModel == null) {
@@ -142,17 +173,32 @@ public class GameLaunchingManager {
             } else if (gameModule == null) {
                 errorHandler.handleValidationError(e.getMessage(), isAutoLaunch);
             } else {
-                errorHandler.handleConfigurationFailure(
-                    gameModule.getMetadata().getGameName(), isAutoLaunch);
+                errorHandler.handleConfigurationFailure(gameName, isAutoLaunch);
             }
             return false;
         } catch (Exception e) {
-            String gameName = gameModule != null ? gameModule.getMetadata().getGameName() : "unknown";
             errorHandler.handleLaunchException(gameName, e, isAutoLaunch);
             return false;
         }
     }
     
+    /**
+     * Reports a launch that failed after it was started.
+     * 
+     * @param gameName The name of the game
+     * @param error The failure, possibly wrapped by the launch future
+     * @param isAutoLaunch Whether this is an auto-launch (affects error handling)
+     */
+    private void reportLaunchFailure(String gameName, Throwable error, boolean isAutoLaunch) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IllegalStateException) {
+            errorHandler.handleConfigurationFailure(gameName, isAutoLaunch);
+        } else {
+            errorHandler.handleLaunchException(gameName,
+                cause instanceof Exception ? (Exception) cause : new RuntimeException(cause), isAutoLaunch);
+        }
+    }
+    
     /**
      * Gets JSON text from the UI editor.
      * 
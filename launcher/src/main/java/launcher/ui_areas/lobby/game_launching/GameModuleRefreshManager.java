@@ -2,7 +2,11 @@ package launcher.ui_areas.lobby.game_launching;
 
 import gdk.api.GameModule;
 import gdk.internal.Logging;
+import launcher.features.file_handling.file_paths.GetModulesDirectoryPath;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
 import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_registry.ModuleRegistry;
+import launcher.features.module_handling.module_watching.ModuleWatcher;
 import launcher.ui_areas.lobby.messaging.MessageManager;
 import launcher.ui_areas.lobby.ui_management.StatusLabelManager;
 import launcher.ui_areas.lobby.ui_management.LaunchButtonManager;
@@ -11,6 +15,7 @@ import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ComboBox;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -30,9 +35,13 @@ import java.util.Set;
  * <p>Both refresh types update the UI components (ComboBox, status labels, messages)
  * and track changes in available modules to provide user feedback.
  * 
+ * <p>After the first refresh, a {@link ModuleWatcher} keeps the list current:
+ * when files under the modules directory change, only the affected module is
+ * reloaded and the change is applied to the list incrementally.
+ * 
  * @author Clement Luo
  * @date December 29, 2025
- * @edited December 30, 2025
+ * @edited January 16, 2026
  * @since Beta 1.0
  */
 public class GameModuleRefreshManager {
@@ -65,6 +74,9 @@ public class GameModuleRefreshManager {
     /** Set of module names that were removed (for tracking purposes). */
     private final Set<String> removedModuleNames = new HashSet<>();
     
+    /** Watcher that applies module changes as they happen (created on first refresh). */
+    private ModuleWatcher moduleWatcher;
+    
     // ==================== CONSTRUCTOR ====================
     
     /**
@@ -182,11 +194,46 @@ public class GameModuleRefreshManager {
             previousModuleCount = uiUpdater.updateUIForFastRefresh(
                 validModules, discoveryResult, messageManager, moduleChangeReporter, previousModuleNames);
             
+            // Keep the list current from here on
+            startWatchingModules(validModules);
+            
         } catch (Exception e) {
             handleFastRefreshError(e);
         }
     }
     
+    /**
+     * Stops watching the modules directory for changes.
+     */
+    public synchronized void stopWatchingModules() {
+        if (moduleWatcher != null) {
+            moduleWatcher.stop();
+            moduleWatcher = null;
+        }
+    }
+    
+    // ==================== PRIVATE HELPER METHODS - MODULE WATCHING ====================
+    
+    /**
+     * Starts the module watcher, or re-syncs it with the modules now listed.
+     * 
+     * @param listedModules The modules the UI is showing
+     */
+    private synchronized void startWatchingModules(List<GameModule> listedModules) {
+        List<File> moduleDirectories = new ArrayList<>();
+        for (GameModule module : listedModules) {
+            if (module instanceof DeferredGameModule) {
+                moduleDirectories.add(((DeferredGameModule) module).getModuleDirectory());
+            }
+        }
+        
+        if (moduleWatcher == null) {
+            moduleWatcher = new ModuleWatcher(GetModulesDirectoryPath.getModulesDirectoryPath(),
+                delta -> uiUpdater.applyModuleDelta(delta, messageManager));
+        }
+        moduleWatcher.start(moduleDirectories);
+    }
+    
     // ==================== PRIVATE HELPER METHODS - FULL REFRESH ====================
     
     /**
@@ -225,6 +272,12 @@ public class GameModuleRefreshManager {
         
         // Update state for next comparison
         previousModuleCount = currentModuleCount;
+        
+        // Re-sync the watcher with what is now listed
+        startWatchingModules(discoveredGameModules);
+        
+        // Report module classloaders still alive after the refresh (retired or leaked ones show up here)
+        ModuleRegistry.logLiveClassLoaders();
     }
     
     /**
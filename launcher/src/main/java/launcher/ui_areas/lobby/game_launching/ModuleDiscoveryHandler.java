@@ -5,8 +5,11 @@ import gdk.api.GameMetadata;
 import gdk.internal.Logging;
 import launcher.features.file_handling.file_paths.GetModulesDirectoryPath;
 import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.features.module_handling.module_finding.ModuleDiscovery;
 import launcher.features.module_handling.extract_metadata.ModuleMetadataExtractor;
 import launcher.features.module_handling.module_root_scanning.ScanForModuleFolders;
+import launcher.features.module_handling.module_index.ModuleIndex;
+import launcher.features.module_handling.module_packaging.PackagedModules;
 import launcher.features.module_handling.module_source_validation.ModuleSourceValidator;
 import launcher.ui_areas.lobby.messaging.MessageManager;
 import launcher.ui_areas.lobby.ui_management.StatusLabelManager;
@@ -35,7 +38,7 @@ import java.util.stream.StreamSupport;
  * 
  * @author Clement Luo
  * @date December 30, 2025
- * @edited December 30, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class ModuleDiscoveryHandler {
@@ -99,14 +102,23 @@ public class ModuleDiscoveryHandler {
             
             // Filter to only valid module structures
             List<File> validModuleDirectories = new ArrayList<>();
+            // (modules unchanged since their last successful load are trusted from the index,
+            // packaged modules are checked through their descriptor when they are loaded)
             for (File folder : moduleDirectories) {
-                if (ModuleSourceValidator.isValidModule(folder)) {
+                if (PackagedModules.isPackaged(folder) || ModuleIndex.isUpToDate(folder)
+                        || ModuleSourceValidator.isValidModule(folder)) {
                     validModuleDirectories.add(folder);
                 }
             }
             
-            // Load modules
-            LoadModules.ModuleLoadResult result = LoadModules.loadModules(validModuleDirectories);
+            // Discover modules by metadata; Main classes are instantiated at launch
+            LoadModules.ModuleLoadResult discovered = LoadModules.loadModuleDescriptors(validModuleDirectories);
+            
+            // Share instances with name lookups (auto-launch) through the loaded-module cache;
+            // a full discovery also rebuilds the name index on the next lookup
+            ModuleDiscovery.refresh();
+            LoadModules.ModuleLoadResult result = new LoadModules.ModuleLoadResult(
+                ModuleDiscovery.shareLoadedModules(discovered.getLoadedModules()), discovered.getCompilationFailures());
             
             // Log load_modules failures if any
             List<String> failures = result.getCompilationFailures();
@@ -2,6 +2,8 @@ package launcher.ui_areas.lobby.game_launching;
 
 import gdk.api.GameModule;
 import gdk.internal.Logging;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
+import launcher.features.module_handling.module_watching.ModuleChangeDelta;
 import launcher.ui_areas.lobby.messaging.MessageManager;
 import launcher.ui_areas.lobby.ui_management.LaunchButtonManager;
 import launcher.ui_areas.lobby.ui_management.StatusLabelManager;
@@ -10,6 +12,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.control.ComboBox;
 
+import java.io.File;
 import java.util.List;
 import java.util.Set;
 
@@ -21,12 +24,13 @@ import java.util.Set;
  *   <li>Updating the ComboBox with discovered modules</li>
  *   <li>Updating status labels and button states</li>
  *   <li>Logging UI state for debugging</li>
+ *   <li>Applying incremental module changes from the module watcher</li>
  *   <li>Ensuring steps safety (JavaFX application steps)</li>
  * </ul>
  * 
  * @author Clement Luo
  * @date December 30, 2025
- * @edited December 30, 2025
+ * @edited January 14, 2026
  * @since Beta 1.0
  */
 public class ModuleRefreshUIUpdater {
@@ -166,6 +170,66 @@ public class ModuleRefreshUIUpdater {
         return availableGameModules.size();
     }
     
+    /**
+     * Applies an incremental module change on the JavaFX steps.
+     * 
+     * <p>Only the affected entries are touched: removed modules are dropped,
+     * changed modules replace the entry from the same directory, and added
+     * modules are appended. The selection is cleared only if the selected
+     * module was replaced or removed.
+     * 
+     * @param delta The detected changes
+     * @param messageManager Message manager for user feedback
+     */
+    public void applyModuleDelta(ModuleChangeDelta delta, MessageManager messageManager) {
+        Runnable uiUpdate = () -> {
+            try {
+                GameModule selected = gameSelector != null ? gameSelector.getSelectionModel().getSelectedItem() : null;
+                boolean selectionAffected = false;
+                
+                // Remove modules whose directory is gone
+                for (File removedDirectory : delta.removed()) {
+                    int index = indexOfModuleDirectory(removedDirectory);
+                    if (index >= 0) {
+                        GameModule removedModule = availableGameModules.remove(index);
+                        selectionAffected |= removedModule == selected;
+                        messageManager.addMessage("Game module '" + removedModule.getMetadata().getGameName() + "' was removed or disabled");
+                    }
+                }
+                
+                // Replace changed modules in place; anything not yet listed is added
+                for (GameModule changedModule : delta.changed()) {
+                    selectionAffected |= replaceOrAdd(changedModule) == selected && selected != null;
+                    messageManager.addMessage("Game module '" + changedModule.getMetadata().getGameName() + "' was reloaded");
+                }
+                for (GameModule addedModule : delta.added()) {
+                    selectionAffected |= replaceOrAdd(addedModule) == selected && selected != null;
+                    messageManager.addMessage("New game module '" + addedModule.getMetadata().getGameName() + "' was added");
+                }
+                
+                for (String moduleName : delta.compilationFailures()) {
+                    messageManager.addMessage("Module '" + moduleName + "' failed to compile - check source code for errors");
+                }
+                
+                if (selectionAffected && gameSelector != null) {
+                    gameSelector.getSelectionModel().clearSelection();
+                    launchButtonManager.updateLaunchButtonState(false);
+                }
+                statusLabelManager.updateGameCountStatus(availableGameModules.size());
+                
+                Logging.info("Applied module changes - " + availableGameModules.size() + " modules available");
+            } catch (Exception e) {
+                Logging.error("Error applying module changes: " + e.getMessage(), e);
+            }
+        };
+        
+        if (Platform.isFxApplicationThread()) {
+            uiUpdate.run();
+        } else {
+            Platform.runLater(uiUpdate);
+        }
+    }
+    
     /**
      * Clears UI selections immediately to prevent launching stale modules.
      */
@@ -212,6 +276,41 @@ public class ModuleRefreshUIUpdater {
         }
     }
     
+    /**
+     * Replaces the listed module from the same directory, or appends the module.
+     * 
+     * @param module The new module
+     * @return The module that was replaced, or null if the module was appended
+     */
+    private GameModule replaceOrAdd(GameModule module) {
+        int index = module instanceof DeferredGameModule
+            ? indexOfModuleDirectory(((DeferredGameModule) module).getModuleDirectory())
+            : -1;
+        if (index >= 0) {
+            return availableGameModules.set(index, module);
+        }
+        availableGameModules.add(module);
+        return null;
+    }
+    
+    /**
+     * Finds the listed module loaded from a directory.
+     * 
+     * @param moduleDirectory The module directory
+     * @return The index in the available modules, or -1 if not listed
+     */
+    private int indexOfModuleDirectory(File moduleDirectory) {
+        File target = moduleDirectory.getAbsoluteFile();
+        for (int i = 0; i < availableGameModules.size(); i++) {
+            GameModule module = availableGameModules.get(i);
+            if (module instanceof DeferredGameModule
+                    && ((DeferredGameModule) module).getModuleDirectory().getAbsoluteFile().equals(target)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     /**
      * Logs the current UI state for debugging purposes.
      */
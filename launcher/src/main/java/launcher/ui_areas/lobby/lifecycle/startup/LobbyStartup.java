@@ -2,7 +2,14 @@ package launcher.ui_areas.lobby.lifecycle.startup;
 
 import gdk.api.GameModule;
 import gdk.internal.Logging;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import launcher.core.lifecycle.start.startup_graph.StartupGraph;
+import launcher.core.lifecycle.start.startup_graph.StartupReport;
+import launcher.core.lifecycle.start.startup_graph.StartupReportFile;
+import launcher.core.lifecycle.start.startup_graph.StartupStep;
+import launcher.features.class_data_sharing.TrainingRun;
+import launcher.features.module_handling.load_modules.LoadModules;
 import launcher.features.module_handling.module_finding.ModuleDiscovery;
 import launcher.features.game_launching.LaunchGame;
 import launcher.ui_areas.lobby.GDKGameLobbyController;
@@ -10,7 +17,8 @@ import launcher.ui_areas.lobby.GDKViewModel;
 import launcher.ui_areas.lobby.ControllerMode;
 import launcher.ui_areas.lobby.lifecycle.startup.ui_initialization.InitializeLobbyUIForStandardLaunch;
 import launcher.ui_areas.lobby.lifecycle.startup.ui_initialization.InitializeLobbyUIForAutoLaunch;
-import launcher.ui_areas.lobby.lifecycle.startup.module_loading.ModuleLoadingThread;
+import launcher.ui_areas.lobby.lifecycle.startup.module_loading.StartupModuleLoading;
+import launcher.ui_areas.shared.fonts.FontLoader;
 import launcher.ui_areas.startup_window.StartupWindow;
 
 /**
@@ -19,7 +27,7 @@ import launcher.ui_areas.startup_window.StartupWindow;
  * 
  * @author Clement Luo
  * @date January 8, 2026
- * @edited January 8, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class LobbyStartup {
@@ -38,24 +46,50 @@ public final class LobbyStartup {
     }
     
     /**
-     * Starts the standard lobby launch process.
-     * Initializes the UI and starts module loading in the background.
+     * Starts the standard lobby launch process and returns without waiting for it.
+     * 
+     * <p>Startup runs as a {@link StartupGraph}: the fonts, the startup window and
+     * module loading run in the background while the lobby UI is built on the JavaFX
+     * thread, and the lobby is shown once both the UI and the modules are ready.
+     * The phase timings are written to {@code saved/startup-report.json} and shown
+     * in the lobby.
      * 
      * @param primaryApplicationStage The primary JavaFX stage
-     * @param windowManager The startup window manager
-     * @return The initialized lobby controller
+     * @param windowManager The startup window, or null to show it as part of startup
      */
-    public static GDKGameLobbyController startStandardLaunch(Stage primaryApplicationStage, StartupWindow windowManager) {
+    public static void startStandardLaunch(Stage primaryApplicationStage, StartupWindow windowManager) {
         Logging.info("Starting standard lobby launch");
+        StartupGraph startup = new StartupGraph();
+        
+        // The startup window's fonts are fixed when its styling is first used, so they come first
+        StartupStep<Boolean> swingFonts = startup.inBackground("fonts-swing", FontLoader::loadSwingFonts);
+        StartupStep<StartupWindow> startupWindow = startup.inBackground("startup-window", () -> {
+            StartupWindow window = windowManager != null ? windowManager : StartupWindow.show();
+            StartupModuleLoading.registerStartupWindowCleanup(window);
+            return window;
+        }, swingFonts);
         
-        // Initialize the user interface
-        GDKGameLobbyController lobbyController = 
-            InitializeLobbyUIForStandardLaunch.initialize(primaryApplicationStage);
+        StartupStep<Boolean> javafxFonts = startup.inBackground("fonts-javafx", FontLoader::loadJavaFXFonts);
+        StartupStep<LoadModules.ModuleLoadResult> modules =
+            startup.inBackground("module-loading", StartupModuleLoading::loadModules);
         
-        // Start loading modules in the background
-        ModuleLoadingThread.start(primaryApplicationStage, lobbyController, windowManager);
+        // Scene graph and controller creation must happen on the JavaFX thread
+        StartupStep<GDKGameLobbyController> lobbyUI = startup.onFxThread("lobby-ui",
+            () -> InitializeLobbyUIForStandardLaunch.initialize(primaryApplicationStage), javafxFonts);
+        startup.onFxThread("show-lobby", () -> {
+            if (StartupModuleLoading.showLoadedModules(primaryApplicationStage, lobbyUI.value(),
+                    startupWindow.value(), modules.value())) {
+                startup.markLobbyShown();
+            }
+            return null;
+        }, lobbyUI, modules, startupWindow);
         
-        return lobbyController;
+        startup.start().thenAccept(report -> {
+            reportStartupTimings(report, lobbyUI.value());
+            if (TrainingRun.shouldExitWhenReady()) {
+                exitAfterStartup(modules.value());
+            }
+        });
     }
     
     /**
@@ -97,8 +131,10 @@ public final class LobbyStartup {
             });
             
             // Launch the game with saved configuration
-            if (InitializeLobbyUIForAutoLaunch.launchGame(selectedModule, data.getSavedJson(), viewModel)) {
-                Logging.info("Auto-launch: Successfully launched " + data.getSelectedGameName());
+            // If the module fails to load after the launch started, fall back to the normal GDK
+            if (InitializeLobbyUIForAutoLaunch.launchGame(selectedModule, data.getSavedJson(), viewModel,
+                    () -> InitializeLobbyUIForAutoLaunch.returnToNormalGDK(controller, normalLaunchCallback))) {
+                Logging.info("Auto-launch: Started launching " + data.getSelectedGameName());
                 return true;
             }
             
@@ -109,5 +145,33 @@ public final class LobbyStartup {
             return false;
         }
     }
+    
+    /**
+     * Saves and logs the startup timings and shows them in the lobby.
+     * 
+     * @param report The timings
+     * @param lobbyController The lobby, or null if it could not be initialized
+     */
+    private static void reportStartupTimings(StartupReport report, GDKGameLobbyController lobbyController) {
+        StartupReportFile.write(report);
+        Logging.info("⏱️ " + report.summary());
+        Logging.info(() -> "⏱️ Startup phases:\n" + report.table());
+        
+        if (lobbyController != null) {
+            Platform.runLater(() -> lobbyController.reportStartupTimings(report.summary()));
+        }
+    }
+    
+    /**
+     * Ends a training or measuring run once startup is over (see {@link TrainingRun}).
+     * 
+     * @param loadResult The modules startup loaded (null if loading failed)
+     */
+    private static void exitAfterStartup(LoadModules.ModuleLoadResult loadResult) {
+        if (TrainingRun.isTraining() && loadResult != null) {
+            TrainingRun.loadModuleClasses(loadResult.getLoadedModules());
+        }
+        Logging.info("Startup finished - exiting (training or measuring run)");
+        Platform.exit();
+    }
 }
-
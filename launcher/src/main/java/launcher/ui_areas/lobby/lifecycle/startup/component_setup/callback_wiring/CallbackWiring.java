@@ -1,6 +1,7 @@
 package launcher.ui_areas.lobby.lifecycle.startup.component_setup.callback_wiring;
 
 import gdk.api.GameModule;
+import launcher.features.module_handling.load_modules.DeferredGameModule;
 import launcher.ui_areas.lobby.lifecycle.shutdown.LobbyShutdownManager;
 import launcher.ui_areas.settings_page.SettingsNavigationManager;
 import launcher.ui_areas.lobby.game_launching.GameLaunchingManager;
@@ -14,7 +15,7 @@ import launcher.ui_areas.lobby.subcontrollers.TopBarController;
  * 
  * @author Clement Luo
  * @date December 29, 2025
- * @edited January 6, 2026
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class CallbackWiring {
@@ -51,11 +52,21 @@ public final class CallbackWiring {
         });
         
         gameSelectionController.setOnGameSelected(() -> {
-            jsonActionButtonsController.setSelectedGameModule(gameSelectionController.getSelectedGameModule());
+            GameModule selectedGame = gameSelectionController.getSelectedGameModule();
+            jsonActionButtonsController.setSelectedGameModule(selectedGame);
+            
+            // Load (and compile) the module while the user prepares the start message
+            if (selectedGame instanceof DeferredGameModule) {
+                ((DeferredGameModule) selectedGame).preload();
+            }
         });
         
         // Top bar callbacks
-        topBarController.setOnExit(lobbyShutdownManager::handleShutdown);
+        topBarController.setOnExit(() -> {
+            // Release the watcher thread and WatchService along with the lobby
+            gameModuleRefreshManager.stopWatchingModules();
+            lobbyShutdownManager.handleShutdown();
+        });
         topBarController.setOnRefresh(gameModuleRefreshManager::handleRefresh);
         topBarController.setOnOpenSettings(settingsNavigationManager::openSettingsPage);
     }
@@ -0,0 +1,113 @@
+package launcher.ui_areas.lobby.lifecycle.startup.module_loading;
+
+import gdk.internal.Logging;
+import javafx.stage.Stage;
+import launcher.core.lifecycle.stop.Shutdown;
+import launcher.features.module_handling.ModuleDiscoveryAndLoading;
+import launcher.features.module_handling.load_modules.LoadModules;
+import launcher.ui_areas.lobby.GDKGameLobbyController;
+import launcher.ui_areas.startup_window.StartupWindow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The module loading steps of startup: loading the game modules in the background,
+ * then handing them to the lobby and swapping the startup window for the lobby.
+ *
+ * @author Clement Luo
+ * @date December 21, 2025
+ * @edited January 29, 2026
+ * @since Beta 1.0
+ */
+public final class StartupModuleLoading {
+
+    private StartupModuleLoading() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Discovers and loads all game modules. Runs on a background thread, while the
+     * lobby UI is built on the JavaFX thread.
+     *
+     * @return The loaded modules and loading failures
+     */
+    public static LoadModules.ModuleLoadResult loadModules() {
+        Logging.info("Starting module loading on background thread");
+        return ModuleDiscoveryAndLoading.discoverAndLoadAllModules();
+    }
+
+    /**
+     * Shows the loaded modules in the lobby, then hides the startup window and shows
+     * the main stage. Runs on the JavaFX thread once the lobby UI and the modules are ready.
+     *
+     * @param primaryApplicationStage The main window (hidden until modules are loaded)
+     * @param lobbyController The UI controller that will show the list of games (null if the UI failed)
+     * @param windowManager The startup window (null if it could not be shown)
+     * @param loadResult The loaded modules (null if loading failed)
+     * @return true if the lobby is now shown
+     */
+    public static boolean showLoadedModules(Stage primaryApplicationStage,
+                                            GDKGameLobbyController lobbyController,
+                                            StartupWindow windowManager,
+                                            LoadModules.ModuleLoadResult loadResult) {
+        if (lobbyController == null) {
+            // Nothing to show; the failure was already logged by the startup step
+            Logging.error("❌ Lobby UI could not be initialized - exiting");
+            hideStartupWindow(windowManager);
+            Shutdown.shutdown(1);
+            return false;
+        }
+
+        // Phase 1: Report loading issues
+        List<String> startupFailures = loadResult != null && loadResult.getCompilationFailures() != null
+            ? new ArrayList<>(loadResult.getCompilationFailures())
+            : new ArrayList<>();
+        try {
+            lobbyController.reportStartupCompilationFailures(startupFailures);
+        } catch (Exception e) {
+            Logging.error("Error checking loading issues: " + e.getMessage());
+        }
+
+        // Phase 2: Update UI with loaded games
+        try {
+            lobbyController.refreshAvailableGameModulesFast();
+        } catch (Exception e) {
+            Logging.error("Error refreshing game modules: " + e.getMessage(), e);
+        }
+
+        // Phase 3: Show main stage and hide startup window
+        Logging.info("All startup tasks complete - showing main stage");
+        hideStartupWindow(windowManager);
+        try {
+            primaryApplicationStage.setOpacity(1.0);
+            primaryApplicationStage.show();
+            return true;
+        } catch (Exception e) {
+            Logging.error("Failed to show main stage: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Hides the startup window when the application shuts down before the lobby is shown.
+     *
+     * @param windowManager The startup window
+     */
+    public static void registerStartupWindowCleanup(StartupWindow windowManager) {
+        Shutdown.registerCleanupTask(() -> {
+            Logging.info("Cleaning up StartupWindow...");
+            hideStartupWindow(windowManager);
+        });
+    }
+
+    private static void hideStartupWindow(StartupWindow windowManager) {
+        try {
+            if (windowManager != null) {
+                windowManager.hide();
+            }
+        } catch (Exception e) {
+            Logging.error("Failed to hide startup window: " + e.getMessage());
+        }
+    }
+}
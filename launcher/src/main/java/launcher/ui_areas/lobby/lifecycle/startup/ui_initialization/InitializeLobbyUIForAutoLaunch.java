@@ -36,7 +36,7 @@ import java.nio.file.Paths;
  * 
  * @author Clement Luo
  * @date December 20, 2025
- * @edited December 20, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public final class InitializeLobbyUIForAutoLaunch {
@@ -258,14 +258,24 @@ public final class InitializeLobbyUIForAutoLaunch {
      *   <li>Launches the game via the ViewModel</li>
      * </ol>
      * 
+     * <p>The module is loaded in the background. If that or the rest of the launch
+     * fails after this method returned, {@code onFailure} runs on the JavaFX thread.
+     * 
      * @param gameModule The game module to launch
      * @param savedJson The saved JSON configuration string
      * @param viewModel The ViewModel to use for launching
-     * @return true if launch was successful, false otherwise
+     * @param onFailure Runs if the launch fails after it was started
+     * @return true if the launch was started, false otherwise
      */
-    public static boolean launchGame(GameModule gameModule, String savedJson, GDKViewModel viewModel) {
+    public static boolean launchGame(GameModule gameModule, String savedJson, GDKViewModel viewModel,
+                                     Runnable onFailure) {
         try {
-            LaunchGame.launch(viewModel, gameModule, savedJson, true);
+            LaunchGame.launch(viewModel, gameModule, savedJson, true).whenComplete((module, error) -> {
+                if (error != null) {
+                    Logging.error("Auto-launch: Game launch failed: " + error.getMessage(), error);
+                    Platform.runLater(onFailure);
+                }
+            });
             return true;
         } catch (Exception e) {
             Logging.error("Auto-launch: Game launch failed: " + e.getMessage(), e);
@@ -3,6 +3,7 @@ package launcher.ui_areas.lobby.messaging;
 import gdk.internal.MessagingBridge;
 import launcher.ui_areas.lobby.subcontrollers.JsonActionButtonsController;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -11,7 +12,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date December 30, 2025
- * @edited December 30, 2025
+ * @edited January 19, 2026
  * @since Beta 1.0
  */
 public class MessageBridgeManager {
@@ -31,12 +32,15 @@ public class MessageBridgeManager {
     
     /**
      * Subscribe to game end messages and mirror them to JSON output editor.
+     * Only "end" messages are routed to this subscription. They are delivered on
+     * the dispatcher thread (the processor hops to the JavaFX thread itself); if it
+     * falls behind, the oldest pending messages are skipped.
      */
     public void subscribeToEndMessageMirror() {
         try {
-            MessagingBridge.addConsumer(msg -> {
+            MessagingBridge.addConsumer(List.of("end"), msg -> {
                 messageProcessor.processMessage((Map<String, Object>) msg);
-            });
+            }, MessagingBridge.DeliveryOptions.onDispatcher(64, MessagingBridge.OverflowPolicy.DROP_OLDEST));
         } catch (Exception ignored) {
             // Silently ignore subscription errors
         }
@@ -1,7 +1,6 @@
 package launcher.ui_areas.lobby.messaging;
 
 import javafx.application.Platform;
-import launcher.features.transcript_recording.recording.RecordInboundMessage;
 import launcher.features.json_processing.JsonFormatter;
 import launcher.ui_areas.lobby.json_editor.JsonEditor;
 
@@ -12,7 +11,7 @@ import java.util.Map;
  * 
  * @author Clement Luo
  * @date December 29, 2025
- * @edited December 30, 2025
+ * @edited January 19, 2026
  * @since Beta 1.0
  */
 public class MessageBridgeProcessor {
@@ -24,15 +23,12 @@ public class MessageBridgeProcessor {
     }
     
     /**
-     * Processes a message from the game and updates UI.
+     * Processes an "end" message from the game and mirrors it to the JSON output editor.
+     * Transcript recording is handled by the game session's own subscription.
      */
     public void processMessage(Map<String, Object> msg) {
         try {
-            RecordInboundMessage.record(msg);
-            
-            // Check if it's an "end" message and update UI if needed
-            Object function = msg != null ? msg.get("function") : null;
-            if ("end".equals(function) && jsonOutputEditor != null) {
+            if (msg != null && jsonOutputEditor != null) {
                 String pretty = JsonFormatter.format(msg);
                 Platform.runLater(() -> jsonOutputEditor.setText(pretty));
             }
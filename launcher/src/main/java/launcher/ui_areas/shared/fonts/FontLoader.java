@@ -4,7 +4,11 @@ import gdk.internal.Logging;
 import javafx.scene.text.Font;
 
 import java.awt.GraphicsEnvironment;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Global font loader for the application.
@@ -20,8 +24,14 @@ import java.io.InputStream;
  *   <li>Fallback to system fonts if Inter cannot be loaded</li>
  * </ul>
  * 
+ * <p>The Swing and JavaFX fonts can be loaded separately, on any thread, so startup
+ * can load each while other work runs. Each platform has its own lock, so the two
+ * loads also run in parallel with each other. The font files are read from resources
+ * once and shared by both.
+ * 
  * @author Clement Luo
  * @date December 24, 2025
+ * @edited February 2, 2026
  * @since Beta 1.0
  */
 public class FontLoader {
@@ -40,10 +50,25 @@ public class FontLoader {
     // ==================== STATE ====================
     
     /** Actual font family name after ui_loading (may include size suffix like "Inter 18pt"). */
-    private static String actualInterFontFamily = null;
+    private static volatile String actualInterFontFamily = null;
+    
+    /** Flag indicating whether fonts have been loaded (for at least one platform). */
+    private static volatile boolean fontsLoaded = false;
+    
+    /** Flag indicating whether the fonts are registered with AWT. */
+    private static volatile boolean swingFontsLoaded = false;
+    
+    /** Flag indicating whether the fonts are registered with JavaFX. */
+    private static volatile boolean javafxFontsLoaded = false;
+    
+    /** Font file contents by resource path, read once for both platforms. */
+    private static final Map<String, byte[]> FONT_FILES = new ConcurrentHashMap<>();
     
-    /** Flag indicating whether fonts have been loaded. */
-    private static boolean fontsLoaded = false;
+    /** Guards the Swing (AWT) font registration. */
+    private static final Object SWING_LOCK = new Object();
+    
+    /** Guards the JavaFX font registration. */
+    private static final Object JAVAFX_LOCK = new Object();
     
     // ==================== CONSTRUCTOR ====================
     
@@ -72,12 +97,10 @@ public class FontLoader {
             return true; // Already loaded
         }
         
-        boolean swingLoaded = loadSwingFont();
-        boolean javafxLoaded = loadJavaFXFont();
-        
-        fontsLoaded = swingLoaded || javafxLoaded; // At least one should work
+        boolean swingLoaded = loadSwingFonts();
+        boolean javafxLoaded = loadJavaFXFonts();
         
-        if (fontsLoaded) {
+        if (swingLoaded || javafxLoaded) { // At least one should work
             Logging.info("✅ Inter font loaded successfully for application");
         } else {
             Logging.warning("⚠️ Could not load Inter font - using system fonts");
@@ -86,6 +109,42 @@ public class FontLoader {
         return fontsLoaded;
     }
     
+    /**
+     * Loads the Inter font for Swing (AWT) components only.
+     * 
+     * <p>Call before the first Swing font is created (the startup window's fonts
+     * are created once, when its styling is first used).
+     * 
+     * @return true if the fonts are registered with AWT, false otherwise
+     */
+    public static boolean loadSwingFonts() {
+        synchronized (SWING_LOCK) {
+            if (!swingFontsLoaded && loadSwingFont()) {
+                swingFontsLoaded = true;
+                fontsLoaded = true;
+            }
+            return swingFontsLoaded;
+        }
+    }
+    
+    /**
+     * Loads the Inter font for JavaFX components only.
+     * 
+     * <p>Call before the lobby's styles are applied. Needs the JavaFX toolkit
+     * to be running, but not the JavaFX application thread.
+     * 
+     * @return true if the fonts are registered with JavaFX, false otherwise
+     */
+    public static boolean loadJavaFXFonts() {
+        synchronized (JAVAFX_LOCK) {
+            if (!javafxFontsLoaded && loadJavaFXFont()) {
+                javafxFontsLoaded = true;
+                fontsLoaded = true;
+            }
+            return javafxFontsLoaded;
+        }
+    }
+    
     // ==================== PRIVATE METHODS - FONT LOADING ====================
     
     /**
@@ -98,7 +157,7 @@ public class FontLoader {
      */
     private static boolean loadSwingFont() {
         try {
-            InputStream regularStream = FontLoader.class.getResourceAsStream(INTER_REGULAR_PATH);
+            InputStream regularStream = openFontFile(INTER_REGULAR_PATH);
             if (regularStream == null) {
                 return false;
             }
@@ -107,15 +166,13 @@ public class FontLoader {
                 java.awt.Font.TRUETYPE_FONT, regularStream);
             GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
             ge.registerFont(regularFont);
-            regularStream.close();
             
             // Also load bold if available
-            InputStream boldStream = FontLoader.class.getResourceAsStream(INTER_BOLD_PATH);
+            InputStream boldStream = openFontFile(INTER_BOLD_PATH);
             if (boldStream != null) {
                 java.awt.Font boldFont = java.awt.Font.createFont(
                     java.awt.Font.TRUETYPE_FONT, boldStream);
                 ge.registerFont(boldFont);
-                boldStream.close();
             }
             
             return true;
@@ -136,13 +193,12 @@ public class FontLoader {
     private static boolean loadJavaFXFont() {
         try {
             // Load regular weight
-            InputStream regularStream = FontLoader.class.getResourceAsStream(INTER_REGULAR_PATH);
+            InputStream regularStream = openFontFile(INTER_REGULAR_PATH);
             if (regularStream == null) {
                 return false;
             }
             
             Font loadedFont = Font.loadFont(regularStream, 12); // Size doesn't matter, just needs to be > 0
-            regularStream.close();
             
             // Get the actual font family name from the loaded font
             if (loadedFont != null) {
@@ -151,10 +207,9 @@ public class FontLoader {
             }
             
             // Load bold weight
-            InputStream boldStream = FontLoader.class.getResourceAsStream(INTER_BOLD_PATH);
+            InputStream boldStream = openFontFile(INTER_BOLD_PATH);
             if (boldStream != null) {
                 Font.loadFont(boldStream, 12);
-                boldStream.close();
             }
             
             return true;
@@ -164,6 +219,27 @@ public class FontLoader {
         }
     }
     
+    /**
+     * Opens a font file from resources, reading it only the first time it is asked for.
+     * 
+     * @param resourcePath The font's path in resources
+     * @return A stream over the font file, or null if it is not in resources
+     * @throws IOException If the resource cannot be read
+     */
+    private static InputStream openFontFile(String resourcePath) throws IOException {
+        byte[] contents = FONT_FILES.get(resourcePath);
+        if (contents == null) {
+            try (InputStream stream = FontLoader.class.getResourceAsStream(resourcePath)) {
+                if (stream == null) {
+                    return null;
+                }
+                contents = stream.readAllBytes();
+            }
+            FONT_FILES.put(resourcePath, contents);
+        }
+        return new ByteArrayInputStream(contents);
+    }
+    
     // ==================== PUBLIC METHODS - FONT QUERY ====================
     
     /**
@@ -282,7 +358,7 @@ public class FontLoader {
      */
     public static String getSwingFontFamily() {
         // If Inter is loaded, try to use it
-        if (fontsLoaded) {
+        if (swingFontsLoaded) {
             GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
             String[] awtFonts = ge.getAvailableFontFamilyNames();
             
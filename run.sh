@@ -35,6 +35,12 @@ if [ ! -d "launcher/target/classes" ]; then
     exit 1
 fi
 
+# With --cds, start from a class data sharing archive (rebuilt if gdk or launcher classes changed)
+if [ "${1:-}" = "--cds" ]; then
+    shift
+    exec ./cds.sh run "$@"
+fi
+
 # Run the GDK (build process will happen inside the JavaFX app)
 echo "🎮 Launching GDK..."
 cd launcher